@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.time.LocalDate;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.collect.io.ResourceLocator;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.loader.csv.QuotesCsvLoader;
+import com.opengamma.strata.loader.csv.RatesCalibrationCsvLoader;
+import com.opengamma.strata.market.curve.CurveGroupName;
+import com.opengamma.strata.market.curve.RatesCurveGroupDefinition;
+import com.opengamma.strata.pricer.curve.RatesCurveCalibrator;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.product.swap.type.FixedIborSwapConvention;
+import com.opengamma.strata.product.swap.type.FixedIborSwapConventions;
+
+/**
+ * The curve groups used by the benchmarks.
+ * <p>
+ * The curve configuration and market quotes are those of the calibration examples,
+ * copied into the resources of this module so that the benchmarks are reproducible.
+ */
+public enum BenchmarkCurveGroup {
+
+  /**
+   * Two USD curves, one for discounting and Fed Fund forward, the other for Libor 3M forward.
+   */
+  USD(
+      LocalDate.of(2015, 7, 21),
+      CurveGroupName.of("USD-DSCON-LIBOR3M"),
+      FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M,
+      "groups.csv",
+      "settings.csv",
+      "calibrations.csv",
+      "quotes.csv"),
+  /**
+   * Three EUR curves, for discounting and EONIA forward, Euribor 3M forward and Euribor 6M forward.
+   */
+  EUR(
+      LocalDate.of(2015, 11, 20),
+      CurveGroupName.of("EUR-DSCONOIS-EURIBOR3MBS-EURIBOR6MIRS"),
+      FixedIborSwapConventions.EUR_FIXED_1Y_EURIBOR_6M,
+      "groups-eur.csv",
+      "settings-eur.csv",
+      "calibrations-eur.csv",
+      "quotes-eur.csv");
+
+  /**
+   * The valuation date.
+   */
+  private final LocalDate valuationDate;
+  /**
+   * The curve group name.
+   */
+  private final CurveGroupName groupName;
+  /**
+   * The convention of the swaps priced with the curves.
+   */
+  private final FixedIborSwapConvention swapConvention;
+  /**
+   * The curve groups resource.
+   */
+  private final String groupsResource;
+  /**
+   * The curve settings resource.
+   */
+  private final String settingsResource;
+  /**
+   * The curve nodes resource.
+   */
+  private final String calibrationResource;
+  /**
+   * The market quotes resource.
+   */
+  private final String quotesResource;
+
+  // creates an instance
+  private BenchmarkCurveGroup(
+      LocalDate valuationDate,
+      CurveGroupName groupName,
+      FixedIborSwapConvention swapConvention,
+      String groupsResource,
+      String settingsResource,
+      String calibrationResource,
+      String quotesResource) {
+
+    this.valuationDate = valuationDate;
+    this.groupName = groupName;
+    this.swapConvention = swapConvention;
+    this.groupsResource = groupsResource;
+    this.settingsResource = settingsResource;
+    this.calibrationResource = calibrationResource;
+    this.quotesResource = quotesResource;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the valuation date of the market quotes.
+   *
+   * @return the valuation date
+   */
+  public LocalDate getValuationDate() {
+    return valuationDate;
+  }
+
+  /**
+   * Gets the curve group name.
+   *
+   * @return the curve group name
+   */
+  public CurveGroupName getGroupName() {
+    return groupName;
+  }
+
+  /**
+   * Gets the convention of the swaps priced with the curves.
+   *
+   * @return the swap convention
+   */
+  public FixedIborSwapConvention getSwapConvention() {
+    return swapConvention;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Loads the curve group definition, filtered for the valuation date.
+   *
+   * @param refData  the reference data
+   * @return the curve group definition
+   */
+  public RatesCurveGroupDefinition definition(ReferenceData refData) {
+    RatesCurveGroupDefinition defn = RatesCalibrationCsvLoader.load(
+        resource(groupsResource),
+        resource(settingsResource),
+        resource(calibrationResource))
+        .get(groupName);
+    return defn.filtered(valuationDate, refData);
+  }
+
+  /**
+   * Loads the market quotes used to calibrate the curve group.
+   *
+   * @return the market data containing the quotes
+   */
+  public ImmutableMarketData quotes() {
+    return ImmutableMarketData.of(valuationDate, QuotesCsvLoader.load(valuationDate, resource(quotesResource)));
+  }
+
+  /**
+   * Calibrates the curve group using the standard calibrator.
+   *
+   * @param refData  the reference data
+   * @return the calibrated rates provider
+   */
+  public ImmutableRatesProvider calibrate(ReferenceData refData) {
+    return RatesCurveCalibrator.standard().calibrate(definition(refData), quotes(), refData);
+  }
+
+  // locates a resource of this module
+  private static ResourceLocator resource(String name) {
+    return ResourceLocator.ofClasspath(BenchmarkCurveGroup.class, name);
+  }
+
+}
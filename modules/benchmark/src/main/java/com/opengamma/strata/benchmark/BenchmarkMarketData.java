@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_ACT_ISDA;
+import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.LINEAR;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.market.ValueType;
+import com.opengamma.strata.market.curve.DefaultCurveMetadata;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.market.surface.InterpolatedNodalSurface;
+import com.opengamma.strata.market.surface.Surfaces;
+import com.opengamma.strata.market.surface.interpolator.GridSurfaceInterpolator;
+import com.opengamma.strata.market.surface.interpolator.SurfaceInterpolator;
+import com.opengamma.strata.pricer.credit.ConstantRecoveryRates;
+import com.opengamma.strata.pricer.credit.ImmutableCreditRatesProvider;
+import com.opengamma.strata.pricer.credit.IsdaCreditDiscountFactors;
+import com.opengamma.strata.pricer.credit.LegalEntitySurvivalProbabilities;
+import com.opengamma.strata.pricer.model.SabrInterestRateParameters;
+import com.opengamma.strata.pricer.model.SabrVolatilityFormula;
+import com.opengamma.strata.pricer.swaption.SabrParametersSwaptionVolatilities;
+import com.opengamma.strata.pricer.swaption.SwaptionVolatilitiesName;
+
+/**
+ * Market data used by the benchmarks that is not calibrated from quotes.
+ * <p>
+ * The credit curves and SABR parameters are fixed synthetic values, so that the benchmarks are reproducible.
+ */
+public final class BenchmarkMarketData {
+
+  /**
+   * The legal entity of the credit curves.
+   */
+  public static final StandardId LEGAL_ENTITY = StandardId.of("OG-Ticker", "BENCH");
+
+  /**
+   * The times of the yield curve used to price CDS.
+   */
+  private static final DoubleArray TIME_YC = DoubleArray.of(0.25, 0.5, 1, 2, 3, 4, 5, 7, 10, 15, 20, 30);
+  /**
+   * The zero rates of the yield curve used to price CDS.
+   */
+  private static final DoubleArray RATE_YC =
+      DoubleArray.of(0.0010, 0.0012, 0.0016, 0.0030, 0.0052, 0.0075, 0.0098, 0.0135, 0.0170, 0.0198, 0.0210, 0.0215);
+  /**
+   * The times of the credit curve.
+   */
+  private static final DoubleArray TIME_CC = DoubleArray.of(0.5, 1, 2, 3, 4, 5, 7, 10);
+  /**
+   * The zero hazard rates of the credit curve.
+   */
+  private static final DoubleArray RATE_CC = DoubleArray.of(0.0080, 0.0100, 0.0125, 0.0150, 0.0175, 0.0200, 0.0240, 0.0280);
+  /**
+   * The recovery rate.
+   */
+  private static final double RECOVERY_RATE = 0.4;
+
+  /**
+   * The expiries of the SABR parameter nodes.
+   */
+  private static final DoubleArray SABR_EXPIRY =
+      DoubleArray.of(0, 0, 0, 0.5, 0.5, 0.5, 1, 1, 1, 2, 2, 2, 5, 5, 5, 10, 10, 10);
+  /**
+   * The tenors of the SABR parameter nodes.
+   */
+  private static final DoubleArray SABR_TENOR =
+      DoubleArray.of(1, 5, 10, 1, 5, 10, 1, 5, 10, 1, 5, 10, 1, 5, 10, 1, 5, 10);
+  /**
+   * The SABR alpha values.
+   */
+  private static final DoubleArray SABR_ALPHA =
+      DoubleArray.of(0.05, 0.05, 0.06, 0.05, 0.05, 0.06, 0.05, 0.05, 0.06, 0.05, 0.05, 0.06, 0.05, 0.05, 0.06, 0.05, 0.05, 0.06);
+  /**
+   * The SABR beta values.
+   */
+  private static final DoubleArray SABR_BETA = DoubleArray.filled(18, 0.5);
+  /**
+   * The SABR rho values.
+   */
+  private static final DoubleArray SABR_RHO = DoubleArray.of(
+      -0.25, -0.25, -0.25, -0.25, -0.25, -0.25, -0.25, -0.25, 0, -0.25, -0.25, 0, -0.25, -0.25, 0, -0.25, -0.25, 0);
+  /**
+   * The SABR nu values.
+   */
+  private static final DoubleArray SABR_NU =
+      DoubleArray.of(0.5, 0.5, 0.5, 0.5, 0.5, 0.5, 0.5, 0.5, 0.3, 0.5, 0.5, 0.3, 0.5, 0.5, 0.3, 0.5, 0.5, 0.3);
+  /**
+   * The interpolator of the SABR parameter surfaces.
+   */
+  private static final SurfaceInterpolator SABR_INTERPOLATOR = GridSurfaceInterpolator.of(LINEAR, LINEAR);
+
+  /**
+   * Restricted constructor.
+   */
+  private BenchmarkMarketData() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates the credit rates provider used to price CDS on {@link #LEGAL_ENTITY}.
+   *
+   * @param valuationDate  the valuation date
+   * @return the credit rates provider
+   */
+  public static ImmutableCreditRatesProvider creditRatesProvider(LocalDate valuationDate) {
+    IsdaCreditDiscountFactors yieldCurve =
+        IsdaCreditDiscountFactors.of(USD, valuationDate, isdaCurve("Yield", TIME_YC, RATE_YC));
+    IsdaCreditDiscountFactors creditCurve =
+        IsdaCreditDiscountFactors.of(USD, valuationDate, isdaCurve("Credit", TIME_CC, RATE_CC));
+    return ImmutableCreditRatesProvider.builder()
+        .valuationDate(valuationDate)
+        .creditCurves(ImmutableMap.of(
+            Pair.of(LEGAL_ENTITY, USD), LegalEntitySurvivalProbabilities.of(LEGAL_ENTITY, creditCurve)))
+        .discountCurves(ImmutableMap.of(USD, yieldCurve))
+        .recoveryRateCurves(ImmutableMap.of(LEGAL_ENTITY, ConstantRecoveryRates.of(LEGAL_ENTITY, valuationDate, RECOVERY_RATE)))
+        .build();
+  }
+
+  // creates a curve using the ISDA interpolation
+  private static InterpolatedNodalCurve isdaCurve(String name, DoubleArray times, DoubleArray rates) {
+    DefaultCurveMetadata metadata = DefaultCurveMetadata.builder()
+        .xValueType(ValueType.YEAR_FRACTION)
+        .yValueType(ValueType.ZERO_RATE)
+        .curveName(name)
+        .dayCount(ACT_365F)
+        .build();
+    return InterpolatedNodalCurve.of(
+        metadata, times, rates, CurveInterpolators.PRODUCT_LINEAR, CurveExtrapolators.FLAT, CurveExtrapolators.PRODUCT_LINEAR);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates the SABR volatilities used to price swaptions.
+   * <p>
+   * The volatilities use the swap convention of the curve group, so that swaptions on
+   * the benchmark swaps can be priced with the calibrated curves.
+   *
+   * @param curveGroup  the curve group
+   * @return the SABR volatilities
+   */
+  public static SabrParametersSwaptionVolatilities sabrVolatilities(BenchmarkCurveGroup curveGroup) {
+    SabrInterestRateParameters params = SabrInterestRateParameters.of(
+        sabrSurface("Benchmark-SABR-Alpha", ValueType.SABR_ALPHA, SABR_ALPHA),
+        sabrSurface("Benchmark-SABR-Beta", ValueType.SABR_BETA, SABR_BETA),
+        sabrSurface("Benchmark-SABR-Rho", ValueType.SABR_RHO, SABR_RHO),
+        sabrSurface("Benchmark-SABR-Nu", ValueType.SABR_NU, SABR_NU),
+        SabrVolatilityFormula.hagan());
+    return SabrParametersSwaptionVolatilities.of(
+        SwaptionVolatilitiesName.of("Benchmark-SABR"),
+        curveGroup.getSwapConvention(),
+        curveGroup.getValuationDate().atStartOfDay(ZoneOffset.UTC),
+        params);
+  }
+
+  // creates a SABR parameter surface
+  private static InterpolatedNodalSurface sabrSurface(String name, ValueType valueType, DoubleArray values) {
+    return InterpolatedNodalSurface.of(
+        Surfaces.sabrParameterByExpiryTenor(name, ACT_ACT_ISDA, valueType),
+        SABR_EXPIRY,
+        SABR_TENOR,
+        values,
+        SABR_INTERPOLATOR);
+  }
+
+}
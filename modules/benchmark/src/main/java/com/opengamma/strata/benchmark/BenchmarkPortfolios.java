@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.basics.currency.Currency.USD;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Random;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.basics.date.AdjustableDate;
+import com.opengamma.strata.basics.date.HolidayCalendarIds;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.basics.schedule.Frequency;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.common.LongShort;
+import com.opengamma.strata.product.credit.Cds;
+import com.opengamma.strata.product.credit.ResolvedCds;
+import com.opengamma.strata.product.swap.Swap;
+import com.opengamma.strata.product.swap.SwapTrade;
+import com.opengamma.strata.product.swaption.PhysicalSwaptionSettlement;
+import com.opengamma.strata.product.swaption.ResolvedSwaption;
+import com.opengamma.strata.product.swaption.Swaption;
+
+/**
+ * The synthetic portfolios used by the benchmarks.
+ * <p>
+ * The trades are generated from a random number generator with a fixed seed,
+ * so the same portfolio is obtained for the same size on every run.
+ */
+public final class BenchmarkPortfolios {
+
+  /**
+   * The seed of the random number generator.
+   */
+  private static final long SEED = 20260101L;
+  /**
+   * The scheme of the trade identifiers.
+   */
+  private static final String TRADE_SCHEME = "OG-Benchmark";
+
+  /**
+   * Restricted constructor.
+   */
+  private BenchmarkPortfolios() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates a portfolio of vanilla fixed versus Ibor swaps.
+   * <p>
+   * The swaps use the swap convention of the curve group and start at spot from the valuation date.
+   * The tenors range from 1 to 30 years, the notionals from 1 to 100 million and the fixed rates from 0% to 4%.
+   *
+   * @param curveGroup  the curve group that the swaps are priced with
+   * @param size  the number of trades
+   * @param refData  the reference data
+   * @return the swap trades
+   */
+  public static List<SwapTrade> swaps(BenchmarkCurveGroup curveGroup, int size, ReferenceData refData) {
+    Random random = new Random(SEED);
+    ImmutableList.Builder<SwapTrade> builder = ImmutableList.builder();
+    for (int i = 0; i < size; i++) {
+      SwapTrade trade = curveGroup.getSwapConvention().createTrade(
+          curveGroup.getValuationDate(),
+          Tenor.ofYears(1 + random.nextInt(30)),
+          random.nextBoolean() ? BuySell.BUY : BuySell.SELL,
+          1_000_000d * (1 + random.nextInt(100)),
+          0.0001 * random.nextInt(400),
+          refData);
+      builder.add(trade.withInfo(trade.getInfo().withId(StandardId.of(TRADE_SCHEME, "Swap-" + i))));
+    }
+    return builder.build();
+  }
+
+  /**
+   * Creates a portfolio of single name CDS on {@link BenchmarkMarketData#LEGAL_ENTITY}.
+   * <p>
+   * The CDS start at the valuation date and mature in 1 to 10 years, with a coupon of 100 or 500 basis points.
+   *
+   * @param valuationDate  the valuation date
+   * @param size  the number of products
+   * @param refData  the reference data
+   * @return the resolved CDS
+   */
+  public static List<ResolvedCds> cds(LocalDate valuationDate, int size, ReferenceData refData) {
+    Random random = new Random(SEED);
+    ImmutableList.Builder<ResolvedCds> builder = ImmutableList.builder();
+    for (int i = 0; i < size; i++) {
+      Cds cds = Cds.of(
+          random.nextBoolean() ? BuySell.BUY : BuySell.SELL,
+          BenchmarkMarketData.LEGAL_ENTITY,
+          USD,
+          1_000_000d * (1 + random.nextInt(100)),
+          valuationDate,
+          valuationDate.plusYears(1 + random.nextInt(10)),
+          Frequency.P3M,
+          HolidayCalendarIds.SAT_SUN,
+          random.nextBoolean() ? 0.01 : 0.05);
+      builder.add(cds.resolve(refData));
+    }
+    return builder.build();
+  }
+
+  /**
+   * Creates a portfolio of physically settled swaptions.
+   * <p>
+   * The underlying swaps use the swap convention of the curve group.
+   * The expiries range from 1 to 10 years, the underlying tenors from 1 to 10 years
+   * and the strikes from 1% to 4%.
+   *
+   * @param curveGroup  the curve group that the swaptions are priced with
+   * @param size  the number of products
+   * @param refData  the reference data
+   * @return the resolved swaptions
+   */
+  public static List<ResolvedSwaption> swaptions(BenchmarkCurveGroup curveGroup, int size, ReferenceData refData) {
+    Random random = new Random(SEED);
+    ImmutableList.Builder<ResolvedSwaption> builder = ImmutableList.builder();
+    for (int i = 0; i < size; i++) {
+      LocalDate expiryDate = curveGroup.getValuationDate().plusYears(1 + random.nextInt(10));
+      Swap underlying = curveGroup.getSwapConvention().createTrade(
+          expiryDate,
+          Tenor.ofYears(1 + random.nextInt(10)),
+          random.nextBoolean() ? BuySell.BUY : BuySell.SELL,
+          1_000_000d * (1 + random.nextInt(100)),
+          0.01 + 0.0001 * random.nextInt(300),
+          refData)
+          .getProduct();
+      Swaption swaption = Swaption.builder()
+          .expiryDate(AdjustableDate.of(expiryDate))
+          .expiryTime(LocalTime.of(11, 0))
+          .expiryZone(ZoneOffset.UTC)
+          .longShort(random.nextBoolean() ? LongShort.LONG : LongShort.SHORT)
+          .swaptionSettlement(PhysicalSwaptionSettlement.DEFAULT)
+          .underlying(underlying)
+          .build();
+      builder.add(swaption.resolve(refData));
+    }
+    return builder.build();
+  }
+
+}
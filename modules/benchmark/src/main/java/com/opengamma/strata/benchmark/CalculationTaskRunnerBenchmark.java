@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.calc.CalculationRules;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.calc.marketdata.MarketDataConfig;
+import com.opengamma.strata.calc.marketdata.MarketDataRequirements;
+import com.opengamma.strata.calc.runner.CalculationTaskRunner;
+import com.opengamma.strata.calc.runner.CalculationTasks;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.market.curve.RatesCurveGroupDefinition;
+import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.measure.StandardComponents;
+import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
+import com.opengamma.strata.product.swap.SwapTrade;
+
+/**
+ * Benchmark of the throughput of the calculation engine.
+ * <p>
+ * The present value and calibrated PV01 of a portfolio of swaps are calculated by the
+ * multi-threaded {@link CalculationTaskRunner} using market data built before the benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalculationTaskRunnerBenchmark {
+
+  /**
+   * The curve group.
+   */
+  @Param({"USD", "EUR"})
+  private BenchmarkCurveGroup curveGroup;
+  /**
+   * The number of trades.
+   */
+  @Param({"100", "1000"})
+  private int portfolioSize;
+
+  /**
+   * The reference data.
+   */
+  private ReferenceData refData;
+  /**
+   * The calculation tasks.
+   */
+  private CalculationTasks tasks;
+  /**
+   * The market data, including the calibrated curves.
+   */
+  private MarketData marketData;
+  /**
+   * The task runner.
+   */
+  private CalculationTaskRunner runner;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates the tasks and builds the market data they require.
+   */
+  @Setup
+  public void setUp() {
+    refData = ReferenceData.standard();
+    RatesCurveGroupDefinition definition = curveGroup.definition(refData);
+    CalculationRules rules = CalculationRules.of(
+        StandardComponents.calculationFunctions(), RatesMarketDataLookup.of(definition));
+    List<SwapTrade> trades = BenchmarkPortfolios.swaps(curveGroup, portfolioSize, refData);
+    List<Column> columns = ImmutableList.of(
+        Column.of(Measures.PRESENT_VALUE),
+        Column.of(Measures.PV01_CALIBRATED_SUM));
+    tasks = CalculationTasks.of(rules, trades, columns, refData);
+    MarketDataRequirements requirements = tasks.requirements(refData);
+    MarketDataConfig config = MarketDataConfig.builder()
+        .add(curveGroup.getGroupName(), definition)
+        .build();
+    marketData = StandardComponents.marketDataFactory().create(requirements, config, curveGroup.quotes(), refData);
+    runner = CalculationTaskRunner.ofMultiThreaded();
+  }
+
+  /**
+   * Closes the task runner.
+   */
+  @TearDown
+  public void tearDown() {
+    runner.close();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the results of the portfolio.
+   *
+   * @return the results
+   */
+  @Benchmark
+  public Results calculate() {
+    return runner.calculate(tasks, marketData, refData);
+  }
+
+}
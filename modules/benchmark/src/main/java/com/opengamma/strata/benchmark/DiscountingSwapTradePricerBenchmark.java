@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.swap.DiscountingSwapTradePricer;
+import com.opengamma.strata.product.swap.ResolvedSwapTrade;
+
+/**
+ * Benchmark of the present value and PV01 of a portfolio of swaps.
+ * <p>
+ * The swaps are priced with {@link DiscountingSwapTradePricer} using the calibrated curves of the curve group.
+ * The PV01 is the sum of the sensitivities to the calibrated curve parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiscountingSwapTradePricerBenchmark {
+
+  /**
+   * The pricer.
+   */
+  private static final DiscountingSwapTradePricer PRICER = DiscountingSwapTradePricer.DEFAULT;
+
+  /**
+   * The curve group.
+   */
+  @Param({"USD", "EUR"})
+  private BenchmarkCurveGroup curveGroup;
+  /**
+   * The number of trades.
+   */
+  @Param({"1", "100", "1000"})
+  private int portfolioSize;
+
+  /**
+   * The calibrated curves.
+   */
+  private ImmutableRatesProvider provider;
+  /**
+   * The resolved trades.
+   */
+  private List<ResolvedSwapTrade> trades;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calibrates the curves and creates the portfolio.
+   */
+  @Setup
+  public void setUp() {
+    ReferenceData refData = ReferenceData.standard();
+    provider = curveGroup.calibrate(refData);
+    trades = BenchmarkPortfolios.swaps(curveGroup, portfolioSize, refData).stream()
+        .map(trade -> trade.resolve(refData))
+        .collect(toImmutableList());
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present value of each trade.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  public void presentValue(Blackhole blackhole) {
+    for (ResolvedSwapTrade trade : trades) {
+      blackhole.consume(PRICER.presentValue(trade, provider));
+    }
+  }
+
+  /**
+   * Calculates the PV01 of each trade with respect to the calibrated curve parameters.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  public void pv01(Blackhole blackhole) {
+    for (ResolvedSwapTrade trade : trades) {
+      blackhole.consume(provider.parameterSensitivity(PRICER.presentValueSensitivity(trade, provider)).total());
+    }
+  }
+
+}
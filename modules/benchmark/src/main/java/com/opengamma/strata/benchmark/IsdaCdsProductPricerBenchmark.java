@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.pricer.common.PriceType;
+import com.opengamma.strata.pricer.credit.ImmutableCreditRatesProvider;
+import com.opengamma.strata.pricer.credit.IsdaCdsProductPricer;
+import com.opengamma.strata.product.credit.ResolvedCds;
+
+/**
+ * Benchmark of the pricing of a portfolio of single name CDS.
+ * <p>
+ * The CDS are priced with {@link IsdaCdsProductPricer} using synthetic yield and credit curves.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IsdaCdsProductPricerBenchmark {
+
+  /**
+   * The pricer.
+   */
+  private static final IsdaCdsProductPricer PRICER = IsdaCdsProductPricer.DEFAULT;
+  /**
+   * The valuation date.
+   */
+  private static final LocalDate VALUATION_DATE = LocalDate.of(2014, 10, 16);
+
+  /**
+   * The number of products.
+   */
+  @Param({"1", "100", "1000"})
+  private int portfolioSize;
+
+  /**
+   * The reference data.
+   */
+  private ReferenceData refData;
+  /**
+   * The credit curves.
+   */
+  private ImmutableCreditRatesProvider provider;
+  /**
+   * The resolved products.
+   */
+  private List<ResolvedCds> products;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates the curves and the portfolio.
+   */
+  @Setup
+  public void setUp() {
+    refData = ReferenceData.standard();
+    provider = BenchmarkMarketData.creditRatesProvider(VALUATION_DATE);
+    products = BenchmarkPortfolios.cds(VALUATION_DATE, portfolioSize, refData);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the clean present value of each product.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  public void presentValue(Blackhole blackhole) {
+    for (ResolvedCds cds : products) {
+      LocalDate settlementDate = cds.getSettlementDateOffset().adjust(VALUATION_DATE, refData);
+      blackhole.consume(PRICER.presentValue(cds, provider, settlementDate, PriceType.CLEAN, refData));
+    }
+  }
+
+  /**
+   * Calculates the par spread of each product.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  public void parSpread(Blackhole blackhole) {
+    for (ResolvedCds cds : products) {
+      LocalDate settlementDate = cds.getSettlementDateOffset().adjust(VALUATION_DATE, refData);
+      blackhole.consume(PRICER.parSpread(cds, provider, settlementDate, refData));
+    }
+  }
+
+  /**
+   * Calculates the present value sensitivity of each product to the curve parameters.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  public void presentValueSensitivity(Blackhole blackhole) {
+    for (ResolvedCds cds : products) {
+      LocalDate settlementDate = cds.getSettlementDateOffset().adjust(VALUATION_DATE, refData);
+      blackhole.consume(provider.parameterSensitivity(
+          PRICER.presentValueSensitivity(cds, provider, settlementDate, refData).build()));
+    }
+  }
+
+}
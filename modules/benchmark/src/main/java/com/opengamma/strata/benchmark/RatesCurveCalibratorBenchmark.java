@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.market.curve.RatesCurveGroupDefinition;
+import com.opengamma.strata.pricer.curve.RatesCurveCalibrator;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+
+/**
+ * Benchmark of the calibration of the curve groups.
+ * <p>
+ * The calibration is measured from the initial guess of the curve definitions and, to measure recalibration,
+ * starting from the curves and Jacobians of a previous calibration on the same quotes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RatesCurveCalibratorBenchmark {
+
+  /**
+   * The calibrator.
+   */
+  private static final RatesCurveCalibrator CALIBRATOR = RatesCurveCalibrator.standard();
+
+  /**
+   * The curve group.
+   */
+  @Param({"USD", "EUR"})
+  private BenchmarkCurveGroup curveGroup;
+
+  /**
+   * The reference data.
+   */
+  private ReferenceData refData;
+  /**
+   * The curve group definition.
+   */
+  private RatesCurveGroupDefinition definition;
+  /**
+   * The market quotes.
+   */
+  private ImmutableMarketData quotes;
+  /**
+   * The curves of a previous calibration.
+   */
+  private ImmutableRatesProvider previous;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Loads the curve group definition and quotes.
+   */
+  @Setup
+  public void setUp() {
+    refData = ReferenceData.standard();
+    definition = curveGroup.definition(refData);
+    quotes = curveGroup.quotes();
+    previous = CALIBRATOR.calibrate(definition, quotes, refData);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calibrates the curve group from the initial guess of the curve definitions.
+   *
+   * @return the calibrated curves
+   */
+  @Benchmark
+  public ImmutableRatesProvider calibrate() {
+    return CALIBRATOR.calibrate(definition, quotes, refData);
+  }
+
+  /**
+   * Calibrates the curve group starting from the curves and Jacobians of a previous calibration.
+   *
+   * @return the calibrated curves
+   */
+  @Benchmark
+  public ImmutableRatesProvider recalibrate() {
+    return CALIBRATOR.calibrate(definition, quotes, refData, previous, true);
+  }
+
+}
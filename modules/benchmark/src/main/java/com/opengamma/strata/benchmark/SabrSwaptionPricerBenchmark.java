@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.swaption.SabrParametersSwaptionVolatilities;
+import com.opengamma.strata.pricer.swaption.SabrSwaptionPhysicalProductPricer;
+import com.opengamma.strata.product.swaption.ResolvedSwaption;
+
+/**
+ * Benchmark of the pricing of a portfolio of physically settled swaptions with the SABR model.
+ * <p>
+ * The swaptions are priced with {@link SabrSwaptionPhysicalProductPricer} using the calibrated curves
+ * of the curve group and synthetic SABR parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SabrSwaptionPricerBenchmark {
+
+  /**
+   * The pricer.
+   */
+  private static final SabrSwaptionPhysicalProductPricer PRICER = SabrSwaptionPhysicalProductPricer.DEFAULT;
+
+  /**
+   * The curve group.
+   */
+  @Param({"USD", "EUR"})
+  private BenchmarkCurveGroup curveGroup;
+  /**
+   * The number of products.
+   */
+  @Param({"1", "100", "1000"})
+  private int portfolioSize;
+
+  /**
+   * The calibrated curves.
+   */
+  private ImmutableRatesProvider provider;
+  /**
+   * The SABR volatilities.
+   */
+  private SabrParametersSwaptionVolatilities volatilities;
+  /**
+   * The resolved products.
+   */
+  private List<ResolvedSwaption> products;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calibrates the curves and creates the portfolio.
+   */
+  @Setup
+  public void setUp() {
+    ReferenceData refData = ReferenceData.standard();
+    provider = curveGroup.calibrate(refData);
+    volatilities = BenchmarkMarketData.sabrVolatilities(curveGroup);
+    products = BenchmarkPortfolios.swaptions(curveGroup, portfolioSize, refData);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present value of each product.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  public void presentValue(Blackhole blackhole) {
+    for (ResolvedSwaption swaption : products) {
+      blackhole.consume(PRICER.presentValue(swaption, provider, volatilities));
+    }
+  }
+
+  /**
+   * Calculates the present value sensitivity of each product to the curve parameters.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  public void presentValueSensitivityRates(Blackhole blackhole) {
+    for (ResolvedSwaption swaption : products) {
+      blackhole.consume(provider.parameterSensitivity(
+          PRICER.presentValueSensitivityRatesStickyModel(swaption, provider, volatilities).build()));
+    }
+  }
+
+  /**
+   * Calculates the present value sensitivity of each product to the SABR parameters.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  public void presentValueSensitivityModelParams(Blackhole blackhole) {
+    for (ResolvedSwaption swaption : products) {
+      blackhole.consume(volatilities.parameterSensitivity(
+          PRICER.presentValueSensitivityModelParamsSabr(swaption, provider, volatilities).build()));
+    }
+  }
+
+}
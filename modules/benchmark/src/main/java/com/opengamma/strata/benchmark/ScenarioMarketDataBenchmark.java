@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.calc.CalculationRules;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.marketdata.BuiltScenarioMarketData;
+import com.opengamma.strata.calc.marketdata.MarketDataConfig;
+import com.opengamma.strata.calc.marketdata.MarketDataFactory;
+import com.opengamma.strata.calc.marketdata.MarketDataFilter;
+import com.opengamma.strata.calc.marketdata.MarketDataRequirements;
+import com.opengamma.strata.calc.marketdata.PerturbationMapping;
+import com.opengamma.strata.calc.marketdata.ScenarioDefinition;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.market.GenericDoubleShifts;
+import com.opengamma.strata.market.ShiftType;
+import com.opengamma.strata.market.curve.RatesCurveGroupDefinition;
+import com.opengamma.strata.market.observable.QuoteId;
+import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.measure.StandardComponents;
+import com.opengamma.strata.measure.curve.ScenarioCalibrationConfig;
+import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
+import com.opengamma.strata.product.swap.SwapTrade;
+
+/**
+ * Benchmark of building the market data for a set of scenarios.
+ * <p>
+ * Each scenario shifts all the quotes used to calibrate the curve group by a whole number of basis points,
+ * so a curve group is calibrated for each scenario.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScenarioMarketDataBenchmark {
+
+  /**
+   * The size of a quote shift.
+   */
+  private static final double ONE_BP = 1e-4;
+  /**
+   * The number of trades that require the market data.
+   */
+  private static final int PORTFOLIO_SIZE = 10;
+
+  /**
+   * The curve group.
+   */
+  @Param({"USD", "EUR"})
+  private BenchmarkCurveGroup curveGroup;
+  /**
+   * The number of scenarios.
+   */
+  @Param({"1", "10", "100"})
+  private int scenarioCount;
+  /**
+   * Whether the scenarios are calibrated in parallel.
+   */
+  @Param({"false", "true"})
+  private boolean parallel;
+
+  /**
+   * The reference data.
+   */
+  private ReferenceData refData;
+  /**
+   * The market data factory.
+   */
+  private MarketDataFactory factory;
+  /**
+   * The market data requirements.
+   */
+  private MarketDataRequirements requirements;
+  /**
+   * The market data configuration.
+   */
+  private MarketDataConfig config;
+  /**
+   * The market quotes.
+   */
+  private ImmutableMarketData quotes;
+  /**
+   * The scenario definition.
+   */
+  private ScenarioDefinition scenarioDefinition;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Determines the requirements of a swap portfolio and creates the scenarios.
+   */
+  @Setup
+  public void setUp() {
+    refData = ReferenceData.standard();
+    factory = StandardComponents.marketDataFactory();
+    RatesCurveGroupDefinition definition = curveGroup.definition(refData);
+    CalculationRules rules = CalculationRules.of(
+        StandardComponents.calculationFunctions(), RatesMarketDataLookup.of(definition));
+    List<SwapTrade> trades = BenchmarkPortfolios.swaps(curveGroup, PORTFOLIO_SIZE, refData);
+    List<Column> columns = ImmutableList.of(Column.of(Measures.PRESENT_VALUE));
+    requirements = MarketDataRequirements.of(rules, trades, columns, refData);
+    config = MarketDataConfig.builder()
+        .add(curveGroup.getGroupName(), definition)
+        .addDefault(parallel ? ScenarioCalibrationConfig.parallel() : ScenarioCalibrationConfig.sequential())
+        .build();
+    quotes = curveGroup.quotes();
+    GenericDoubleShifts shifts = GenericDoubleShifts.of(ShiftType.ABSOLUTE, DoubleArray.of(scenarioCount, i -> i * ONE_BP));
+    scenarioDefinition = ScenarioDefinition.ofMappings(PerturbationMapping.of(MarketDataFilter.ofIdType(QuoteId.class), shifts));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Builds the market data for the scenarios, calibrating the curve group for each scenario.
+   *
+   * @return the scenario market data
+   */
+  @Benchmark
+  public BuiltScenarioMarketData createMultiScenario() {
+    return factory.createMultiScenario(requirements, config, quotes, refData, scenarioDefinition);
+  }
+
+}
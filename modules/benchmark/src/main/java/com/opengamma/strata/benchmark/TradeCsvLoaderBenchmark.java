@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.CharSource;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.collect.result.ValueWithFailures;
+import com.opengamma.strata.loader.csv.TradeCsvLoader;
+import com.opengamma.strata.loader.csv.TradeCsvWriter;
+import com.opengamma.strata.product.Trade;
+
+/**
+ * Benchmark of loading trades from CSV.
+ * <p>
+ * The CSV is written by {@link TradeCsvWriter} from a portfolio of swaps before the benchmark,
+ * and held in memory so that only the parsing is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TradeCsvLoaderBenchmark {
+
+  /**
+   * The number of trades.
+   */
+  @Param({"100", "1000", "10000"})
+  private int portfolioSize;
+
+  /**
+   * The loader.
+   */
+  private TradeCsvLoader loader;
+  /**
+   * The CSV.
+   */
+  private List<CharSource> csv;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Writes the portfolio to CSV.
+   */
+  @Setup
+  public void setUp() {
+    ReferenceData refData = ReferenceData.standard();
+    loader = TradeCsvLoader.of(refData);
+    StringBuilder buf = new StringBuilder();
+    TradeCsvWriter.standard().write(BenchmarkPortfolios.swaps(BenchmarkCurveGroup.USD, portfolioSize, refData), buf);
+    csv = ImmutableList.of(CharSource.wrap(buf.toString()));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Parses the trades from the CSV.
+   *
+   * @return the trades
+   */
+  @Benchmark
+  public ValueWithFailures<List<Trade>> parse() {
+    return loader.parse(csv);
+  }
+
+}
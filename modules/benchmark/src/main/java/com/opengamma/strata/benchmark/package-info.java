@@ -0,0 +1,15 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+
+/**
+ * JMH benchmarks of the pricers, calibration and calculation engine.
+ * <p>
+ * The benchmarks use the example curve groups and synthetic portfolios with a fixed seed,
+ * so that the results of different builds can be compared.
+ * The benchmarks are run using the jar file created by the build, for example
+ * {@code java -jar modules/benchmark/target/benchmarks.jar RatesCurveCalibratorBenchmark}.
+ */
+package com.opengamma.strata.benchmark;
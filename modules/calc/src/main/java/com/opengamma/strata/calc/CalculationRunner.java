@@ -66,6 +66,60 @@ public interface CalculationRunner extends AutoCloseable {
     return DefaultCalculationRunner.of(executor);
   }
 
+  /**
+   * Creates a calculation runner capable of performing calculations, specifying the executor
+   * and the maximum number of scenarios calculated by a single part of a calculation.
+   * <p>
+   * When the market data contains more scenarios than the batch size, each calculation is split into
+   * parts by scenario. See {@link CalculationTaskRunner#of(ExecutorService, int)} for more details.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   * 
+   * @param executor  the executor to use
+   * @param scenarioBatchSize  the maximum number of scenarios calculated by a single part of a calculation
+   * @return the calculation runner
+   */
+  public static CalculationRunner of(ExecutorService executor, int scenarioBatchSize) {
+    return DefaultCalculationRunner.of(executor, scenarioBatchSize);
+  }
+
+  /**
+   * Creates a multi-threaded calculation runner that schedules calculations based on their estimated cost.
+   * <p>
+   * This factory creates a work-stealing fork-join pool basing the number of threads on the number
+   * of available processors. The cost of each calculation is learned from previous runs of the runner.
+   * See {@link CalculationTaskRunner#ofCostAware()} for more details.
+   * It is recommended to use try-with-resources to manage the runner:
+   * <pre>
+   *  try (CalculationRunner runner = CalculationRunner.ofCostAware()) {
+   *    // use the runner
+   *  }
+   * </pre>
+   * 
+   * @return the calculation runner
+   */
+  public static CalculationRunner ofCostAware() {
+    return DefaultCalculationRunner.ofCostAware();
+  }
+
+  /**
+   * Creates a calculation runner that performs each calculation on its own virtual thread,
+   * limiting the number of calculations executing at the same time to the number of available processors.
+   * <p>
+   * See {@link CalculationTaskRunner#ofVirtualThreads()} for more details.
+   * It is recommended to use try-with-resources to manage the runner:
+   * <pre>
+   *  try (CalculationRunner runner = CalculationRunner.ofVirtualThreads()) {
+   *    // use the runner
+   *  }
+   * </pre>
+   * 
+   * @return the calculation runner
+   */
+  public static CalculationRunner ofVirtualThreads() {
+    return DefaultCalculationRunner.ofVirtualThreads();
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Performs calculations for a single set of market data.
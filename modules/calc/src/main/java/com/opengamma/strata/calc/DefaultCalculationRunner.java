@@ -59,6 +59,39 @@ class DefaultCalculationRunner implements CalculationRunner {
     return new DefaultCalculationRunner(CalculationTaskRunner.of(executor));
   }
 
+  /**
+   * Creates a calculation runner capable of performing calculations, specifying the executor
+   * and the maximum number of scenarios calculated by a single part of a calculation.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   * 
+   * @param executor  the executor to use
+   * @param scenarioBatchSize  the maximum number of scenarios calculated by a single part of a calculation
+   * @return the calculation runner
+   */
+  static DefaultCalculationRunner of(ExecutorService executor, int scenarioBatchSize) {
+    return new DefaultCalculationRunner(CalculationTaskRunner.of(executor, scenarioBatchSize));
+  }
+
+  /**
+   * Creates a multi-threaded calculation runner that schedules calculations based on their estimated cost.
+   * 
+   * @return the calculation runner
+   */
+  static DefaultCalculationRunner ofCostAware() {
+    return new DefaultCalculationRunner(CalculationTaskRunner.ofCostAware());
+  }
+
+  /**
+   * Creates a calculation runner that performs each calculation on its own virtual thread,
+   * limiting the number of calculations executing at the same time.
+   * 
+   * @return the calculation runner
+   */
+  static DefaultCalculationRunner ofVirtualThreads() {
+    return new DefaultCalculationRunner(CalculationTaskRunner.ofVirtualThreads());
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance specifying the underlying task runner to use.
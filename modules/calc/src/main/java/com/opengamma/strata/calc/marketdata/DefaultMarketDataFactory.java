@@ -42,6 +42,9 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
   /** Market data functions, keyed by the type of the market data ID they can handle. */
   private final Map<Class<? extends MarketDataId<?>>, MarketDataFunction<?, ?>> functions;
 
+  /** The cache of built market data, null if values are not cached. */
+  private final MarketDataCache cache;
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance of the factory based on providers of market data and time-series.
@@ -52,12 +55,34 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
    * @param timeSeriesProvider  the provider time-series
    * @param functions  the functions that create the market data
    */
-  @SuppressWarnings("unchecked")
   DefaultMarketDataFactory(
       ObservableDataProvider observableDataProvider,
       TimeSeriesProvider timeSeriesProvider,
       List<MarketDataFunction<?, ?>> functions) {
 
+    this(observableDataProvider, timeSeriesProvider, functions, null);
+  }
+
+  /**
+   * Creates an instance of the factory based on providers of market data and time-series,
+   * optionally caching the market data built by the functions.
+   * <p>
+   * When a cache is specified, a value built by a function is reused by subsequent calls if the inputs
+   * used to build it are unchanged. See {@link MarketDataCache} for details.
+   *
+   * @param observableDataProvider  the provider observable market data
+   * @param timeSeriesProvider  the provider time-series
+   * @param functions  the functions that create the market data
+   * @param cache  the cache of built market data, null if values should not be cached
+   */
+  @SuppressWarnings("unchecked")
+  DefaultMarketDataFactory(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      List<MarketDataFunction<?, ?>> functions,
+      MarketDataCache cache) {
+
+    this.cache = cache;
     this.observableDataProvider = observableDataProvider;
     this.timeSeriesProvider = timeSeriesProvider;
 
@@ -110,6 +135,10 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
     // of those nodes represent the market data required to build that data, and so on
     MarketDataNode root = MarketDataNode.buildDependencyTree(requirements, suppliedData, marketDataConfig, functions);
 
+    // The immediate dependencies of each value are the inputs used to decide whether a cached value can be reused
+    Map<MarketDataId<?>, MarketDataRequirements> dependencies =
+        cache != null ? root.dependencyRequirements() : ImmutableMap.of();
+
     // The leaf nodes of the dependency tree represent market data with no missing requirements for market data.
     // This includes:
     //   * Market data that is already available
@@ -180,7 +209,7 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
           .collect(toImmutableSet());
 
       Map<MarketDataId<?>, Result<MarketDataBox<?>>> nonObservableResults =
-          buildNonObservableData(nonObservableIds, marketDataConfig, marketData, refData);
+          buildNonObservableData(nonObservableIds, dependencies, marketDataConfig, marketData, refData);
 
       MapStream.of(nonObservableResults)
           .forEach((id, result) -> addResult(id, result, refData, scenarioDefinition, dataBuilder));
@@ -234,15 +263,44 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
     return Result.of(() -> marketDataFunction.build(id, marketDataConfig, suppliedData, refData));
   }
 
-  @SuppressWarnings("unchecked")
   private Map<MarketDataId<?>, Result<MarketDataBox<?>>> buildNonObservableData(
       Set<? extends MarketDataId<?>> ids,
+      Map<MarketDataId<?>, MarketDataRequirements> dependencies,
       MarketDataConfig marketDataConfig,
       BuiltScenarioMarketData marketData,
       ReferenceData refData) {
 
     return ids.stream()
-        .collect(toImmutableMap(id -> id, id -> buildNonObservableData(id, marketDataConfig, marketData, refData)));
+        .collect(toImmutableMap(id -> id, id -> buildOrCached(id, dependencies, marketDataConfig, marketData, refData)));
+  }
+
+  /**
+   * Builds an item of non-observable market data, using the cached value if its inputs are unchanged.
+   *
+   * @param id  ID of the market data that should be built
+   * @param dependencies  the immediate dependencies of the market data, keyed by ID
+   * @param marketDataConfig  configuration specifying how the market data should be built
+   * @param marketData  existing set of market data that contains any data required to build the values
+   * @param refData  the reference data, used to resolve trades
+   * @return a result containing the market data or details of why it wasn't built
+   */
+  private Result<MarketDataBox<?>> buildOrCached(
+      MarketDataId<?> id,
+      Map<MarketDataId<?>, MarketDataRequirements> dependencies,
+      MarketDataConfig marketDataConfig,
+      BuiltScenarioMarketData marketData,
+      ReferenceData refData) {
+
+    if (cache == null) {
+      return buildNonObservableData(id, marketDataConfig, marketData, refData);
+    }
+    return cache.build(
+        id,
+        dependencies.getOrDefault(id, MarketDataRequirements.empty()),
+        marketDataConfig,
+        marketData,
+        refData,
+        () -> buildNonObservableData(id, marketDataConfig, marketData, refData));
   }
 
   /**
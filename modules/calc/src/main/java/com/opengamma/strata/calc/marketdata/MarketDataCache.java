@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.marketdata;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * A cache of the non-observable market data built by market data functions.
+ * <p>
+ * Each value is cached together with the inputs used to build it. The inputs are the values and
+ * time-series of the immediate dependencies of the value in the dependency tree, the market data
+ * configuration, the reference data and the valuation date. A cached value is only used if all the
+ * inputs are equal to those used to build it, otherwise the value is built again and replaces the
+ * cached value.
+ * <p>
+ * As a value is built from its immediate dependencies, a change to an observable input invalidates
+ * the values that depend on it directly. Values further up the tree are invalidated when the rebuilt
+ * values they depend on differ from those used previously. Unrelated values, such as curve groups
+ * that do not use the changed quotes, are reused.
+ * <p>
+ * The reference data is compared by identity. Failures are not cached.
+ * <p>
+ * This class is thread-safe.
+ */
+final class MarketDataCache {
+
+  /**
+   * The cached values, keyed by market data ID.
+   */
+  private final ConcurrentHashMap<MarketDataId<?>, CachedValue> values = new ConcurrentHashMap<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns the cached value if its inputs are unchanged, otherwise builds and caches the value.
+   *
+   * @param id  the ID of the market data
+   * @param dependencies  the immediate dependencies of the market data
+   * @param marketDataConfig  the configuration used to build the market data
+   * @param marketData  the market data from which the value is built
+   * @param refData  the reference data
+   * @param builder  the supplier that builds the value
+   * @return a result containing the market data or details of why it wasn't built
+   */
+  Result<MarketDataBox<?>> build(
+      MarketDataId<?> id,
+      MarketDataRequirements dependencies,
+      MarketDataConfig marketDataConfig,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      Supplier<Result<MarketDataBox<?>>> builder) {
+
+    Inputs inputs = Inputs.of(dependencies, marketDataConfig, marketData, refData);
+    CachedValue cached = values.get(id);
+    if (cached != null && cached.inputs.equals(inputs)) {
+      return Result.success(cached.value);
+    }
+    Result<MarketDataBox<?>> result = builder.get();
+    if (result.isSuccess()) {
+      values.put(id, new CachedValue(inputs, result.getValue()));
+    } else {
+      values.remove(id);
+    }
+    return result;
+  }
+
+  /**
+   * Gets the number of cached values.
+   *
+   * @return the number of cached values
+   */
+  int size() {
+    return values.size();
+  }
+
+  /**
+   * Removes all cached values.
+   */
+  void clear() {
+    values.clear();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * A cached value and the inputs used to build it.
+   */
+  private static final class CachedValue {
+
+    private final Inputs inputs;
+    private final MarketDataBox<?> value;
+
+    private CachedValue(Inputs inputs, MarketDataBox<?> value) {
+      this.inputs = inputs;
+      this.value = value;
+    }
+  }
+
+  /**
+   * The inputs used to build a value.
+   */
+  private static final class Inputs {
+
+    private final MarketDataBox<LocalDate> valuationDate;
+    private final int scenarioCount;
+    private final MarketDataConfig marketDataConfig;
+    private final ReferenceData refData;
+    private final ImmutableMap<MarketDataId<?>, Optional<?>> values;
+    private final ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> timeSeries;
+
+    private static Inputs of(
+        MarketDataRequirements dependencies,
+        MarketDataConfig marketDataConfig,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      ImmutableMap.Builder<MarketDataId<?>, Optional<?>> values = ImmutableMap.builder();
+      dependencies.getObservables().forEach(id -> values.put(id, marketData.findValue(id)));
+      dependencies.getNonObservables().forEach(id -> values.put(id, marketData.findValue(id)));
+      ImmutableMap.Builder<ObservableId, LocalDateDoubleTimeSeries> timeSeries = ImmutableMap.builder();
+      dependencies.getTimeSeries().forEach(id -> timeSeries.put(id, marketData.getTimeSeries(id)));
+      return new Inputs(
+          marketData.getValuationDate(),
+          marketData.getScenarioCount(),
+          marketDataConfig,
+          refData,
+          values.build(),
+          timeSeries.build());
+    }
+
+    private Inputs(
+        MarketDataBox<LocalDate> valuationDate,
+        int scenarioCount,
+        MarketDataConfig marketDataConfig,
+        ReferenceData refData,
+        ImmutableMap<MarketDataId<?>, Optional<?>> values,
+        ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> timeSeries) {
+
+      this.valuationDate = valuationDate;
+      this.scenarioCount = scenarioCount;
+      this.marketDataConfig = marketDataConfig;
+      this.refData = refData;
+      this.values = values;
+      this.timeSeries = timeSeries;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      Inputs other = (Inputs) obj;
+      return refData == other.refData &&
+          scenarioCount == other.scenarioCount &&
+          valuationDate.equals(other.valuationDate) &&
+          marketDataConfig.equals(other.marketDataConfig) &&
+          values.equals(other.values) &&
+          timeSeries.equals(other.timeSeries);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(valuationDate, scenarioCount, values.keySet(), timeSeries.keySet());
+    }
+  }
+
+}
@@ -74,6 +74,31 @@ public interface MarketDataFactory {
     return new DefaultMarketDataFactory(observableDataProvider, timeSeriesProvider, functions);
   }
 
+  /**
+   * Obtains an instance of the factory that caches the market data built by the functions.
+   * <p>
+   * The market data functions are used to build the market data.
+   * Each value built by a function is cached together with the inputs used to build it.
+   * When the factory is invoked again, the cached value is used if the inputs are unchanged,
+   * for example when the same curve groups are required against the same valuation date.
+   * If the inputs have changed, for example because a quote used to calibrate a curve group has moved,
+   * the value is built again, as are the values that depend on it.
+   * <p>
+   * The cache is held by the factory and the reference data is compared by identity.
+   *
+   * @param observableDataProvider  the provider of observable market data
+   * @param timeSeriesProvider  the provider of time-series
+   * @param functions  the functions that create the market data
+   * @return the market data factory
+   */
+  public static MarketDataFactory ofCached(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      List<MarketDataFunction<?, ?>> functions) {
+
+    return new DefaultMarketDataFactory(observableDataProvider, timeSeriesProvider, functions, new MarketDataCache());
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Builds a set of market data.
@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.calc.marketdata;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -164,6 +165,37 @@ final class MarketDataNode {
     return Pair.of(node, requirements);
   }
 
+  /**
+   * Returns the immediate dependencies of each single value in the tree, keyed by the ID of the value.
+   * <p>
+   * The dependencies of a value are the market data represented by the children of its node.
+   *
+   * @return the immediate dependencies of each single value in the tree
+   */
+  Map<MarketDataId<?>, MarketDataRequirements> dependencyRequirements() {
+    Map<MarketDataId<?>, MarketDataRequirements> requirements = new HashMap<>();
+    addDependencyRequirements(requirements);
+    return requirements;
+  }
+
+  // adds the dependencies of this node and its children to the map
+  private void addDependencyRequirements(Map<MarketDataId<?>, MarketDataRequirements> requirements) {
+    if (dataType == DataType.SINGLE_VALUE && !requirements.containsKey(id)) {
+      MarketDataRequirementsBuilder requirementsBuilder = MarketDataRequirements.builder();
+      for (MarketDataNode child : dependencies) {
+        if (child.dataType == DataType.TIME_SERIES) {
+          requirementsBuilder.addTimeSeries((ObservableId) child.id);
+        } else {
+          requirementsBuilder.addValues(child.id);
+        }
+      }
+      requirements.put(id, requirementsBuilder.build());
+    }
+    for (MarketDataNode child : dependencies) {
+      child.addDependencyRequirements(requirements);
+    }
+  }
+
   /**
    * Returns true if this node has no children.
    *
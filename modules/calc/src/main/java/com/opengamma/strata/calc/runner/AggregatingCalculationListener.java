@@ -49,6 +49,8 @@ public abstract class AggregatingCalculationListener<T>
 
   /**
    * A future providing asynchronous notification when the results are available.
+   * <p>
+   * Cancelling the future cancels the calculations that have not yet started.
    *
    * @return a future providing asynchronous notification when the results are available
    */
@@ -56,6 +58,18 @@ public abstract class AggregatingCalculationListener<T>
     return future;
   }
 
+  /**
+   * Checks if the calculations have been cancelled.
+   * <p>
+   * This returns true if the future returned by {@link #getFuture()} has been cancelled.
+   *
+   * @return true if the calculations have been cancelled
+   */
+  @Override
+  public boolean isCancelled() {
+    return future.isCancelled();
+  }
+
   @Override
   public abstract void resultReceived(CalculationTarget target, CalculationResult result);
 
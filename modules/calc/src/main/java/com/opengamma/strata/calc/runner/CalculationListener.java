@@ -61,4 +61,20 @@ public interface CalculationListener {
    */
   public abstract void calculationsComplete();
 
+  /**
+   * Checks if the calculations have been cancelled by the receiver of the results.
+   * <p>
+   * The calculation runner checks this before starting each calculation.
+   * Once cancelled, calculations that have not started are not performed, with a failure result
+   * passed to this listener instead. Calculations that have already started are allowed to complete.
+   * <p>
+   * Unlike the other methods on this interface, this method may be invoked by multiple threads at the same time.
+   *
+   * @return true if the calculations have been cancelled
+   */
+  public default boolean isCancelled() {
+    // Default implementation is never cancelled, required for backwards compatibility
+    return false;
+  }
+
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * Estimates the cost of executing a calculation task, learning from previous runs.
+ * <p>
+ * Tasks are grouped by the type of the {@link CalculationFunction}, the type of the target
+ * and the set of measures being calculated. The elapsed time of each execution is recorded
+ * against the group, and a smoothed average is used to estimate the cost of future tasks in the same group.
+ * <p>
+ * Tasks in a group that has not yet been seen have no estimate.
+ * <p>
+ * This class is mutable and thread-safe.
+ * A single instance is intended to be shared across many runs of the same calculation runner.
+ */
+public final class CalculationTaskCostEstimator {
+
+  /**
+   * The default weight applied to the most recent observation.
+   */
+  private static final double DEFAULT_SMOOTHING = 0.3;
+
+  /**
+   * The weight applied to the most recent observation, from 0 exclusive to 1 inclusive.
+   */
+  private final double smoothing;
+  /**
+   * The estimated cost in nanoseconds, keyed by task type.
+   */
+  private final ConcurrentMap<TaskKey, Double> costs = new ConcurrentHashMap<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an empty instance using the default smoothing.
+   */
+  public CalculationTaskCostEstimator() {
+    this(DEFAULT_SMOOTHING);
+  }
+
+  /**
+   * Creates an empty instance specifying the smoothing.
+   * <p>
+   * The smoothing is the weight applied to the most recent observation when updating the estimate.
+   * A value of 1 means only the last observation is used.
+   *
+   * @param smoothing  the weight of the most recent observation, from 0 exclusive to 1 inclusive
+   */
+  public CalculationTaskCostEstimator(double smoothing) {
+    ArgChecker.isTrue(smoothing > 0d && smoothing <= 1d, "Smoothing must be greater than 0 and at most 1: {}", smoothing);
+    this.smoothing = smoothing;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the estimated cost of executing the task, in nanoseconds.
+   * <p>
+   * An empty result is returned if no task of the same type has been recorded.
+   *
+   * @param task  the task
+   * @return the estimated cost in nanoseconds, empty if unknown
+   */
+  public OptionalDouble estimate(CalculationTask task) {
+    Double cost = costs.get(TaskKey.of(task));
+    return cost != null ? OptionalDouble.of(cost) : OptionalDouble.empty();
+  }
+
+  /**
+   * Records the elapsed time of executing the task.
+   *
+   * @param task  the task that was executed
+   * @param elapsedNanos  the elapsed time of the execution in nanoseconds
+   */
+  public void record(CalculationTask task, long elapsedNanos) {
+    double observed = Math.max(elapsedNanos, 0L);
+    costs.merge(TaskKey.of(task), observed, (previous, latest) -> previous + smoothing * (latest - previous));
+  }
+
+  /**
+   * Clears all recorded costs.
+   */
+  public void clear() {
+    costs.clear();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "CalculationTaskCostEstimator[" + costs.size() + " task types]";
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The key used to group tasks of the same type.
+   */
+  private static final class TaskKey {
+
+    private final Class<?> functionType;
+    private final Class<?> targetType;
+    private final Set<Measure> measures;
+
+    private static TaskKey of(CalculationTask task) {
+      return new TaskKey(task.getFunction().getClass(), task.getTarget().getClass(), task.getMeasures());
+    }
+
+    private TaskKey(Class<?> functionType, Class<?> targetType, Set<Measure> measures) {
+      this.functionType = functionType;
+      this.targetType = targetType;
+      this.measures = measures;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (obj instanceof TaskKey) {
+        TaskKey other = (TaskKey) obj;
+        return functionType.equals(other.functionType) &&
+            targetType.equals(other.targetType) &&
+            measures.equals(other.measures);
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(functionType, targetType, measures);
+    }
+  }
+
+}
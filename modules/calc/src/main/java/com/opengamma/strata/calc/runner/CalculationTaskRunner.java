@@ -79,6 +79,103 @@ public interface CalculationTaskRunner extends AutoCloseable {
     return DefaultCalculationTaskRunner.of(executor);
   }
 
+  /**
+   * Creates a calculation task runner capable of performing calculations, specifying the executor
+   * and the maximum number of scenarios calculated by a single part of a task.
+   * <p>
+   * When the market data contains more scenarios than the batch size, each task is split into parts,
+   * each calculating a contiguous range of scenarios. The parts are executed separately and their
+   * results are merged, such that the results are the same as if the task was not split.
+   * This is useful when there are few targets and many scenarios.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   * 
+   * @param executor  the executor to use
+   * @param scenarioBatchSize  the maximum number of scenarios calculated by a single part of a task
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner of(ExecutorService executor, int scenarioBatchSize) {
+    return DefaultCalculationTaskRunner.of(executor, scenarioBatchSize);
+  }
+
+  /**
+   * Creates a multi-threaded calculation task runner that schedules tasks based on their estimated cost.
+   * <p>
+   * This factory creates a work-stealing fork-join pool basing the number of threads on the number
+   * of available processors. The cost of each task is learned from previous runs of the runner.
+   * Expensive tasks are submitted first and cheap tasks are batched into chunks, reducing the
+   * time spent waiting for a small number of expensive tasks at the end of a run.
+   * It is recommended to use try-with-resources to manage the runner:
+   * <pre>
+   *  try (CalculationTaskRunner runner = CalculationTaskRunner.ofCostAware()) {
+   *    // use the runner
+   *  }
+   * </pre>
+   * 
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner ofCostAware() {
+    return DefaultCalculationTaskRunner.ofCostAware();
+  }
+
+  /**
+   * Creates a calculation task runner that schedules tasks based on their estimated cost,
+   * specifying the executor and the cost estimator.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   * A work-stealing executor, such as {@link java.util.concurrent.ForkJoinPool}, is recommended.
+   * The estimator may be shared between runners, allowing costs learned in one run to be used in another.
+   * 
+   * @param executor  the executor to use
+   * @param costEstimator  the estimator of task costs, updated as tasks are executed
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner ofCostAware(ExecutorService executor, CalculationTaskCostEstimator costEstimator) {
+    return DefaultCalculationTaskRunner.ofCostAware(executor, costEstimator);
+  }
+
+  /**
+   * Creates a calculation task runner that executes each task on its own virtual thread,
+   * limiting the number of tasks executing at the same time to the number of available processors.
+   * <p>
+   * This is intended for use where many independent sets of calculations are submitted concurrently,
+   * such as a service handling many small requests. The limit applies across all calculations
+   * performed by the runner, and tasks waiting to execute do not consume a processor.
+   * Calculations submitted asynchronously can be cancelled using {@link CalculationListener#isCancelled()}.
+   * <p>
+   * Virtual threads require Java 21 or later. On earlier versions of Java, a fixed pool of daemon
+   * threads is used instead, with one thread for each available processor.
+   * It is recommended to use try-with-resources to manage the runner:
+   * <pre>
+   *  try (CalculationTaskRunner runner = CalculationTaskRunner.ofVirtualThreads()) {
+   *    // use the runner
+   *  }
+   * </pre>
+   * 
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner ofVirtualThreads() {
+    return DefaultCalculationTaskRunner.ofVirtualThreads();
+  }
+
+  /**
+   * Creates a calculation task runner capable of performing calculations, specifying the executor
+   * and the maximum number of tasks executing at the same time.
+   * <p>
+   * The limit applies across all calculations performed by the runner, including concurrent calls.
+   * This allows an executor with a large or unbounded number of threads to be used.
+   * A task waiting for a permit occupies a thread of the executor, so this suits executors where threads are cheap.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   * 
+   * @param executor  the executor to use
+   * @param maxConcurrentTasks  the maximum number of tasks executing at the same time
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner ofBounded(ExecutorService executor, int maxConcurrentTasks) {
+    return DefaultCalculationTaskRunner.ofBounded(executor, maxConcurrentTasks);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Performs calculations for a single set of market data.
@@ -7,12 +7,20 @@ package com.opengamma.strata.calc.runner;
 
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
-import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import com.opengamma.strata.basics.CalculationTarget;
@@ -21,6 +29,7 @@ import com.opengamma.strata.calc.Column;
 import com.opengamma.strata.calc.Results;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.scenario.ScenarioArray;
@@ -30,14 +39,48 @@ import com.opengamma.strata.data.scenario.ScenarioMarketData;
  * The default calculation task runner.
  * <p>
  * This uses a single instance of {@link ExecutorService}.
+ * <p>
+ * If a {@link CalculationTaskCostEstimator} is provided, the tasks are scheduled based on their estimated cost.
+ * The most expensive tasks are submitted first, each on its own, and cheap tasks are batched into chunks
+ * that are executed sequentially by a single thread. This reduces the time spent waiting for a few
+ * expensive tasks at the end of a run, and the overhead of scheduling a large number of cheap tasks.
+ * <p>
+ * If a scenario batch size is provided, each task is split into parts, each calculating a contiguous
+ * range of scenarios, and the results are merged when all parts are complete. This allows a run
+ * with few targets and many scenarios to use all available threads. If the results of a task are
+ * of a type that cannot be merged, the task is calculated again for all scenarios at once.
+ * <p>
+ * If a limit on the number of concurrent tasks is provided, each task must obtain a permit before it executes.
+ * The permits are shared by all calculations using this runner. This allows an executor with a large or
+ * unbounded number of threads, such as one using virtual threads, to be used without overloading the processors.
+ * <p>
+ * Before each task is executed the listener is checked for {@linkplain CalculationListener#isCancelled() cancellation}.
+ * Once the listener has been cancelled, tasks that have not started are not executed.
  */
 final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
 
+  /**
+   * The number of chunks of cheap tasks to aim for per thread when scheduling by cost.
+   */
+  private static final int CHUNKS_PER_THREAD = 4;
+
   /**
    * Executes the tasks that perform the individual calculations.
    * This will typically be multi-threaded, but single or direct executors also work.
    */
   private final ExecutorService executor;
+  /**
+   * The estimator of task costs, null if tasks are scheduled in the order they are provided.
+   */
+  private final CalculationTaskCostEstimator costEstimator;
+  /**
+   * The maximum number of scenarios calculated by a single part of a task, zero if tasks are not split.
+   */
+  private final int scenarioBatchSize;
+  /**
+   * The permits limiting the number of tasks executing at the same time, null if not limited.
+   */
+  private final Semaphore permits;
 
   //-------------------------------------------------------------------------
   /**
@@ -54,7 +97,7 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * @return the calculation task runner
    */
   static DefaultCalculationTaskRunner ofMultiThreaded() {
-    return new DefaultCalculationTaskRunner(createExecutor(Runtime.getRuntime().availableProcessors()));
+    return new DefaultCalculationTaskRunner(createExecutor(Runtime.getRuntime().availableProcessors()), null, 0, null);
   }
 
   /**
@@ -66,20 +109,145 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * @return the calculation task runner
    */
   static DefaultCalculationTaskRunner of(ExecutorService executor) {
-    return new DefaultCalculationTaskRunner(executor);
+    return new DefaultCalculationTaskRunner(executor, null, 0, null);
+  }
+
+  /**
+   * Creates a calculation task runner capable of performing calculations, specifying the executor
+   * and the maximum number of scenarios calculated by a single part of a task.
+   * <p>
+   * When the market data contains more scenarios than the batch size, each task is split into
+   * parts by scenario, with each part executed separately. The results of the parts are then merged.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param executor  the executor to use
+   * @param scenarioBatchSize  the maximum number of scenarios calculated by a single part of a task
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner of(ExecutorService executor, int scenarioBatchSize) {
+    ArgChecker.notNegativeOrZero(scenarioBatchSize, "scenarioBatchSize");
+    return new DefaultCalculationTaskRunner(executor, null, scenarioBatchSize, null);
+  }
+
+  /**
+   * Creates a multi-threaded calculation task runner that schedules tasks based on their estimated cost.
+   * <p>
+   * This factory creates a work-stealing fork-join pool basing the number of threads on the number
+   * of available processors. The cost of each task is learned from previous runs of this runner.
+   * It is recommended to use try-with-resources to manage the runner:
+   * <pre>
+   *  try (DefaultCalculationTaskRunner runner = DefaultCalculationTaskRunner.ofCostAware()) {
+   *    // use the runner
+   *  }
+   * </pre>
+   *
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner ofCostAware() {
+    return new DefaultCalculationTaskRunner(
+        createForkJoinPool(Runtime.getRuntime().availableProcessors()),
+        new CalculationTaskCostEstimator(),
+        0,
+        null);
+  }
+
+  /**
+   * Creates a calculation task runner that schedules tasks based on their estimated cost,
+   * specifying the executor and the cost estimator.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   * The estimator may be shared between runners.
+   *
+   * @param executor  the executor to use, typically a {@link ForkJoinPool}
+   * @param costEstimator  the estimator of task costs, updated as tasks are executed
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner ofCostAware(ExecutorService executor, CalculationTaskCostEstimator costEstimator) {
+    return new DefaultCalculationTaskRunner(executor, ArgChecker.notNull(costEstimator, "costEstimator"), 0, null);
+  }
+
+  /**
+   * Creates a calculation task runner that executes each task on its own virtual thread,
+   * limiting the number of tasks executing at the same time to the number of available processors.
+   * <p>
+   * This is intended for use where many independent sets of calculations are submitted concurrently,
+   * such as a service handling many small requests. Tasks waiting for a permit do not consume a processor.
+   * Virtual threads require Java 21 or later. On earlier versions of Java, a fixed pool of daemon
+   * threads is used instead, with one thread for each available processor, which imposes the same limit
+   * on the number of executing tasks without a thread for each waiting task.
+   * It is recommended to use try-with-resources to manage the runner:
+   * <pre>
+   *  try (DefaultCalculationTaskRunner runner = DefaultCalculationTaskRunner.ofVirtualThreads()) {
+   *    // use the runner
+   *  }
+   * </pre>
+   *
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner ofVirtualThreads() {
+    int processors = Runtime.getRuntime().availableProcessors();
+    return createVirtualThreadExecutor()
+        .map(executor -> new DefaultCalculationTaskRunner(executor, null, 0, new Semaphore(processors)))
+        .orElseGet(() -> new DefaultCalculationTaskRunner(createExecutor(processors), null, 0, null));
+  }
+
+  /**
+   * Creates a calculation task runner capable of performing calculations, specifying the executor
+   * and the maximum number of tasks executing at the same time.
+   * <p>
+   * The limit applies across all calculations performed by the runner, including concurrent calls.
+   * A task waiting for a permit occupies a thread of the executor, so this is intended for executors
+   * where threads are cheap, such as one using virtual threads.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param executor  the executor to use
+   * @param maxConcurrentTasks  the maximum number of tasks executing at the same time
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner ofBounded(ExecutorService executor, int maxConcurrentTasks) {
+    ArgChecker.notNegativeOrZero(maxConcurrentTasks, "maxConcurrentTasks");
+    return new DefaultCalculationTaskRunner(executor, null, 0, new Semaphore(maxConcurrentTasks));
   }
 
   // create an executor with daemon threads
   private static ExecutorService createExecutor(int threads) {
     int effectiveThreads = (threads <= 0 ? Runtime.getRuntime().availableProcessors() : threads);
+    return Executors.newFixedThreadPool(effectiveThreads, createThreadFactory());
+  }
+
+  // create an executor using a virtual thread per task, empty if virtual threads are not available
+  // reflection is used as virtual threads are not available in the minimum supported version of Java
+  private static Optional<ExecutorService> createVirtualThreadExecutor() {
+    try {
+      Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return Optional.of((ExecutorService) method.invoke(null));
+    } catch (ReflectiveOperationException | RuntimeException ex) {
+      return Optional.empty();
+    }
+  }
+
+  // create a factory for daemon threads
+  private static ThreadFactory createThreadFactory() {
     ThreadFactory defaultFactory = Executors.defaultThreadFactory();
-    ThreadFactory threadFactory = r -> {
+    return r -> {
       Thread t = defaultFactory.newThread(r);
       t.setName("CalculationTaskRunner-" + t.getName());
       t.setDaemon(true);
       return t;
     };
-    return Executors.newFixedThreadPool(effectiveThreads, threadFactory);
+  }
+
+  // create a work-stealing pool, the threads of which are daemon threads
+  private static ForkJoinPool createForkJoinPool(int threads) {
+    int effectiveThreads = (threads <= 0 ? Runtime.getRuntime().availableProcessors() : threads);
+    ForkJoinWorkerThreadFactory threadFactory = pool -> {
+      ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      t.setName("CalculationTaskRunner-" + t.getName());
+      return t;
+    };
+    return new ForkJoinPool(effectiveThreads, threadFactory, null, false);
   }
 
   //-------------------------------------------------------------------------
@@ -87,9 +255,20 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * Creates an instance specifying the executor to use.
    *
    * @param executor  the executor that is used to perform the calculations
+   * @param costEstimator  the estimator of task costs, null to schedule tasks in order
+   * @param scenarioBatchSize  the maximum number of scenarios calculated by a single part of a task, zero for no limit
+   * @param permits  the permits limiting the number of tasks executing at the same time, null for no limit
    */
-  private DefaultCalculationTaskRunner(ExecutorService executor) {
+  private DefaultCalculationTaskRunner(
+      ExecutorService executor,
+      CalculationTaskCostEstimator costEstimator,
+      int scenarioBatchSize,
+      Semaphore permits) {
+
     this.executor = ArgChecker.notNull(executor, "executor");
+    this.costEstimator = costEstimator;
+    this.scenarioBatchSize = scenarioBatchSize;
+    this.permits = permits;
   }
 
   //-------------------------------------------------------------------------
@@ -124,7 +303,7 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * <p>
    * If this method is called with a {@code ScenarioArray} containing more than one value it throws an exception.
    */
-  private static Result<?> unwrapScenarioResult(Result<?> result) {
+  static Result<?> unwrapScenarioResult(Result<?> result) {
     if (result.isFailure()) {
       return result;
     }
@@ -177,11 +356,15 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
     // the listener is invoked via this wrapper
     // the wrapper ensures thread-safety for the listener
     // it also calls the listener with single CalculationResult cells, not CalculationResults
-    Consumer<CalculationResults> consumer =
+    ListenerWrapper consumer =
         new ListenerWrapper(listener, taskList.size(), tasks.getTargets(), tasks.getColumns());
 
     // run each task using the executor
-    taskList.forEach(task -> runTask(task, marketData, refData, consumer));
+    if (costEstimator == null) {
+      taskList.forEach(task -> runTask(task, marketData, refData, consumer));
+    } else {
+      runTasksByCost(taskList, marketData, refData, consumer);
+    }
   }
 
   // submits a task to the executor to be run
@@ -189,14 +372,208 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
       CalculationTask task,
       ScenarioMarketData marketData,
       ReferenceData refData,
-      Consumer<CalculationResults> consumer) {
+      ListenerWrapper consumer) {
 
     // the task is executed, with the result passed to the consumer
     // the consumer wraps the listener to ensure thread-safety
-    Supplier<CalculationResults> taskExecutor = () -> task.execute(marketData, refData);
+    if (scenarioBatchSize > 0 && marketData.getScenarioCount() > scenarioBatchSize) {
+      runTaskByScenario(task, marketData, refData, consumer);
+      return;
+    }
+    Supplier<CalculationResults> taskExecutor = () -> execute(task, marketData, refData, consumer);
     CompletableFuture.supplyAsync(taskExecutor, executor).thenAccept(consumer);
   }
 
+  // submits a task to the executor in parts, each part calculating a range of scenarios
+  private void runTaskByScenario(
+      CalculationTask task,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      ListenerWrapper consumer) {
+
+    // the merged result is passed to the consumer once all parts are complete
+    int scenarioCount = marketData.getScenarioCount();
+    List<CompletableFuture<CalculationResults>> parts = new ArrayList<>();
+    for (int start = 0; start < scenarioCount; start += scenarioBatchSize) {
+      int end = Math.min(start + scenarioBatchSize, scenarioCount);
+      ScenarioMarketData partMarketData = marketData.scenarioRange(start, end);
+      Supplier<CalculationResults> partExecutor = () -> execute(task, partMarketData, refData, consumer);
+      parts.add(CompletableFuture.supplyAsync(partExecutor, executor));
+    }
+    // if the results cannot be merged without changing their type, the task is calculated for all scenarios at once
+    // any failure is passed to the consumer, as the listener waits for the results of every cell
+    CompletableFuture.allOf(parts.toArray(new CompletableFuture<?>[0]))
+        .thenApply(ignored -> parts.stream().map(CompletableFuture::join).collect(toImmutableList()))
+        .thenApply(partResults -> ScenarioResultsMerger.merge(partResults)
+            .orElseGet(() -> execute(task, marketData, refData, consumer)))
+        .handle((results, ex) -> ex == null ? results : failed(task, ex))
+        .thenAccept(consumer);
+  }
+
+  // submits the tasks to the executor, most expensive first, with cheap tasks batched into chunks
+  private void runTasksByCost(
+      List<CalculationTask> taskList,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      ListenerWrapper consumer) {
+
+    // tasks that have never been seen are treated as expensive, so they are run alone and measured
+    List<CostedTask> costedTasks = new ArrayList<>(taskList.size());
+    double totalKnownCost = 0;
+    for (CalculationTask task : taskList) {
+      double cost = costEstimator.estimate(task).orElse(Double.POSITIVE_INFINITY);
+      costedTasks.add(new CostedTask(task, cost));
+      if (cost != Double.POSITIVE_INFINITY) {
+        totalKnownCost += cost;
+      }
+    }
+    costedTasks.sort(Comparator.comparingDouble((CostedTask ct) -> ct.cost).reversed());
+
+    // a task at least as expensive as a chunk is submitted on its own
+    double chunkCost = totalKnownCost / (parallelism() * CHUNKS_PER_THREAD);
+    List<CalculationTask> chunk = new ArrayList<>();
+    double currentChunkCost = 0;
+    for (CostedTask costedTask : costedTasks) {
+      if (costedTask.cost >= chunkCost) {
+        runTaskMeasured(costedTask.task, marketData, refData, consumer);
+      } else {
+        chunk.add(costedTask.task);
+        currentChunkCost += costedTask.cost;
+        if (currentChunkCost >= chunkCost) {
+          runChunkMeasured(chunk, marketData, refData, consumer);
+          chunk = new ArrayList<>();
+          currentChunkCost = 0;
+        }
+      }
+    }
+    if (!chunk.isEmpty()) {
+      runChunkMeasured(chunk, marketData, refData, consumer);
+    }
+  }
+
+  // submits a task to the executor to be run, recording the elapsed time
+  private void runTaskMeasured(
+      CalculationTask task,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      ListenerWrapper consumer) {
+
+    Supplier<CalculationResults> taskExecutor = () -> executeMeasured(task, marketData, refData, consumer);
+    CompletableFuture.supplyAsync(taskExecutor, executor).thenAccept(consumer);
+  }
+
+  // submits a chunk of tasks to the executor to be run sequentially, recording the elapsed time of each
+  private void runChunkMeasured(
+      List<CalculationTask> chunk,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      ListenerWrapper consumer) {
+
+    // the results are passed to the consumer as each task completes, using a normal loop for better stack traces
+    Runnable chunkExecutor = () -> {
+      for (CalculationTask task : chunk) {
+        consumer.accept(executeMeasured(task, marketData, refData, consumer));
+      }
+    };
+    CompletableFuture.runAsync(chunkExecutor, executor);
+  }
+
+  // executes the task, recording the elapsed time in the estimator
+  private CalculationResults executeMeasured(
+      CalculationTask task,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      ListenerWrapper consumer) {
+
+    if (consumer.isCancelled()) {
+      return cancelled(task);
+    }
+    long start = System.nanoTime();
+    CalculationResults results = execute(task, marketData, refData, consumer);
+    costEstimator.record(task, System.nanoTime() - start);
+    return results;
+  }
+
+  // executes the task unless the calculations have been cancelled, waiting for a permit if necessary
+  private CalculationResults execute(
+      CalculationTask task,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      ListenerWrapper consumer) {
+
+    if (consumer.isCancelled()) {
+      return cancelled(task);
+    }
+    if (permits == null) {
+      return executeSafely(task, marketData, refData);
+    }
+    try {
+      permits.acquire();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return cancelled(task);
+    }
+    try {
+      // the calculations may have been cancelled while waiting for the permit
+      if (consumer.isCancelled()) {
+        return cancelled(task);
+      }
+      return executeSafely(task, marketData, refData);
+    } finally {
+      permits.release();
+    }
+  }
+
+  // executes the task, converting an exception that escapes the task into failures
+  private static CalculationResults executeSafely(
+      CalculationTask task,
+      ScenarioMarketData marketData,
+      ReferenceData refData) {
+
+    try {
+      return task.execute(marketData, refData);
+    } catch (RuntimeException ex) {
+      return failed(task, ex);
+    }
+  }
+
+  // creates the results of a task that was not executed because the calculations were cancelled
+  private static CalculationResults cancelled(CalculationTask task) {
+    Result<?> failure = Result.failure(
+        FailureReason.CALCULATION_FAILED,
+        "Calculation cancelled before it started for target '{}'",
+        task.getTarget());
+    List<CalculationResult> results = task.getCells().stream()
+        .map(cell -> CalculationResult.of(cell.getRowIndex(), cell.getColumnIndex(), failure))
+        .collect(toImmutableList());
+    return CalculationResults.of(task.getTarget(), results);
+  }
+
+  // creates the results of a task that failed with an exception
+  private static CalculationResults failed(CalculationTask task, Throwable throwable) {
+    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ?
+        throwable.getCause() :
+        throwable;
+    Result<?> failure = Result.failure(
+        FailureReason.CALCULATION_FAILED,
+        cause,
+        "Calculation failed for target '{}': {}",
+        task.getTarget(),
+        cause.getMessage());
+    List<CalculationResult> results = task.getCells().stream()
+        .map(cell -> CalculationResult.of(cell.getRowIndex(), cell.getColumnIndex(), failure))
+        .collect(toImmutableList());
+    return CalculationResults.of(task.getTarget(), results);
+  }
+
+  // the number of threads available to the executor
+  private int parallelism() {
+    if (executor instanceof ForkJoinPool) {
+      return ((ForkJoinPool) executor).getParallelism();
+    }
+    return Runtime.getRuntime().availableProcessors();
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public void close() {
@@ -204,6 +581,19 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
   }
 
   //-------------------------------------------------------------------------
+  /**
+   * A task with its estimated cost.
+   */
+  private static final class CostedTask {
+
+    private final CalculationTask task;
+    private final double cost;
+
+    private CostedTask(CalculationTask task, double cost) {
+      this.task = task;
+      this.cost = cost;
+    }
+  }
 
   //-------------------------------------------------------------------------
   /**
@@ -236,6 +626,11 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
     public void calculationsComplete() {
       delegate.calculationsComplete();
     }
+
+    @Override
+    public boolean isCancelled() {
+      return delegate.isCancelled();
+    }
   }
 
 }
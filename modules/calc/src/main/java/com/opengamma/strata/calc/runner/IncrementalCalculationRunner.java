@@ -0,0 +1,401 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.ColumnHeader;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.data.NamedMarketDataId;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Performs calculations repeatedly, only recalculating the tasks affected by changes to the market data.
+ * <p>
+ * This is intended for use where the same set of calculations is performed frequently,
+ * with only a small part of the market data changing between each calculation, such as intraday.
+ * <p>
+ * When a task is executed, the identifiers of the market data values and time-series that it reads
+ * are recorded. This includes any data read to convert the results to the reporting currency.
+ * A task that enumerates the identifiers of the market data is treated as reading all the values,
+ * all the time-series, or all the values with a given name, as appropriate.
+ * On subsequent calculations, a task is only executed again if any of the data it read has changed.
+ * The results of the remaining tasks are taken from the previous calculation.
+ * <p>
+ * The changed data can be specified by the caller, or determined by comparing each value
+ * read by a task in the previous market data with the value in the new market data.
+ * All tasks are executed on the first calculation, and whenever the valuation date changes.
+ * <p>
+ * This class is mutable and thread-safe, with calculations performed one at a time.
+ */
+public final class IncrementalCalculationRunner {
+
+  /**
+   * The tasks to execute.
+   */
+  private final CalculationTasks tasks;
+  /**
+   * The reference data.
+   */
+  private final ReferenceData refData;
+  /**
+   * The executor used to execute the tasks.
+   */
+  private final ExecutorService executor;
+  /**
+   * The column headers of the results.
+   */
+  private final List<ColumnHeader> headers;
+  /**
+   * The latest results, indexed by row then column.
+   */
+  private final Result<?>[] cells;
+  /**
+   * The market data read by each task when it was last executed, null if not executed.
+   */
+  private final MarketDataUsage[] usages;
+  /**
+   * The market data used in the previous calculation, null if none.
+   */
+  private MarketData previousMarketData;
+  /**
+   * The number of tasks executed by the previous calculation.
+   */
+  private int executedTaskCount;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance for the specified tasks.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param tasks  the calculation tasks to invoke
+   * @param refData  the reference data to be used in the calculations
+   * @param executor  the executor used to execute the tasks
+   * @return the incremental runner
+   */
+  public static IncrementalCalculationRunner of(
+      CalculationTasks tasks,
+      ReferenceData refData,
+      ExecutorService executor) {
+
+    return new IncrementalCalculationRunner(tasks, refData, executor);
+  }
+
+  // restricted constructor
+  private IncrementalCalculationRunner(CalculationTasks tasks, ReferenceData refData, ExecutorService executor) {
+    this.tasks = ArgChecker.notNull(tasks, "tasks");
+    this.refData = ArgChecker.notNull(refData, "refData");
+    this.executor = ArgChecker.notNull(executor, "executor");
+    this.headers = tasks.getColumns().stream().map(Column::toHeader).collect(toImmutableList());
+    this.cells = new Result<?>[tasks.getTargets().size() * tasks.getColumns().size()];
+    this.usages = new MarketDataUsage[tasks.getTasks().size()];
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Performs the calculations, only executing the tasks that read market data that has changed.
+   * <p>
+   * The changed data is determined by comparing each value read by a task in the previous calculation
+   * with the value in the specified market data.
+   *
+   * @param marketData  the market data to be used in the calculations
+   * @return the grid of calculation results
+   */
+  public synchronized Results calculate(MarketData marketData) {
+    ArgChecker.notNull(marketData, "marketData");
+    if (!isIncremental(marketData)) {
+      return calculate(marketData, taskIndex -> true);
+    }
+    MarketDataChanges changes = new ComparedChanges(previousMarketData, marketData);
+    return calculate(marketData, taskIndex -> usages[taskIndex].isAffected(changes));
+  }
+
+  /**
+   * Performs the calculations, only executing the tasks that read the specified changed market data.
+   * <p>
+   * The caller is responsible for ensuring that the set of identifiers includes every value and
+   * time-series that differs from the market data of the previous calculation.
+   *
+   * @param marketData  the market data to be used in the calculations
+   * @param changedIds  the identifiers of the market data that has changed since the previous calculation
+   * @return the grid of calculation results
+   */
+  public synchronized Results calculate(MarketData marketData, Set<? extends MarketDataId<?>> changedIds) {
+    ArgChecker.notNull(marketData, "marketData");
+    ArgChecker.notNull(changedIds, "changedIds");
+    if (!isIncremental(marketData)) {
+      return calculate(marketData, taskIndex -> true);
+    }
+    MarketDataChanges changes = new SpecifiedChanges(changedIds);
+    return calculate(marketData, taskIndex -> usages[taskIndex].isAffected(changes));
+  }
+
+  /**
+   * Gets the number of tasks executed by the previous calculation.
+   *
+   * @return the number of tasks executed
+   */
+  public synchronized int getExecutedTaskCount() {
+    return executedTaskCount;
+  }
+
+  /**
+   * Discards the previous results, such that all tasks are executed by the next calculation.
+   */
+  public synchronized void reset() {
+    previousMarketData = null;
+    Arrays.fill(cells, null);
+    Arrays.fill(usages, null);
+  }
+
+  //-------------------------------------------------------------------------
+  // checks if the previous results can be used
+  private boolean isIncremental(MarketData marketData) {
+    return previousMarketData != null && previousMarketData.getValuationDate().equals(marketData.getValuationDate());
+  }
+
+  // executes the affected tasks, recording the market data read by each
+  private Results calculate(MarketData marketData, IntPredicate affected) {
+    List<CalculationTask> taskList = tasks.getTasks();
+    ScenarioMarketData scenarioMarketData = ScenarioMarketData.of(1, marketData);
+    List<Integer> executedIndices = new ArrayList<>();
+    List<RecordingScenarioMarketData> executedMarketData = new ArrayList<>();
+    List<CompletableFuture<CalculationResults>> futures = new ArrayList<>();
+    for (int i = 0; i < taskList.size(); i++) {
+      if (usages[i] == null || affected.test(i)) {
+        CalculationTask task = taskList.get(i);
+        RecordingScenarioMarketData recordingMarketData = new RecordingScenarioMarketData(scenarioMarketData);
+        executedIndices.add(i);
+        executedMarketData.add(recordingMarketData);
+        futures.add(CompletableFuture.supplyAsync(() -> task.execute(recordingMarketData, refData), executor));
+      }
+    }
+    // the state is only updated once all tasks have completed
+    int columnCount = headers.size();
+    List<CalculationResults> executedResults = futures.stream().map(CompletableFuture::join).collect(toImmutableList());
+    for (int i = 0; i < executedIndices.size(); i++) {
+      usages[executedIndices.get(i)] = MarketDataUsage.of(executedMarketData.get(i));
+      for (CalculationResult cell : executedResults.get(i).getCells()) {
+        Result<?> result = DefaultCalculationTaskRunner.unwrapScenarioResult(cell.getResult());
+        cells[cell.getRowIndex() * columnCount + cell.getColumnIndex()] = result;
+      }
+    }
+    previousMarketData = marketData;
+    executedTaskCount = executedIndices.size();
+    return Results.of(headers, Arrays.asList(cells));
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "IncrementalCalculationRunner[" + tasks.getTasks().size() + " tasks]";
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The market data read by a task.
+   */
+  private static final class MarketDataUsage {
+
+    private final ImmutableSet<MarketDataId<?>> valueIds;
+    private final ImmutableSet<ObservableId> timeSeriesIds;
+    private final ImmutableSet<MarketDataName<?>> names;
+    private final boolean allValues;
+    private final boolean allTimeSeries;
+
+    private MarketDataUsage(
+        ImmutableSet<MarketDataId<?>> valueIds,
+        ImmutableSet<ObservableId> timeSeriesIds,
+        ImmutableSet<MarketDataName<?>> names,
+        boolean allValues,
+        boolean allTimeSeries) {
+
+      this.valueIds = valueIds;
+      this.timeSeriesIds = timeSeriesIds;
+      this.names = names;
+      this.allValues = allValues;
+      this.allTimeSeries = allTimeSeries;
+    }
+
+    // copies the data recorded once the task has completed
+    private static MarketDataUsage of(RecordingScenarioMarketData marketData) {
+      return new MarketDataUsage(
+          marketData.getQueriedValueIds(),
+          marketData.getQueriedTimeSeriesIds(),
+          marketData.getQueriedNames(),
+          marketData.isAllValueIdsQueried(),
+          marketData.isAllTimeSeriesIdsQueried());
+    }
+
+    // checks if any of the data read by the task has changed
+    private boolean isAffected(MarketDataChanges changes) {
+      if ((allValues && changes.isAnyValueChanged()) || (allTimeSeries && changes.isAnyTimeSeriesChanged())) {
+        return true;
+      }
+      for (MarketDataName<?> name : names) {
+        if (changes.isAnyValueChanged(name)) {
+          return true;
+        }
+      }
+      for (MarketDataId<?> id : valueIds) {
+        if (changes.isValueChanged(id)) {
+          return true;
+        }
+      }
+      for (ObservableId id : timeSeriesIds) {
+        if (changes.isTimeSeriesChanged(id)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The changes to the market data since the previous calculation.
+   * <p>
+   * A value or time-series that has been added or removed is treated as changed.
+   */
+  private interface MarketDataChanges {
+
+    boolean isValueChanged(MarketDataId<?> id);
+
+    boolean isTimeSeriesChanged(ObservableId id);
+
+    boolean isAnyValueChanged();
+
+    boolean isAnyValueChanged(MarketDataName<?> name);
+
+    boolean isAnyTimeSeriesChanged();
+  }
+
+  /**
+   * The changes determined by comparing the previous and current market data.
+   * <p>
+   * Each comparison is only performed once.
+   */
+  private static final class ComparedChanges implements MarketDataChanges {
+
+    private final MarketData previous;
+    private final MarketData current;
+    private final Map<MarketDataId<?>, Boolean> changedValues = new HashMap<>();
+    private final Map<ObservableId, Boolean> changedTimeSeries = new HashMap<>();
+    private final Map<MarketDataName<?>, Boolean> changedNames = new HashMap<>();
+    private Boolean anyValueChanged;
+    private Boolean anyTimeSeriesChanged;
+
+    private ComparedChanges(MarketData previous, MarketData current) {
+      this.previous = previous;
+      this.current = current;
+    }
+
+    @Override
+    public boolean isValueChanged(MarketDataId<?> id) {
+      return changedValues.computeIfAbsent(id, k -> !previous.findValue(k).equals(current.findValue(k)));
+    }
+
+    @Override
+    public boolean isTimeSeriesChanged(ObservableId id) {
+      return changedTimeSeries.computeIfAbsent(id, k -> !previous.getTimeSeries(k).equals(current.getTimeSeries(k)));
+    }
+
+    @Override
+    public boolean isAnyValueChanged() {
+      if (anyValueChanged == null) {
+        anyValueChanged = isAnyChanged(previous.getIds(), current.getIds(), this::isValueChanged);
+      }
+      return anyValueChanged;
+    }
+
+    @Override
+    public boolean isAnyValueChanged(MarketDataName<?> name) {
+      Boolean changed = changedNames.get(name);
+      if (changed == null) {
+        changed = isAnyChanged(previous.findIds(name), current.findIds(name), this::isValueChanged);
+        changedNames.put(name, changed);
+      }
+      return changed;
+    }
+
+    @Override
+    public boolean isAnyTimeSeriesChanged() {
+      if (anyTimeSeriesChanged == null) {
+        anyTimeSeriesChanged =
+            isAnyChanged(previous.getTimeSeriesIds(), current.getTimeSeriesIds(), this::isTimeSeriesChanged);
+      }
+      return anyTimeSeriesChanged;
+    }
+
+    // checks if the identifiers differ, or the data of any identifier has changed
+    private static <T> boolean isAnyChanged(Set<? extends T> previousIds, Set<? extends T> currentIds, Predicate<T> changed) {
+      return !previousIds.equals(currentIds) || currentIds.stream().anyMatch(changed);
+    }
+  }
+
+  /**
+   * The changes specified by the caller.
+   * <p>
+   * As the identifiers of values and time-series cannot be distinguished, each identifier is treated
+   * as both a changed value and a changed time-series.
+   */
+  private static final class SpecifiedChanges implements MarketDataChanges {
+
+    private final Set<? extends MarketDataId<?>> changedIds;
+
+    private SpecifiedChanges(Set<? extends MarketDataId<?>> changedIds) {
+      this.changedIds = changedIds;
+    }
+
+    @Override
+    public boolean isValueChanged(MarketDataId<?> id) {
+      return changedIds.contains(id);
+    }
+
+    @Override
+    public boolean isTimeSeriesChanged(ObservableId id) {
+      return changedIds.contains(id);
+    }
+
+    @Override
+    public boolean isAnyValueChanged() {
+      return !changedIds.isEmpty();
+    }
+
+    @Override
+    public boolean isAnyValueChanged(MarketDataName<?> name) {
+      return changedIds.stream()
+          .anyMatch(id -> id instanceof NamedMarketDataId && ((NamedMarketDataId<?>) id).getMarketDataName().equals(name));
+    }
+
+    @Override
+    public boolean isAnyTimeSeriesChanged() {
+      return changedIds.stream().anyMatch(id -> id instanceof ObservableId);
+    }
+  }
+
+}
@@ -85,6 +85,18 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
     }
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Checks if the underlying listener has been cancelled.
+   * <p>
+   * This method can be invoked concurrently by multiple threads.
+   *
+   * @return true if the calculations have been cancelled
+   */
+  boolean isCancelled() {
+    return listener.isCancelled();
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Accepts a calculation result and delivers it to the listener
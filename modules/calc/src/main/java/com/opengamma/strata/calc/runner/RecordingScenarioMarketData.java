@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Market data that records the identifiers that are looked up.
+ * <p>
+ * This decorates an underlying instance, recording the identifier of each value and time-series
+ * that is queried. Identifiers are recorded whether or not the data is found,
+ * thus a calculation that fails due to missing data records the identifier of the missing data.
+ * <p>
+ * Enumerating the identifiers is also recorded. A call to {@link #getIds()} or {@link #getTimeSeriesIds()}
+ * is treated as reading all the values or all the time-series, as any addition, removal or change may affect
+ * the caller. A call to {@link #findIds(MarketDataName)} records the name, as the caller may be affected
+ * by any value with that name.
+ * <p>
+ * The recorded data is held in thread-safe sets, thus the market data can be queried by multiple threads.
+ */
+final class RecordingScenarioMarketData implements ScenarioMarketData {
+
+  /**
+   * The underlying market data.
+   */
+  private final ScenarioMarketData underlying;
+  /**
+   * The identifiers of the values that have been queried.
+   */
+  private final Set<MarketDataId<?>> valueIds = ConcurrentHashMap.newKeySet();
+  /**
+   * The identifiers of the time-series that have been queried.
+   */
+  private final Set<ObservableId> timeSeriesIds = ConcurrentHashMap.newKeySet();
+  /**
+   * The names for which the identifiers have been queried.
+   */
+  private final Set<MarketDataName<?>> names = ConcurrentHashMap.newKeySet();
+  /**
+   * Whether the identifiers of all values have been queried.
+   */
+  private volatile boolean allValueIdsQueried;
+  /**
+   * Whether the identifiers of all time-series have been queried.
+   */
+  private volatile boolean allTimeSeriesIdsQueried;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an instance.
+   *
+   * @param underlying  the underlying market data
+   */
+  RecordingScenarioMarketData(ScenarioMarketData underlying) {
+    this.underlying = ArgChecker.notNull(underlying, "underlying");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the identifiers of the values that have been queried.
+   *
+   * @return the identifiers
+   */
+  ImmutableSet<MarketDataId<?>> getQueriedValueIds() {
+    return ImmutableSet.copyOf(valueIds);
+  }
+
+  /**
+   * Gets the identifiers of the time-series that have been queried.
+   *
+   * @return the identifiers
+   */
+  ImmutableSet<ObservableId> getQueriedTimeSeriesIds() {
+    return ImmutableSet.copyOf(timeSeriesIds);
+  }
+
+  /**
+   * Gets the names for which the identifiers have been queried using {@link #findIds(MarketDataName)}.
+   *
+   * @return the names
+   */
+  ImmutableSet<MarketDataName<?>> getQueriedNames() {
+    return ImmutableSet.copyOf(names);
+  }
+
+  /**
+   * Checks if the identifiers of all values have been queried using {@link #getIds()}.
+   *
+   * @return true if the identifiers of all values have been queried
+   */
+  boolean isAllValueIdsQueried() {
+    return allValueIdsQueried;
+  }
+
+  /**
+   * Checks if the identifiers of all time-series have been queried using {@link #getTimeSeriesIds()}.
+   *
+   * @return true if the identifiers of all time-series have been queried
+   */
+  boolean isAllTimeSeriesIdsQueried() {
+    return allTimeSeriesIdsQueried;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public MarketDataBox<LocalDate> getValuationDate() {
+    return underlying.getValuationDate();
+  }
+
+  @Override
+  public int getScenarioCount() {
+    return underlying.getScenarioCount();
+  }
+
+  @Override
+  public boolean containsValue(MarketDataId<?> id) {
+    valueIds.add(id);
+    return underlying.containsValue(id);
+  }
+
+  @Override
+  public <T> MarketDataBox<T> getValue(MarketDataId<T> id) {
+    valueIds.add(id);
+    return underlying.getValue(id);
+  }
+
+  @Override
+  public <T> Optional<MarketDataBox<T>> findValue(MarketDataId<T> id) {
+    valueIds.add(id);
+    return underlying.findValue(id);
+  }
+
+  @Override
+  public Set<MarketDataId<?>> getIds() {
+    allValueIdsQueried = true;
+    return underlying.getIds();
+  }
+
+  @Override
+  public <T> Set<MarketDataId<T>> findIds(MarketDataName<T> name) {
+    names.add(name);
+    return underlying.findIds(name);
+  }
+
+  @Override
+  public Set<ObservableId> getTimeSeriesIds() {
+    allTimeSeriesIdsQueried = true;
+    return underlying.getTimeSeriesIds();
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries getTimeSeries(ObservableId id) {
+    timeSeriesIds.add(id);
+    return underlying.getTimeSeries(id);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "RecordingScenarioMarketData[" + underlying + "]";
+  }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.DoubleScenarioArray;
+import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+
+/**
+ * Merges the results of a task calculated separately for contiguous ranges of scenarios.
+ * <p>
+ * When a task is split by scenario, each part produces a {@link CalculationResults} for the same cells.
+ * This class concatenates the scenario values of each cell, in the order of the parts.
+ * <p>
+ * The standard scenario array types are preserved. Other types cannot be rebuilt from their parts,
+ * so no merged results are returned and the task must be calculated for all scenarios at once.
+ * If any part of a cell failed, the first failure is used for the cell.
+ */
+final class ScenarioResultsMerger {
+
+  /**
+   * Restricted constructor.
+   */
+  private ScenarioResultsMerger() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Merges the results of calculating the same task over consecutive ranges of scenarios.
+   * <p>
+   * The result is empty if the value of any cell is a scenario array whose type cannot be rebuilt from its parts.
+   *
+   * @param parts  the results, one for each range of scenarios, in scenario order
+   * @return the merged results, empty if they cannot be merged
+   */
+  static Optional<CalculationResults> merge(List<CalculationResults> parts) {
+    CalculationResults first = parts.get(0);
+    if (parts.size() == 1) {
+      return Optional.of(first);
+    }
+    ImmutableList.Builder<CalculationResult> merged = ImmutableList.builder();
+    for (int cellIndex = 0; cellIndex < first.getCells().size(); cellIndex++) {
+      List<Result<?>> cellParts = new ArrayList<>(parts.size());
+      for (CalculationResults part : parts) {
+        cellParts.add(part.getCells().get(cellIndex).getResult());
+      }
+      Optional<Result<?>> mergedResult = mergeResults(cellParts);
+      if (!mergedResult.isPresent()) {
+        return Optional.empty();
+      }
+      merged.add(first.getCells().get(cellIndex).withResult(mergedResult.get()));
+    }
+    return Optional.of(CalculationResults.of(first.getTarget(), merged.build()));
+  }
+
+  // merges the results of a single cell
+  private static Optional<Result<?>> mergeResults(List<Result<?>> parts) {
+    for (Result<?> part : parts) {
+      if (part.isFailure()) {
+        return Optional.of(part);
+      }
+    }
+    // values that are not scenario arrays do not depend on the scenario
+    if (!parts.stream().allMatch(part -> part.getValue() instanceof ScenarioArray)) {
+      return Optional.of(parts.get(0));
+    }
+    List<ScenarioArray<?>> arrays = new ArrayList<>(parts.size());
+    for (Result<?> part : parts) {
+      arrays.add((ScenarioArray<?>) part.getValue());
+    }
+    // the merged array must be of the same type as the array calculated for all scenarios at once
+    ScenarioArray<?> mergedArray = mergeArrays(arrays);
+    if (!allOfType(arrays, mergedArray.getClass())) {
+      return Optional.empty();
+    }
+    return Optional.of(Result.success(mergedArray));
+  }
+
+  // merges the scenario arrays, retaining the standard types
+  private static ScenarioArray<?> mergeArrays(List<ScenarioArray<?>> arrays) {
+    ScenarioArray<?> first = arrays.get(0);
+    if (first instanceof DoubleScenarioArray && allOfType(arrays, DoubleScenarioArray.class)) {
+      DoubleArray values = DoubleArray.EMPTY;
+      for (ScenarioArray<?> array : arrays) {
+        values = values.concat(((DoubleScenarioArray) array).getValues());
+      }
+      return DoubleScenarioArray.of(values);
+    }
+    if (first instanceof CurrencyScenarioArray && allOfType(arrays, CurrencyScenarioArray.class)) {
+      Currency currency = ((CurrencyScenarioArray) first).getCurrency();
+      if (arrays.stream().allMatch(array -> ((CurrencyScenarioArray) array).getCurrency().equals(currency))) {
+        DoubleArray values = DoubleArray.EMPTY;
+        for (ScenarioArray<?> array : arrays) {
+          values = values.concat(((CurrencyScenarioArray) array).getAmounts().getValues());
+        }
+        return CurrencyScenarioArray.of(currency, values);
+      }
+    }
+    if (first instanceof MultiCurrencyScenarioArray && allOfType(arrays, MultiCurrencyScenarioArray.class)) {
+      List<MultiCurrencyAmount> amounts = new ArrayList<>();
+      for (ScenarioArray<?> array : arrays) {
+        ((MultiCurrencyScenarioArray) array).stream().forEach(amounts::add);
+      }
+      return MultiCurrencyScenarioArray.of(amounts);
+    }
+    List<Object> values = new ArrayList<>();
+    for (ScenarioArray<?> array : arrays) {
+      array.stream().forEach(values::add);
+    }
+    // an array holding the same value for every scenario is rebuilt as such
+    ScenarioArray<?> single = ScenarioArray.ofSingleValue(values.size(), values.get(0));
+    if (allOfType(arrays, single.getClass()) && values.stream().allMatch(values.get(0)::equals)) {
+      return single;
+    }
+    return ScenarioArray.of(values);
+  }
+
+  // checks if all the arrays are of the specified type
+  private static boolean allOfType(List<ScenarioArray<?>> arrays, Class<?> type) {
+    return arrays.stream().allMatch(type::isInstance);
+  }
+
+}
@@ -861,6 +861,59 @@ public class DefaultMarketDataFactoryTest {
     assertThat(result.get(id).isFailure()).isTrue();
   }
 
+  /**
+   * Tests that values built by the functions are reused until their inputs change.
+   */
+  @Test
+  public void buildCached() {
+    TestIdA idA = new TestIdA("1");
+    TestIdB idB = new TestIdB("1");
+    LocalDateDoubleTimeSeries timeSeries1 = LocalDateDoubleTimeSeries.builder().put(date(2011, 3, 7), 1).build();
+    LocalDateDoubleTimeSeries timeSeries2 = LocalDateDoubleTimeSeries.builder().put(date(2011, 3, 7), 2).build();
+    CountingMarketDataFunction<TestMarketDataB, TestIdB> functionB =
+        new CountingMarketDataFunction<>(new TestMarketDataFunctionB());
+    CountingMarketDataFunction<TestMarketDataC, TestIdC> functionC =
+        new CountingMarketDataFunction<>(new TestMarketDataFunctionC());
+    MarketDataFactory factory = MarketDataFactory.ofCached(
+        ObservableDataProvider.none(),
+        new TestTimeSeriesProvider(ImmutableMap.of()),
+        ImmutableList.of(functionB, functionC));
+    MarketDataRequirements requirements = MarketDataRequirements.builder().addValues(idB).build();
+
+    BuiltMarketData marketData1 = factory.create(
+        requirements, MARKET_DATA_CONFIG, suppliedData(idA, 1d, timeSeries1), REF_DATA);
+    assertThat(functionB.buildCount).isEqualTo(1);
+    assertThat(functionC.buildCount).isEqualTo(1);
+
+    // unchanged inputs
+    BuiltMarketData marketData2 = factory.create(
+        requirements, MARKET_DATA_CONFIG, suppliedData(idA, 1d, timeSeries1), REF_DATA);
+    assertThat(functionB.buildCount).isEqualTo(1);
+    assertThat(functionC.buildCount).isEqualTo(1);
+    assertThat(marketData2.getValue(idB)).isEqualTo(marketData1.getValue(idB));
+
+    // observable value changed, only B depends on it
+    BuiltMarketData marketData3 = factory.create(
+        requirements, MARKET_DATA_CONFIG, suppliedData(idA, 2d, timeSeries1), REF_DATA);
+    assertThat(functionB.buildCount).isEqualTo(2);
+    assertThat(functionC.buildCount).isEqualTo(1);
+    assertThat(marketData3.getValue(idB)).isEqualTo(new TestMarketDataB(2d, new TestMarketDataC(timeSeries1)));
+
+    // time-series changed, C is rebuilt which invalidates B
+    BuiltMarketData marketData4 = factory.create(
+        requirements, MARKET_DATA_CONFIG, suppliedData(idA, 2d, timeSeries2), REF_DATA);
+    assertThat(functionB.buildCount).isEqualTo(3);
+    assertThat(functionC.buildCount).isEqualTo(2);
+    assertThat(marketData4.getValue(idB)).isEqualTo(new TestMarketDataB(2d, new TestMarketDataC(timeSeries2)));
+  }
+
+  private static MarketData suppliedData(TestIdA id, double value, LocalDateDoubleTimeSeries timeSeries) {
+    return ImmutableMarketData.builder(date(2011, 3, 8))
+        .addValue(id, value)
+        .addTimeSeries(id, timeSeries)
+        .build();
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Simple time series provider backed by a map.
@@ -1097,6 +1150,41 @@ public class DefaultMarketDataFactoryTest {
     }
   }
 
+  /**
+   * Function that counts the number of values built by an underlying function.
+   */
+  private static final class CountingMarketDataFunction<T, I extends MarketDataId<? extends T>>
+      implements MarketDataFunction<T, I> {
+
+    private final MarketDataFunction<T, I> underlying;
+    private int buildCount;
+
+    private CountingMarketDataFunction(MarketDataFunction<T, I> underlying) {
+      this.underlying = underlying;
+    }
+
+    @Override
+    public MarketDataRequirements requirements(I id, MarketDataConfig marketDataConfig) {
+      return underlying.requirements(id, marketDataConfig);
+    }
+
+    @Override
+    public MarketDataBox<T> build(
+        I id,
+        MarketDataConfig marketDataConfig,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      buildCount++;
+      return underlying.build(id, marketDataConfig, marketData, refData);
+    }
+
+    @Override
+    public Class<I> getMarketDataIdType() {
+      return underlying.getMarketDataIdType();
+    }
+  }
+
   /**
    * Test market data C.
    */
@@ -100,6 +100,33 @@ public class MarketDataNodeTest {
     assertThat(expectedReqs3).isEqualTo(reqs3);
   }
 
+  /**
+   * Tests the immediate dependencies of each value in the tree.
+   */
+  @Test
+  public void dependencyRequirements() {
+    MarketDataNode root =
+        rootNode(
+            observableNode(new TestIdA("1")),
+            valueNode(
+                new TestIdB("2"),
+                valueNode(new TestIdB("3")),
+                observableNode(new TestIdA("4")),
+                valueNode(
+                    new TestIdB("5"),
+                    timeSeriesNode(new TestIdA("6")))));
+
+    Map<MarketDataId<?>, MarketDataRequirements> dependencies = root.dependencyRequirements();
+
+    assertThat(dependencies).containsOnlyKeys(
+        new TestIdA("1"), new TestIdB("2"), new TestIdB("3"), new TestIdA("4"), new TestIdB("5"));
+    assertThat(dependencies.get(new TestIdB("2"))).isEqualTo(
+        MarketDataRequirements.builder().addValues(new TestIdB("3"), new TestIdA("4"), new TestIdB("5")).build());
+    assertThat(dependencies.get(new TestIdB("5"))).isEqualTo(
+        MarketDataRequirements.builder().addTimeSeries(new TestIdA("6")).build());
+    assertThat(dependencies.get(new TestIdA("1"))).isEqualTo(MarketDataRequirements.empty());
+  }
+
   /**
    * Tests building a tree of requirements using market data functions.
    */
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.calc.ReportingCurrency.NATURAL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.offset;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.calc.TestingMeasures;
+import com.opengamma.strata.calc.runner.CalculationTaskTest.TestFunction;
+import com.opengamma.strata.calc.runner.CalculationTaskTest.TestTarget;
+
+/**
+ * Test {@link CalculationTaskCostEstimator}.
+ */
+public class CalculationTaskCostEstimatorTest {
+
+  private static final CalculationTaskCell CELL = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+  private static final CalculationTaskCell CELL2 = CalculationTaskCell.of(1, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+  private static final CalculationTaskCell CELL_PAR = CalculationTaskCell.of(0, 0, TestingMeasures.PAR_RATE, NATURAL);
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_estimate_unknown() {
+    CalculationTaskCostEstimator test = new CalculationTaskCostEstimator();
+    CalculationTask task = CalculationTask.of(new TestTarget(), new TestFunction(), CELL);
+    assertThat(test.estimate(task)).isEmpty();
+  }
+
+  @Test
+  public void test_record() {
+    CalculationTaskCostEstimator test = new CalculationTaskCostEstimator(0.5);
+    CalculationTask task = CalculationTask.of(new TestTarget(), new TestFunction(), CELL);
+    test.record(task, 100);
+    assertThat(test.estimate(task).getAsDouble()).isCloseTo(100d, offset(1e-10));
+    test.record(task, 200);
+    assertThat(test.estimate(task).getAsDouble()).isCloseTo(150d, offset(1e-10));
+  }
+
+  @Test
+  public void test_record_sameTypeOtherRow() {
+    CalculationTaskCostEstimator test = new CalculationTaskCostEstimator();
+    CalculationTask task = CalculationTask.of(new TestTarget(), new TestFunction(), CELL);
+    CalculationTask task2 = CalculationTask.of(new TestTarget(), new TestFunction(), CELL2);
+    test.record(task, 100);
+    assertThat(test.estimate(task2).getAsDouble()).isCloseTo(100d, offset(1e-10));
+  }
+
+  @Test
+  public void test_record_otherMeasures() {
+    CalculationTaskCostEstimator test = new CalculationTaskCostEstimator();
+    CalculationTask task = CalculationTask.of(new TestTarget(), new TestFunction(), CELL);
+    CalculationTask task2 = CalculationTask.of(new TestTarget(), new TestFunction(), CELL_PAR);
+    test.record(task, 100);
+    assertThat(test.estimate(task2)).isEmpty();
+  }
+
+  @Test
+  public void test_clear() {
+    CalculationTaskCostEstimator test = new CalculationTaskCostEstimator();
+    CalculationTask task = CalculationTask.of(new TestTarget(), new TestFunction(), CELL);
+    test.record(task, 100);
+    test.clear();
+    assertThat(test.estimate(task)).isEmpty();
+  }
+
+  @Test
+  public void test_invalidSmoothing() {
+    assertThatIllegalArgumentException().isThrownBy(() -> new CalculationTaskCostEstimator(0));
+    assertThatIllegalArgumentException().isThrownBy(() -> new CalculationTaskCostEstimator(1.5));
+  }
+
+}
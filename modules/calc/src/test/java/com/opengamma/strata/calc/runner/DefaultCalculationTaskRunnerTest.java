@@ -13,6 +13,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -37,9 +39,13 @@ import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.Results;
 import com.opengamma.strata.calc.TestingMeasures;
 import com.opengamma.strata.calc.runner.CalculationTaskTest.TestTarget;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.DoubleScenarioArray;
+import com.opengamma.strata.data.scenario.MarketDataBox;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 
@@ -157,6 +163,338 @@ public class DefaultCalculationTaskRunnerTest {
     assertThat(results.getColumns().get(0).getMeasure()).isEqualTo(TestingMeasures.PRESENT_VALUE);
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void costAware() {
+    ScenarioArray<String> scenarioResult = ScenarioArray.of("foo");
+    ScenarioResultFunction fn = new ScenarioResultFunction(TestingMeasures.PRESENT_VALUE, scenarioResult);
+    ImmutableList.Builder<CalculationTask> taskBuilder = ImmutableList.builder();
+    for (int i = 0; i < 20; i++) {
+      CalculationTaskCell cell = CalculationTaskCell.of(i, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+      taskBuilder.add(CalculationTask.of(TARGET, fn, cell));
+    }
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    CalculationTasks tasks = CalculationTasks.of(taskBuilder.build(), ImmutableList.of(column));
+
+    // using the direct executor means there is no need to close/shutdown the runner
+    CalculationTaskCostEstimator estimator = new CalculationTaskCostEstimator();
+    CalculationTaskRunner test = CalculationTaskRunner.ofCostAware(MoreExecutors.newDirectExecutorService(), estimator);
+    MarketData marketData = MarketData.empty(VAL_DATE);
+
+    // the first run learns the costs, the second run batches the tasks
+    Results results1 = test.calculate(tasks, marketData, REF_DATA);
+    assertThat(estimator.estimate(tasks.getTasks().get(0))).isPresent();
+    Results results2 = test.calculate(tasks, marketData, REF_DATA);
+    assertThat(results1.getRowCount()).isEqualTo(20);
+    assertThat(results2.getRowCount()).isEqualTo(20);
+    for (int i = 0; i < 20; i++) {
+      assertThat(results1.get(i, 0)).hasValue("foo");
+      assertThat(results2.get(i, 0)).hasValue("foo");
+    }
+  }
+
+  @Test
+  public void costAware_multiThreaded() {
+    ScenarioArray<String> scenarioResult = ScenarioArray.of("foo", "bar");
+    ScenarioResultFunction fn = new ScenarioResultFunction(TestingMeasures.PRESENT_VALUE, scenarioResult);
+    CalculationTaskCell cell = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+    CalculationTask task = CalculationTask.of(TARGET, fn, cell);
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    CalculationTasks tasks = CalculationTasks.of(ImmutableList.of(task), ImmutableList.of(column));
+
+    try (CalculationTaskRunner test = CalculationTaskRunner.ofCostAware()) {
+      ScenarioMarketData marketData = ScenarioMarketData.of(2, MarketData.empty(VAL_DATE));
+      Results results = test.calculateMultiScenario(tasks, marketData, REF_DATA);
+      assertThat(results.get(0, 0)).hasValue(scenarioResult);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void scenarioBatches() {
+    ValuationDayFunction fn = new ValuationDayFunction();
+    CalculationTaskCell cell = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+    CalculationTask task = CalculationTask.of(TARGET, fn, cell);
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    CalculationTasks tasks = CalculationTasks.of(ImmutableList.of(task), ImmutableList.of(column));
+    ScenarioMarketData marketData = ScenarioMarketData.of(
+        5,
+        MarketDataBox.ofScenarioValues(date(2011, 3, 1), date(2011, 3, 2), date(2011, 3, 3), date(2011, 3, 4), date(2011, 3, 5)),
+        ImmutableMap.of(),
+        ImmutableMap.of());
+
+    // using the direct executor means there is no need to close/shutdown the runner
+    CalculationTaskRunner test = CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService(), 2);
+    Results results = test.calculateMultiScenario(tasks, marketData, REF_DATA);
+    assertThat(results.get(0, 0)).hasValue(DoubleScenarioArray.of(DoubleArray.of(1, 2, 3, 4, 5)));
+    assertThat(fn.scenarioCounts).containsExactly(2, 2, 1);
+  }
+
+  @Test
+  public void scenarioBatches_customArray() {
+    CustomArrayFunction fn = new CustomArrayFunction();
+    CalculationTaskCell cell = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+    CalculationTask task = CalculationTask.of(TARGET, fn, cell);
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    CalculationTasks tasks = CalculationTasks.of(ImmutableList.of(task), ImmutableList.of(column));
+    ScenarioMarketData marketData = ScenarioMarketData.of(
+        3,
+        MarketDataBox.ofScenarioValues(date(2011, 3, 1), date(2011, 3, 2), date(2011, 3, 3)),
+        ImmutableMap.of(),
+        ImmutableMap.of());
+
+    // the custom array cannot be merged, so the task is calculated for all scenarios at once
+    CalculationTaskRunner unbatched = CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService());
+    CalculationTaskRunner batched = CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService(), 2);
+    Result<?> expected = unbatched.calculateMultiScenario(tasks, marketData, REF_DATA).get(0, 0);
+    Result<?> computed = batched.calculateMultiScenario(tasks, marketData, REF_DATA).get(0, 0);
+    assertThat(computed).isEqualTo(expected);
+    assertThat(computed.getValue()).isInstanceOf(CustomScenarioArray.class);
+  }
+
+  @Test
+  @Timeout(5)
+  public void scenarioBatches_exception() {
+    FailingCurrencyFunction fn = new FailingCurrencyFunction();
+    CalculationTaskCell cell = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+    CalculationTask task = CalculationTask.of(TARGET, fn, cell);
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    CalculationTasks tasks = CalculationTasks.of(ImmutableList.of(task), ImmutableList.of(column));
+    ScenarioMarketData marketData = ScenarioMarketData.of(3, MarketData.empty(VAL_DATE));
+
+    // the exception escapes the task, but the listener still receives a result for the cell
+    CalculationTaskRunner test = CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService(), 2);
+    Result<?> result = test.calculateMultiScenario(tasks, marketData, REF_DATA).get(0, 0);
+    assertThat(result.isFailure()).isTrue();
+    assertThat(result.getFailure().getReason()).isEqualTo(FailureReason.CALCULATION_FAILED);
+    assertThat(result.getFailure().getMessage()).contains("No natural currency");
+  }
+
+  @Test
+  public void scenarioBatches_invalid() {
+    ExecutorService executor = MoreExecutors.newDirectExecutorService();
+    assertThatIllegalArgumentException().isThrownBy(() -> CalculationTaskRunner.of(executor, 0));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void bounded() {
+    ScenarioArray<String> scenarioResult = ScenarioArray.of("foo");
+    ScenarioResultFunction fn = new ScenarioResultFunction(TestingMeasures.PRESENT_VALUE, scenarioResult);
+    CalculationTaskCell cell = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+    CalculationTask task = CalculationTask.of(TARGET, fn, cell);
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    CalculationTasks tasks = CalculationTasks.of(ImmutableList.of(task), ImmutableList.of(column));
+
+    // using the direct executor means there is no need to close/shutdown the runner
+    CalculationTaskRunner test = CalculationTaskRunner.ofBounded(MoreExecutors.newDirectExecutorService(), 1);
+    Results results = test.calculate(tasks, MarketData.empty(VAL_DATE), REF_DATA);
+    assertThat(results.get(0, 0)).hasValue("foo");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> CalculationTaskRunner.ofBounded(MoreExecutors.newDirectExecutorService(), 0));
+  }
+
+  @Test
+  public void virtualThreads() {
+    ScenarioArray<String> scenarioResult = ScenarioArray.of("foo");
+    ScenarioResultFunction fn = new ScenarioResultFunction(TestingMeasures.PRESENT_VALUE, scenarioResult);
+    CalculationTaskCell cell = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+    CalculationTask task = CalculationTask.of(TARGET, fn, cell);
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    CalculationTasks tasks = CalculationTasks.of(ImmutableList.of(task), ImmutableList.of(column));
+
+    try (CalculationTaskRunner test = CalculationTaskRunner.ofVirtualThreads()) {
+      Results results = test.calculate(tasks, MarketData.empty(VAL_DATE), REF_DATA);
+      assertThat(results.get(0, 0)).hasValue("foo");
+    }
+  }
+
+  @Test
+  public void cancelled() {
+    ValuationDayFunction fn = new ValuationDayFunction();
+    CalculationTaskCell cell = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+    CalculationTask task = CalculationTask.of(TARGET, fn, cell);
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    CalculationTasks tasks = CalculationTasks.of(ImmutableList.of(task), ImmutableList.of(column));
+
+    // using the direct executor means there is no need to close/shutdown the runner
+    CalculationTaskRunner test = CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService());
+    ResultsListener resultsListener = new ResultsListener();
+    resultsListener.getFuture().cancel(true);
+    assertThat(resultsListener.isCancelled()).isTrue();
+    Listener listener = new Listener() {
+      @Override
+      public boolean isCancelled() {
+        return true;
+      }
+    };
+    test.calculateAsync(tasks, MarketData.empty(VAL_DATE), REF_DATA, resultsListener);
+    test.calculateAsync(tasks, MarketData.empty(VAL_DATE), REF_DATA, listener);
+    assertThat(fn.scenarioCounts).isEmpty();
+    assertThat(listener.result.getResult().isFailure()).isTrue();
+    assertThat(listener.result.getResult().getFailure().getMessage()).contains("cancelled");
+  }
+
+  //-------------------------------------------------------------------------
+  private static final class ValuationDayFunction implements CalculationFunction<TestTarget> {
+
+    private final List<Integer> scenarioCounts = new ArrayList<>();
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return MEASURES;
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget trade, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.empty();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      scenarioCounts.add(marketData.getScenarioCount());
+      DoubleScenarioArray days = DoubleScenarioArray.of(
+          marketData.getScenarioCount(),
+          i -> marketData.getValuationDate().getValue(i).getDayOfMonth());
+      return ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(days));
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  private static final class CustomArrayFunction implements CalculationFunction<TestTarget> {
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return MEASURES;
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget trade, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.empty();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      List<String> days = new ArrayList<>();
+      for (int i = 0; i < marketData.getScenarioCount(); i++) {
+        days.add(marketData.getValuationDate().getValue(i).toString());
+      }
+      return ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(new CustomScenarioArray(days)));
+    }
+  }
+
+  private static final class CustomScenarioArray implements ScenarioArray<String> {
+
+    private final List<String> values;
+
+    private CustomScenarioArray(List<String> values) {
+      this.values = ImmutableList.copyOf(values);
+    }
+
+    @Override
+    public int getScenarioCount() {
+      return values.size();
+    }
+
+    @Override
+    public String get(int scenarioIndex) {
+      return values.get(scenarioIndex);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof CustomScenarioArray && ((CustomScenarioArray) obj).values.equals(values);
+    }
+
+    @Override
+    public int hashCode() {
+      return values.hashCode();
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  private static final class FailingCurrencyFunction implements CalculationFunction<TestTarget> {
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return MEASURES;
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget trade, ReferenceData refData) {
+      throw new IllegalStateException("No natural currency");
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.empty();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      CurrencyScenarioArray values = CurrencyScenarioArray.of(USD, DoubleArray.filled(marketData.getScenarioCount(), 1d));
+      return ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(values));
+    }
+  }
+
   //-------------------------------------------------------------------------
   private static final class ScenarioResultFunction implements CalculationFunction<TestTarget> {
 
@@ -206,7 +544,7 @@ public class DefaultCalculationTaskRunnerTest {
   }
 
   //-------------------------------------------------------------------------
-  private static final class Listener implements CalculationListener {
+  private static class Listener implements CalculationListener {
 
     private CalculationResult result;
 
@@ -0,0 +1,271 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.calc.ReportingCurrency.NATURAL;
+import static com.opengamma.strata.collect.CollectProjectAssertions.assertThat;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.calc.TestingMeasures;
+import com.opengamma.strata.calc.marketdata.TestId;
+import com.opengamma.strata.calc.marketdata.TestingNamedId;
+import com.opengamma.strata.calc.runner.CalculationTaskTest.TestTarget;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Test {@link IncrementalCalculationRunner}.
+ */
+public class IncrementalCalculationRunnerTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final LocalDate VAL_DATE = date(2011, 3, 8);
+  private static final TestId ID1 = TestId.of("1");
+  private static final TestId ID2 = TestId.of("2");
+  private static final TestId ID3 = TestId.of("3");
+  private static final TestingNamedId NAMED_ID = new TestingNamedId("N");
+  private static final Column COLUMN = Column.of(TestingMeasures.PRESENT_VALUE);
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void calculate_detectChanges() {
+    IncrementalCalculationRunner test = runner();
+
+    Results results1 = test.calculate(marketData("a", "b"));
+    assertThat(test.getExecutedTaskCount()).isEqualTo(2);
+    assertThat(results1.get(0, 0)).hasValue("a");
+    assertThat(results1.get(1, 0)).hasValue("b");
+
+    Results results2 = test.calculate(marketData("a", "b"));
+    assertThat(test.getExecutedTaskCount()).isEqualTo(0);
+    assertThat(results2).isEqualTo(results1);
+
+    Results results3 = test.calculate(marketData("a", "c"));
+    assertThat(test.getExecutedTaskCount()).isEqualTo(1);
+    assertThat(results3.get(0, 0)).hasValue("a");
+    assertThat(results3.get(1, 0)).hasValue("c");
+  }
+
+  @Test
+  public void calculate_changedIds() {
+    IncrementalCalculationRunner test = runner();
+    test.calculate(marketData("a", "b"));
+
+    Results results = test.calculate(marketData("x", "b"), ImmutableSet.of(ID1));
+    assertThat(test.getExecutedTaskCount()).isEqualTo(1);
+    assertThat(results.get(0, 0)).hasValue("x");
+    assertThat(results.get(1, 0)).hasValue("b");
+
+    test.calculate(marketData("x", "b"), ImmutableSet.of());
+    assertThat(test.getExecutedTaskCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void calculate_missingDataAdded() {
+    IncrementalCalculationRunner test = runner();
+    Results results1 = test.calculate(MarketData.of(VAL_DATE, ImmutableMap.of(ID1, "a")));
+    assertThat(results1.get(1, 0).isFailure()).isTrue();
+
+    Results results2 = test.calculate(marketData("a", "b"));
+    assertThat(test.getExecutedTaskCount()).isEqualTo(1);
+    assertThat(results2.get(1, 0)).hasValue("b");
+  }
+
+  @Test
+  public void calculate_enumeratedIds() {
+    IncrementalCalculationRunner test = runner(new ReadingFunction(ID1), new EnumeratingFunction(null));
+    Results results1 = test.calculate(marketData("a", "b"));
+    assertThat(results1.get(1, 0)).hasValue("2");
+
+    // the added value is not read by identifier, but is enumerated
+    MarketData added = MarketData.of(VAL_DATE, ImmutableMap.of(ID1, "a", ID2, "b", ID3, "c"));
+    Results results2 = test.calculate(added);
+    assertThat(test.getExecutedTaskCount()).isEqualTo(1);
+    assertThat(results2.get(1, 0)).hasValue("3");
+
+    test.calculate(added);
+    assertThat(test.getExecutedTaskCount()).isEqualTo(0);
+    test.calculate(added, ImmutableSet.of(ID3));
+    assertThat(test.getExecutedTaskCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void calculate_enumeratedNames() {
+    IncrementalCalculationRunner test =
+        runner(new ReadingFunction(ID1), new EnumeratingFunction(NAMED_ID.getMarketDataName()));
+    Results results1 = test.calculate(marketData("a", "b"));
+    assertThat(results1.get(1, 0)).hasValue("0");
+
+    // a value with a different name does not affect the task
+    test.calculate(marketData("a", "c"));
+    assertThat(test.getExecutedTaskCount()).isEqualTo(0);
+
+    MarketData added = MarketData.of(VAL_DATE, ImmutableMap.of(ID1, "a", ID2, "c", NAMED_ID, "n"));
+    Results results2 = test.calculate(added);
+    assertThat(test.getExecutedTaskCount()).isEqualTo(1);
+    assertThat(results2.get(1, 0)).hasValue("1");
+
+    test.calculate(added, ImmutableSet.of(ID2));
+    assertThat(test.getExecutedTaskCount()).isEqualTo(0);
+    test.calculate(added, ImmutableSet.of(NAMED_ID));
+    assertThat(test.getExecutedTaskCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void calculate_valuationDateChanged() {
+    IncrementalCalculationRunner test = runner();
+    test.calculate(marketData("a", "b"));
+    test.calculate(MarketData.of(VAL_DATE.plusDays(1), ImmutableMap.of(ID1, "a", ID2, "b")));
+    assertThat(test.getExecutedTaskCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void reset() {
+    IncrementalCalculationRunner test = runner();
+    test.calculate(marketData("a", "b"));
+    test.reset();
+    test.calculate(marketData("a", "b"));
+    assertThat(test.getExecutedTaskCount()).isEqualTo(2);
+  }
+
+  //-------------------------------------------------------------------------
+  private static IncrementalCalculationRunner runner() {
+    return runner(new ReadingFunction(ID1), new ReadingFunction(ID2));
+  }
+
+  private static IncrementalCalculationRunner runner(
+      CalculationFunction<TestTarget> function1,
+      CalculationFunction<TestTarget> function2) {
+
+    CalculationTask task1 = CalculationTask.of(
+        new TestTarget(), function1, CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, NATURAL));
+    CalculationTask task2 = CalculationTask.of(
+        new TestTarget(), function2, CalculationTaskCell.of(1, 0, TestingMeasures.PRESENT_VALUE, NATURAL));
+    CalculationTasks tasks = CalculationTasks.of(ImmutableList.of(task1, task2), ImmutableList.of(COLUMN));
+    return IncrementalCalculationRunner.of(tasks, REF_DATA, MoreExecutors.newDirectExecutorService());
+  }
+
+  private static MarketData marketData(String value1, String value2) {
+    return MarketData.of(VAL_DATE, ImmutableMap.of(ID1, value1, ID2, value2));
+  }
+
+  //-------------------------------------------------------------------------
+  private static final class ReadingFunction implements CalculationFunction<TestTarget> {
+
+    private final TestId id;
+
+    private ReadingFunction(TestId id) {
+      this.id = id;
+    }
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return ImmutableSet.of(TestingMeasures.PRESENT_VALUE);
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget trade, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.builder().valueRequirements(ImmutableSet.of(id)).build();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      ScenarioArray<String> values = ScenarioArray.of(marketData.getValue(id).getValue(0));
+      return ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(values));
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // returns the number of identifiers with the name, or of all identifiers if the name is null
+  private static final class EnumeratingFunction implements CalculationFunction<TestTarget> {
+
+    private final MarketDataName<?> name;
+
+    private EnumeratingFunction(MarketDataName<?> name) {
+      this.name = name;
+    }
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return ImmutableSet.of(TestingMeasures.PRESENT_VALUE);
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget trade, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.empty();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      int count = name == null ? marketData.getIds().size() : marketData.findIds(name).size();
+      ScenarioArray<String> values = ScenarioArray.of(String.valueOf(count));
+      return ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(values));
+    }
+  }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.collect.CollectProjectAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.calc.runner.CalculationTaskTest.TestTarget;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.DoubleScenarioArray;
+import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+
+/**
+ * Test {@link ScenarioResultsMerger}.
+ */
+public class ScenarioResultsMergerTest {
+
+  private static final TestTarget TARGET = new TestTarget();
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void merge_single() {
+    CalculationResults results = results(Result.success(ScenarioArray.of("a")));
+    assertThat(ScenarioResultsMerger.merge(ImmutableList.of(results))).hasValue(results);
+  }
+
+  @Test
+  public void merge_double() {
+    CalculationResults merged = ScenarioResultsMerger.merge(ImmutableList.of(
+        results(Result.success(DoubleScenarioArray.of(DoubleArray.of(1, 2)))),
+        results(Result.success(DoubleScenarioArray.of(DoubleArray.of(3)))))).get();
+    assertThat(merged.getTarget()).isEqualTo(TARGET);
+    assertThat(merged.getCells().get(0).getRowIndex()).isEqualTo(0);
+    assertThat(merged.getCells().get(0).getResult()).hasValue(DoubleScenarioArray.of(DoubleArray.of(1, 2, 3)));
+  }
+
+  @Test
+  public void merge_currency() {
+    CalculationResults merged = ScenarioResultsMerger.merge(ImmutableList.of(
+        results(Result.success(CurrencyScenarioArray.of(USD, DoubleArray.of(1, 2)))),
+        results(Result.success(CurrencyScenarioArray.of(USD, DoubleArray.of(3)))))).get();
+    assertThat(merged.getCells().get(0).getResult()).hasValue(CurrencyScenarioArray.of(USD, DoubleArray.of(1, 2, 3)));
+  }
+
+  @Test
+  public void merge_currencyMixed() {
+    // a single array could not hold both currencies
+    Optional<CalculationResults> merged = ScenarioResultsMerger.merge(ImmutableList.of(
+        results(Result.success(CurrencyScenarioArray.of(USD, DoubleArray.of(1)))),
+        results(Result.success(CurrencyScenarioArray.of(GBP, DoubleArray.of(2))))));
+    assertThat(merged).isEmpty();
+  }
+
+  @Test
+  public void merge_multiCurrency() {
+    MultiCurrencyAmount amount1 = MultiCurrencyAmount.of(CurrencyAmount.of(USD, 1));
+    MultiCurrencyAmount amount2 = MultiCurrencyAmount.of(CurrencyAmount.of(GBP, 2));
+    CalculationResults merged = ScenarioResultsMerger.merge(ImmutableList.of(
+        results(Result.success(MultiCurrencyScenarioArray.of(amount1))),
+        results(Result.success(MultiCurrencyScenarioArray.of(amount2))))).get();
+    assertThat(merged.getCells().get(0).getResult()).hasValue(MultiCurrencyScenarioArray.of(amount1, amount2));
+  }
+
+  @Test
+  public void merge_generic() {
+    CalculationResults merged = ScenarioResultsMerger.merge(ImmutableList.of(
+        results(Result.success(ScenarioArray.of("a", "b"))),
+        results(Result.success(ScenarioArray.of("c"))))).get();
+    assertThat(merged.getCells().get(0).getResult()).hasValue(ScenarioArray.of("a", "b", "c"));
+  }
+
+  @Test
+  public void merge_singleValue() {
+    CalculationResults merged = ScenarioResultsMerger.merge(ImmutableList.of(
+        results(Result.success(ScenarioArray.ofSingleValue(2, "a"))),
+        results(Result.success(ScenarioArray.ofSingleValue(1, "a"))))).get();
+    assertThat(merged.getCells().get(0).getResult()).hasValue(ScenarioArray.ofSingleValue(3, "a"));
+  }
+
+  @Test
+  public void merge_singleValueDiffering() {
+    Optional<CalculationResults> merged = ScenarioResultsMerger.merge(ImmutableList.of(
+        results(Result.success(ScenarioArray.ofSingleValue(2, "a"))),
+        results(Result.success(ScenarioArray.ofSingleValue(1, "b")))));
+    assertThat(merged).isEmpty();
+  }
+
+  @Test
+  public void merge_customType() {
+    Optional<CalculationResults> merged = ScenarioResultsMerger.merge(ImmutableList.of(
+        results(Result.success(CustomScenarioArray.of("a", "b"))),
+        results(Result.success(CustomScenarioArray.of("c")))));
+    assertThat(merged).isEmpty();
+  }
+
+  @Test
+  public void merge_notScenarioArray() {
+    CalculationResults merged = ScenarioResultsMerger.merge(ImmutableList.of(
+        results(Result.success("a")),
+        results(Result.success("a")))).get();
+    assertThat(merged.getCells().get(0).getResult()).hasValue("a");
+  }
+
+  @Test
+  public void merge_failure() {
+    Result<Object> failure = Result.failure(FailureReason.CALCULATION_FAILED, "Failed");
+    CalculationResults merged = ScenarioResultsMerger.merge(ImmutableList.of(
+        results(Result.success(ScenarioArray.of("a"))),
+        results(failure))).get();
+    assertThat(merged.getCells().get(0).getResult()).isEqualTo(failure);
+  }
+
+  private static CalculationResults results(Result<?> result) {
+    return CalculationResults.of(TARGET, ImmutableList.of(CalculationResult.of(0, 0, result)));
+  }
+
+  //-------------------------------------------------------------------------
+  private static final class CustomScenarioArray implements ScenarioArray<String> {
+
+    private final ImmutableList<String> values;
+
+    private static CustomScenarioArray of(String... values) {
+      return new CustomScenarioArray(ImmutableList.copyOf(values));
+    }
+
+    private CustomScenarioArray(ImmutableList<String> values) {
+      this.values = values;
+    }
+
+    @Override
+    public int getScenarioCount() {
+      return values.size();
+    }
+
+    @Override
+    public String get(int scenarioIndex) {
+      return values.get(scenarioIndex);
+    }
+  }
+
+}
@@ -269,6 +269,26 @@ public interface ScenarioMarketData {
     return new CombinedScenarioMarketData(this, other);
   }
 
+  /**
+   * Returns a view of this market data containing a contiguous range of the scenarios.
+   * <p>
+   * Scenario zero of the result is the scenario at {@code fromScenarioIndex} in this market data.
+   * Values that are the same in all scenarios, and time-series, are shared with this market data.
+   * <p>
+   * This can be used to split a calculation over many scenarios into independent parts.
+   *
+   * @param fromScenarioIndex  the index of the first scenario, inclusive
+   * @param toScenarioIndex  the index of the last scenario, exclusive
+   * @return a set of market data containing the specified range of scenarios
+   * @throws IllegalArgumentException if the range is invalid
+   */
+  public default ScenarioMarketData scenarioRange(int fromScenarioIndex, int toScenarioIndex) {
+    if (fromScenarioIndex == 0 && toScenarioIndex == getScenarioCount()) {
+      return this;
+    }
+    return ScenarioRangeMarketData.of(this, fromScenarioIndex, toScenarioIndex);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Gets the time-series identifiers.
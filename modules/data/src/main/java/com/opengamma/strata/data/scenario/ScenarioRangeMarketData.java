@@ -0,0 +1,247 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.data.scenario;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Set;
+
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.TypedMetaBean;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.ImmutableValidator;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.light.LightMetaBean;
+
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.data.ObservableId;
+
+/**
+ * A set of market data containing a contiguous range of the scenarios of an underlying set.
+ * <p>
+ * This decorates an underlying instance, exposing scenarios from the start index inclusive
+ * to the end index exclusive. Scenario zero of this instance is the scenario at the start index
+ * of the underlying. Values that are the same in all scenarios are returned unchanged.
+ */
+@BeanDefinition(style = "light")
+final class ScenarioRangeMarketData
+    implements ScenarioMarketData, ImmutableBean, Serializable {
+
+  /**
+   * The underlying market data.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ScenarioMarketData underlying;
+  /**
+   * The index of the first scenario of the underlying, inclusive.
+   */
+  @PropertyDefinition
+  private final int startIndex;
+  /**
+   * The index of the last scenario of the underlying, exclusive.
+   */
+  @PropertyDefinition
+  private final int endIndex;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance that decorates the underlying market data.
+   *
+   * @param underlying  the underlying market data
+   * @param startIndex  the index of the first scenario, inclusive
+   * @param endIndex  the index of the last scenario, exclusive
+   * @return a market data instance containing the range of scenarios
+   */
+  public static ScenarioRangeMarketData of(ScenarioMarketData underlying, int startIndex, int endIndex) {
+    return new ScenarioRangeMarketData(underlying, startIndex, endIndex);
+  }
+
+  @ImmutableValidator
+  private void validate() {
+    if (startIndex < 0 || endIndex <= startIndex || endIndex > underlying.getScenarioCount()) {
+      throw new IllegalArgumentException(Messages.format(
+          "Invalid scenario range: {} to {} for market data with {} scenarios",
+          startIndex, endIndex, underlying.getScenarioCount()));
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public MarketDataBox<LocalDate> getValuationDate() {
+    return range(underlying.getValuationDate());
+  }
+
+  @Override
+  public int getScenarioCount() {
+    return endIndex - startIndex;
+  }
+
+  @Override
+  public boolean containsValue(MarketDataId<?> id) {
+    return underlying.containsValue(id);
+  }
+
+  @Override
+  public <T> MarketDataBox<T> getValue(MarketDataId<T> id) {
+    return range(underlying.getValue(id));
+  }
+
+  @Override
+  public <T> Optional<MarketDataBox<T>> findValue(MarketDataId<T> id) {
+    return underlying.findValue(id).map(this::range);
+  }
+
+  @Override
+  public Set<MarketDataId<?>> getIds() {
+    return underlying.getIds();
+  }
+
+  @Override
+  public <T> Set<MarketDataId<T>> findIds(MarketDataName<T> name) {
+    return underlying.findIds(name);
+  }
+
+  @Override
+  public Set<ObservableId> getTimeSeriesIds() {
+    return underlying.getTimeSeriesIds();
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries getTimeSeries(ObservableId id) {
+    return underlying.getTimeSeries(id);
+  }
+
+  @Override
+  public ScenarioMarketData scenarioRange(int fromScenarioIndex, int toScenarioIndex) {
+    return of(underlying, startIndex + fromScenarioIndex, startIndex + toScenarioIndex);
+  }
+
+  // selects the range of scenarios from the box
+  private <T> MarketDataBox<T> range(MarketDataBox<T> box) {
+    if (box.isSingleValue()) {
+      return box;
+    }
+    return MarketDataBox.ofScenarioValue(ScenarioArray.of(getScenarioCount(), i -> box.getValue(startIndex + i)));
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code ScenarioRangeMarketData}.
+   */
+  private static final TypedMetaBean<ScenarioRangeMarketData> META_BEAN =
+      LightMetaBean.of(
+          ScenarioRangeMarketData.class,
+          MethodHandles.lookup(),
+          new String[] {
+              "underlying",
+              "startIndex",
+              "endIndex"},
+          new Object[0]);
+
+  /**
+   * The meta-bean for {@code ScenarioRangeMarketData}.
+   * @return the meta-bean, not null
+   */
+  public static TypedMetaBean<ScenarioRangeMarketData> meta() {
+    return META_BEAN;
+  }
+
+  static {
+    MetaBean.register(META_BEAN);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  private ScenarioRangeMarketData(
+      ScenarioMarketData underlying,
+      int startIndex,
+      int endIndex) {
+    JodaBeanUtils.notNull(underlying, "underlying");
+    this.underlying = underlying;
+    this.startIndex = startIndex;
+    this.endIndex = endIndex;
+    validate();
+  }
+
+  @Override
+  public TypedMetaBean<ScenarioRangeMarketData> metaBean() {
+    return META_BEAN;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the underlying market data.
+   * @return the value of the property, not null
+   */
+  public ScenarioMarketData getUnderlying() {
+    return underlying;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the index of the first scenario of the underlying, inclusive.
+   * @return the value of the property
+   */
+  public int getStartIndex() {
+    return startIndex;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the index of the last scenario of the underlying, exclusive.
+   * @return the value of the property
+   */
+  public int getEndIndex() {
+    return endIndex;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      ScenarioRangeMarketData other = (ScenarioRangeMarketData) obj;
+      return JodaBeanUtils.equal(underlying, other.underlying) &&
+          (startIndex == other.startIndex) &&
+          (endIndex == other.endIndex);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(underlying);
+    hash = hash * 31 + JodaBeanUtils.hashCode(startIndex);
+    hash = hash * 31 + JodaBeanUtils.hashCode(endIndex);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(128);
+    buf.append("ScenarioRangeMarketData{");
+    buf.append("underlying").append('=').append(JodaBeanUtils.toString(underlying)).append(',').append(' ');
+    buf.append("startIndex").append('=').append(JodaBeanUtils.toString(startIndex)).append(',').append(' ');
+    buf.append("endIndex").append('=').append(JodaBeanUtils.toString(endIndex));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.data.scenario;
+
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.MarketDataNotFoundException;
+import com.opengamma.strata.data.TestingNamedId;
+import com.opengamma.strata.data.TestingObservableId;
+
+/**
+ * Test {@link ScenarioRangeMarketData}.
+ */
+public class ScenarioRangeMarketDataTest {
+
+  private static final LocalDate VAL_DATE = date(2015, 6, 30);
+  private static final TestingNamedId ID1 = new TestingNamedId("1");
+  private static final TestingNamedId ID2 = new TestingNamedId("2");
+  private static final TestingNamedId ID3 = new TestingNamedId("3");
+  private static final TestingObservableId ID4 = new TestingObservableId("4");
+  private static final MarketDataBox<String> VAL1 = MarketDataBox.ofSingleValue("1");
+  private static final MarketDataBox<String> VAL2 = MarketDataBox.ofScenarioValues("a", "b", "c", "d");
+  private static final LocalDateDoubleTimeSeries TIME_SERIES = LocalDateDoubleTimeSeries.builder()
+      .put(date(2011, 3, 8), 1.1)
+      .put(date(2011, 3, 10), 1.2)
+      .build();
+  private static final ImmutableScenarioMarketData BASE_DATA = ImmutableScenarioMarketData.builder(VAL_DATE)
+      .addBox(ID1, VAL1)
+      .addBox(ID2, VAL2)
+      .addTimeSeriesMap(ImmutableMap.of(ID4, TIME_SERIES))
+      .build();
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void of() {
+    ScenarioRangeMarketData test = ScenarioRangeMarketData.of(BASE_DATA, 1, 3);
+    assertThat(test.getUnderlying()).isEqualTo(BASE_DATA);
+    assertThat(test.getStartIndex()).isEqualTo(1);
+    assertThat(test.getEndIndex()).isEqualTo(3);
+    assertThat(test.getScenarioCount()).isEqualTo(2);
+    assertThat(test.getValuationDate()).isEqualTo(MarketDataBox.ofSingleValue(VAL_DATE));
+    assertThat(test.containsValue(ID1)).isTrue();
+    assertThat(test.containsValue(ID3)).isFalse();
+    assertThat(test.getValue(ID1)).isEqualTo(VAL1);
+    assertThat(test.getValue(ID2).getScenarioCount()).isEqualTo(2);
+    assertThat(test.getValue(ID2).getValue(0)).isEqualTo("b");
+    assertThat(test.getValue(ID2).getValue(1)).isEqualTo("c");
+    assertThat(test.findValue(ID1)).isEqualTo(Optional.of(VAL1));
+    assertThat(test.findValue(ID2).get().getValue(1)).isEqualTo("c");
+    assertThat(test.findValue(ID3)).isEqualTo(Optional.empty());
+    assertThatExceptionOfType(MarketDataNotFoundException.class).isThrownBy(() -> test.getValue(ID3));
+    assertThat(test.getIds()).containsExactlyInAnyOrder(ID1, ID2);
+    assertThat(test.findIds(ID1.getMarketDataName())).isEqualTo(ImmutableSet.of(ID1));
+    assertThat(test.getTimeSeriesIds()).containsExactly(ID4);
+    assertThat(test.getTimeSeries(ID4)).isEqualTo(TIME_SERIES);
+    assertThat(test.scenario(1).getValue(ID2)).isEqualTo("c");
+  }
+
+  @Test
+  public void of_invalidRange() {
+    assertThatIllegalArgumentException().isThrownBy(() -> ScenarioRangeMarketData.of(BASE_DATA, -1, 2));
+    assertThatIllegalArgumentException().isThrownBy(() -> ScenarioRangeMarketData.of(BASE_DATA, 2, 2));
+    assertThatIllegalArgumentException().isThrownBy(() -> ScenarioRangeMarketData.of(BASE_DATA, 2, 5));
+  }
+
+  @Test
+  public void scenarioRange() {
+    assertThat(BASE_DATA.scenarioRange(0, 4)).isSameAs(BASE_DATA);
+    ScenarioMarketData test = BASE_DATA.scenarioRange(1, 4).scenarioRange(1, 3);
+    assertThat(test).isEqualTo(ScenarioRangeMarketData.of(BASE_DATA, 2, 4));
+    assertThat(test.getValue(ID2).getValue(0)).isEqualTo("c");
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void coverage() {
+    ScenarioRangeMarketData test = ScenarioRangeMarketData.of(BASE_DATA, 1, 3);
+    coverImmutableBean(test);
+    ScenarioRangeMarketData test2 = ScenarioRangeMarketData.of(
+        ImmutableScenarioMarketData.of(3, VAL_DATE, ImmutableMap.of(), ImmutableMap.of()), 0, 1);
+    coverBeanEquals(test, test2);
+  }
+
+  @Test
+  public void serialization() {
+    ScenarioRangeMarketData test = ScenarioRangeMarketData.of(BASE_DATA, 1, 3);
+    assertSerialization(test);
+  }
+
+}
@@ -10,10 +10,12 @@ import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import java.time.Period;
 import java.util.List;
 import java.util.OptionalInt;
+import java.util.function.DoubleUnaryOperator;
 import java.util.stream.IntStream;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterMetadata;
@@ -109,6 +111,58 @@ public interface Curve extends ParameterizedData {
    */
   public abstract UnitParameterSensitivity yValueParameterSensitivity(double x);
 
+  /**
+   * Computes the y-values for the specified x-values.
+   * <p>
+   * The result is the same as calling {@link #yValue(double)} for each x-value.
+   * Implementations may be more efficient when the x-values are sorted in ascending order.
+   * 
+   * @param xValues  the x-values to find the y-values for
+   * @return the values at the x-values
+   */
+  public default DoubleArray yValue(DoubleArray xValues) {
+    return xValues.map(this::yValue);
+  }
+
+  /**
+   * Computes the weighted sum of the sensitivities of the y-values with respect to the curve parameters.
+   * <p>
+   * The result is the same as summing the result of {@link #yValueParameterSensitivity(double)}
+   * for each x-value multiplied by the matching weight.
+   * Implementations may be more efficient when the x-values are sorted in ascending order.
+   * 
+   * @param xValues  the x-values at which the parameter sensitivity is computed
+   * @param weights  the weights, one for each x-value
+   * @return the weighted sum of the sensitivities
+   * @throws RuntimeException if the sensitivity cannot be calculated
+   */
+  public default UnitParameterSensitivity yValueParameterSensitivity(DoubleArray xValues, DoubleArray weights) {
+    ArgChecker.isTrue(xValues.size() == weights.size(), "Arrays of x-values and weights must have same size");
+    double[] result = new double[getParameterCount()];
+    for (int i = 0; i < xValues.size(); i++) {
+      DoubleArray sensitivity = yValueParameterSensitivity(xValues.get(i)).getSensitivity();
+      for (int j = 0; j < result.length; j++) {
+        result[j] += weights.get(i) * sensitivity.get(j);
+      }
+    }
+    return createParameterSensitivity(DoubleArray.ofUnsafe(result));
+  }
+
+  /**
+   * Obtains a cursor that computes y-values from x-values.
+   * <p>
+   * The cursor returns the same result as {@link #yValue(double)}.
+   * Implementations may retain the position of the last x-value, making the cursor
+   * more efficient when it is called with x-values in ascending order, such as when
+   * walking a payment schedule. As such, the cursor is not thread-safe and must be confined
+   * to a single thread. A new cursor should be obtained for each sequence of x-values.
+   * 
+   * @return the cursor
+   */
+  public default DoubleUnaryOperator yValueCursor() {
+    return this::yValue;
+  }
+
   /**
    * Computes the first derivative of the curve.
    * <p>
@@ -13,6 +13,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.function.DoubleUnaryOperator;
 import java.util.stream.IntStream;
 
 import org.joda.beans.Bean;
@@ -30,6 +31,7 @@ import org.joda.beans.impl.direct.DirectMetaProperty;
 import org.joda.beans.impl.direct.DirectMetaPropertyMap;
 
 import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.curve.interpolator.BoundCurveInterpolator;
 import com.opengamma.strata.market.curve.interpolator.CurveExtrapolator;
@@ -248,6 +250,25 @@ public final class InterpolatedNodalCurve
     return createParameterSensitivity(boundInterpolator.parameterSensitivity(x));
   }
 
+  @Override
+  public DoubleArray yValue(DoubleArray xValues) {
+    return boundInterpolator.interpolate(xValues);
+  }
+
+  @Override
+  public UnitParameterSensitivity yValueParameterSensitivity(DoubleArray xValues, DoubleArray weights) {
+    if (xValues.isEmpty()) {
+      ArgChecker.isTrue(weights.isEmpty(), "Arrays of x-values and weights must have same size");
+      return createParameterSensitivity(DoubleArray.filled(getParameterCount()));
+    }
+    return createParameterSensitivity(boundInterpolator.parameterSensitivity(xValues, weights));
+  }
+
+  @Override
+  public DoubleUnaryOperator yValueCursor() {
+    return boundInterpolator.cursor();
+  }
+
   @Override
   public double firstDerivative(double x) {
     return boundInterpolator.firstDerivative(x);
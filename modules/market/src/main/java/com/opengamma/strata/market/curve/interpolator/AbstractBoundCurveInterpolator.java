@@ -5,6 +5,8 @@
  */
 package com.opengamma.strata.market.curve.interpolator;
 
+import java.util.function.DoubleUnaryOperator;
+
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 
@@ -27,6 +29,10 @@ public abstract class AbstractBoundCurveInterpolator
    * The right extrapolator.
    */
   private final BoundCurveExtrapolator extrapolatorRight;
+  /**
+   * The x-values of the nodes.
+   */
+  private final double[] nodeXValues;
   /**
    * The x-value of the first node.
    */
@@ -54,6 +60,7 @@ public abstract class AbstractBoundCurveInterpolator
     ArgChecker.isTrue(size > 1, "Curve node arrays must have at least two nodes");
     this.extrapolatorLeft = ExceptionCurveExtrapolator.INSTANCE;
     this.extrapolatorRight = ExceptionCurveExtrapolator.INSTANCE;
+    this.nodeXValues = xValues.toArrayUnsafe();
     this.firstXValue = xValues.get(0);
     this.lastXValue = xValues.get(size - 1);
     this.lastYValue = yValues.get(size - 1);
@@ -73,6 +80,7 @@ public abstract class AbstractBoundCurveInterpolator
 
     this.extrapolatorLeft = ArgChecker.notNull(extrapolatorLeft, "extrapolatorLeft");
     this.extrapolatorRight = ArgChecker.notNull(extrapolatorRight, "extrapolatorRight");
+    this.nodeXValues = base.nodeXValues;
     this.firstXValue = base.firstXValue;
     this.lastXValue = base.lastXValue;
     this.lastYValue = base.lastYValue;
@@ -152,6 +160,109 @@ public abstract class AbstractBoundCurveInterpolator
    */
   protected abstract DoubleArray doParameterSensitivity(double xValue);
 
+  //-------------------------------------------------------------------------
+  @Override
+  public final DoubleArray interpolate(DoubleArray xValues) {
+    return xValues.map(new Cursor());
+  }
+
+  @Override
+  public final DoubleUnaryOperator cursor() {
+    return new Cursor();
+  }
+
+  /**
+   * Method for subclasses to calculate the interpolated value when the interval is known.
+   * <p>
+   * This is called by the batch method {@link #interpolate(DoubleArray)} and by {@link #cursor()},
+   * which find the interval by walking forward through the nodes when the x-values are sorted.
+   * The default implementation ignores the index and calls {@link #doInterpolate(double)}.
+   * Subclasses that search using {@link #lowerBoundIndex(double, double[])} should override this method.
+   * 
+   * @param xValue  the x-value
+   * @param lowerIndex  the index of the last node with an x-value less than or equal to the x-value
+   * @return the interpolated y-value
+   */
+  protected double doInterpolate(double xValue, int lowerIndex) {
+    return doInterpolate(xValue);
+  }
+
+  @Override
+  public final DoubleArray parameterSensitivity(DoubleArray xValues, DoubleArray weights) {
+    ArgChecker.isTrue(xValues.size() == weights.size(), "Arrays of x-values and weights must have same size");
+    double[] result = new double[nodeXValues.length];
+    int lowerIndex = -1;
+    double previousXValue = 0d;
+    for (int i = 0; i < xValues.size(); i++) {
+      double xValue = xValues.get(i);
+      DoubleArray sensitivity;
+      if (xValue < firstXValue) {
+        sensitivity = extrapolatorLeft.leftExtrapolateParameterSensitivity(xValue);
+      } else if (xValue > lastXValue) {
+        sensitivity = extrapolatorRight.rightExtrapolateParameterSensitivity(xValue);
+      } else {
+        lowerIndex = nextLowerBoundIndex(xValue, previousXValue, lowerIndex);
+        previousXValue = xValue;
+        sensitivity = doParameterSensitivity(xValue, lowerIndex);
+      }
+      double weight = weights.get(i);
+      for (int j = 0; j < result.length; j++) {
+        result[j] += weight * sensitivity.get(j);
+      }
+    }
+    return DoubleArray.ofUnsafe(result);
+  }
+
+  /**
+   * Method for subclasses to calculate parameter sensitivity when the interval is known.
+   * <p>
+   * This is called by the batch method {@link #parameterSensitivity(DoubleArray, DoubleArray)}.
+   * The default implementation ignores the index and calls {@link #doParameterSensitivity(double)}.
+   * Subclasses that search using {@link #lowerBoundIndex(double, double[])} should override this method.
+   * 
+   * @param xValue  the x-value
+   * @param lowerIndex  the index of the last node with an x-value less than or equal to the x-value
+   * @return the parameter sensitivity
+   */
+  protected DoubleArray doParameterSensitivity(double xValue, int lowerIndex) {
+    return doParameterSensitivity(xValue);
+  }
+
+  // finds the lower bound index, walking forward from the previous index if the x-values are ascending
+  private int nextLowerBoundIndex(double xValue, double previousXValue, int previousIndex) {
+    if (previousIndex < 0 || xValue < previousXValue) {
+      return lowerBoundIndex(xValue, nodeXValues);
+    }
+    int index = previousIndex;
+    while (index < nodeXValues.length - 1 && nodeXValues[index + 1] <= xValue) {
+      index++;
+    }
+    return index;
+  }
+
+  //-------------------------------------------------------------------------
+  // cursor that retains the interval of the last x-value, not thread-safe
+  private final class Cursor implements DoubleUnaryOperator {
+    // the lower bound index of the last interpolated x-value, -1 if none
+    private int lowerIndex = -1;
+    // the last interpolated x-value
+    private double previousXValue;
+
+    @Override
+    public double applyAsDouble(double xValue) {
+      if (xValue < firstXValue) {
+        return extrapolatorLeft.leftExtrapolate(xValue);
+      } else if (xValue > lastXValue) {
+        return extrapolatorRight.rightExtrapolate(xValue);
+      } else if (xValue == lastXValue) {
+        return lastYValue;
+      }
+      lowerIndex = nextLowerBoundIndex(xValue, previousXValue, lowerIndex);
+      previousXValue = xValue;
+      return doInterpolate(xValue, lowerIndex);
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Returns the index of the last value in the input array which is lower than the specified value.
@@ -5,6 +5,9 @@
  */
 package com.opengamma.strata.market.curve.interpolator;
 
+import java.util.function.DoubleUnaryOperator;
+
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 
 /**
@@ -52,6 +55,64 @@ public interface BoundCurveInterpolator {
    */
   public abstract DoubleArray parameterSensitivity(double x);
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the y-values for the specified x-values by interpolation.
+   * <p>
+   * The result is the same as calling {@link #interpolate(double)} for each x-value.
+   * Implementations may be more efficient when the x-values are sorted in ascending order.
+   * 
+   * @param xValues  the x-values to find the y-values for
+   * @return the values at the x-values
+   * @throws RuntimeException if a y-value cannot be calculated
+   */
+  public default DoubleArray interpolate(DoubleArray xValues) {
+    return xValues.map(this::interpolate);
+  }
+
+  /**
+   * Computes the weighted sum of the sensitivities of the y-values with respect to the curve parameters.
+   * <p>
+   * The result is the same as summing the result of {@link #parameterSensitivity(double)}
+   * for each x-value multiplied by the matching weight.
+   * An empty array is returned if there are no x-values.
+   * Implementations may be more efficient when the x-values are sorted in ascending order.
+   * 
+   * @param xValues  the x-values at which the parameter sensitivity is computed
+   * @param weights  the weights, one for each x-value
+   * @return the weighted sum of the sensitivities
+   * @throws RuntimeException if the sensitivity cannot be calculated
+   */
+  public default DoubleArray parameterSensitivity(DoubleArray xValues, DoubleArray weights) {
+    ArgChecker.isTrue(xValues.size() == weights.size(), "Arrays of x-values and weights must have same size");
+    double[] result = new double[0];
+    for (int i = 0; i < xValues.size(); i++) {
+      DoubleArray sensitivity = parameterSensitivity(xValues.get(i));
+      if (i == 0) {
+        result = new double[sensitivity.size()];
+      }
+      for (int j = 0; j < result.length; j++) {
+        result[j] += weights.get(i) * sensitivity.get(j);
+      }
+    }
+    return DoubleArray.ofUnsafe(result);
+  }
+
+  /**
+   * Obtains a cursor that computes y-values by interpolation.
+   * <p>
+   * The cursor returns the same result as {@link #interpolate(double)}.
+   * Implementations may retain the position of the last x-value, making the cursor
+   * more efficient when it is called with x-values in ascending order.
+   * As such, the cursor is not thread-safe and must be confined to a single thread.
+   * A new cursor should be obtained for each sequence of x-values.
+   * 
+   * @return the cursor
+   */
+  public default DoubleUnaryOperator cursor() {
+    return this::interpolate;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Binds this interpolator to the specified extrapolators.
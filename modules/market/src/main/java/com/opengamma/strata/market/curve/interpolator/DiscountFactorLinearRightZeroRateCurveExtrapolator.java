@@ -7,6 +7,8 @@ package com.opengamma.strata.market.curve.interpolator;
 
 import java.io.Serializable;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.opengamma.strata.collect.array.DoubleArray;
 
 /**
@@ -75,7 +77,7 @@ class DiscountFactorLinearRightZeroRateCurveExtrapolator
     private final double lastDf;
     private final double eps;
     private final double rightYGradient;
-    private final DoubleArray rightYSens;
+    private final Supplier<DoubleArray> rightYSens;
 
     private final double coef1;
     private final double coef0;
@@ -87,7 +89,7 @@ class DiscountFactorLinearRightZeroRateCurveExtrapolator
       this.lastDf = Math.exp(-lastXValue * lastYValue);
       this.eps = EPS * (lastXValue - xValues.get(0));
       this.rightYGradient = (lastYValue - interpolator.interpolate(lastXValue - eps)) / eps;
-      this.rightYSens = interpolator.parameterSensitivity(lastXValue - eps).multipliedBy(-1d);
+      this.rightYSens = Suppliers.memoize(() -> interpolator.parameterSensitivity(lastXValue - eps).multipliedBy(-1d));
       this.coef1 = -lastYValue * lastDf - lastXValue * lastDf * rightYGradient;
       this.coef0 = lastDf - coef1 * lastXValue;
     }
@@ -136,7 +138,7 @@ class DiscountFactorLinearRightZeroRateCurveExtrapolator
         throw new IllegalArgumentException("X value of the right endpoint must be positive");
       }
       double df = coef1 * xValue + coef0;
-      double[] result = rightYSens.toArray();
+      double[] result = rightYSens.get().toArray();
       double factor = xValue - lastXValue;
       int minusOne = nodeCount - 1;
       for (int i = 0; i < minusOne; i++) {
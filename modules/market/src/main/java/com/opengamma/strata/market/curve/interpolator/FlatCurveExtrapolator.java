@@ -7,6 +7,8 @@ package com.opengamma.strata.market.curve.interpolator;
 
 import java.io.Serializable;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.opengamma.strata.collect.array.DoubleArray;
 
 /**
@@ -67,19 +69,15 @@ final class FlatCurveExtrapolator
     private final int nodeCount;
     private final double firstYValue;
     private final double lastYValue;
-    private final DoubleArray leftSensitivity;
-    private final DoubleArray rightSensitivity;
+    private final Supplier<DoubleArray> leftSensitivity;
+    private final Supplier<DoubleArray> rightSensitivity;
 
     Bound(DoubleArray xValues, DoubleArray yValues) {
       this.nodeCount = xValues.size();
       this.firstYValue = yValues.get(0);
       this.lastYValue = yValues.get(nodeCount - 1);
-      double[] left = new double[nodeCount];
-      left[0] = 1d;
-      this.leftSensitivity = DoubleArray.ofUnsafe(left);
-      double[] right = new double[nodeCount];
-      right[nodeCount - 1] = 1d;
-      this.rightSensitivity = DoubleArray.ofUnsafe(right);
+      this.leftSensitivity = Suppliers.memoize(() -> DoubleArray.filled(nodeCount).with(0, 1d));
+      this.rightSensitivity = Suppliers.memoize(() -> DoubleArray.filled(nodeCount).with(nodeCount - 1, 1d));
     }
 
     //-------------------------------------------------------------------------
@@ -95,7 +93,7 @@ final class FlatCurveExtrapolator
 
     @Override
     public DoubleArray leftExtrapolateParameterSensitivity(double xValue) {
-      return leftSensitivity;
+      return leftSensitivity.get();
     }
 
     //-------------------------------------------------------------------------
@@ -111,7 +109,7 @@ final class FlatCurveExtrapolator
 
     @Override
     public DoubleArray rightExtrapolateParameterSensitivity(double xValue) {
-      return rightSensitivity;
+      return rightSensitivity.get();
     }
   }
 
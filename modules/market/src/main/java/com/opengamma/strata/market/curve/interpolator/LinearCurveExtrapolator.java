@@ -7,6 +7,8 @@ package com.opengamma.strata.market.curve.interpolator;
 
 import java.io.Serializable;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.opengamma.strata.collect.array.DoubleArray;
 
 /**
@@ -72,9 +74,9 @@ final class LinearCurveExtrapolator
     private final double lastYValue;
     private final double eps;
     private final double leftGradient;
-    private final DoubleArray leftSens;
+    private final Supplier<DoubleArray> leftSens;
     private final double rightGradient;
-    private final DoubleArray rightSens;
+    private final Supplier<DoubleArray> rightSens;
 
     Bound(DoubleArray xValues, DoubleArray yValues, BoundCurveInterpolator interpolator) {
       this.nodeCount = xValues.size();
@@ -85,10 +87,10 @@ final class LinearCurveExtrapolator
       this.eps = EPS * (lastXValue - firstXValue);
       // left
       this.leftGradient = (interpolator.interpolate(firstXValue + eps) - firstYValue) / eps;
-      this.leftSens = interpolator.parameterSensitivity(firstXValue + eps);
+      this.leftSens = Suppliers.memoize(() -> interpolator.parameterSensitivity(firstXValue + eps));
       // right
       this.rightGradient = (lastYValue - interpolator.interpolate(lastXValue - eps)) / eps;
-      this.rightSens = interpolator.parameterSensitivity(lastXValue - eps);
+      this.rightSens = Suppliers.memoize(() -> interpolator.parameterSensitivity(lastXValue - eps));
     }
 
     //-------------------------------------------------------------------------
@@ -104,7 +106,7 @@ final class LinearCurveExtrapolator
 
     @Override
     public DoubleArray leftExtrapolateParameterSensitivity(double xValue) {
-      double[] result = leftSens.toArray();
+      double[] result = leftSens.get().toArray();
       int n = result.length;
       for (int i = 1; i < n; i++) {
         result[i] = result[i] * (xValue - firstXValue) / eps;
@@ -126,7 +128,7 @@ final class LinearCurveExtrapolator
 
     @Override
     public DoubleArray rightExtrapolateParameterSensitivity(double xValue) {
-      double[] result = rightSens.toArray();
+      double[] result = rightSens.get().toArray();
       int n = result.length;
       for (int i = 0; i < n - 1; i++) {
         result[i] = -result[i] * (xValue - lastXValue) / eps;
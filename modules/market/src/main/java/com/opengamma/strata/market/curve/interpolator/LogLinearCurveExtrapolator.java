@@ -7,6 +7,8 @@ package com.opengamma.strata.market.curve.interpolator;
 
 import java.io.Serializable;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.opengamma.strata.collect.array.DoubleArray;
 
 /**
@@ -78,10 +80,10 @@ final class LogLinearCurveExtrapolator
     private final double eps;
     private final double leftGradient;
     private final double leftResValueInterpolator;
-    private final DoubleArray leftSens;
+    private final Supplier<DoubleArray> leftSens;
     private final double rightGradient;
     private final double rightResValueInterpolator;
-    private final DoubleArray rightSens;
+    private final Supplier<DoubleArray> rightSens;
 
     Bound(DoubleArray xValues, DoubleArray yValues, BoundCurveInterpolator interpolator) {
       this.nodeCount = xValues.size();
@@ -95,11 +97,11 @@ final class LogLinearCurveExtrapolator
       // left
       this.leftGradient = interpolator.firstDerivative(firstXValue) / interpolator.interpolate(firstXValue);
       this.leftResValueInterpolator = interpolator.interpolate(firstXValue + eps);
-      this.leftSens = interpolator.parameterSensitivity(firstXValue + eps);
+      this.leftSens = Suppliers.memoize(() -> interpolator.parameterSensitivity(firstXValue + eps));
       // right
       this.rightGradient = interpolator.firstDerivative(lastXValue) / interpolator.interpolate(lastXValue);
       this.rightResValueInterpolator = interpolator.interpolate(lastXValue - eps);
-      this.rightSens = interpolator.parameterSensitivity(lastXValue - eps);
+      this.rightSens = Suppliers.memoize(() -> interpolator.parameterSensitivity(lastXValue - eps));
     }
 
     //-------------------------------------------------------------------------
@@ -115,7 +117,7 @@ final class LogLinearCurveExtrapolator
 
     @Override
     public DoubleArray leftExtrapolateParameterSensitivity(double xValue) {
-      double[] result = leftSens.toArray();
+      double[] result = leftSens.get().toArray();
       double resValueExtrapolator = leftExtrapolate(xValue);
       double factor1 = (xValue - firstXValue) / eps;
       double factor2 = factor1 * resValueExtrapolator / leftResValueInterpolator;
@@ -140,7 +142,7 @@ final class LogLinearCurveExtrapolator
 
     @Override
     public DoubleArray rightExtrapolateParameterSensitivity(double xValue) {
-      double[] result = rightSens.toArray();
+      double[] result = rightSens.get().toArray();
       double resValueExtrapolator = rightExtrapolate(xValue);
       double factor1 = (xValue - lastXValue) / eps;
       double factor2 = factor1 * resValueExtrapolator / rightResValueInterpolator;
@@ -5,15 +5,15 @@
  */
 package com.opengamma.strata.market.curve.interpolator;
 
-import static com.opengamma.strata.math.impl.matrix.MatrixAlgebraFactory.OG_ALGEBRA;
-
 import java.io.Serializable;
+import java.util.function.Supplier;
 
+import com.google.common.base.Suppliers;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.math.MathException;
-import com.opengamma.strata.math.impl.linearalgebra.InverseTridiagonalMatrixCalculator;
 import com.opengamma.strata.math.impl.linearalgebra.TridiagonalMatrix;
+import com.opengamma.strata.math.impl.linearalgebra.TridiagonalSolver;
 
 /**
  * Natural cubic spline interpolator.
@@ -77,6 +77,8 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
     private final double rightFirstDev;
     private final boolean leftNatural;
     private final boolean rightNatural;
+    private final double[] secondDerivatives;
+    private final Supplier<double[][]> secondDerivativesSensitivities;
 
     Bound(DoubleArray xValues, DoubleArray yValues) {
       super(xValues, yValues);
@@ -87,6 +89,11 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
       this.rightFirstDev = 0;
       this.leftNatural = true;
       this.rightNatural = true;
+      // the second derivatives are fixed once bound, their node sensitivity is only needed for parameter sensitivity
+      this.secondDerivatives = calculateSecondDerivative(
+          this.xValues, this.yValues, dataSize, leftFirstDev, rightFirstDev, leftNatural, rightNatural);
+      this.secondDerivativesSensitivities = Suppliers.memoize(
+          () -> getSecondDerivativesSensitivities(this.xValues, dataSize, leftNatural, rightNatural));
     }
 
     Bound(Bound base, BoundCurveExtrapolator extrapolatorLeft, BoundCurveExtrapolator extrapolatorRight) {
@@ -98,6 +105,8 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
       this.leftNatural = base.leftNatural;
       this.rightNatural = base.rightNatural;
       this.dataSize = xValues.length;
+      this.secondDerivatives = base.secondDerivatives;
+      this.secondDerivativesSensitivities = base.secondDerivativesSensitivities;
     }
 
     //-------------------------------------------------------------------------
@@ -119,14 +128,13 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
         oneOverDeltaX[i] = 1.0 / deltaX[i];
         deltaYOverDeltaX[i] = (yValues[i + 1] - yValues[i]) * oneOverDeltaX[i];
       }
-      DoubleMatrix inverseTriDiag = getInverseTridiagonalMatrix(deltaX, leftNatural, rightNatural);
+      TridiagonalMatrix tridiagonal = getTridiagonalMatrix(deltaX, leftNatural, rightNatural);
       DoubleArray rhsVector = getRightVector(deltaYOverDeltaX, leftFirstDev, rightFirstDev, leftNatural, rightNatural);
-      return ((DoubleArray) OG_ALGEBRA.multiply(inverseTriDiag, rhsVector)).toArrayUnsafe();
+      return TridiagonalSolver.solvTriDag(tridiagonal, rhsVector.toArrayUnsafe());
     }
 
     private static double[][] getSecondDerivativesSensitivities(
         double[] xValues,
-        double[] yValues,
         int dataSize,
         boolean leftNatural,
         boolean rightNatural) {
@@ -139,13 +147,20 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
         oneOverDeltaX[i] = 1.0 / deltaX[i];
       }
 
-      DoubleMatrix inverseTriDiag = getInverseTridiagonalMatrix(deltaX, leftNatural, rightNatural);
+      TridiagonalMatrix tridiagonal = getTridiagonalMatrix(deltaX, leftNatural, rightNatural);
       DoubleMatrix rhsMatrix = getRightMatrix(oneOverDeltaX, leftNatural, rightNatural);
-      return ((DoubleMatrix) OG_ALGEBRA.multiply(inverseTriDiag, rhsMatrix)).toArrayUnsafe();
+      // solve column by column, each in linear time
+      double[][] result = new double[dataSize][dataSize];
+      for (int j = 0; j < dataSize; j++) {
+        double[] column = TridiagonalSolver.solvTriDag(tridiagonal, rhsMatrix.column(j).toArrayUnsafe());
+        for (int i = 0; i < dataSize; i++) {
+          result[i][j] = column[i];
+        }
+      }
+      return result;
     }
 
-    private static DoubleMatrix getInverseTridiagonalMatrix(double[] deltaX, boolean leftNatural, boolean rightNatural) {
-      InverseTridiagonalMatrixCalculator invertor = new InverseTridiagonalMatrixCalculator();
+    private static TridiagonalMatrix getTridiagonalMatrix(double[] deltaX, boolean leftNatural, boolean rightNatural) {
       int n = deltaX.length + 1;
       double[] a = new double[n];
       double[] b = new double[n - 1];
@@ -172,8 +187,7 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
         c[n - 2] = deltaX[n - 2] / 6.0;
       }
 
-      TridiagonalMatrix tridiagonal = new TridiagonalMatrix(a, b, c);
-      return invertor.apply(tridiagonal);
+      return new TridiagonalMatrix(a, b, c);
     }
 
     private static DoubleArray getRightVector(
@@ -236,7 +250,7 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
       }
       double a = (xValues[high] - xValue) / delta;
       double b = (xValue - xValues[low]) / delta;
-      double[] y2 = calculateSecondDerivative(xValues, yValues, dataSize, leftFirstDev, rightFirstDev, leftNatural, rightNatural);
+      double[] y2 = secondDerivatives;
       return a * yValues[low] + b * yValues[high] + (a * (a * a - 1) * y2[low] + b * (b * b - 1) * y2[high]) * delta * delta / 6.;
     }
 
@@ -256,7 +270,7 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
       }
       double a = (xValues[high] - xValue) / delta;
       double b = (xValue - xValues[low]) / delta;
-      double[] y2 = calculateSecondDerivative(xValues, yValues, dataSize, leftFirstDev, rightFirstDev, leftNatural, rightNatural);
+      double[] y2 = secondDerivatives;
       return (yValues[high] - yValues[low]) / delta + ((-3. * a * a + 1.) * y2[low] + (3. * b * b - 1.) * y2[high]) * delta / 6.;
     }
 
@@ -275,7 +289,7 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
       double b = (xValue - xValues[low]) / delta;
       double c = a * (a * a - 1) * delta * delta / 6.;
       double d = b * (b * b - 1) * delta * delta / 6.;
-      double[][] y2Sensitivities = getSecondDerivativesSensitivities(xValues, yValues, dataSize, leftNatural, rightNatural);
+      double[][] y2Sensitivities = secondDerivativesSensitivities.get();
       for (int i = 0; i < dataSize; i++) {
         result[i] = c * y2Sensitivities[low][i] + d * y2Sensitivities[high][i];
       }
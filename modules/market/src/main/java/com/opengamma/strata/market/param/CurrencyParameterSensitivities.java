@@ -47,6 +47,7 @@ import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.function.IntDoubleToDoubleFunction;
 import com.opengamma.strata.data.MarketDataName;
 import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.CurveParameterSize;
 import com.opengamma.strata.market.surface.Surface;
 
 /**
@@ -109,6 +110,35 @@ public final class CurrencyParameterSensitivities
     return new CurrencyParameterSensitivitiesBuilder();
   }
 
+  /**
+   * Returns an accumulator that can be used to sum a large number of sensitivities.
+   * <p>
+   * The accumulator sums the sensitivities into arrays, avoiding the creation of an
+   * intermediate instance for each addition. The layout of the arrays is determined
+   * by the order in which the market data names are first added.
+   *
+   * @return the accumulator
+   */
+  public static CurrencyParameterSensitivitiesAccumulator accumulator() {
+    return new CurrencyParameterSensitivitiesAccumulator();
+  }
+
+  /**
+   * Returns an accumulator that can be used to sum a large number of sensitivities, with a fixed layout.
+   * <p>
+   * The accumulator sums the sensitivities into arrays, avoiding the creation of an
+   * intermediate instance for each addition. The layout of the arrays is determined by the specified order,
+   * typically that of {@link com.opengamma.strata.market.curve.JacobianCalibrationMatrix#getOrder()}.
+   * Market data names not in the order are appended to the layout.
+   *
+   * @param order  the order of the curves and their parameter counts
+   * @return the accumulator
+   * @throws IllegalArgumentException if the order contains the same curve twice
+   */
+  public static CurrencyParameterSensitivitiesAccumulator accumulator(List<CurveParameterSize> order) {
+    return new CurrencyParameterSensitivitiesAccumulator(order);
+  }
+
   /**
    * Obtains an instance from a single sensitivity entry.
    * 
@@ -0,0 +1,280 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.param;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.market.curve.CurveParameterSize;
+
+/**
+ * Mutable accumulator of {@code CurrencyParameterSensitivities}.
+ * <p>
+ * This is used to sum a large number of sensitivities, such as the sensitivities of each trade in a portfolio,
+ * without creating an intermediate instance of {@link CurrencyParameterSensitivities} for each addition.
+ * <p>
+ * The sensitivities are summed into one array per currency, with a fixed layout where each market data name
+ * occupies a contiguous block of parameters. The layout can be specified up-front using the order of a
+ * {@linkplain com.opengamma.strata.market.curve.JacobianCalibrationMatrix#getOrder() calibration},
+ * otherwise each market data name is appended to the layout the first time it is added.
+ * As such, the memory used depends on the number of curves and currencies, not the number of sensitivities added.
+ * <p>
+ * Sensitivities with the same market data name and currency are summed by parameter index.
+ * The parameter metadata of the result is taken from the first sensitivity added for each market data name.
+ * <p>
+ * This class is mutable and not thread-safe.
+ */
+public final class CurrencyParameterSensitivitiesAccumulator {
+
+  /**
+   * The market data names, in layout order.
+   */
+  private final List<MarketDataName<?>> names = new ArrayList<>();
+  /**
+   * The index of each market data name in the layout.
+   */
+  private final Map<MarketDataName<?>, Integer> nameIndices = new HashMap<>();
+  /**
+   * The start of the block of each market data name, with a final entry holding the total parameter count.
+   */
+  private int[] starts = new int[] {0};
+  /**
+   * The parameter metadata of each market data name, null until a sensitivity is added.
+   */
+  private final List<ImmutableList<ParameterMetadata>> metadata = new ArrayList<>();
+  /**
+   * The parameter split of each market data name, null if none.
+   */
+  private final List<List<ParameterSize>> parameterSplits = new ArrayList<>();
+  /**
+   * The summed sensitivities, keyed by currency.
+   */
+  private final Map<Currency, Values> values = new TreeMap<>();
+
+  //-------------------------------------------------------------------------
+  // restricted constructor
+  CurrencyParameterSensitivitiesAccumulator() {
+  }
+
+  // restricted constructor
+  CurrencyParameterSensitivitiesAccumulator(List<CurveParameterSize> order) {
+    for (CurveParameterSize size : order) {
+      if (nameIndices.containsKey(size.getName())) {
+        throw new IllegalArgumentException(Messages.format("Duplicate curve in layout: {}", size.getName()));
+      }
+      append(size.getName(), size.getParameterCount());
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Adds sensitivities to the accumulator.
+   * <p>
+   * Values with the same market data name and currency will be summed.
+   *
+   * @param sensitivities  the sensitivities to add
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the parameter count of a market data name does not match the layout
+   */
+  public CurrencyParameterSensitivitiesAccumulator add(CurrencyParameterSensitivities sensitivities) {
+    for (CurrencyParameterSensitivity sensitivity : sensitivities.getSensitivities()) {
+      add(sensitivity);
+    }
+    return this;
+  }
+
+  /**
+   * Adds a sensitivity to the accumulator.
+   * <p>
+   * Values with the same market data name and currency will be summed.
+   *
+   * @param sensitivity  the sensitivity to add
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the parameter count of the market data name does not match the layout
+   */
+  public CurrencyParameterSensitivitiesAccumulator add(CurrencyParameterSensitivity sensitivity) {
+    int index = index(sensitivity.getMarketDataName(), sensitivity.getParameterCount());
+    if (metadata.get(index) == null) {
+      metadata.set(index, sensitivity.getParameterMetadata());
+      parameterSplits.set(index, sensitivity.getParameterSplit().orElse(null));
+    }
+    addValues(index, sensitivity.getCurrency(), sensitivity.getSensitivity());
+    return this;
+  }
+
+  /**
+   * Adds the sensitivity values of a single market data name to the accumulator.
+   * <p>
+   * The values are summed by parameter index with those already added for the same market data name and currency.
+   * If no parameter metadata has been added for the market data name, the result will have empty metadata.
+   *
+   * @param marketDataName  the market data name
+   * @param currency  the currency of the sensitivity
+   * @param sensitivity  the sensitivity values
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the parameter count of the market data name does not match the layout
+   */
+  public CurrencyParameterSensitivitiesAccumulator add(
+      MarketDataName<?> marketDataName,
+      Currency currency,
+      DoubleArray sensitivity) {
+
+    ArgChecker.notNull(currency, "currency");
+    int index = index(marketDataName, sensitivity.size());
+    addValues(index, currency, sensitivity);
+    return this;
+  }
+
+  /**
+   * Adds the contents of another accumulator to this accumulator.
+   * <p>
+   * This allows accumulators filled in parallel to be combined.
+   *
+   * @param other  the other accumulator
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the parameter count of a market data name does not match the layout
+   */
+  public CurrencyParameterSensitivitiesAccumulator add(CurrencyParameterSensitivitiesAccumulator other) {
+    for (int i = 0; i < other.names.size(); i++) {
+      int index = index(other.names.get(i), other.starts[i + 1] - other.starts[i]);
+      if (metadata.get(index) == null) {
+        metadata.set(index, other.metadata.get(i));
+        parameterSplits.set(index, other.parameterSplits.get(i));
+      }
+    }
+    for (Map.Entry<Currency, Values> entry : other.values.entrySet()) {
+      Values otherValues = entry.getValue();
+      Values target = values(entry.getKey());
+      // the values of a currency only cover the names in the layout when the currency was last added
+      for (int i = 0; i < otherValues.used.length; i++) {
+        if (otherValues.used[i]) {
+          int index = nameIndices.get(other.names.get(i));
+          for (int j = other.starts[i], k = starts[index]; j < other.starts[i + 1]; j++, k++) {
+            target.values[k] += otherValues.values[j];
+          }
+          target.used[index] = true;
+        }
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Checks if the accumulator is empty.
+   *
+   * @return true if no sensitivities have been added
+   */
+  public boolean isEmpty() {
+    return values.isEmpty();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Builds the sensitivities from the accumulated values.
+   * <p>
+   * The result contains an entry for each market data name and currency that has been added.
+   * The accumulator can continue to be used after this method is called.
+   *
+   * @return the sensitivities instance
+   */
+  public CurrencyParameterSensitivities build() {
+    List<CurrencyParameterSensitivity> result = new ArrayList<>();
+    for (Map.Entry<Currency, Values> entry : values.entrySet()) {
+      Values currencyValues = entry.getValue();
+      for (int i = 0; i < currencyValues.used.length; i++) {
+        if (currencyValues.used[i]) {
+          int size = starts[i + 1] - starts[i];
+          DoubleArray sensitivity = DoubleArray.copyOf(currencyValues.values, starts[i], starts[i + 1]);
+          List<ParameterMetadata> paramMetadata =
+              metadata.get(i) != null ? metadata.get(i) : ParameterMetadata.listOfEmpty(size);
+          List<ParameterSize> split = parameterSplits.get(i);
+          result.add(split == null ?
+              CurrencyParameterSensitivity.of(names.get(i), paramMetadata, entry.getKey(), sensitivity) :
+              CurrencyParameterSensitivity.of(names.get(i), paramMetadata, entry.getKey(), sensitivity, split));
+        }
+      }
+    }
+    return CurrencyParameterSensitivities.of(result);
+  }
+
+  //-------------------------------------------------------------------------
+  // finds the index of the market data name, appending it to the layout if necessary
+  private int index(MarketDataName<?> name, int parameterCount) {
+    ArgChecker.notNull(name, "marketDataName");
+    Integer index = nameIndices.get(name);
+    if (index == null) {
+      return append(name, parameterCount);
+    }
+    int expected = starts[index + 1] - starts[index];
+    if (expected != parameterCount) {
+      throw new IllegalArgumentException(Messages.format(
+          "Sensitivity to {} has {} parameters but the layout expects {}", name, parameterCount, expected));
+    }
+    return index;
+  }
+
+  // appends a market data name to the layout
+  private int append(MarketDataName<?> name, int parameterCount) {
+    ArgChecker.notNegativeOrZero(parameterCount, "parameterCount");
+    int index = names.size();
+    names.add(name);
+    nameIndices.put(name, index);
+    metadata.add(null);
+    parameterSplits.add(null);
+    starts = Arrays.copyOf(starts, index + 2);
+    starts[index + 1] = starts[index] + parameterCount;
+    return index;
+  }
+
+  // adds the values to the block of the market data name
+  private void addValues(int index, Currency currency, DoubleArray sensitivity) {
+    Values target = values(currency);
+    int start = starts[index];
+    for (int j = 0; j < sensitivity.size(); j++) {
+      target.values[start + j] += sensitivity.get(j);
+    }
+    target.used[index] = true;
+  }
+
+  // obtains the values of the currency, growing them if the layout has grown
+  private Values values(Currency currency) {
+    Values currencyValues = values.computeIfAbsent(currency, ccy -> new Values());
+    currencyValues.ensureSize(names.size(), starts[names.size()]);
+    return currencyValues;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The summed values of a single currency.
+   */
+  private static final class Values {
+    /** The values, using the layout of the accumulator. */
+    private double[] values = new double[0];
+    /** Whether a value has been added for each market data name, possibly shorter than the layout. */
+    private boolean[] used = new boolean[0];
+
+    // grows the arrays to the size of the layout
+    private void ensureSize(int nameCount, int parameterCount) {
+      if (values.length < parameterCount) {
+        values = Arrays.copyOf(values, parameterCount);
+      }
+      if (used.length < nameCount) {
+        used = Arrays.copyOf(used, nameCount);
+      }
+    }
+  }
+
+}
@@ -23,6 +23,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.data.Offset.offset;
 
+import java.util.function.DoubleUnaryOperator;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -79,6 +81,45 @@ public class CurveInterpolatorTest {
     assertThat(map.get(name)).isEqualTo(convention);
   }
 
+  @ParameterizedTest
+  @MethodSource("data_name")
+  public void test_batch(CurveInterpolator convention, String name) {
+    DoubleArray xValues = DoubleArray.of(0.5, 1.0, 2.0, 3.0, 5.0, 10.0);
+    DoubleArray yValues = DoubleArray.of(0.99, 0.98, 0.95, 0.93, 0.88, 0.75);
+    BoundCurveInterpolator bound =
+        convention.bind(xValues, yValues, CurveExtrapolators.FLAT, CurveExtrapolators.FLAT);
+    // sorted, with nodes, extrapolation and an out of order tail
+    DoubleArray xTest = DoubleArray.of(0.25, 0.5, 0.75, 2.0, 2.0, 4.5, 10.0, 11.0, 1.5, 0.75, 7.0);
+    DoubleArray weights = DoubleArray.of(xTest.size(), i -> i + 1d);
+    DoubleArray computed = bound.interpolate(xTest);
+    double[] expectedSensitivity = new double[xValues.size()];
+    for (int i = 0; i < xTest.size(); i++) {
+      assertThat(computed.get(i)).isCloseTo(bound.interpolate(xTest.get(i)), offset(1e-14));
+      DoubleArray sensitivity = bound.parameterSensitivity(xTest.get(i));
+      for (int j = 0; j < expectedSensitivity.length; j++) {
+        expectedSensitivity[j] += weights.get(i) * sensitivity.get(j);
+      }
+    }
+    DoubleArray computedSensitivity = bound.parameterSensitivity(xTest, weights);
+    assertThat(computedSensitivity.equalWithTolerance(DoubleArray.ofUnsafe(expectedSensitivity), 1e-12)).isTrue();
+    assertThatIllegalArgumentException().isThrownBy(() -> bound.parameterSensitivity(xTest, DoubleArray.of(1d)));
+  }
+
+  @ParameterizedTest
+  @MethodSource("data_name")
+  public void test_cursor(CurveInterpolator convention, String name) {
+    DoubleArray xValues = DoubleArray.of(0.5, 1.0, 2.0, 3.0, 5.0, 10.0);
+    DoubleArray yValues = DoubleArray.of(0.99, 0.98, 0.95, 0.93, 0.88, 0.75);
+    BoundCurveInterpolator bound =
+        convention.bind(xValues, yValues, CurveExtrapolators.FLAT, CurveExtrapolators.FLAT);
+    DoubleUnaryOperator cursor = bound.cursor();
+    // sorted, with nodes, extrapolation and an out of order tail
+    DoubleArray xTest = DoubleArray.of(0.25, 0.5, 0.75, 2.0, 2.0, 4.5, 10.0, 11.0, 1.5, 0.75, 7.0, 9.0);
+    for (int i = 0; i < xTest.size(); i++) {
+      assertThat(cursor.applyAsDouble(xTest.get(i))).isCloseTo(bound.interpolate(xTest.get(i)), offset(1e-14));
+    }
+  }
+
   @Test
   public void test_of_lookup_notFound() {
     assertThatIllegalArgumentException()
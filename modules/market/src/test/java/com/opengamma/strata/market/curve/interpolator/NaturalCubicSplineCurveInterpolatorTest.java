@@ -55,6 +55,21 @@ public class NaturalCubicSplineCurveInterpolatorTest {
     assertThat(bci.firstDerivative(0.2)).isCloseTo(deriv, offset(1e-6));
   }
 
+  @Test
+  public void test_parameterSensitivity() {
+    BoundCurveInterpolator bci = NATURAL_CUBLIC_SPLINE_INTERPOLATOR.bind(X_DATA, Y_DATA, FLAT_EXTRAPOLATOR, FLAT_EXTRAPOLATOR);
+    double eps = 1e-6;
+    for (int i = 0; i < X_TEST.size(); i++) {
+      DoubleArray computed = bci.parameterSensitivity(X_TEST.get(i));
+      for (int j = 0; j < Y_DATA.size(); j++) {
+        BoundCurveInterpolator bumped = NATURAL_CUBLIC_SPLINE_INTERPOLATOR.bind(
+            X_DATA, Y_DATA.with(j, Y_DATA.get(j) + eps), FLAT_EXTRAPOLATOR, FLAT_EXTRAPOLATOR);
+        double expected = (bumped.interpolate(X_TEST.get(i)) - bci.interpolate(X_TEST.get(i))) / eps;
+        assertThat(computed.get(j)).isCloseTo(expected, offset(1e-6));
+      }
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_firstNode() {
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.param;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.CurveParameterSize;
+
+/**
+ * Test {@link CurrencyParameterSensitivitiesAccumulator}.
+ */
+public class CurrencyParameterSensitivitiesAccumulatorTest {
+
+  private static final Currency USD = Currency.USD;
+  private static final Currency EUR = Currency.EUR;
+  private static final CurveName NAME1 = CurveName.of("NAME-1");
+  private static final CurveName NAME2 = CurveName.of("NAME-2");
+  private static final List<ParameterMetadata> METADATA1 = ImmutableList.of(
+      TenorParameterMetadata.of(Tenor.TENOR_1Y),
+      TenorParameterMetadata.of(Tenor.TENOR_2Y),
+      TenorParameterMetadata.of(Tenor.TENOR_3Y));
+  private static final List<ParameterMetadata> METADATA2 = ParameterMetadata.listOfEmpty(2);
+
+  private static final CurrencyParameterSensitivity ENTRY_USD1 =
+      CurrencyParameterSensitivity.of(NAME1, METADATA1, USD, DoubleArray.of(1, 2, 3));
+  private static final CurrencyParameterSensitivity ENTRY_USD2 =
+      CurrencyParameterSensitivity.of(NAME1, METADATA1, USD, DoubleArray.of(10, 20, 30));
+  private static final CurrencyParameterSensitivity ENTRY_EUR1 =
+      CurrencyParameterSensitivity.of(NAME1, METADATA1, EUR, DoubleArray.of(4, 5, 6));
+  private static final CurrencyParameterSensitivity ENTRY_USD3 =
+      CurrencyParameterSensitivity.of(NAME2, METADATA2, USD, DoubleArray.of(7, 8));
+
+  private static final double TOLERANCE = 1e-12;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_empty() {
+    CurrencyParameterSensitivitiesAccumulator test = CurrencyParameterSensitivities.accumulator();
+    assertThat(test.isEmpty()).isTrue();
+    assertThat(test.build()).isEqualTo(CurrencyParameterSensitivities.empty());
+  }
+
+  @Test
+  public void test_add_matchesCombinedWith() {
+    CurrencyParameterSensitivities sens1 = CurrencyParameterSensitivities.of(ENTRY_USD1, ENTRY_EUR1);
+    CurrencyParameterSensitivities sens2 = CurrencyParameterSensitivities.of(ENTRY_USD2, ENTRY_USD3);
+    CurrencyParameterSensitivitiesAccumulator test = CurrencyParameterSensitivities.accumulator()
+        .add(sens1)
+        .add(sens2)
+        .add(ENTRY_USD3);
+    assertThat(test.isEmpty()).isFalse();
+    CurrencyParameterSensitivities expected = sens1.combinedWith(sens2).combinedWith(ENTRY_USD3);
+    assertThat(test.build().equalWithTolerance(expected, TOLERANCE)).isTrue();
+    assertThat(test.build().getSensitivity(NAME1, USD).getParameterMetadata()).isEqualTo(METADATA1);
+  }
+
+  @Test
+  public void test_add_values() {
+    CurrencyParameterSensitivitiesAccumulator test = CurrencyParameterSensitivities.accumulator()
+        .add(NAME2, USD, DoubleArray.of(1, 2))
+        .add(NAME2, USD, DoubleArray.of(3, 4));
+    CurrencyParameterSensitivity expected =
+        CurrencyParameterSensitivity.of(NAME2, ParameterMetadata.listOfEmpty(2), USD, DoubleArray.of(4, 6));
+    assertThat(test.build()).isEqualTo(CurrencyParameterSensitivities.of(expected));
+  }
+
+  @Test
+  public void test_add_layout() {
+    List<CurveParameterSize> order = ImmutableList.of(CurveParameterSize.of(NAME2, 2), CurveParameterSize.of(NAME1, 3));
+    CurrencyParameterSensitivitiesAccumulator test = CurrencyParameterSensitivities.accumulator(order)
+        .add(ENTRY_USD1)
+        .add(ENTRY_USD2);
+    assertThat(test.build()).isEqualTo(CurrencyParameterSensitivities.of(
+        CurrencyParameterSensitivity.of(NAME1, METADATA1, USD, DoubleArray.of(11, 22, 33))));
+  }
+
+  @Test
+  public void test_add_layoutMismatch() {
+    List<CurveParameterSize> order = ImmutableList.of(CurveParameterSize.of(NAME1, 2));
+    CurrencyParameterSensitivitiesAccumulator test = CurrencyParameterSensitivities.accumulator(order);
+    assertThatIllegalArgumentException().isThrownBy(() -> test.add(ENTRY_USD1));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> CurrencyParameterSensitivities.accumulator().add(ENTRY_USD1).add(NAME1, USD, DoubleArray.of(1)));
+  }
+
+  @Test
+  public void test_layout_duplicate() {
+    List<CurveParameterSize> order = ImmutableList.of(CurveParameterSize.of(NAME1, 2), CurveParameterSize.of(NAME1, 2));
+    assertThatIllegalArgumentException().isThrownBy(() -> CurrencyParameterSensitivities.accumulator(order));
+  }
+
+  @Test
+  public void test_add_accumulator() {
+    CurrencyParameterSensitivitiesAccumulator base = CurrencyParameterSensitivities.accumulator()
+        .add(ENTRY_USD3)
+        .add(ENTRY_USD1);
+    CurrencyParameterSensitivitiesAccumulator other = CurrencyParameterSensitivities.accumulator()
+        .add(ENTRY_EUR1)
+        .add(ENTRY_USD2);
+    CurrencyParameterSensitivities test = base.add(other).build();
+    CurrencyParameterSensitivities expected = CurrencyParameterSensitivities.of(ENTRY_USD3, ENTRY_USD1)
+        .combinedWith(CurrencyParameterSensitivities.of(ENTRY_EUR1, ENTRY_USD2));
+    assertThat(test.equalWithTolerance(expected, TOLERANCE)).isTrue();
+    assertThat(other.build()).isEqualTo(CurrencyParameterSensitivities.of(ENTRY_EUR1, ENTRY_USD2));
+  }
+
+  @Test
+  public void test_add_accumulator_layoutGrownAfterCurrency() {
+    // the layout grows after the last EUR sensitivity is added
+    CurrencyParameterSensitivitiesAccumulator other = CurrencyParameterSensitivities.accumulator()
+        .add(ENTRY_USD1)
+        .add(ENTRY_EUR1)
+        .add(ENTRY_USD3);
+    CurrencyParameterSensitivities test = CurrencyParameterSensitivities.accumulator()
+        .add(ENTRY_EUR1)
+        .add(other)
+        .build();
+    CurrencyParameterSensitivities expected = CurrencyParameterSensitivities.of(ENTRY_EUR1)
+        .combinedWith(CurrencyParameterSensitivities.of(ENTRY_USD1, ENTRY_EUR1, ENTRY_USD3));
+    assertThat(test.equalWithTolerance(expected, TOLERANCE)).isTrue();
+  }
+
+}
@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.math.impl.interpolation;
 
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 
 /**
@@ -56,4 +57,16 @@ public class CubicSplineNaturalSolver extends CubicSplineSolver {
 
     return res;
   }
+
+  // the matrix is tridiagonal, so the linear problems are solved in linear time
+  @Override
+  protected double[] matrixEqnSolver(double[][] doubMat, double[] doubVec) {
+    return tridiagonalEqnSolver(doubMat, doubVec);
+  }
+
+  @Override
+  protected DoubleArray[] combinedMatrixEqnSolver(double[][] doubMat1, double[] doubVec, double[][] doubMat2) {
+    return tridiagonalCombinedEqnSolver(doubMat1, doubVec, doubMat2);
+  }
+
 }
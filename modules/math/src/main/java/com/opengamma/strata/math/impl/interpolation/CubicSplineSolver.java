@@ -13,6 +13,8 @@ import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.math.impl.linearalgebra.LUDecompositionCommons;
 import com.opengamma.strata.math.impl.linearalgebra.LUDecompositionResult;
+import com.opengamma.strata.math.impl.linearalgebra.TridiagonalMatrix;
+import com.opengamma.strata.math.impl.linearalgebra.TridiagonalSolver;
 import com.opengamma.strata.math.linearalgebra.Decomposition;
 
 /**
@@ -279,6 +281,54 @@ abstract class CubicSplineSolver {
     return res;
   }
 
+  /**
+   * Cubic spline is obtained by solving a linear problem Ax=b where A is a tridiagonal matrix and x,b are vector.
+   * This takes order n operations, as opposed to order n^3 for the LU decomposition.
+   * @param doubMat Matrix A, which must be tridiagonal
+   * @param doubVec Vector B
+   * @return Solution to the linear equation, x
+   */
+  protected double[] tridiagonalEqnSolver(double[][] doubMat, double[] doubVec) {
+    return TridiagonalSolver.solvTriDag(toTridiagonal(doubMat), doubVec);
+  }
+
+  /**
+   * Cubic spline and its node sensitivity are respectively obtained by solving a linear problem Ax=b
+   * where A is a tridiagonal matrix and x,b are vector and AN=L where N,L are matrices.
+   * This takes order n^2 operations, as opposed to order n^3 for the LU decomposition.
+   * @param doubMat1 The matrix A, which must be tridiagonal
+   * @param doubVec The vector b
+   * @param doubMat2 The matrix L
+   * @return The solutions to the linear systems, x,N
+   */
+  protected DoubleArray[] tridiagonalCombinedEqnSolver(double[][] doubMat1, double[] doubVec, double[][] doubMat2) {
+    int size = doubVec.length;
+    DoubleArray[] res = new DoubleArray[size + 1];
+    DoubleMatrix doubMat2Matrix = DoubleMatrix.copyOf(doubMat2);
+    TridiagonalMatrix m = toTridiagonal(doubMat1);
+    res[0] = DoubleArray.copyOf(TridiagonalSolver.solvTriDag(m, doubVec));
+    for (int i = 0; i < size; ++i) {
+      DoubleArray doubMat2Colum = doubMat2Matrix.column(i);
+      res[i + 1] = TridiagonalSolver.solvTriDag(m, doubMat2Colum);
+    }
+    return res;
+  }
+
+  // extracts the three diagonals of a square matrix
+  private TridiagonalMatrix toTridiagonal(double[][] doubMat) {
+    int sizeM1 = doubMat.length - 1;
+    double[] u = new double[sizeM1];
+    double[] d = new double[sizeM1 + 1];
+    double[] l = new double[sizeM1];
+    for (int i = 0; i < sizeM1; ++i) {
+      u[i] = doubMat[i][i + 1];
+      d[i] = doubMat[i][i];
+      l[i] = doubMat[i + 1][i];
+    }
+    d[sizeM1] = doubMat[sizeM1][sizeM1];
+    return new TridiagonalMatrix(d, u, l);
+  }
+
   /**
    * Linear problem Ax=b is solved by forward substitution if A is lower triangular.
    * 
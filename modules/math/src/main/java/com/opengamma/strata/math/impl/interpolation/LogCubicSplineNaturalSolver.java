@@ -7,8 +7,6 @@ package com.opengamma.strata.math.impl.interpolation;
 
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
-import com.opengamma.strata.math.impl.linearalgebra.TridiagonalMatrix;
-import com.opengamma.strata.math.impl.linearalgebra.TridiagonalSolver;
 
 /**
  * For specific cubic spline interpolations, polynomial coefficients are determined by the tridiagonal algorithm.
@@ -61,46 +59,12 @@ public class LogCubicSplineNaturalSolver extends CubicSplineSolver {
 
   @Override
   protected double[] matrixEqnSolver(double[][] doubMat, double[] doubVec) {
-    int sizeM1 = doubMat.length - 1;
-    double[] a = new double[sizeM1];
-    double[] b = new double[sizeM1 + 1];
-    double[] c = new double[sizeM1];
-
-    for (int i = 0; i < sizeM1; ++i) {
-      a[i] = doubMat[i][i + 1];
-      b[i] = doubMat[i][i];
-      c[i] = doubMat[i + 1][i];
-    }
-    b[sizeM1] = doubMat[sizeM1][sizeM1];
-
-    TridiagonalMatrix m = new TridiagonalMatrix(b, a, c);
-
-    return TridiagonalSolver.solvTriDag(m, doubVec);
+    return tridiagonalEqnSolver(doubMat, doubVec);
   }
 
   @Override
   protected DoubleArray[] combinedMatrixEqnSolver(double[][] doubMat1, double[] doubVec, double[][] doubMat2) {
-    int size = doubVec.length;
-    DoubleArray[] res = new DoubleArray[size + 1];
-    DoubleMatrix doubMat2Matrix = DoubleMatrix.copyOf(doubMat2);
-
-    double[] u = new double[size - 1];
-    double[] d = new double[size];
-    double[] l = new double[size - 1];
-
-    for (int i = 0; i < size - 1; ++i) {
-      u[i] = doubMat1[i][i + 1];
-      d[i] = doubMat1[i][i];
-      l[i] = doubMat1[i + 1][i];
-    }
-    d[size - 1] = doubMat1[size - 1][size - 1];
-    TridiagonalMatrix m = new TridiagonalMatrix(d, u, l);
-    res[0] = DoubleArray.copyOf(TridiagonalSolver.solvTriDag(m, doubVec));
-    for (int i = 0; i < size; ++i) {
-      DoubleArray doubMat2Colum = doubMat2Matrix.column(i);
-      res[i + 1] = TridiagonalSolver.solvTriDag(m, doubMat2Colum);
-    }
-    return res;
+    return tridiagonalCombinedEqnSolver(doubMat1, doubVec, doubMat2);
   }
 
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.linearalgebra.Decomposition;
+
+/**
+ * OpenGamma implementation of LU decomposition with partial pivoting.
+ * <p>
+ * The decomposition operates directly on a copy of the matrix data, without conversion to another library.
+ * The elimination runs along contiguous rows, and row exchanges swap the row references.
+ */
+// CSOFF: AbbreviationAsWordInName
+public class LUDecompositionOpenGamma implements Decomposition<LUDecompositionResult> {
+
+  /**
+   * The default threshold below which a pivot is considered to be zero, matching Commons Math.
+   */
+  public static final double DEFAULT_SINGULARITY_THRESHOLD = 1e-11;
+
+  /**
+   * {@inheritDoc}
+   * @throws IllegalArgumentException if the matrix is not square or is singular
+   */
+  @Override
+  public LUDecompositionResult apply(DoubleMatrix x) {
+    ArgChecker.notNull(x, "x");
+    return applyInPlace(x.toArray());
+  }
+
+  /**
+   * Performs the decomposition using the specified array as workspace.
+   * <p>
+   * The array is overwritten with the factors and its rows may be reordered.
+   * The result refers to the array, so it must not be altered while the result is in use.
+   * This allows an array to be reused between iterations of a solver.
+   *
+   * @param data  the square matrix to decompose, overwritten
+   * @return the decomposition
+   * @throws IllegalArgumentException if the matrix is not square or is singular
+   */
+  public LUDecompositionResult applyInPlace(double[][] data) {
+    ArgChecker.notNull(data, "data");
+    int n = data.length;
+    for (double[] row : data) {
+      ArgChecker.isTrue(row.length == n, "Matrix not square");
+    }
+    int[] pivot = new int[n];
+    for (int i = 0; i < n; i++) {
+      pivot[i] = i;
+    }
+    boolean even = true;
+    for (int k = 0; k < n; k++) {
+      int maxRow = k;
+      double maxAbs = Math.abs(data[k][k]);
+      for (int i = k + 1; i < n; i++) {
+        double abs = Math.abs(data[i][k]);
+        if (abs > maxAbs) {
+          maxRow = i;
+          maxAbs = abs;
+        }
+      }
+      if (maxAbs < DEFAULT_SINGULARITY_THRESHOLD) {
+        throw new IllegalArgumentException("Matrix is singular; could not perform LU decomposition");
+      }
+      if (maxRow != k) {
+        double[] tempRow = data[maxRow];
+        data[maxRow] = data[k];
+        data[k] = tempRow;
+        int tempIndex = pivot[maxRow];
+        pivot[maxRow] = pivot[k];
+        pivot[k] = tempIndex;
+        even = !even;
+      }
+      double[] rowK = data[k];
+      double pivotInverse = 1d / rowK[k];
+      for (int i = k + 1; i < n; i++) {
+        double[] rowI = data[i];
+        double factor = rowI[k] * pivotInverse;
+        rowI[k] = factor;
+        if (factor != 0d) {
+          for (int j = k + 1; j < n; j++) {
+            rowI[j] -= factor * rowK[j];
+          }
+        }
+      }
+    }
+    return new LUDecompositionOpenGammaResult(data, pivot, even);
+  }
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import java.util.function.Supplier;
+
+import com.google.common.base.Suppliers;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * Results of the OpenGamma implementation of LU decomposition ({@link LUDecompositionOpenGamma}).
+ * <p>
+ * The factors are held in a single array, with the unit diagonal of $\mathbf{L}$ implied.
+ * The $\mathbf{L}$, $\mathbf{U}$ and $\mathbf{P}$ matrices are only created if requested.
+ */
+// CSOFF: AbbreviationAsWordInName
+public class LUDecompositionOpenGammaResult implements LUDecompositionResult {
+
+  /**
+   * The combined factors, L below the diagonal and U on and above it, with the rows permuted.
+   */
+  private final double[][] _lu;
+  /**
+   * The pivot, the row of the original matrix in each row of the factors.
+   */
+  private final int[] _pivot;
+  /**
+   * The determinant.
+   */
+  private final double _determinant;
+  private final Supplier<DoubleMatrix> _l;
+  private final Supplier<DoubleMatrix> _u;
+  private final Supplier<DoubleMatrix> _p;
+
+  /**
+   * Creates an instance.
+   *
+   * @param lu  the combined factors, not copied
+   * @param pivot  the pivot permutation, not copied
+   * @param evenPermutation  true if the permutation has an even number of row exchanges
+   */
+  LUDecompositionOpenGammaResult(double[][] lu, int[] pivot, boolean evenPermutation) {
+    _lu = lu;
+    _pivot = pivot;
+    double determinant = evenPermutation ? 1d : -1d;
+    for (int i = 0; i < lu.length; i++) {
+      determinant *= lu[i][i];
+    }
+    _determinant = determinant;
+    int n = lu.length;
+    _l = Suppliers.memoize(() -> DoubleMatrix.of(n, n, (i, j) -> i > j ? _lu[i][j] : (i == j ? 1d : 0d)));
+    _u = Suppliers.memoize(() -> DoubleMatrix.of(n, n, (i, j) -> i <= j ? _lu[i][j] : 0d));
+    _p = Suppliers.memoize(() -> DoubleMatrix.of(n, n, (i, j) -> _pivot[i] == j ? 1d : 0d));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public double getDeterminant() {
+    return _determinant;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix getL() {
+    return _l.get();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix getP() {
+    return _p.get();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int[] getPivot() {
+    return _pivot.clone();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix getU() {
+    return _u.get();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleArray solve(DoubleArray b) {
+    ArgChecker.notNull(b, "b");
+    return DoubleArray.ofUnsafe(solve(b.toArrayUnsafe()));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public double[] solve(double[] b) {
+    ArgChecker.notNull(b, "b");
+    ArgChecker.isTrue(b.length == _lu.length, "b array of incorrect size");
+    double[] x = new double[b.length];
+    for (int i = 0; i < x.length; i++) {
+      x[i] = b[_pivot[i]];
+    }
+    substitute(x);
+    return x;
+  }
+
+  /**
+   * Solves the system, writing the solution into the specified array.
+   * <p>
+   * This allows the arrays to be reused between iterations of a solver.
+   * The right hand side and the solution may be the same array.
+   *
+   * @param b  the right hand side
+   * @param result  the array to write the solution to
+   */
+  public void solveInto(double[] b, double[] result) {
+    ArgChecker.notNull(b, "b");
+    ArgChecker.notNull(result, "result");
+    ArgChecker.isTrue(b.length == _lu.length, "b array of incorrect size");
+    ArgChecker.isTrue(result.length == _lu.length, "result array of incorrect size");
+    if (b == result) {
+      System.arraycopy(solve(b), 0, result, 0, b.length);
+    } else {
+      for (int i = 0; i < result.length; i++) {
+        result[i] = b[_pivot[i]];
+      }
+      substitute(result);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix solve(DoubleMatrix b) {
+    ArgChecker.notNull(b, "b");
+    int n = _lu.length;
+    ArgChecker.isTrue(b.rowCount() == n, "b array of incorrect size");
+    double[][] data = b.toArrayUnsafe();
+    double[][] x = new double[n][];
+    for (int i = 0; i < n; i++) {
+      x[i] = data[_pivot[i]].clone();
+    }
+    // row operations on whole rows of the right hand side
+    for (int i = 0; i < n; i++) {
+      double[] xRow = x[i];
+      double[] luRow = _lu[i];
+      for (int k = 0; k < i; k++) {
+        subtractMultiple(xRow, luRow[k], x[k]);
+      }
+    }
+    for (int i = n - 1; i >= 0; i--) {
+      double[] xRow = x[i];
+      double[] luRow = _lu[i];
+      for (int k = i + 1; k < n; k++) {
+        subtractMultiple(xRow, luRow[k], x[k]);
+      }
+      double divisor = luRow[i];
+      for (int j = 0; j < xRow.length; j++) {
+        xRow[j] /= divisor;
+      }
+    }
+    return DoubleMatrix.ofUnsafe(x);
+  }
+
+  //-------------------------------------------------------------------------
+  // forward and backward substitution on a permuted right hand side
+  private void substitute(double[] x) {
+    int n = x.length;
+    for (int i = 0; i < n; i++) {
+      double[] row = _lu[i];
+      double sum = x[i];
+      for (int j = 0; j < i; j++) {
+        sum -= row[j] * x[j];
+      }
+      x[i] = sum;
+    }
+    for (int i = n - 1; i >= 0; i--) {
+      double[] row = _lu[i];
+      double sum = x[i];
+      for (int j = i + 1; j < n; j++) {
+        sum -= row[j] * x[j];
+      }
+      x[i] = sum / row[i];
+    }
+  }
+
+  private static void subtractMultiple(double[] target, double factor, double[] source) {
+    if (factor != 0d) {
+      for (int j = 0; j < target.length; j++) {
+        target[j] -= factor * source[j];
+      }
+    }
+  }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.linearalgebra.Decomposition;
+
+/**
+ * OpenGamma implementation of QR decomposition using Householder reflections.
+ * <p>
+ * The decomposition operates on the transpose of the matrix, so that each column being reduced
+ * is held in a contiguous array. The Householder vectors are retained in place of the reduced columns,
+ * and $\mathbf{Q}$ is only formed if requested.
+ */
+// CSOFF: AbbreviationAsWordInName
+public class QRDecompositionOpenGamma implements Decomposition<QRDecompositionResult> {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public QRDecompositionResult apply(DoubleMatrix x) {
+    ArgChecker.notNull(x, "x");
+    return applyInPlace(x.transpose().toArrayUnsafe());
+  }
+
+  /**
+   * Performs the decomposition of the transpose of the specified array, using the array as workspace.
+   * <p>
+   * Row {@code j} of the array is column {@code j} of the matrix to decompose.
+   * The array is overwritten with the Householder vectors and the upper part of $\mathbf{R}$.
+   * The result refers to the array, so it must not be altered while the result is in use.
+   * This allows an array to be reused between iterations of a solver.
+   *
+   * @param transposedData  the transpose of the matrix to decompose, overwritten
+   * @return the decomposition
+   */
+  public QRDecompositionResult applyInPlace(double[][] transposedData) {
+    ArgChecker.notNull(transposedData, "transposedData");
+    ArgChecker.isTrue(transposedData.length > 0, "Matrix must not be empty");
+    int n = transposedData.length;
+    int m = transposedData[0].length;
+    for (double[] column : transposedData) {
+      ArgChecker.isTrue(column.length == m, "Matrix must be rectangular");
+    }
+    double[][] qrt = transposedData;
+    double[] rDiag = new double[Math.min(m, n)];
+    for (int minor = 0; minor < rDiag.length; minor++) {
+      double[] qrtMinor = qrt[minor];
+      double xNormSqr = 0d;
+      for (int row = minor; row < m; row++) {
+        xNormSqr += qrtMinor[row] * qrtMinor[row];
+      }
+      double a = qrtMinor[minor] > 0 ? -Math.sqrt(xNormSqr) : Math.sqrt(xNormSqr);
+      rDiag[minor] = a;
+      if (a != 0d) {
+        // the Householder vector v = x - a.e replaces the column, with the reflection H = I - 2.v.vT / (vT.v)
+        // as vT.v = -2.a.v[minor], the reflection of column y is y + (vT.y / (a.v[minor])).v
+        qrtMinor[minor] -= a;
+        double divisor = a * qrtMinor[minor];
+        for (int col = minor + 1; col < n; col++) {
+          double[] qrtCol = qrt[col];
+          double alpha = 0d;
+          for (int row = minor; row < m; row++) {
+            alpha -= qrtCol[row] * qrtMinor[row];
+          }
+          alpha /= divisor;
+          for (int row = minor; row < m; row++) {
+            qrtCol[row] -= alpha * qrtMinor[row];
+          }
+        }
+      }
+    }
+    return new QRDecompositionOpenGammaResult(qrt, rDiag);
+  }
+
+}
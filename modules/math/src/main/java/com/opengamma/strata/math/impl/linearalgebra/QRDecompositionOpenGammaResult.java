@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import java.util.function.Supplier;
+
+import com.google.common.base.Suppliers;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * Results of the OpenGamma implementation of QR decomposition ({@link QRDecompositionOpenGamma}).
+ * <p>
+ * Solving applies the Householder reflections directly to the right hand side, without forming $\mathbf{Q}$.
+ * If there are more rows than columns, the least squares solution is returned.
+ * The $\mathbf{Q}$ and $\mathbf{R}$ matrices are only created if requested.
+ */
+// CSOFF: AbbreviationAsWordInName
+public class QRDecompositionOpenGammaResult implements QRDecompositionResult {
+
+  /**
+   * The transposed factors, the Householder vectors on and below the diagonal and R above it.
+   */
+  private final double[][] _qrt;
+  /**
+   * The diagonal of R.
+   */
+  private final double[] _rDiag;
+  private final Supplier<DoubleMatrix> _qTranspose;
+  private final Supplier<DoubleMatrix> _q;
+  private final Supplier<DoubleMatrix> _r;
+
+  /**
+   * Creates an instance.
+   *
+   * @param qrt  the transposed factors, not copied
+   * @param rDiag  the diagonal of R, not copied
+   */
+  QRDecompositionOpenGammaResult(double[][] qrt, double[] rDiag) {
+    _qrt = qrt;
+    _rDiag = rDiag;
+    _qTranspose = Suppliers.memoize(this::createQTranspose);
+    _q = Suppliers.memoize(() -> _qTranspose.get().transpose());
+    _r = Suppliers.memoize(this::createR);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix getQ() {
+    return _q.get();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix getQT() {
+    return _qTranspose.get();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix getR() {
+    return _r.get();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * {@inheritDoc}
+   * @throws IllegalArgumentException if the matrix is singular
+   */
+  @Override
+  public DoubleArray solve(DoubleArray b) {
+    ArgChecker.notNull(b, "b");
+    return DoubleArray.ofUnsafe(solve(b.toArrayUnsafe()));
+  }
+
+  /**
+   * {@inheritDoc}
+   * @throws IllegalArgumentException if the matrix is singular
+   */
+  @Override
+  public double[] solve(double[] b) {
+    ArgChecker.notNull(b, "b");
+    int n = _qrt.length;
+    int m = _qrt[0].length;
+    ArgChecker.isTrue(b.length == m, "b array of incorrect size");
+    checkNotSingular();
+    double[] y = b.clone();
+    double[] x = new double[n];
+    // apply the reflections, y = QT.b
+    for (int minor = 0; minor < _rDiag.length; minor++) {
+      double[] qrtMinor = _qrt[minor];
+      double dotProduct = 0d;
+      for (int row = minor; row < m; row++) {
+        dotProduct += y[row] * qrtMinor[row];
+      }
+      dotProduct /= _rDiag[minor] * qrtMinor[minor];
+      for (int row = minor; row < m; row++) {
+        y[row] += dotProduct * qrtMinor[row];
+      }
+    }
+    // back substitution, R.x = y
+    for (int row = _rDiag.length - 1; row >= 0; row--) {
+      y[row] /= _rDiag[row];
+      double yRow = y[row];
+      double[] qrtRow = _qrt[row];
+      x[row] = yRow;
+      for (int i = 0; i < row; i++) {
+        y[i] -= yRow * qrtRow[i];
+      }
+    }
+    return x;
+  }
+
+  /**
+   * {@inheritDoc}
+   * @throws IllegalArgumentException if the matrix is singular
+   */
+  @Override
+  public DoubleMatrix solve(DoubleMatrix b) {
+    ArgChecker.notNull(b, "b");
+    ArgChecker.isTrue(b.rowCount() == _qrt[0].length, "b array of incorrect size");
+    double[][] columns = b.transpose().toArrayUnsafe();
+    double[][] solution = new double[columns.length][];
+    for (int j = 0; j < columns.length; j++) {
+      solution[j] = solve(columns[j]);
+    }
+    return DoubleMatrix.ofUnsafe(solution).transpose();
+  }
+
+  //-------------------------------------------------------------------------
+  // checks that the diagonal of R has no zero elements
+  private void checkNotSingular() {
+    for (double diag : _rDiag) {
+      if (diag == 0d) {
+        throw new IllegalArgumentException("Matrix is singular");
+      }
+    }
+  }
+
+  // forms QT by applying the reflections to the identity in reverse order
+  private DoubleMatrix createQTranspose() {
+    int m = _qrt[0].length;
+    double[][] qta = new double[m][m];
+    for (int minor = m - 1; minor >= _rDiag.length; minor--) {
+      qta[minor][minor] = 1d;
+    }
+    for (int minor = _rDiag.length - 1; minor >= 0; minor--) {
+      double[] qrtMinor = _qrt[minor];
+      qta[minor][minor] = 1d;
+      if (qrtMinor[minor] != 0d) {
+        double divisor = _rDiag[minor] * qrtMinor[minor];
+        for (int col = minor; col < m; col++) {
+          double[] qtaCol = qta[col];
+          double alpha = 0d;
+          for (int row = minor; row < m; row++) {
+            alpha -= qtaCol[row] * qrtMinor[row];
+          }
+          alpha /= divisor;
+          for (int row = minor; row < m; row++) {
+            qtaCol[row] -= alpha * qrtMinor[row];
+          }
+        }
+      }
+    }
+    return DoubleMatrix.ofUnsafe(qta);
+  }
+
+  // forms the upper trapezoidal R
+  private DoubleMatrix createR() {
+    int n = _qrt.length;
+    int m = _qrt[0].length;
+    return DoubleMatrix.of(m, n, (i, j) -> j > i ? _qrt[j][i] : (i == j ? _rDiag[i] : 0d));
+  }
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.linearalgebra.Decomposition;
+
+/**
+ * OpenGamma implementation of singular value decomposition using one-sided Jacobi rotations.
+ * <p>
+ * The columns of the matrix, or of its transpose if it has more columns than rows, are held as contiguous arrays
+ * and rotated in pairs until they are mutually orthogonal. The singular values are then the column norms.
+ * This method computes small singular values to high relative accuracy.
+ * <p>
+ * The decomposition is the compact form, with $\mathbf{U}$ of size m by p, $\mathbf{\Sigma}$ of size p by p
+ * and $\mathbf{V}$ of size n by p, where p is the smaller of m and n.
+ */
+// CSOFF: AbbreviationAsWordInName
+public class SVDecompositionOpenGamma implements Decomposition<SVDecompositionResult> {
+
+  /**
+   * The relative precision, matching Commons Math.
+   */
+  static final double EPS = 0x1.0p-52;
+  /**
+   * The smallest positive normalized value.
+   */
+  private static final double SAFE_MIN = 0x1.0p-1022;
+  /**
+   * The maximum number of sweeps, sufficient for convergence in practice.
+   */
+  private static final int MAX_SWEEPS = 60;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SVDecompositionResult apply(DoubleMatrix x) {
+    ArgChecker.notNull(x, "x");
+    ArgChecker.isFalse(x.isEmpty(), "Matrix must not be empty");
+    boolean transposed = x.rowCount() < x.columnCount();
+    // each row of the workspace is a column of the matrix being orthogonalized
+    double[][] columns = transposed ? x.toArray() : x.transpose().toArrayUnsafe();
+    int p = columns.length;
+    int r = columns[0].length;
+    double[][] rotations = new double[p][p];
+    for (int i = 0; i < p; i++) {
+      rotations[i][i] = 1d;
+    }
+    orthogonalize(columns, rotations);
+
+    // sort by decreasing singular value
+    double[] norms = new double[p];
+    for (int j = 0; j < p; j++) {
+      norms[j] = Math.sqrt(dot(columns[j], columns[j]));
+    }
+    int[] order = IntStream.range(0, p).boxed()
+        .sorted(Comparator.comparingDouble((Integer j) -> norms[j]).reversed())
+        .mapToInt(Integer::intValue)
+        .toArray();
+    double[] singularValues = new double[p];
+    double[][] left = new double[p][];
+    double[][] right = new double[p][];
+    for (int j = 0; j < p; j++) {
+      singularValues[j] = norms[order[j]];
+      left[j] = columns[order[j]];
+      right[j] = rotations[order[j]];
+    }
+    double tolerance = Math.max(r * singularValues[0] * EPS, Math.sqrt(SAFE_MIN));
+    normalize(left, singularValues, tolerance);
+    return transposed ?
+        new SVDecompositionOpenGammaResult(right, singularValues, left, tolerance) :
+        new SVDecompositionOpenGammaResult(left, singularValues, right, tolerance);
+  }
+
+  //-------------------------------------------------------------------------
+  // applies Jacobi rotations to pairs of columns until all pairs are orthogonal
+  // the same rotations are applied to the columns of the rotation matrix
+  private static void orthogonalize(double[][] columns, double[][] rotations) {
+    int p = columns.length;
+    for (int sweep = 0; sweep < MAX_SWEEPS; sweep++) {
+      boolean rotated = false;
+      for (int j = 0; j < p - 1; j++) {
+        double[] colJ = columns[j];
+        for (int k = j + 1; k < p; k++) {
+          double[] colK = columns[k];
+          double alpha = dot(colJ, colJ);
+          double beta = dot(colK, colK);
+          double gamma = dot(colJ, colK);
+          if (gamma == 0d || Math.abs(gamma) <= EPS * Math.sqrt(alpha) * Math.sqrt(beta)) {
+            continue;
+          }
+          rotated = true;
+          double zeta = (beta - alpha) / (2d * gamma);
+          double absZeta = Math.abs(zeta);
+          double root = absZeta < 1e150 ? Math.sqrt(1d + zeta * zeta) : absZeta;
+          double t = (zeta >= 0d ? 1d : -1d) / (absZeta + root);
+          double cos = 1d / Math.sqrt(1d + t * t);
+          double sin = cos * t;
+          rotate(colJ, colK, cos, sin);
+          rotate(rotations[j], rotations[k], cos, sin);
+        }
+      }
+      if (!rotated) {
+        return;
+      }
+    }
+  }
+
+  // rotates a pair of vectors in place
+  private static void rotate(double[] x, double[] y, double cos, double sin) {
+    for (int i = 0; i < x.length; i++) {
+      double xi = x[i];
+      double yi = y[i];
+      x[i] = cos * xi - sin * yi;
+      y[i] = sin * xi + cos * yi;
+    }
+  }
+
+  // scales the columns to unit length, replacing those with negligible singular values by orthonormal vectors
+  // the negligible singular values are last, so the preceding columns are already orthonormal
+  private static void normalize(double[][] columns, double[] singularValues, double tolerance) {
+    int r = columns[0].length;
+    for (int j = 0; j < columns.length; j++) {
+      double[] column = columns[j];
+      if (singularValues[j] > tolerance) {
+        double scale = 1d / singularValues[j];
+        for (int i = 0; i < r; i++) {
+          column[i] *= scale;
+        }
+      } else {
+        complete(columns, j);
+      }
+    }
+  }
+
+  // replaces the column by the unit vector with the largest component orthogonal to the preceding columns
+  private static void complete(double[][] columns, int j) {
+    int r = columns[0].length;
+    double[] best = null;
+    double bestNorm = 0d;
+    for (int e = 0; e < r && bestNorm <= 0.5; e++) {
+      double[] candidate = new double[r];
+      candidate[e] = 1d;
+      for (int pass = 0; pass < 2; pass++) {
+        for (int k = 0; k < j; k++) {
+          double projection = dot(columns[k], candidate);
+          for (int i = 0; i < r; i++) {
+            candidate[i] -= projection * columns[k][i];
+          }
+        }
+      }
+      double norm = Math.sqrt(dot(candidate, candidate));
+      if (norm > bestNorm) {
+        best = candidate;
+        bestNorm = norm;
+      }
+    }
+    for (int i = 0; i < r; i++) {
+      columns[j][i] = best[i] / bestNorm;
+    }
+  }
+
+  // the dot product
+  static double dot(double[] x, double[] y) {
+    double sum = 0d;
+    for (int i = 0; i < x.length; i++) {
+      sum += x[i] * y[i];
+    }
+    return sum;
+  }
+
+}
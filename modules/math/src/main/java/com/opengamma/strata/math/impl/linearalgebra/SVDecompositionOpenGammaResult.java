@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import java.util.Arrays;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * Results of the OpenGamma implementation of singular value decomposition ({@link SVDecompositionOpenGamma}).
+ * <p>
+ * Solving uses the pseudo-inverse, treating singular values at or below the tolerance as zero.
+ * The tolerance is the same as that used by Commons Math.
+ */
+// CSOFF: AbbreviationAsWordInName
+public class SVDecompositionOpenGammaResult implements SVDecompositionResult {
+
+  /**
+   * The columns of U, which are the rows of U transpose.
+   */
+  private final double[][] _uColumns;
+  /**
+   * The columns of V, which are the rows of V transpose.
+   */
+  private final double[][] _vColumns;
+  /**
+   * The singular values, in decreasing order.
+   */
+  private final double[] _singularValues;
+  /**
+   * The tolerance below which singular values are treated as zero.
+   */
+  private final double _tolerance;
+  private final DoubleMatrix _uTranspose;
+  private final DoubleMatrix _vTranspose;
+
+  /**
+   * Creates an instance.
+   *
+   * @param uColumns  the columns of U, not copied
+   * @param singularValues  the singular values in decreasing order, not copied
+   * @param vColumns  the columns of V, not copied
+   * @param tolerance  the tolerance below which singular values are treated as zero
+   */
+  SVDecompositionOpenGammaResult(double[][] uColumns, double[] singularValues, double[][] vColumns, double tolerance) {
+    _uColumns = uColumns;
+    _singularValues = singularValues;
+    _vColumns = vColumns;
+    _tolerance = tolerance;
+    _uTranspose = DoubleMatrix.ofUnsafe(uColumns);
+    _vTranspose = DoubleMatrix.ofUnsafe(vColumns);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public double getConditionNumber() {
+    return _singularValues[0] / _singularValues[_singularValues.length - 1];
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public double getNorm() {
+    return _singularValues[0];
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getRank() {
+    int rank = 0;
+    for (double value : _singularValues) {
+      if (value > _tolerance) {
+        rank++;
+      }
+    }
+    return rank;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix getS() {
+    return DoubleMatrix.diagonal(DoubleArray.copyOf(_singularValues));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public double[] getSingularValues() {
+    return _singularValues.clone();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix getU() {
+    return _uTranspose.transpose();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix getUT() {
+    return _uTranspose;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix getV() {
+    return _vTranspose.transpose();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix getVT() {
+    return _vTranspose;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleArray solve(DoubleArray b) {
+    ArgChecker.notNull(b, "b");
+    return DoubleArray.ofUnsafe(solve(b.toArrayUnsafe()));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public double[] solve(double[] b) {
+    ArgChecker.notNull(b, "b");
+    ArgChecker.isTrue(b.length == _uColumns[0].length, "b array of incorrect size");
+    double[] x = new double[_vColumns[0].length];
+    for (int j = 0; j < _singularValues.length; j++) {
+      if (_singularValues[j] > _tolerance) {
+        double coefficient = SVDecompositionOpenGamma.dot(_uColumns[j], b) / _singularValues[j];
+        double[] vColumn = _vColumns[j];
+        for (int i = 0; i < x.length; i++) {
+          x[i] += coefficient * vColumn[i];
+        }
+      }
+    }
+    return x;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix solve(DoubleMatrix b) {
+    ArgChecker.notNull(b, "b");
+    int m = _uColumns[0].length;
+    int n = _vColumns[0].length;
+    ArgChecker.isTrue(b.rowCount() == m, "b array of incorrect size");
+    int columnCount = b.columnCount();
+    double[][] bData = b.toArrayUnsafe();
+    double[][] x = new double[n][columnCount];
+    double[] coefficients = new double[columnCount];
+    for (int j = 0; j < _singularValues.length; j++) {
+      if (_singularValues[j] > _tolerance) {
+        // coefficients = row j of the product of the pseudo-inverse of S, U transpose and B
+        double[] uColumn = _uColumns[j];
+        double scale = 1d / _singularValues[j];
+        Arrays.fill(coefficients, 0d);
+        for (int i = 0; i < m; i++) {
+          addMultiple(coefficients, uColumn[i] * scale, bData[i]);
+        }
+        double[] vColumn = _vColumns[j];
+        for (int i = 0; i < n; i++) {
+          addMultiple(x[i], vColumn[i], coefficients);
+        }
+      }
+    }
+    return DoubleMatrix.ofUnsafe(x);
+  }
+
+  private static void addMultiple(double[] target, double factor, double[] source) {
+    if (factor != 0d) {
+      for (int k = 0; k < target.length; k++) {
+        target[k] += factor * source[k];
+      }
+    }
+  }
+
+}
@@ -0,0 +1,597 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.matrix;
+
+import java.util.Arrays;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.collect.array.Matrix;
+
+/**
+ * A matrix algebra implementation that operates directly on the underlying arrays.
+ * <p>
+ * Matrix multiplication is cache-blocked, with the innermost loop running along contiguous rows
+ * so that it can be vectorized by the JIT compiler. The summation order of each element is the same
+ * as the naive algorithm in {@link OGMatrixAlgebra}, thus the results are identical.
+ * <p>
+ * The inverse, determinant and linear solves use an LU decomposition with partial pivoting.
+ * Where the inverse is only used to solve a system, {@link #solve(DoubleMatrix, DoubleArray)} should be preferred.
+ * Methods ending in {@code Into} or {@code InPlace} write to arrays supplied by the caller,
+ * allowing the arrays to be reused across iterations.
+ * <p>
+ * The condition number and the 2-norm of a matrix require a singular value decomposition
+ * and are delegated to {@link CommonsMatrixAlgebra}.
+ */
+public class BlockedMatrixAlgebra extends OGMatrixAlgebra {
+
+  /**
+   * The block size, chosen such that three blocks fit in the L2 cache.
+   */
+  private static final int BLOCK_SIZE = 64;
+
+  //-------------------------------------------------------------------------
+  /**
+   * {@inheritDoc}
+   * This uses a singular value decomposition.
+   */
+  @Override
+  public double getCondition(Matrix m) {
+    return MatrixAlgebraFactory.COMMONS_ALGEBRA.getCondition(m);
+  }
+
+  /**
+   * {@inheritDoc}
+   * This uses an LU decomposition.
+   */
+  @Override
+  public double getDeterminant(Matrix m) {
+    DoubleMatrix matrix = squareMatrix(m, "determinant");
+    return new LuDecomposition(matrix.toArray()).determinant();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public double getInnerProduct(Matrix m1, Matrix m2) {
+    ArgChecker.notNull(m1, "m1");
+    ArgChecker.notNull(m2, "m2");
+    if (m1 instanceof DoubleArray && m2 instanceof DoubleArray) {
+      double[] array1 = ((DoubleArray) m1).toArrayUnsafe();
+      double[] array2 = ((DoubleArray) m2).toArrayUnsafe();
+      ArgChecker.isTrue(array1.length == array2.length, "Vector size mismatch");
+      double sum = 0d;
+      for (int i = 0; i < array1.length; i++) {
+        sum += array1[i] * array2[i];
+      }
+      return sum;
+    }
+    throw new IllegalArgumentException("Can only find inner product of DoubleArray; have " + m1.getClass() +
+        " and " + m2.getClass());
+  }
+
+  /**
+   * {@inheritDoc}
+   * This uses an LU decomposition.
+   * @throws IllegalArgumentException if the matrix is singular
+   */
+  @Override
+  public DoubleMatrix getInverse(Matrix m) {
+    DoubleMatrix matrix = squareMatrix(m, "inverse");
+    return DoubleMatrix.ofUnsafe(new LuDecomposition(matrix.toArray()).solve(identity(matrix.rowCount())));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public double getNorm1(Matrix m) {
+    ArgChecker.notNull(m, "m");
+    if (m instanceof DoubleArray) {
+      double sum = 0d;
+      for (double value : ((DoubleArray) m).toArrayUnsafe()) {
+        sum += Math.abs(value);
+      }
+      return sum;
+
+    } else if (m instanceof DoubleMatrix) {
+      DoubleMatrix matrix = (DoubleMatrix) m;
+      double[] columnSums = new double[matrix.columnCount()];
+      for (double[] row : matrix.toArrayUnsafe()) {
+        for (int j = 0; j < row.length; j++) {
+          columnSums[j] += Math.abs(row[j]);
+        }
+      }
+      return max(columnSums);
+    }
+    throw new IllegalArgumentException("Can only find norm1 of DoubleMatrix; have " + m.getClass());
+  }
+
+  /**
+   * {@inheritDoc}
+   * For a {@link DoubleMatrix}, this uses a singular value decomposition.
+   */
+  @Override
+  public double getNorm2(Matrix m) {
+    ArgChecker.notNull(m, "m");
+    if (m instanceof DoubleMatrix) {
+      return MatrixAlgebraFactory.COMMONS_ALGEBRA.getNorm2(m);
+    }
+    return super.getNorm2(m);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public double getNormInfinity(Matrix m) {
+    ArgChecker.notNull(m, "m");
+    if (m instanceof DoubleArray) {
+      double max = 0d;
+      for (double value : ((DoubleArray) m).toArrayUnsafe()) {
+        max = Math.max(max, Math.abs(value));
+      }
+      return max;
+
+    } else if (m instanceof DoubleMatrix) {
+      DoubleMatrix matrix = (DoubleMatrix) m;
+      double[] rowSums = new double[matrix.rowCount()];
+      double[][] data = matrix.toArrayUnsafe();
+      for (int i = 0; i < rowSums.length; i++) {
+        for (double value : data[i]) {
+          rowSums[i] += Math.abs(value);
+        }
+      }
+      return max(rowSums);
+    }
+    throw new IllegalArgumentException("Can only find normInfinity of DoubleMatrix; have " + m.getClass());
+  }
+
+  /**
+   * {@inheritDoc}
+   * This uses repeated squaring.
+   */
+  @Override
+  public DoubleMatrix getPower(Matrix m, int p) {
+    DoubleMatrix matrix = squareMatrix(m, "power");
+    ArgChecker.notNegative(p, "p");
+    int n = matrix.rowCount();
+    double[][] result = identity(n);
+    double[][] square = matrix.toArrayUnsafe();
+    int remaining = p;
+    while (remaining > 0) {
+      if ((remaining & 1) == 1) {
+        double[][] product = new double[n][n];
+        gemm(result, square, product, n, n, n);
+        result = product;
+      }
+      remaining >>= 1;
+      if (remaining > 0) {
+        double[][] product = new double[n][n];
+        gemm(square, square, product, n, n, n);
+        square = product;
+      }
+    }
+    return DoubleMatrix.ofUnsafe(result);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix getTranspose(Matrix m) {
+    ArgChecker.notNull(m, "m");
+    if (m instanceof DoubleMatrix) {
+      DoubleMatrix matrix = (DoubleMatrix) m;
+      int rows = matrix.rowCount();
+      int columns = matrix.columnCount();
+      double[][] data = matrix.toArrayUnsafe();
+      double[][] result = new double[columns][rows];
+      for (int i0 = 0; i0 < rows; i0 += BLOCK_SIZE) {
+        int i1 = Math.min(i0 + BLOCK_SIZE, rows);
+        for (int j0 = 0; j0 < columns; j0 += BLOCK_SIZE) {
+          int j1 = Math.min(j0 + BLOCK_SIZE, columns);
+          for (int i = i0; i < i1; i++) {
+            double[] row = data[i];
+            for (int j = j0; j < j1; j++) {
+              result[j][i] = row[j];
+            }
+          }
+        }
+      }
+      return DoubleMatrix.ofUnsafe(result);
+    }
+    throw new IllegalArgumentException("Can only take transpose of DoubleMatrix; have " + m.getClass());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Matrix multiply(Matrix m1, Matrix m2) {
+    ArgChecker.notNull(m1, "m1");
+    ArgChecker.notNull(m2, "m2");
+    if (m1 instanceof DoubleMatrix && m2 instanceof DoubleMatrix) {
+      DoubleMatrix matrix1 = (DoubleMatrix) m1;
+      DoubleMatrix matrix2 = (DoubleMatrix) m2;
+      double[][] result = new double[matrix1.rowCount()][matrix2.columnCount()];
+      multiplyInto(matrix1, matrix2, result);
+      return DoubleMatrix.ofUnsafe(result);
+
+    } else if (m1 instanceof DoubleMatrix && m2 instanceof DoubleArray) {
+      DoubleMatrix matrix = (DoubleMatrix) m1;
+      double[] result = new double[matrix.rowCount()];
+      multiplyInto(matrix, (DoubleArray) m2, result);
+      return DoubleArray.ofUnsafe(result);
+
+    } else if (m1 instanceof DoubleArray && m2 instanceof DoubleMatrix) {
+      double[] vector = ((DoubleArray) m1).toArrayUnsafe();
+      DoubleMatrix matrix = (DoubleMatrix) m2;
+      ArgChecker.isTrue(matrix.rowCount() == vector.length, "Matrix/vector size mismatch");
+      double[][] data = matrix.toArrayUnsafe();
+      double[] result = new double[matrix.columnCount()];
+      for (int k = 0; k < vector.length; k++) {
+        double value = vector[k];
+        double[] row = data[k];
+        for (int j = 0; j < result.length; j++) {
+          result[j] += value * row[j];
+        }
+      }
+      return DoubleArray.ofUnsafe(result);
+    }
+    return super.multiply(m1, m2);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix matrixTransposeMultiplyMatrix(DoubleMatrix a) {
+    ArgChecker.notNull(a, "a");
+    int m = a.columnCount();
+    double[][] result = new double[m][m];
+    for (double[] row : a.toArrayUnsafe()) {
+      for (int i = 0; i < m; i++) {
+        double value = row[i];
+        double[] resultRow = result[i];
+        for (int j = i; j < m; j++) {
+          resultRow[j] += value * row[j];
+        }
+      }
+    }
+    for (int i = 0; i < m; i++) {
+      for (int j = i + 1; j < m; j++) {
+        result[j][i] = result[i][j];
+      }
+    }
+    return DoubleMatrix.ofUnsafe(result);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Multiplies two matrices, writing the result into the specified array.
+   * <p>
+   * This allows the result array to be reused, avoiding allocation in iterative algorithms.
+   * Any existing content of the result array is overwritten.
+   *
+   * @param m1  the first matrix, of size m by p
+   * @param m2  the second matrix, of size p by n
+   * @param result  the array to write the result to, of size m by n
+   * @throws IllegalArgumentException if the sizes do not match
+   */
+  public void multiplyInto(DoubleMatrix m1, DoubleMatrix m2, double[][] result) {
+    ArgChecker.notNull(m1, "m1");
+    ArgChecker.notNull(m2, "m2");
+    ArgChecker.notNull(result, "result");
+    int m = m1.rowCount();
+    int p = m2.rowCount();
+    int n = m2.columnCount();
+    ArgChecker.isTrue(
+        m1.columnCount() == p,
+        "Matrix size mismatch. m1 is {} by {}, but m2 is {} by {}", m, m1.columnCount(), p, n);
+    ArgChecker.isTrue(result.length == m, "Result must have {} rows, but has {}", m, result.length);
+    for (double[] row : result) {
+      ArgChecker.isTrue(row.length == n, "Result must have {} columns, but has {}", n, row.length);
+      Arrays.fill(row, 0d);
+    }
+    gemm(m1.toArrayUnsafe(), m2.toArrayUnsafe(), result, m, p, n);
+  }
+
+  /**
+   * Multiplies a matrix by a vector, writing the result into the specified array.
+   * <p>
+   * This allows the result array to be reused, avoiding allocation in iterative algorithms.
+   * Any existing content of the result array is overwritten.
+   *
+   * @param matrix  the matrix, of size m by n
+   * @param vector  the vector, of size n
+   * @param result  the array to write the result to, of size m
+   * @throws IllegalArgumentException if the sizes do not match
+   */
+  public void multiplyInto(DoubleMatrix matrix, DoubleArray vector, double[] result) {
+    ArgChecker.notNull(matrix, "matrix");
+    ArgChecker.notNull(vector, "vector");
+    ArgChecker.notNull(result, "result");
+    double[] x = vector.toArrayUnsafe();
+    ArgChecker.isTrue(matrix.columnCount() == x.length, "Matrix/vector size mismatch");
+    ArgChecker.isTrue(result.length == matrix.rowCount(), "Result must have length {}", matrix.rowCount());
+    double[][] data = matrix.toArrayUnsafe();
+    for (int i = 0; i < result.length; i++) {
+      double[] row = data[i];
+      double sum = 0d;
+      for (int j = 0; j < x.length; j++) {
+        sum += row[j] * x[j];
+      }
+      result[i] = sum;
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Solves the linear system $\mathbf{A}x = b$.
+   * <p>
+   * This uses an LU decomposition, which is cheaper and more accurate than multiplying by the inverse.
+   *
+   * @param a  the square matrix
+   * @param b  the right hand side
+   * @return the solution
+   * @throws IllegalArgumentException if the matrix is singular or the sizes do not match
+   */
+  public DoubleArray solve(DoubleMatrix a, DoubleArray b) {
+    DoubleMatrix matrix = squareMatrix(a, "solution");
+    ArgChecker.notNull(b, "b");
+    ArgChecker.isTrue(b.size() == matrix.rowCount(), "Matrix/vector size mismatch");
+    return DoubleArray.ofUnsafe(new LuDecomposition(matrix.toArray()).solve(b.toArrayUnsafe()));
+  }
+
+  /**
+   * Solves the linear system $\mathbf{AX} = \mathbf{B}$.
+   * <p>
+   * This uses an LU decomposition, which is cheaper and more accurate than multiplying by the inverse.
+   *
+   * @param a  the square matrix
+   * @param b  the right hand side, with the same number of rows as the matrix
+   * @return the solution
+   * @throws IllegalArgumentException if the matrix is singular or the sizes do not match
+   */
+  public DoubleMatrix solve(DoubleMatrix a, DoubleMatrix b) {
+    DoubleMatrix matrix = squareMatrix(a, "solution");
+    ArgChecker.notNull(b, "b");
+    ArgChecker.isTrue(b.rowCount() == matrix.rowCount(), "Matrix size mismatch");
+    return DoubleMatrix.ofUnsafe(new LuDecomposition(matrix.toArray()).solve(b.toArray()));
+  }
+
+  /**
+   * Solves the linear system $\mathbf{A}x = b$, using the arrays as workspace.
+   * <p>
+   * No arrays are allocated, other than the row permutation.
+   * On exit, the matrix array contains the LU factors, possibly with its rows reordered,
+   * and the vector array contains the solution.
+   *
+   * @param a  the square matrix, overwritten
+   * @param b  the right hand side, overwritten with the solution
+   * @throws IllegalArgumentException if the matrix is singular or the sizes do not match
+   */
+  public void solveInPlace(double[][] a, double[] b) {
+    ArgChecker.notNull(a, "a");
+    ArgChecker.notNull(b, "b");
+    ArgChecker.isTrue(b.length == a.length, "Matrix/vector size mismatch");
+    for (double[] row : a) {
+      ArgChecker.isTrue(row.length == a.length, "Matrix not square");
+    }
+    new LuDecomposition(a).solveInPlace(b);
+  }
+
+  //-------------------------------------------------------------------------
+  // accumulates the product of a (m by p) and b (p by n) into c (m by n), blocking all three loops
+  // for each element of c, the terms are added in increasing order of k, as in the naive algorithm
+  private static void gemm(double[][] a, double[][] b, double[][] c, int m, int p, int n) {
+    for (int i0 = 0; i0 < m; i0 += BLOCK_SIZE) {
+      int i1 = Math.min(i0 + BLOCK_SIZE, m);
+      for (int k0 = 0; k0 < p; k0 += BLOCK_SIZE) {
+        int k1 = Math.min(k0 + BLOCK_SIZE, p);
+        for (int j0 = 0; j0 < n; j0 += BLOCK_SIZE) {
+          int j1 = Math.min(j0 + BLOCK_SIZE, n);
+          for (int i = i0; i < i1; i++) {
+            double[] aRow = a[i];
+            double[] cRow = c[i];
+            for (int k = k0; k < k1; k++) {
+              double aik = aRow[k];
+              double[] bRow = b[k];
+              for (int j = j0; j < j1; j++) {
+                cRow[j] += aik * bRow[j];
+              }
+            }
+          }
+        }
+      }
+    }
+  }
+
+  // checks the matrix is a square DoubleMatrix
+  private static DoubleMatrix squareMatrix(Matrix m, String operation) {
+    ArgChecker.notNull(m, "m");
+    if (m instanceof DoubleMatrix) {
+      DoubleMatrix matrix = (DoubleMatrix) m;
+      ArgChecker.isTrue(matrix.isSquare(), "Matrix not square");
+      return matrix;
+    }
+    throw new IllegalArgumentException("Can only find " + operation + " of DoubleMatrix; have " + m.getClass());
+  }
+
+  // creates an identity matrix
+  private static double[][] identity(int n) {
+    double[][] result = new double[n][n];
+    for (int i = 0; i < n; i++) {
+      result[i][i] = 1d;
+    }
+    return result;
+  }
+
+  // finds the maximum of non-negative values
+  private static double max(double[] values) {
+    double max = 0d;
+    for (double value : values) {
+      max = Math.max(max, value);
+    }
+    return max;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * LU decomposition with partial pivoting, operating in place on the rows of the matrix.
+   */
+  private static final class LuDecomposition {
+
+    private final double[][] lu;
+    private final int[] pivot;
+    private final boolean evenPermutation;
+    private final boolean singular;
+
+    // decomposes the matrix, overwriting it with the factors
+    private LuDecomposition(double[][] lu) {
+      int n = lu.length;
+      int[] pivot = new int[n];
+      for (int i = 0; i < n; i++) {
+        pivot[i] = i;
+      }
+      boolean even = true;
+      boolean singular = false;
+      for (int k = 0; k < n; k++) {
+        int maxRow = k;
+        double maxAbs = Math.abs(lu[k][k]);
+        for (int i = k + 1; i < n; i++) {
+          double abs = Math.abs(lu[i][k]);
+          if (abs > maxAbs) {
+            maxRow = i;
+            maxAbs = abs;
+          }
+        }
+        if (maxAbs == 0d) {
+          singular = true;
+          continue;
+        }
+        if (maxRow != k) {
+          double[] tempRow = lu[maxRow];
+          lu[maxRow] = lu[k];
+          lu[k] = tempRow;
+          int tempIndex = pivot[maxRow];
+          pivot[maxRow] = pivot[k];
+          pivot[k] = tempIndex;
+          even = !even;
+        }
+        double[] rowK = lu[k];
+        double pivotValue = rowK[k];
+        for (int i = k + 1; i < n; i++) {
+          double[] rowI = lu[i];
+          double factor = rowI[k] / pivotValue;
+          rowI[k] = factor;
+          for (int j = k + 1; j < n; j++) {
+            rowI[j] -= factor * rowK[j];
+          }
+        }
+      }
+      this.lu = lu;
+      this.pivot = pivot;
+      this.evenPermutation = even;
+      this.singular = singular;
+    }
+
+    private double determinant() {
+      if (singular) {
+        return 0d;
+      }
+      double det = evenPermutation ? 1d : -1d;
+      for (int i = 0; i < lu.length; i++) {
+        det *= lu[i][i];
+      }
+      return det;
+    }
+
+    // solves for a single right hand side, returning a new array
+    private double[] solve(double[] b) {
+      double[] x = new double[b.length];
+      for (int i = 0; i < b.length; i++) {
+        x[i] = b[pivot[i]];
+      }
+      substitute(x);
+      return x;
+    }
+
+    // solves for a single right hand side, overwriting it
+    private void solveInPlace(double[] b) {
+      double[] x = solve(b);
+      System.arraycopy(x, 0, b, 0, b.length);
+    }
+
+    // forward and backward substitution on a permuted right hand side
+    private void substitute(double[] x) {
+      checkNotSingular();
+      int n = x.length;
+      for (int i = 0; i < n; i++) {
+        double[] row = lu[i];
+        double sum = x[i];
+        for (int j = 0; j < i; j++) {
+          sum -= row[j] * x[j];
+        }
+        x[i] = sum;
+      }
+      for (int i = n - 1; i >= 0; i--) {
+        double[] row = lu[i];
+        double sum = x[i];
+        for (int j = i + 1; j < n; j++) {
+          sum -= row[j] * x[j];
+        }
+        x[i] = sum / row[i];
+      }
+    }
+
+    // solves for multiple right hand sides, returning a new array
+    // the row operations run along contiguous rows of the right hand side
+    private double[][] solve(double[][] b) {
+      checkNotSingular();
+      int n = lu.length;
+      double[][] x = new double[n][];
+      for (int i = 0; i < n; i++) {
+        x[i] = b[pivot[i]];
+      }
+      for (int i = 0; i < n; i++) {
+        double[] xRow = x[i];
+        double[] luRow = lu[i];
+        for (int k = 0; k < i; k++) {
+          subtractMultiple(xRow, luRow[k], x[k]);
+        }
+      }
+      for (int i = n - 1; i >= 0; i--) {
+        double[] xRow = x[i];
+        double[] luRow = lu[i];
+        for (int k = i + 1; k < n; k++) {
+          subtractMultiple(xRow, luRow[k], x[k]);
+        }
+        double divisor = luRow[i];
+        for (int j = 0; j < xRow.length; j++) {
+          xRow[j] /= divisor;
+        }
+      }
+      return x;
+    }
+
+    private static void subtractMultiple(double[] target, double factor, double[] source) {
+      for (int j = 0; j < target.length; j++) {
+        target[j] -= factor * source[j];
+      }
+    }
+
+    private void checkNotSingular() {
+      if (singular) {
+        throw new IllegalArgumentException("Matrix is singular");
+      }
+    }
+  }
+
+}
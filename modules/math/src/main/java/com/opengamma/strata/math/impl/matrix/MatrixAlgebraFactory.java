@@ -7,6 +7,12 @@ package com.opengamma.strata.math.impl.matrix;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.ImmutableSet;
 
 /**
  * 
@@ -14,16 +20,32 @@ import java.util.Map;
  */
 public final class MatrixAlgebraFactory {
 
+  /**
+   * The system property used to select the matrix algebra used by default in calibration.
+   * <p>
+   * The value is one of the labels defined here, such as "Blocked".
+   * If the property is not set, each caller uses its own default.
+   * Callers that invert matrices ignore an algebra that cannot invert, such as "OG".
+   */
+  public static final String ALGEBRA_PROPERTY = "com.opengamma.strata.math.matrixAlgebra";
+  /** The logger. */
+  private static final Logger log = LoggerFactory.getLogger(MatrixAlgebraFactory.class);
+
   /** Label for Commons matrix algebra */
   public static final String COMMONS = "Commons";
   /** Label for OpenGamma matrix algebra */
   public static final String OG = "OG";
+  /** Label for cache-blocked matrix algebra */
+  public static final String BLOCKED = "Blocked";
   /** {@link CommonsMatrixAlgebra} */
   public static final CommonsMatrixAlgebra COMMONS_ALGEBRA = new CommonsMatrixAlgebra();
   /** {@link OGMatrixAlgebra} */
   public static final OGMatrixAlgebra OG_ALGEBRA = new OGMatrixAlgebra();
+  /** {@link BlockedMatrixAlgebra} */
+  public static final BlockedMatrixAlgebra BLOCKED_ALGEBRA = new BlockedMatrixAlgebra();
   private static final Map<String, MatrixAlgebra> STATIC_INSTANCES;
   private static final Map<Class<?>, String> INSTANCE_NAMES;
+  private static final Set<String> INVERTING_NAMES = ImmutableSet.of(COMMONS, BLOCKED);
 
   static {
     STATIC_INSTANCES = new HashMap<>();
@@ -32,6 +54,25 @@ public final class MatrixAlgebraFactory {
     INSTANCE_NAMES.put(CommonsMatrixAlgebra.class, COMMONS);
     STATIC_INSTANCES.put(OG, OG_ALGEBRA);
     INSTANCE_NAMES.put(OGMatrixAlgebra.class, OG);
+    STATIC_INSTANCES.put(BLOCKED, BLOCKED_ALGEBRA);
+    INSTANCE_NAMES.put(BlockedMatrixAlgebra.class, BLOCKED);
+  }
+
+  // reads the system property, returning the name of a known algebra, null if not set or invalid
+  private static String configuredName() {
+    try {
+      String name = System.getProperty(ALGEBRA_PROPERTY);
+      if (name == null || name.isEmpty()) {
+        return null;
+      }
+      if (!STATIC_INSTANCES.containsKey(name)) {
+        log.warn("Ignoring system property '{}', unknown matrix algebra '{}'", ALGEBRA_PROPERTY, name);
+        return null;
+      }
+      return name;
+    } catch (SecurityException ex) {
+      return null;
+    }
   }
 
   private MatrixAlgebraFactory() {
@@ -51,6 +92,43 @@ public final class MatrixAlgebraFactory {
     throw new IllegalArgumentException("Matrix algebra " + algebraName + " not found");
   }
 
+  /**
+   * Returns the matrix algebra selected by system property, or the specified default.
+   * <p>
+   * The system property {@link #ALGEBRA_PROPERTY} is read each time this method is called,
+   * so callers should hold on to the result.
+   * 
+   * @param defaultAlgebra  the algebra to use if the system property is not set
+   * @return The matrix algebra calculator
+   */
+  public static MatrixAlgebra getConfiguredMatrixAlgebra(MatrixAlgebra defaultAlgebra) {
+    String name = configuredName();
+    return name != null ? STATIC_INSTANCES.get(name) : defaultAlgebra;
+  }
+
+  /**
+   * Returns the matrix algebra selected by system property if it can invert matrices, or the specified default.
+   * <p>
+   * This is used by callers that invert matrices, as not all algebras support inversion.
+   * The system property {@link #ALGEBRA_PROPERTY} is read each time this method is called,
+   * so callers should hold on to the result.
+   * 
+   * @param defaultAlgebra  the algebra to use if the system property is not set or selects an algebra that cannot invert
+   * @return The matrix algebra calculator
+   */
+  public static MatrixAlgebra getConfiguredInvertingMatrixAlgebra(MatrixAlgebra defaultAlgebra) {
+    String name = configuredName();
+    if (name == null) {
+      return defaultAlgebra;
+    }
+    if (!INVERTING_NAMES.contains(name)) {
+      log.warn("Ignoring system property '{}' where matrices are inverted, matrix algebra '{}' cannot invert",
+          ALGEBRA_PROPERTY, name);
+      return defaultAlgebra;
+    }
+    return STATIC_INSTANCES.get(name);
+  }
+
   /**
    * Given a matrix algebra calculator, returns its name.
    * 
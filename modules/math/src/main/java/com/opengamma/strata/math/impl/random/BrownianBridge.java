@@ -0,0 +1,236 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * Brownian bridge construction of Brownian motion paths from independent standard normal numbers.
+ * <p>
+ * The first number sets the value at the last time, the second the value at the time midway through,
+ * and so on, each value being drawn conditional on the values already set on either side.
+ * The coarse shape of the path is thus determined by the first few numbers.
+ * Used with a low discrepancy sequence, such as {@link SobolNormalRandomNumberGenerator},
+ * this concentrates the variance of the path on the best distributed dimensions of the sequence.
+ * <p>
+ * The weights of the construction are computed once, on creation.
+ * See Jaeckel, "Monte Carlo methods in finance", Wiley (2002), section 10.8.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class BrownianBridge {
+
+  /**
+   * The times, strictly increasing and positive.
+   */
+  private final double[] times;
+  /**
+   * The index of the time set at each step of the construction.
+   */
+  private final int[] bridgeIndex;
+  /**
+   * The index of the time set on the left at each step, -1 for the start of the path.
+   */
+  private final int[] leftIndex;
+  /**
+   * The index of the time set on the right at each step.
+   */
+  private final int[] rightIndex;
+  /**
+   * The weight of the value on the left at each step.
+   */
+  private final double[] leftWeight;
+  /**
+   * The weight of the value on the right at each step.
+   */
+  private final double[] rightWeight;
+  /**
+   * The conditional standard deviation at each step.
+   */
+  private final double[] stdDev;
+  /**
+   * The inverse square root of the time between each time and the previous one.
+   */
+  private final double[] incrementScale;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance for the specified times.
+   * <p>
+   * The path starts at zero at time zero.
+   *
+   * @param times  the times, strictly increasing and positive
+   * @return the Brownian bridge
+   */
+  public static BrownianBridge of(DoubleArray times) {
+    ArgChecker.notNull(times, "times");
+    ArgChecker.isTrue(times.size() > 0, "times must not be empty");
+    ArgChecker.isTrue(times.get(0) > 0d, "times must be positive");
+    for (int i = 1; i < times.size(); i++) {
+      ArgChecker.isTrue(times.get(i) > times.get(i - 1), "times must be strictly increasing");
+    }
+    return new BrownianBridge(times.toArray());
+  }
+
+  // restricted constructor
+  private BrownianBridge(double[] times) {
+    int n = times.length;
+    this.times = times;
+    this.bridgeIndex = new int[n];
+    this.leftIndex = new int[n];
+    this.rightIndex = new int[n];
+    this.leftWeight = new double[n];
+    this.rightWeight = new double[n];
+    this.stdDev = new double[n];
+    this.incrementScale = new double[n];
+    for (int i = 0; i < n; i++) {
+      incrementScale[i] = 1d / Math.sqrt(times[i] - (i == 0 ? 0d : times[i - 1]));
+    }
+    // the last time is set first, from the start of the path
+    boolean[] set = new boolean[n];
+    set[n - 1] = true;
+    bridgeIndex[0] = n - 1;
+    leftIndex[0] = -1;
+    rightIndex[0] = n - 1;
+    stdDev[0] = Math.sqrt(times[n - 1]);
+    // then the midpoint of each gap between the times already set, from left to right
+    int j = 0;
+    for (int step = 1; step < n; step++) {
+      while (set[j]) {
+        j++;
+      }
+      int k = j;
+      while (!set[k]) {
+        k++;
+      }
+      int l = j + ((k - 1 - j) >> 1);
+      set[l] = true;
+      double leftTime = j == 0 ? 0d : times[j - 1];
+      bridgeIndex[step] = l;
+      leftIndex[step] = j - 1;
+      rightIndex[step] = k;
+      leftWeight[step] = (times[k] - times[l]) / (times[k] - leftTime);
+      rightWeight[step] = (times[l] - leftTime) / (times[k] - leftTime);
+      stdDev[step] = Math.sqrt((times[l] - leftTime) * (times[k] - times[l]) / (times[k] - leftTime));
+      j = k + 1;
+      if (j >= n) {
+        j = 0;
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of times, which is the number of normal numbers needed for each path.
+   *
+   * @return the dimension
+   */
+  public int getDimension() {
+    return times.length;
+  }
+
+  /**
+   * Gets the times.
+   *
+   * @return the times
+   */
+  public DoubleArray getTimes() {
+    return DoubleArray.copyOf(times);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the values of the Brownian motion at the times.
+   *
+   * @param normals  the independent standard normal numbers, one for each time
+   * @return the values of the path
+   */
+  public DoubleArray path(DoubleArray normals) {
+    ArgChecker.notNull(normals, "normals");
+    double[] path = new double[times.length];
+    pathInto(normals.toArrayUnsafe(), path);
+    return DoubleArray.ofUnsafe(path);
+  }
+
+  /**
+   * Computes the values of the Brownian motion at the times, writing them to an array.
+   * <p>
+   * The arrays may be the same.
+   *
+   * @param normals  the independent standard normal numbers, one for each time
+   * @param path  the array to write the values of the path to
+   */
+  public void pathInto(double[] normals, double[] path) {
+    int n = times.length;
+    ArgChecker.isTrue(normals.length == n, "normals must be of length {}", n);
+    ArgChecker.isTrue(path.length == n, "path must be of length {}", n);
+    if (normals == path) {
+      // the values are set out of order, so each number must be read before its index is written
+      double[] copy = normals.clone();
+      pathInto(copy, path);
+      return;
+    }
+    path[n - 1] = stdDev[0] * normals[0];
+    for (int step = 1; step < n; step++) {
+      int left = leftIndex[step];
+      double leftValue = left < 0 ? 0d : path[left];
+      path[bridgeIndex[step]] =
+          leftWeight[step] * leftValue + rightWeight[step] * path[rightIndex[step]] + stdDev[step] * normals[step];
+    }
+  }
+
+  /**
+   * Computes the increments of the Brownian motion between the times, scaled to unit variance.
+   * <p>
+   * The increments are independent standard normal numbers, with the same distribution as the input.
+   * They can be used in place of the input in any simulation that steps through the times.
+   *
+   * @param normals  the independent standard normal numbers, one for each time
+   * @return the scaled increments of the path
+   */
+  public DoubleArray increments(DoubleArray normals) {
+    ArgChecker.notNull(normals, "normals");
+    double[] increments = new double[times.length];
+    incrementsInto(normals.toArrayUnsafe(), increments);
+    return DoubleArray.ofUnsafe(increments);
+  }
+
+  /**
+   * Computes the increments of the Brownian motion for each row of normal numbers.
+   *
+   * @param normals  the independent standard normal numbers, with one row for each path
+   * @return the scaled increments of the paths, with one row for each path
+   */
+  public DoubleMatrix increments(DoubleMatrix normals) {
+    ArgChecker.notNull(normals, "normals");
+    ArgChecker.isTrue(normals.columnCount() == times.length, "normals must have {} columns", times.length);
+    double[][] increments = new double[normals.rowCount()][times.length];
+    for (int i = 0; i < increments.length; i++) {
+      incrementsInto(normals.rowArray(i), increments[i]);
+    }
+    return DoubleMatrix.ofUnsafe(increments);
+  }
+
+  /**
+   * Computes the increments of the Brownian motion between the times, scaled to unit variance,
+   * writing them to an array.
+   * <p>
+   * The arrays may be the same.
+   *
+   * @param normals  the independent standard normal numbers, one for each time
+   * @param increments  the array to write the scaled increments of the path to
+   */
+  public void incrementsInto(double[] normals, double[] increments) {
+    pathInto(normals, increments);
+    for (int i = times.length - 1; i > 0; i--) {
+      increments[i] = (increments[i] - increments[i - 1]) * incrementScale[i];
+    }
+    increments[0] *= incrementScale[0];
+  }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.math.impl.cern.RandomEngine;
+
+/**
+ * Counter-based random number engine using the Philox4x32-10 algorithm.
+ * <p>
+ * Each block of four 32-bit outputs is a keyed bijection of a 128-bit counter, so any position in the sequence
+ * can be reached directly without generating the preceding values.
+ * The key is the 64-bit seed. The counter holds the position within the stream in its lower 64 bits
+ * and the stream index in its upper 64 bits.
+ * Distinct streams with the same seed are therefore non-overlapping, with 2^64 values in each.
+ * <p>
+ * This allows a simulation to be split into blocks of paths, with each block using its own stream,
+ * such that the results are reproducible whatever the order or thread in which the blocks are run.
+ * For example, normally distributed numbers for block {@code i} are obtained by
+ * {@code new NormalRandomNumberGenerator(0, 1, PhiloxRandomEngine.of(seed, i))}.
+ * <p>
+ * See Salmon, Moraes, Dror and Shaw, "Parallel random numbers: as easy as 1, 2, 3", SC11 (2011).
+ * <p>
+ * Instances are mutable and not thread-safe. Use one instance per thread.
+ */
+public final class PhiloxRandomEngine extends RandomEngine {
+
+  /** Serialization version. */
+  private static final long serialVersionUID = 1L;
+
+  /** The multipliers of the rounds. */
+  private static final int M0 = 0xD2511F53;
+  private static final int M1 = 0xCD9E8D57;
+  /** The increments of the key between the rounds. */
+  private static final int W0 = 0x9E3779B9;
+  private static final int W1 = 0xBB67AE85;
+  /** The number of rounds. */
+  private static final int ROUNDS = 10;
+
+  /**
+   * The seed, which is the key.
+   */
+  private final long seed;
+  /**
+   * The stream index, which is the upper half of the counter.
+   */
+  private final long stream;
+  /**
+   * The position of the next 32-bit value within the stream.
+   */
+  private long position;
+  /**
+   * The block of values for the current counter.
+   */
+  private int[] buffer = new int[4];
+  /**
+   * The counter of the values in the buffer, -1 if none.
+   */
+  private long bufferedBlock = -1;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance for the first stream of the seed.
+   *
+   * @param seed  the seed
+   * @return the engine
+   */
+  public static PhiloxRandomEngine of(long seed) {
+    return new PhiloxRandomEngine(seed, 0);
+  }
+
+  /**
+   * Obtains an instance for the specified stream of the seed.
+   * <p>
+   * The streams of a seed do not overlap.
+   *
+   * @param seed  the seed
+   * @param stream  the stream index
+   * @return the engine
+   */
+  public static PhiloxRandomEngine of(long seed, long stream) {
+    return new PhiloxRandomEngine(seed, stream);
+  }
+
+  // restricted constructor
+  private PhiloxRandomEngine(long seed, long stream) {
+    this.seed = seed;
+    this.stream = stream;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the seed.
+   *
+   * @return the seed
+   */
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * Gets the stream index.
+   *
+   * @return the stream index
+   */
+  public long getStream() {
+    return stream;
+  }
+
+  /**
+   * Gets the position of the next 32-bit value within the stream.
+   *
+   * @return the position
+   */
+  public long getPosition() {
+    return position;
+  }
+
+  /**
+   * Returns a new engine with the same seed, positioned at the start of another stream.
+   *
+   * @param stream  the stream index
+   * @return the engine
+   */
+  public PhiloxRandomEngine withStream(long stream) {
+    return new PhiloxRandomEngine(seed, stream);
+  }
+
+  /**
+   * Skips 32-bit values in the stream.
+   * <p>
+   * This takes constant time. Note that {@link #nextLong()} and {@link #nextDouble()} consume two values
+   * and that {@link #raw()} may consume more than one.
+   *
+   * @param count  the number of values to skip
+   */
+  public void skip(long count) {
+    ArgChecker.notNegative(count, "count");
+    position += count;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public int nextInt() {
+    long block = position >>> 2;
+    if (block != bufferedBlock) {
+      generate(block, stream, seed, buffer);
+      bufferedBlock = block;
+    }
+    return buffer[(int) (position++ & 3)];
+  }
+
+  @Override
+  public Object clone() {
+    PhiloxRandomEngine clone = (PhiloxRandomEngine) super.clone();
+    clone.buffer = buffer.clone();
+    return clone;
+  }
+
+  //-------------------------------------------------------------------------
+  // applies the rounds to the counter (block, stream), writing the four values to the output
+  static void generate(long block, long stream, long key, int[] output) {
+    int c0 = (int) block;
+    int c1 = (int) (block >>> 32);
+    int c2 = (int) stream;
+    int c3 = (int) (stream >>> 32);
+    int k0 = (int) key;
+    int k1 = (int) (key >>> 32);
+    for (int round = 0; round < ROUNDS; round++) {
+      long product0 = (M0 & 0xFFFFFFFFL) * (c0 & 0xFFFFFFFFL);
+      long product1 = (M1 & 0xFFFFFFFFL) * (c2 & 0xFFFFFFFFL);
+      int next0 = (int) (product1 >>> 32) ^ c1 ^ k0;
+      int next2 = (int) (product0 >>> 32) ^ c3 ^ k1;
+      c0 = next0;
+      c1 = (int) product1;
+      c2 = next2;
+      c3 = (int) product0;
+      k0 += W0;
+      k1 += W1;
+    }
+    output[0] = c0;
+    output[1] = c1;
+    output[2] = c2;
+    output[3] = c3;
+  }
+
+}
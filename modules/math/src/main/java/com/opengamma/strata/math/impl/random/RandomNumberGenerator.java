@@ -7,6 +7,8 @@ package com.opengamma.strata.math.impl.random;
 
 import java.util.List;
 
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
 /**
  * Generator of random numbers.
  */
@@ -29,4 +31,17 @@ public interface RandomNumberGenerator {
    */
   public abstract List<double[]> getVectors(int arraySize, int listSize);
 
+  /**
+   * Gets a matrix of random numbers, each row being an array as returned by {@link #getVector(int)}.
+   * <p>
+   * This is typically used to draw the numbers for a block of paths at once, with one row per path.
+   * 
+   * @param rowCount  the number of rows
+   * @param columnCount  the number of columns, which is the size of each array
+   * @return the matrix of random numbers
+   */
+  public default DoubleMatrix getMatrix(int rowCount, int columnCount) {
+    return DoubleMatrix.ofUnsafe(getVectors(columnCount, rowCount).toArray(new double[0][]));
+  }
+
 }
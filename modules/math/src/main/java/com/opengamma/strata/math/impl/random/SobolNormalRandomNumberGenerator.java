@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.math3.random.SobolSequenceGenerator;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.math.impl.statistics.distribution.NormalDistribution;
+import com.opengamma.strata.math.impl.statistics.distribution.ProbabilityDistribution;
+
+/**
+ * Quasi-random number generator of standard normal vectors based on the Sobol sequence.
+ * <p>
+ * Each vector is a point of the Sobol sequence mapped by the inverse of the cumulative normal distribution.
+ * The point at the origin, the first of the sequence, is omitted, so the first vector is from point 1.
+ * The size of every vector must equal the dimension of the sequence, which is at most 1000.
+ * <p>
+ * The points are a deterministic function of their index in the sequence.
+ * A simulation can therefore be split into blocks of paths, with the block starting at path {@code i}
+ * using a generator starting at index {@code i + 1}, such that the results are the same as for a single generator
+ * whatever the order or thread in which the blocks are run.
+ * <p>
+ * Optionally, the normal numbers of each point are passed through a {@link BrownianBridge},
+ * returning the scaled increments of the bridge path instead.
+ * This is recommended when the vectors drive the time steps of a path simulation.
+ * <p>
+ * Instances are mutable and not thread-safe. Use one instance per thread.
+ */
+public class SobolNormalRandomNumberGenerator
+    implements RandomNumberGenerator {
+
+  /**
+   * The maximum dimension.
+   */
+  private static final int MAX_DIMENSION = 1000;
+  /**
+   * The standard normal distribution.
+   */
+  private static final ProbabilityDistribution<Double> NORMAL = new NormalDistribution(0, 1);
+
+  /**
+   * The underlying sequence.
+   */
+  private final SobolSequenceGenerator sequence;
+  /**
+   * The dimension.
+   */
+  private final int dimension;
+  /**
+   * The Brownian bridge, null if not used.
+   */
+  private final BrownianBridge bridge;
+
+  /**
+   * Creates an instance starting at the first point after the origin.
+   *
+   * @param dimension  the dimension, from 1 to 1000
+   */
+  public SobolNormalRandomNumberGenerator(int dimension) {
+    this(dimension, 1);
+  }
+
+  /**
+   * Creates an instance starting at the specified point.
+   *
+   * @param dimension  the dimension, from 1 to 1000
+   * @param startIndex  the index of the first point, one or greater
+   */
+  public SobolNormalRandomNumberGenerator(int dimension, int startIndex) {
+    this(dimension, startIndex, null);
+  }
+
+  /**
+   * Creates an instance starting at the specified point, returning the scaled increments of a Brownian bridge.
+   * <p>
+   * The dimension is that of the bridge.
+   *
+   * @param bridge  the Brownian bridge
+   * @param startIndex  the index of the first point, one or greater
+   */
+  public SobolNormalRandomNumberGenerator(BrownianBridge bridge, int startIndex) {
+    this(ArgChecker.notNull(bridge, "bridge").getDimension(), startIndex, bridge);
+  }
+
+  // restricted constructor
+  private SobolNormalRandomNumberGenerator(int dimension, int startIndex, BrownianBridge bridge) {
+    ArgChecker.inRangeInclusive(dimension, 1, MAX_DIMENSION, "dimension");
+    ArgChecker.notNegativeOrZero(startIndex, "startIndex");
+    this.dimension = dimension;
+    this.bridge = bridge;
+    this.sequence = new SobolSequenceGenerator(dimension);
+    // the next point after this is the start point
+    this.sequence.skipTo(startIndex - 1);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the dimension.
+   *
+   * @return the dimension
+   */
+  public int getDimension() {
+    return dimension;
+  }
+
+  /**
+   * Gets the index of the next point.
+   *
+   * @return the index
+   */
+  public int getNextIndex() {
+    return sequence.getNextIndex();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public double[] getVector(int size) {
+    ArgChecker.isTrue(size == dimension, "size must equal the dimension {}", dimension);
+    return nextVector();
+  }
+
+  @Override
+  public List<double[]> getVectors(int arraySize, int listSize) {
+    ArgChecker.isTrue(arraySize == dimension, "arraySize must equal the dimension {}", dimension);
+    ArgChecker.notNegative(listSize, "listSize");
+    List<double[]> result = new ArrayList<>(listSize);
+    for (int i = 0; i < listSize; i++) {
+      result.add(nextVector());
+    }
+    return result;
+  }
+
+  // the next point, mapped to normal numbers and through the bridge in place
+  private double[] nextVector() {
+    double[] x = sequence.nextVector();
+    for (int j = 0; j < dimension; j++) {
+      x[j] = NORMAL.getInverseCDF(x[j]);
+    }
+    if (bridge != null) {
+      bridge.incrementsInto(x, x);
+    }
+    return x;
+  }
+
+}
@@ -78,12 +78,45 @@ public class BaseNewtonVectorRootFinder
       Function<DoubleArray, DoubleMatrix> jacobianFunction,
       DoubleArray startPosition) {
 
-    DataBundle data = new DataBundle();
     DoubleArray y = checkInputsAndApplyFunction(function, startPosition);
+    DoubleMatrix estimate = _initializationFunction.getInitializedMatrix(jacobianFunction, startPosition);
+    return findRoot(function, jacobianFunction, startPosition, y, estimate);
+  }
+
+  @Override
+  public DoubleArray findRoot(
+      Function<DoubleArray, DoubleArray> function,
+      Function<DoubleArray, DoubleMatrix> jacobianFunction,
+      DoubleArray startPosition,
+      DoubleMatrix initialJacobian) {
+
+    ArgChecker.notNull(initialJacobian, "initialJacobian");
+    DoubleArray y = checkInputsAndApplyFunction(function, startPosition);
+    ArgChecker.isTrue(
+        initialJacobian.rowCount() == y.size() && initialJacobian.columnCount() == startPosition.size(),
+        "Initial Jacobian must be {} by {}, but was {} by {}",
+        y.size(),
+        startPosition.size(),
+        initialJacobian.rowCount(),
+        initialJacobian.columnCount());
+    // the initialization function converts the Jacobian to the form of estimate used by the update function
+    DoubleMatrix estimate = _initializationFunction.getInitializedMatrix(x -> initialJacobian, startPosition);
+    return findRoot(function, jacobianFunction, startPosition, y, estimate);
+  }
+
+  // finds the root, starting from the function value and matrix estimate at the start position
+  private DoubleArray findRoot(
+      Function<DoubleArray, DoubleArray> function,
+      Function<DoubleArray, DoubleMatrix> jacobianFunction,
+      DoubleArray startPosition,
+      DoubleArray y,
+      DoubleMatrix initialEstimate) {
+
+    DataBundle data = new DataBundle();
     data.setX(startPosition);
     data.setY(y);
     data.setG0(_algebra.getInnerProduct(y, y));
-    DoubleMatrix estimate = _initializationFunction.getInitializedMatrix(jacobianFunction, startPosition);
+    DoubleMatrix estimate = initialEstimate;
 
     if (!getNextPosition(function, estimate, data)) {
       if (isConverged(data)) {
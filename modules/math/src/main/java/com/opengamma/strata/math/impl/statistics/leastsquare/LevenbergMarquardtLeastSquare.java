@@ -0,0 +1,310 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.statistics.leastsquare;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.MathException;
+import com.opengamma.strata.math.impl.linearalgebra.DecompositionFactory;
+import com.opengamma.strata.math.impl.linearalgebra.LUDecompositionOpenGamma;
+import com.opengamma.strata.math.impl.linearalgebra.LUDecompositionOpenGammaResult;
+import com.opengamma.strata.math.linearalgebra.Decomposition;
+import com.opengamma.strata.math.linearalgebra.DecompositionResult;
+
+/**
+ * Non linear least square calculator using the Levenberg-Marquardt method on preallocated arrays.
+ * <p>
+ * The model writes its values and Jacobian into arrays supplied by the calculator, which are allocated once per fit
+ * and reused in every iteration. The damped normal equations are solved by LU decomposition in place.
+ * This suits small problems that are solved many times, such as the calibration of smile models.
+ * <p>
+ * The iteration is the same as in {@link NonLinearLeastSquare}, but no check is made for saddle points
+ * at convergence, as that requires the second derivatives of the model.
+ * The decomposition is only used to compute the covariance and inverse Jacobian of the result,
+ * and for any iteration in which the damped curvature matrix is singular.
+ * <p>
+ * This class is thread-safe, with each fit using its own arrays.
+ */
+public class LevenbergMarquardtLeastSquare {
+
+  private static final int MAX_ATTEMPTS = 10000;
+  private static final Function<DoubleArray, Boolean> UNCONSTRAINED = x -> true;
+  private static final LUDecompositionOpenGamma LU = new LUDecompositionOpenGamma();
+
+  private final double _eps;
+  private final Decomposition<?> _decomposition;
+
+  /**
+   * The model, as a function of its parameters only, writing its values and Jacobian into the arrays provided.
+   */
+  @FunctionalInterface
+  public interface Model {
+
+    /**
+     * Evaluates the model.
+     * <p>
+     * The arrays are owned by the caller and are overwritten on each call.
+     * The parameter array must not be altered.
+     *
+     * @param parameters  the model parameters
+     * @param values  the array to write the model values to
+     * @param jacobian  the array to write the sensitivities of the model values to the parameters to,
+     *   with one row per value
+     */
+    void evaluate(double[] parameters, double[] values, double[][] jacobian);
+  }
+
+  /**
+   * Creates an instance using the OpenGamma SV decomposition and a tolerance of 1e-8.
+   */
+  public LevenbergMarquardtLeastSquare() {
+    this(DecompositionFactory.SV_OG, 1e-8);
+  }
+
+  /**
+   * Creates an instance.
+   *
+   * @param decomposition  the decomposition used for the covariance and inverse Jacobian
+   * @param eps  the relative tolerance on the change in chi-square for convergence
+   */
+  public LevenbergMarquardtLeastSquare(Decomposition<?> decomposition, double eps) {
+    _decomposition = ArgChecker.notNull(decomposition, "decomposition");
+    _eps = ArgChecker.notNegativeOrZero(eps, "eps");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Fits the model to the observed values.
+   *
+   * @param observedValues  the set of measurement values
+   * @param sigma  the set of measurement errors
+   * @param model  the model as a function of its parameters only
+   * @param startPos  the initial value of the parameters
+   * @return the fitted parameters
+   */
+  public LeastSquareResults solve(DoubleArray observedValues, DoubleArray sigma, Model model, DoubleArray startPos) {
+    return solve(observedValues, sigma, model, startPos, UNCONSTRAINED, null);
+  }
+
+  /**
+   * Fits the model to the observed values, subject to constraints and a maximum step.
+   *
+   * @param observedValues  the set of measurement values
+   * @param sigma  the set of measurement errors
+   * @param model  the model as a function of its parameters only
+   * @param startPos  the initial value of the parameters
+   * @param constraints  a function that returns true if the trial point is within the constraints of the model
+   * @param maxJumps  the maximum absolute allowed step in each direction in each iteration,
+   *   null if the step is not limited
+   * @return the fitted parameters
+   */
+  public LeastSquareResults solve(
+      DoubleArray observedValues,
+      DoubleArray sigma,
+      Model model,
+      DoubleArray startPos,
+      Function<DoubleArray, Boolean> constraints,
+      DoubleArray maxJumps) {
+
+    ArgChecker.notNull(observedValues, "observedValues");
+    ArgChecker.notNull(sigma, "sigma");
+    ArgChecker.notNull(model, "model");
+    ArgChecker.notNull(startPos, "startPos");
+    ArgChecker.notNull(constraints, "constraints");
+    int nObs = observedValues.size();
+    int nParms = startPos.size();
+    ArgChecker.isTrue(nObs == sigma.size(), "observedValues and sigma must be same length");
+    ArgChecker.isTrue(nObs >= nParms,
+        "must have data points greater or equal to number of parameters. #date points = {}, #parameters = {}", nObs, nParms);
+    ArgChecker.isTrue(maxJumps == null || maxJumps.size() == nParms, "maxJumps must be same length as startPos");
+    ArgChecker.isTrue(constraints.apply(startPos),
+        "The inital value of the parameters (startPos) is {} - this is not an allowed value", startPos);
+
+    double[] observed = observedValues.toArrayUnsafe();
+    double[] sigmas = sigma.toArrayUnsafe();
+    // the workspace, with the trial arrays swapped in when a step is accepted
+    double[] theta = startPos.toArray();
+    double[] trialTheta = new double[nParms];
+    double[] deltaTheta = new double[nParms];
+    double[] values = new double[nObs];
+    double[] trialValues = new double[nObs];
+    double[] error = new double[nObs];
+    double[] trialError = new double[nObs];
+    double[][] jacobian = new double[nObs][nParms];
+    double[][] trialJacobian = new double[nObs][nParms];
+    double[][] alpha = new double[nParms][nParms];
+    double[][] modifiedAlpha = new double[nParms][nParms];
+    double[] beta = new double[nParms];
+
+    model.evaluate(theta, values, jacobian);
+    double oldChiSqr = weighResiduals(observed, sigmas, values, jacobian, error);
+    // If we start at the solution we are done
+    if (oldChiSqr == 0d) {
+      return finish(oldChiSqr, jacobian, 0d, theta, sigmas);
+    }
+    curvature(jacobian, alpha);
+    gradient(error, jacobian, beta);
+
+    double lambda = 0d;
+    for (int count = 0; count < MAX_ATTEMPTS; count++) {
+      solveStep(alpha, lambda, beta, modifiedAlpha, deltaTheta);
+      for (int i = 0; i < nParms; i++) {
+        trialTheta[i] = theta[i] + deltaTheta[i];
+      }
+      // acceptable step is found
+      if (!allowJump(deltaTheta, maxJumps) || !constraints.apply(DoubleArray.copyOf(trialTheta))) {
+        lambda = increaseLambda(lambda);
+        continue;
+      }
+      model.evaluate(trialTheta, trialValues, trialJacobian);
+      double newChiSqr = weighResiduals(observed, sigmas, trialValues, trialJacobian, trialError);
+
+      // Check for convergence when no improvement in chiSqr occurs
+      // as in NonLinearLeastSquare, the result uses the damped curvature at the last accepted point,
+      // except for an exact fit to the data
+      if (Math.abs(newChiSqr - oldChiSqr) / (1 + oldChiSqr) < _eps) {
+        return finish(newChiSqr, jacobian, newChiSqr < _eps ? 0d : lambda, trialTheta, sigmas);
+      }
+      if (newChiSqr < oldChiSqr) {
+        lambda = decreaseLambda(lambda);
+        double[] tempTheta = theta;
+        theta = trialTheta;
+        trialTheta = tempTheta;
+        double[] tempValues = values;
+        values = trialValues;
+        trialValues = tempValues;
+        double[] tempError = error;
+        error = trialError;
+        trialError = tempError;
+        double[][] tempJacobian = jacobian;
+        jacobian = trialJacobian;
+        trialJacobian = tempJacobian;
+        curvature(jacobian, alpha);
+        gradient(error, jacobian, beta);
+        oldChiSqr = newChiSqr;
+      } else {
+        lambda = increaseLambda(lambda);
+      }
+    }
+    throw new MathException("Could not converge in " + MAX_ATTEMPTS + " attempts");
+  }
+
+  //-------------------------------------------------------------------------
+  // solves the damped normal equations, falling back to the decomposition if they are singular
+  private void solveStep(double[][] alpha, double lambda, double[] beta, double[][] modifiedAlpha, double[] deltaTheta) {
+    int m = alpha.length;
+    double onePLambda = 1d + lambda;
+    for (int i = 0; i < m; i++) {
+      System.arraycopy(alpha[i], 0, modifiedAlpha[i], 0, m);
+      modifiedAlpha[i][i] *= onePLambda;
+    }
+    try {
+      ((LUDecompositionOpenGammaResult) LU.applyInPlace(modifiedAlpha)).solveInto(beta, deltaTheta);
+    } catch (IllegalArgumentException ex) {
+      DoubleMatrix matrix = DoubleMatrix.of(m, m, (i, j) -> i == j ? alpha[i][j] * onePLambda : alpha[i][j]);
+      try {
+        double[] solution = _decomposition.apply(matrix).solve(beta);
+        System.arraycopy(solution, 0, deltaTheta, 0, m);
+      } catch (Exception e) {
+        throw new MathException(e);
+      }
+    }
+  }
+
+  // writes the weighted residuals, scales the rows of the Jacobian by the inverse errors and returns the chi-square
+  private static double weighResiduals(
+      double[] observed,
+      double[] sigma,
+      double[] values,
+      double[][] jacobian,
+      double[] error) {
+
+    double chiSqr = 0d;
+    for (int i = 0; i < observed.length; i++) {
+      double weightedError = (observed[i] - values[i]) / sigma[i];
+      error[i] = weightedError;
+      chiSqr += weightedError * weightedError;
+      double sigmaInv = 1d / sigma[i];
+      double[] row = jacobian[i];
+      for (int j = 0; j < row.length; j++) {
+        row[j] *= sigmaInv;
+      }
+    }
+    return chiSqr;
+  }
+
+  // writes the curvature matrix, the Jacobian transpose multiplied by the Jacobian
+  private static double[][] curvature(double[][] jacobian, double[][] alpha) {
+    int m = alpha.length;
+    for (int j = 0; j < m; j++) {
+      for (int k = 0; k <= j; k++) {
+        double sum = 0d;
+        for (double[] row : jacobian) {
+          sum += row[j] * row[k];
+        }
+        alpha[j][k] = sum;
+        alpha[k][j] = sum;
+      }
+    }
+    return alpha;
+  }
+
+  // writes the gradient of the chi-square (up to a factor of -2), the error multiplied by the Jacobian
+  private static void gradient(double[] error, double[][] jacobian, double[] beta) {
+    Arrays.fill(beta, 0d);
+    for (int i = 0; i < error.length; i++) {
+      double e = error[i];
+      double[] row = jacobian[i];
+      for (int j = 0; j < beta.length; j++) {
+        beta[j] += e * row[j];
+      }
+    }
+  }
+
+  private static boolean allowJump(double[] deltaTheta, DoubleArray maxJumps) {
+    if (maxJumps == null) {
+      return true;
+    }
+    for (int i = 0; i < deltaTheta.length; i++) {
+      if (Math.abs(deltaTheta[i]) > maxJumps.get(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static double decreaseLambda(double lambda) {
+    return lambda / 10;
+  }
+
+  private static double increaseLambda(double lambda) {
+    if (lambda == 0d) { // this will happen the first time a full quadratic step fails
+      return 0.1;
+    }
+    return lambda * 10;
+  }
+
+  // the covariance and inverse Jacobian use the decomposition, as the curvature matrix may be singular
+  private LeastSquareResults finish(double chiSqr, double[][] jacobian, double lambda, double[] theta, double[] sigma) {
+    int n = jacobian.length;
+    int m = theta.length;
+    double[][] curvature = curvature(jacobian, new double[m][m]);
+    for (int i = 0; i < m; i++) {
+      curvature[i][i] *= 1d + lambda;
+    }
+    DoubleMatrix alpha = DoubleMatrix.ofUnsafe(curvature);
+    DecompositionResult decmp = _decomposition.apply(alpha);
+    DoubleMatrix covariance = decmp.solve(DoubleMatrix.identity(m));
+    DoubleMatrix bTranspose = DoubleMatrix.of(m, n, (k, i) -> jacobian[i][k] / sigma[i]);
+    DoubleMatrix inverseJacobian = decmp.solve(bTranspose);
+    return new LeastSquareResults(chiSqr, DoubleArray.copyOf(theta), covariance, inverseJacobian);
+  }
+
+}
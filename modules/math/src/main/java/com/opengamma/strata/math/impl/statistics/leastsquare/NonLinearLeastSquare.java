@@ -47,7 +47,7 @@ public class NonLinearLeastSquare {
   private final MatrixAlgebra _algebra;
 
   public NonLinearLeastSquare() {
-    this(DecompositionFactory.SV_COMMONS, MatrixAlgebraFactory.OG_ALGEBRA, 1e-8);
+    this(DecompositionFactory.SV_OG, MatrixAlgebraFactory.getConfiguredMatrixAlgebra(MatrixAlgebraFactory.OG_ALGEBRA), 1e-8);
   }
 
   public NonLinearLeastSquare(Decomposition<?> decomposition, MatrixAlgebra algebra, double eps) {
@@ -447,6 +447,7 @@ public class NonLinearLeastSquare {
           return finish(alpha0, decmp, newChiSqr, jacobian, trialTheta, sigma);
         }
 
+        // the sign test below relies on the singular vectors of the Commons decomposition
         SVDecompositionCommons svd = (SVDecompositionCommons) DecompositionFactory.SV_COMMONS;
 
         // add the second derivative information to the Hessian matrix to check we are not at a local maximum or saddle
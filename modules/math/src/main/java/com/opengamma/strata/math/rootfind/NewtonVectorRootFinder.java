@@ -95,4 +95,31 @@ public interface NewtonVectorRootFinder {
       Function<DoubleArray, DoubleMatrix> jacobianFunction,
       DoubleArray startPosition);
 
+  /**
+   * Finds the root from the specified start position, using a known estimate of the Jacobian at that position.
+   * <p>
+   * This applies the specified function and Jacobian function to find the root.
+   * The initial Jacobian is used in place of evaluating the Jacobian function at the start position.
+   * This is useful when the problem has been solved before for similar inputs, such that the Jacobian
+   * at the previous root is a good estimate of the Jacobian at the start position.
+   * The Jacobian function is still used if the root finder needs to recalculate the Jacobian.
+   * <p>
+   * The default implementation ignores the initial Jacobian.
+   * 
+   * @param function   the vector function
+   * @param jacobianFunction  the function to calculate the Jacobian
+   * @param startPosition  the start position of the root finder for
+   * @param initialJacobian  the estimate of the Jacobian at the start position
+   * @return the vector root of the collection of functions
+   * @throws MathException if unable to find the root, such as if unable to converge
+   */
+  public default DoubleArray findRoot(
+      Function<DoubleArray, DoubleArray> function,
+      Function<DoubleArray, DoubleMatrix> jacobianFunction,
+      DoubleArray startPosition,
+      DoubleMatrix initialJacobian) {
+
+    return findRoot(function, jacobianFunction, startPosition);
+  }
+
 }
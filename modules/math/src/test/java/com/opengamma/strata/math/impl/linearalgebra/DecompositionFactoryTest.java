@@ -34,6 +34,12 @@ public class DecompositionFactoryTest {
         DecompositionFactory.getDecompositionName(DecompositionFactory.getDecomposition(DecompositionFactory.QR_COMMONS_NAME)));
     assertThat(DecompositionFactory.SV_COMMONS_NAME).isEqualTo(
         DecompositionFactory.getDecompositionName(DecompositionFactory.getDecomposition(DecompositionFactory.SV_COMMONS_NAME)));
+    assertThat(DecompositionFactory.LU_OG_NAME).isEqualTo(
+        DecompositionFactory.getDecompositionName(DecompositionFactory.getDecomposition(DecompositionFactory.LU_OG_NAME)));
+    assertThat(DecompositionFactory.QR_OG_NAME).isEqualTo(
+        DecompositionFactory.getDecompositionName(DecompositionFactory.getDecomposition(DecompositionFactory.QR_OG_NAME)));
+    assertThat(DecompositionFactory.SV_OG_NAME).isEqualTo(
+        DecompositionFactory.getDecompositionName(DecompositionFactory.getDecomposition(DecompositionFactory.SV_OG_NAME)));
   }
 
 }
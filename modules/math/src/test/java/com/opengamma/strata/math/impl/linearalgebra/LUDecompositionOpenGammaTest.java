@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.util.AssertMatrix;
+
+/**
+ * Test {@link LUDecompositionOpenGamma}.
+ */
+public class LUDecompositionOpenGammaTest {
+
+  private static final LUDecompositionOpenGamma LU = new LUDecompositionOpenGamma();
+  private static final LUDecompositionCommons LU_COMMONS = new LUDecompositionCommons();
+  private static final DoubleMatrix A = DoubleMatrix.copyOf(new double[][] {
+      {100, 9, 10, 1}, {9, 50, 19, 15}, {10, 11, 29, 21}, {8, 10, 20, 28}});
+  private static final DoubleMatrix B = DoubleMatrix.copyOf(new double[][] {
+      {1, 2, -1}, {4, 3, 1}, {2, 2, 3}});
+  private static final DoubleMatrix SINGULAR = DoubleMatrix.copyOf(new double[][] {
+      {1000000, 2, 3}, {1000000, 2, 3}, {4, 5, 6}});
+  private static final DoubleArray RHS_VECTOR = DoubleArray.of(1, 2, 3, 4);
+  private static final DoubleMatrix RHS_MATRIX = DoubleMatrix.copyOf(new double[][] {{1, 2}, {3, 4}, {5, 6}, {7, 8}});
+  private static final double TOL = 1e-12;
+
+  @Test
+  public void test_null() {
+    assertThatIllegalArgumentException().isThrownBy(() -> LU.apply((DoubleMatrix) null));
+  }
+
+  @Test
+  public void test_invalid() {
+    assertThatIllegalArgumentException().isThrownBy(() -> LU.apply(SINGULAR));
+    assertThatIllegalArgumentException().isThrownBy(() -> LU.apply(DoubleMatrix.filled(2, 3)));
+  }
+
+  @Test
+  public void test_matchesCommons() {
+    for (DoubleMatrix matrix : new DoubleMatrix[] {A, B}) {
+      LUDecompositionResult test = LU.apply(matrix);
+      LUDecompositionResult expected = LU_COMMONS.apply(matrix);
+      AssertMatrix.assertEqualsMatrix(test.getL(), expected.getL(), TOL);
+      AssertMatrix.assertEqualsMatrix(test.getU(), expected.getU(), TOL);
+      assertThat(test.getP()).isEqualTo(expected.getP());
+      assertThat(test.getPivot()).isEqualTo(expected.getPivot());
+      assertThat(test.getDeterminant()).isCloseTo(expected.getDeterminant(), offset(TOL * Math.abs(expected.getDeterminant())));
+    }
+  }
+
+  @Test
+  public void test_solve() {
+    LUDecompositionResult test = LU.apply(A);
+    LUDecompositionResult expected = LU_COMMONS.apply(A);
+    AssertMatrix.assertEqualsVectors(test.solve(RHS_VECTOR), expected.solve(RHS_VECTOR), TOL);
+    AssertMatrix.assertEqualsMatrix(test.solve(RHS_MATRIX), expected.solve(RHS_MATRIX), TOL);
+    assertThatIllegalArgumentException().isThrownBy(() -> test.solve(DoubleArray.of(1, 2)));
+  }
+
+  @Test
+  public void test_inPlace() {
+    double[][] workspace = A.toArray();
+    LUDecompositionOpenGammaResult test = (LUDecompositionOpenGammaResult) LU.applyInPlace(workspace);
+    double[] expected = LU.apply(A).solve(RHS_VECTOR.toArray());
+    double[] result = new double[4];
+    test.solveInto(RHS_VECTOR.toArray(), result);
+    assertThat(result).isEqualTo(expected);
+    double[] rhs = RHS_VECTOR.toArray();
+    test.solveInto(rhs, rhs);
+    assertThat(rhs).isEqualTo(expected);
+  }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.matrix.MatrixAlgebra;
+import com.opengamma.strata.math.impl.matrix.OGMatrixAlgebra;
+import com.opengamma.strata.math.impl.util.AssertMatrix;
+
+/**
+ * Test {@link QRDecompositionOpenGamma}.
+ */
+public class QRDecompositionOpenGammaTest {
+
+  private static final MatrixAlgebra ALGEBRA = new OGMatrixAlgebra();
+  private static final QRDecompositionOpenGamma QR = new QRDecompositionOpenGamma();
+  private static final QRDecompositionCommons QR_COMMONS = new QRDecompositionCommons();
+  private static final DoubleMatrix SQUARE = DoubleMatrix.copyOf(new double[][] {
+      {1, 2, 3}, {4, 5, 6}, {7, 8, 10}});
+  private static final DoubleMatrix TALL = DoubleMatrix.copyOf(new double[][] {
+      {1, 2}, {-3, 4}, {5, 7}, {2, -1}});
+  private static final DoubleMatrix WIDE = TALL.transpose();
+  private static final double TOL = 1e-12;
+
+  @Test
+  public void test_null() {
+    assertThatIllegalArgumentException().isThrownBy(() -> QR.apply((DoubleMatrix) null));
+  }
+
+  @Test
+  public void test_matchesCommons() {
+    for (DoubleMatrix matrix : new DoubleMatrix[] {SQUARE, TALL, WIDE}) {
+      QRDecompositionResult test = QR.apply(matrix);
+      QRDecompositionResult expected = QR_COMMONS.apply(matrix);
+      AssertMatrix.assertEqualsMatrix(test.getQ(), expected.getQ(), TOL);
+      AssertMatrix.assertEqualsMatrix(test.getQT(), expected.getQT(), TOL);
+      AssertMatrix.assertEqualsMatrix(test.getR(), expected.getR(), TOL);
+      AssertMatrix.assertEqualsMatrix((DoubleMatrix) ALGEBRA.multiply(test.getQ(), test.getR()), matrix, TOL);
+    }
+  }
+
+  @Test
+  public void test_solve() {
+    for (DoubleMatrix matrix : new DoubleMatrix[] {SQUARE, TALL}) {
+      QRDecompositionResult test = QR.apply(matrix);
+      QRDecompositionResult expected = QR_COMMONS.apply(matrix);
+      DoubleArray rhs = DoubleArray.of(matrix.rowCount(), i -> i + 1d);
+      DoubleMatrix rhsMatrix = DoubleMatrix.of(matrix.rowCount(), 2, (i, j) -> i - j * 0.5);
+      AssertMatrix.assertEqualsVectors(test.solve(rhs), expected.solve(rhs), TOL);
+      AssertMatrix.assertEqualsMatrix(test.solve(rhsMatrix), expected.solve(rhsMatrix), TOL);
+    }
+  }
+
+  @Test
+  public void test_singular() {
+    QRDecompositionResult test = QR.apply(DoubleMatrix.copyOf(new double[][] {{1, 0}, {2, 0}}));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.solve(DoubleArray.of(1, 2)));
+  }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.matrix.MatrixAlgebra;
+import com.opengamma.strata.math.impl.matrix.OGMatrixAlgebra;
+import com.opengamma.strata.math.impl.util.AssertMatrix;
+import com.opengamma.strata.math.linearalgebra.Decomposition;
+
+/**
+ * Test {@link SVDecompositionOpenGamma}.
+ */
+public class SVDecompositionOpenGammaTest extends SVDecompositionCalculationTestCase {
+
+  private static final MatrixAlgebra ALGEBRA = new OGMatrixAlgebra();
+  private static final Decomposition<SVDecompositionResult> SVD = new SVDecompositionOpenGamma();
+  private static final Decomposition<SVDecompositionResult> SVD_COMMONS = new SVDecompositionCommons();
+  private static final DoubleMatrix TALL = DoubleMatrix.copyOf(new double[][] {
+      {1, 2, 0.5}, {-3, 4, 1}, {5, 7, -2}, {2, -1, 3}, {0, 1, 1}});
+  private static final DoubleMatrix RANK_DEFICIENT = DoubleMatrix.copyOf(new double[][] {
+      {1, 2, 3, 4}, {2, 4, 6, 8}, {1, 0, 1, 0}});
+  private static final double TOL = 1e-12;
+
+  @Override
+  protected MatrixAlgebra getAlgebra() {
+    return ALGEBRA;
+  }
+
+  @Override
+  protected Decomposition<SVDecompositionResult> getSVD() {
+    return SVD;
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_matchesCommons() {
+    for (DoubleMatrix matrix : new DoubleMatrix[] {TALL, TALL.transpose(), RANK_DEFICIENT}) {
+      SVDecompositionResult test = SVD.apply(matrix);
+      SVDecompositionResult expected = SVD_COMMONS.apply(matrix);
+      AssertMatrix.assertEqualsVectors(
+          DoubleArray.ofUnsafe(test.getSingularValues()), DoubleArray.ofUnsafe(expected.getSingularValues()), TOL);
+      assertThat(test.getRank()).isEqualTo(expected.getRank());
+      assertThat(test.getNorm()).isCloseTo(expected.getNorm(), offset(TOL));
+      assertThat(test.getU().rowCount()).isEqualTo(expected.getU().rowCount());
+      assertThat(test.getU().columnCount()).isEqualTo(expected.getU().columnCount());
+      assertThat(test.getV().rowCount()).isEqualTo(expected.getV().rowCount());
+      assertThat(test.getV().columnCount()).isEqualTo(expected.getV().columnCount());
+      DoubleMatrix recovered = (DoubleMatrix) ALGEBRA.multiply(ALGEBRA.multiply(test.getU(), test.getS()), test.getVT());
+      AssertMatrix.assertEqualsMatrix(recovered, matrix, 1e-10);
+      DoubleArray rhs = DoubleArray.of(matrix.rowCount(), i -> i + 1d);
+      DoubleMatrix rhsMatrix = DoubleMatrix.of(matrix.rowCount(), 2, (i, j) -> i - j * 0.5);
+      AssertMatrix.assertEqualsVectors(test.solve(rhs), expected.solve(rhs), 1e-10);
+      AssertMatrix.assertEqualsMatrix(test.solve(rhsMatrix), expected.solve(rhsMatrix), 1e-10);
+    }
+  }
+
+  @Test
+  public void test_orthonormal() {
+    SVDecompositionResult test = SVD.apply(RANK_DEFICIENT);
+    AssertMatrix.assertEqualsMatrix((DoubleMatrix) ALGEBRA.multiply(test.getUT(), test.getU()), DoubleMatrix.identity(3), TOL);
+    AssertMatrix.assertEqualsMatrix((DoubleMatrix) ALGEBRA.multiply(test.getVT(), test.getV()), DoubleMatrix.identity(3), TOL);
+  }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.matrix;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.linearalgebra.TridiagonalMatrix;
+import com.opengamma.strata.math.impl.util.AssertMatrix;
+
+/**
+ * Test {@link BlockedMatrixAlgebra}.
+ */
+public class BlockedMatrixAlgebraTest {
+
+  private static final BlockedMatrixAlgebra ALGEBRA = MatrixAlgebraFactory.BLOCKED_ALGEBRA;
+  private static final MatrixAlgebra OG = MatrixAlgebraFactory.OG_ALGEBRA;
+  private static final MatrixAlgebra COMMONS = MatrixAlgebraFactory.COMMONS_ALGEBRA;
+  private static final DoubleMatrix A = DoubleMatrix.copyOf(
+      new double[][] {{1., 2., 3.}, {-1., 1., 0.}, {-2., 1., -2.}});
+  private static final DoubleMatrix B = DoubleMatrix.copyOf(new double[][] {{1, 1}, {2, -2}, {3, 1}});
+  private static final DoubleArray E = DoubleArray.of(-1, 2, 3);
+  private static final double TOL = 1e-12;
+
+  private static DoubleMatrix random(Random random, int rows, int columns) {
+    return DoubleMatrix.of(rows, columns, (i, j) -> random.nextDouble() - 0.5);
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_multiply_matchesOG() {
+    Random random = new Random(1);
+    DoubleMatrix m1 = random(random, 150, 130);
+    DoubleMatrix m2 = random(random, 130, 70);
+    DoubleArray v1 = DoubleArray.of(130, i -> random.nextDouble());
+    DoubleArray v2 = DoubleArray.of(150, i -> random.nextDouble());
+    assertThat(ALGEBRA.multiply(m1, m2)).isEqualTo(OG.multiply(m1, m2));
+    assertThat(ALGEBRA.multiply(m1, v1)).isEqualTo(OG.multiply(m1, v1));
+    assertThat(ALGEBRA.multiply(v2, m1)).isEqualTo(OG.multiply(v2, m1));
+    assertThat(ALGEBRA.multiply(A, B)).isEqualTo(OG.multiply(A, B));
+    assertThat(ALGEBRA.matrixTransposeMultiplyMatrix(m1)).isEqualTo(OG.matrixTransposeMultiplyMatrix(m1));
+    assertThat(ALGEBRA.getTranspose(m1)).isEqualTo(m1.transpose());
+  }
+
+  @Test
+  public void test_multiply_tridiagonal() {
+    TridiagonalMatrix tri = new TridiagonalMatrix(
+        new double[] {1, 2, 3}, new double[] {4, 5}, new double[] {6, 7});
+    assertThat(ALGEBRA.multiply(tri, E)).isEqualTo(OG.multiply(tri, E));
+  }
+
+  @Test
+  public void test_multiply_sizeMismatch() {
+    assertThatIllegalArgumentException().isThrownBy(() -> ALGEBRA.multiply(B, A));
+    assertThatIllegalArgumentException().isThrownBy(() -> ALGEBRA.multiply(B, E));
+    assertThatIllegalArgumentException().isThrownBy(() -> ALGEBRA.multiplyInto(A, B, new double[3][3]));
+    assertThatIllegalArgumentException().isThrownBy(() -> ALGEBRA.multiplyInto(A, E, new double[2]));
+  }
+
+  @Test
+  public void test_multiplyInto() {
+    double[][] result = new double[][] {{9, 9}, {9, 9}, {9, 9}};
+    ALGEBRA.multiplyInto(A, B, result);
+    assertThat(DoubleMatrix.ofUnsafe(result)).isEqualTo(OG.multiply(A, B));
+    double[] vector = new double[] {9, 9, 9};
+    ALGEBRA.multiplyInto(A, E, vector);
+    assertThat(DoubleArray.ofUnsafe(vector)).isEqualTo(OG.multiply(A, E));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_inverse() {
+    Random random = new Random(2);
+    DoubleMatrix m = random(random, 90, 90);
+    AssertMatrix.assertEqualsMatrix(ALGEBRA.getInverse(m), COMMONS.getInverse(m), 1e-9);
+    AssertMatrix.assertEqualsMatrix(ALGEBRA.getInverse(A), COMMONS.getInverse(A), TOL);
+  }
+
+  @Test
+  public void test_solve() {
+    Random random = new Random(3);
+    DoubleMatrix m = random(random, 40, 40);
+    DoubleArray b = DoubleArray.of(40, i -> random.nextDouble());
+    DoubleArray x = ALGEBRA.solve(m, b);
+    AssertMatrix.assertEqualsVectors((DoubleArray) ALGEBRA.multiply(m, x), b, 1e-10);
+    DoubleMatrix bs = random(random, 40, 3);
+    DoubleMatrix xs = ALGEBRA.solve(m, bs);
+    AssertMatrix.assertEqualsMatrix((DoubleMatrix) ALGEBRA.multiply(m, xs), bs, 1e-10);
+    double[][] workspace = m.toArray();
+    double[] rhs = b.toArray();
+    ALGEBRA.solveInPlace(workspace, rhs);
+    assertThat(DoubleArray.ofUnsafe(rhs)).isEqualTo(x);
+  }
+
+  @Test
+  public void test_singular() {
+    DoubleMatrix singular = DoubleMatrix.copyOf(new double[][] {{1, 2}, {2, 4}});
+    assertThat(ALGEBRA.getDeterminant(singular)).isEqualTo(0d);
+    assertThatIllegalArgumentException().isThrownBy(() -> ALGEBRA.getInverse(singular));
+    assertThatIllegalArgumentException().isThrownBy(() -> ALGEBRA.solve(singular, DoubleArray.of(1, 2)));
+    assertThatIllegalArgumentException().isThrownBy(() -> ALGEBRA.getInverse(B));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_determinant() {
+    assertThat(ALGEBRA.getDeterminant(A)).isCloseTo(COMMONS.getDeterminant(A), offset(TOL));
+    Random random = new Random(4);
+    DoubleMatrix m = random(random, 20, 20);
+    assertThat(ALGEBRA.getDeterminant(m)).isCloseTo(COMMONS.getDeterminant(m), offset(1e-10));
+  }
+
+  @Test
+  public void test_power() {
+    AssertMatrix.assertEqualsMatrix(ALGEBRA.getPower(A, 0), DoubleMatrix.identity(3), 0d);
+    AssertMatrix.assertEqualsMatrix(ALGEBRA.getPower(A, 1), A, 0d);
+    DoubleMatrix expected = (DoubleMatrix) OG.multiply(A, OG.multiply(A, OG.multiply(A, OG.multiply(A, A))));
+    AssertMatrix.assertEqualsMatrix(ALGEBRA.getPower(A, 5), expected, TOL);
+    assertThatIllegalArgumentException().isThrownBy(() -> ALGEBRA.getPower(A, -1));
+  }
+
+  @Test
+  public void test_norms() {
+    assertThat(ALGEBRA.getNorm1(A)).isCloseTo(COMMONS.getNorm1(A), offset(TOL));
+    assertThat(ALGEBRA.getNorm1(E)).isCloseTo(6d, offset(TOL));
+    assertThat(ALGEBRA.getNorm2(A)).isCloseTo(COMMONS.getNorm2(A), offset(TOL));
+    assertThat(ALGEBRA.getNorm2(E)).isCloseTo(Math.sqrt(14d), offset(TOL));
+    assertThat(ALGEBRA.getNormInfinity(A)).isCloseTo(COMMONS.getNormInfinity(A), offset(TOL));
+    assertThat(ALGEBRA.getNormInfinity(E)).isCloseTo(3d, offset(TOL));
+    assertThat(ALGEBRA.getCondition(A)).isCloseTo(COMMONS.getCondition(A), offset(TOL));
+    assertThat(ALGEBRA.getInnerProduct(E, E)).isCloseTo(14d, offset(TOL));
+  }
+
+}
@@ -104,6 +104,44 @@ public class MatrixAlgebraFactoryTest {
     assertThat(MatrixAlgebraFactory.getMatrixAlgebraName(MatrixAlgebraFactory.COMMONS_ALGEBRA))
         .isEqualTo(MatrixAlgebraFactory.COMMONS);
     assertThat(MatrixAlgebraFactory.getMatrixAlgebraName(MatrixAlgebraFactory.OG_ALGEBRA)).isEqualTo(MatrixAlgebraFactory.OG);
+    assertThat(MatrixAlgebraFactory.getMatrixAlgebra(MatrixAlgebraFactory.BLOCKED))
+        .isEqualTo(MatrixAlgebraFactory.BLOCKED_ALGEBRA);
+    assertThat(MatrixAlgebraFactory.getMatrixAlgebraName(MatrixAlgebraFactory.BLOCKED_ALGEBRA))
+        .isEqualTo(MatrixAlgebraFactory.BLOCKED);
+  }
+
+  @Test
+  public void testConfigured() {
+    assertThat(MatrixAlgebraFactory.getConfiguredMatrixAlgebra(MatrixAlgebraFactory.OG_ALGEBRA))
+        .isEqualTo(MatrixAlgebraFactory.OG_ALGEBRA);
+    assertThat(MatrixAlgebraFactory.getConfiguredInvertingMatrixAlgebra(MatrixAlgebraFactory.COMMONS_ALGEBRA))
+        .isEqualTo(MatrixAlgebraFactory.COMMONS_ALGEBRA);
+  }
+
+  @Test
+  public void testConfiguredProperty() {
+    String previous = System.getProperty(MatrixAlgebraFactory.ALGEBRA_PROPERTY);
+    try {
+      System.setProperty(MatrixAlgebraFactory.ALGEBRA_PROPERTY, MatrixAlgebraFactory.OG);
+      assertThat(MatrixAlgebraFactory.getConfiguredMatrixAlgebra(MatrixAlgebraFactory.COMMONS_ALGEBRA))
+          .isEqualTo(MatrixAlgebraFactory.OG_ALGEBRA);
+      assertThat(MatrixAlgebraFactory.getConfiguredInvertingMatrixAlgebra(MatrixAlgebraFactory.COMMONS_ALGEBRA))
+          .isEqualTo(MatrixAlgebraFactory.COMMONS_ALGEBRA);
+      System.setProperty(MatrixAlgebraFactory.ALGEBRA_PROPERTY, MatrixAlgebraFactory.BLOCKED);
+      assertThat(MatrixAlgebraFactory.getConfiguredMatrixAlgebra(MatrixAlgebraFactory.COMMONS_ALGEBRA))
+          .isEqualTo(MatrixAlgebraFactory.BLOCKED_ALGEBRA);
+      assertThat(MatrixAlgebraFactory.getConfiguredInvertingMatrixAlgebra(MatrixAlgebraFactory.COMMONS_ALGEBRA))
+          .isEqualTo(MatrixAlgebraFactory.BLOCKED_ALGEBRA);
+      System.setProperty(MatrixAlgebraFactory.ALGEBRA_PROPERTY, "Unknown");
+      assertThat(MatrixAlgebraFactory.getConfiguredMatrixAlgebra(MatrixAlgebraFactory.COMMONS_ALGEBRA))
+          .isEqualTo(MatrixAlgebraFactory.COMMONS_ALGEBRA);
+    } finally {
+      if (previous == null) {
+        System.clearProperty(MatrixAlgebraFactory.ALGEBRA_PROPERTY);
+      } else {
+        System.setProperty(MatrixAlgebraFactory.ALGEBRA_PROPERTY, previous);
+      }
+    }
   }
 
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import static com.opengamma.strata.math.impl.util.AssertMatrix.assertEqualsVectors;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * Test {@link BrownianBridge}.
+ */
+public class BrownianBridgeTest {
+
+  private static final DoubleArray TIMES = DoubleArray.of(0.25, 0.5, 1.0, 2.0, 3.0, 5.0, 7.0, 10.0, 15.0, 20.0, 30.0);
+  private static final BrownianBridge BRIDGE = BrownianBridge.of(TIMES);
+  private static final double TOL = 1e-12;
+
+  @Test
+  public void test_of() {
+    assertThat(BRIDGE.getDimension()).isEqualTo(TIMES.size());
+    assertThat(BRIDGE.getTimes()).isEqualTo(TIMES);
+  }
+
+  @Test
+  public void test_path_firstNumberIsTerminalValue() {
+    double[] normals = new double[TIMES.size()];
+    normals[0] = 1d;
+    DoubleArray path = BRIDGE.path(DoubleArray.ofUnsafe(normals));
+    // the path is linear in time given the terminal value
+    double terminal = Math.sqrt(30d);
+    assertEqualsVectors(path, TIMES.multipliedBy(terminal / 30d), TOL);
+  }
+
+  @Test
+  public void test_path_covariance() {
+    // the path is linear in the normal numbers, so the covariance is computed exactly from the unit vectors
+    int n = TIMES.size();
+    double[][] columns = new double[n][];
+    for (int k = 0; k < n; k++) {
+      double[] normals = new double[n];
+      normals[k] = 1d;
+      columns[k] = BRIDGE.path(DoubleArray.ofUnsafe(normals)).toArray();
+    }
+    for (int i = 0; i < n; i++) {
+      for (int j = 0; j < n; j++) {
+        double covariance = 0d;
+        for (int k = 0; k < n; k++) {
+          covariance += columns[k][i] * columns[k][j];
+        }
+        assertThat(covariance).isCloseTo(Math.min(TIMES.get(i), TIMES.get(j)), offset(TOL));
+      }
+    }
+  }
+
+  @Test
+  public void test_increments() {
+    int n = TIMES.size();
+    DoubleArray normals = DoubleArray.of(n, i -> Math.sin(3 * i + 1));
+    DoubleArray path = BRIDGE.path(normals);
+    DoubleArray increments = BRIDGE.increments(normals);
+    for (int i = 0; i < n; i++) {
+      double previousTime = i == 0 ? 0d : TIMES.get(i - 1);
+      double previousValue = i == 0 ? 0d : path.get(i - 1);
+      double expected = (path.get(i) - previousValue) / Math.sqrt(TIMES.get(i) - previousTime);
+      assertThat(increments.get(i)).isCloseTo(expected, offset(TOL));
+    }
+    // in place
+    double[] array = normals.toArray();
+    BRIDGE.incrementsInto(array, array);
+    assertEqualsVectors(DoubleArray.ofUnsafe(array), increments, 0d);
+    // bulk
+    DoubleMatrix matrix = BRIDGE.increments(DoubleMatrix.ofArrayObjects(2, n, i -> normals.multipliedBy(i + 1)));
+    assertEqualsVectors(matrix.row(0), increments, 0d);
+    assertEqualsVectors(matrix.row(1), increments.multipliedBy(2d), TOL);
+  }
+
+  @Test
+  public void test_increments_orthonormal() {
+    int n = TIMES.size();
+    double[][] columns = new double[n][];
+    for (int k = 0; k < n; k++) {
+      double[] normals = new double[n];
+      normals[k] = 1d;
+      columns[k] = BRIDGE.increments(DoubleArray.ofUnsafe(normals)).toArray();
+    }
+    for (int i = 0; i < n; i++) {
+      for (int j = 0; j < n; j++) {
+        double covariance = 0d;
+        for (int k = 0; k < n; k++) {
+          covariance += columns[k][i] * columns[k][j];
+        }
+        assertThat(covariance).isCloseTo(i == j ? 1d : 0d, offset(TOL));
+      }
+    }
+  }
+
+  @Test
+  public void test_invalid() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BrownianBridge.of(DoubleArray.EMPTY));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BrownianBridge.of(DoubleArray.of(0d, 1d)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BrownianBridge.of(DoubleArray.of(1d, 1d)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BRIDGE.path(DoubleArray.of(1d)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BRIDGE.increments(DoubleMatrix.of(1, 2, 1d, 1d)));
+  }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link PhiloxRandomEngine}.
+ */
+public class PhiloxRandomEngineTest {
+
+  @Test
+  public void test_knownAnswers() {
+    // reference values of the Random123 library
+    assertBlock(0L, 0L, 0L, 0x6627e8d5, 0xe169c58d, 0xbc57ac4c, 0x9b00dbd8);
+    assertBlock(-1L, -1L, -1L, 0x408f276d, 0x41c83b0e, 0xa20bc7c6, 0x6d5451fd);
+    assertBlock(0x85a308d3243f6a88L, 0x0370734413198a2eL, 0x299f31d0a4093822L,
+        0xd16cfe09, 0x94fdcceb, 0x5001e420, 0x24126ea1);
+  }
+
+  private static void assertBlock(long block, long stream, long key, int... expected) {
+    int[] output = new int[4];
+    PhiloxRandomEngine.generate(block, stream, key, output);
+    assertThat(output).containsExactly(expected);
+  }
+
+  @Test
+  public void test_sequence() {
+    PhiloxRandomEngine engine = PhiloxRandomEngine.of(0L);
+    int[] expected = new int[4];
+    PhiloxRandomEngine.generate(1L, 0L, 0L, expected);
+    engine.skip(4);
+    assertThat(engine.getPosition()).isEqualTo(4);
+    for (int i = 0; i < 4; i++) {
+      assertThat(engine.nextInt()).isEqualTo(expected[i]);
+    }
+  }
+
+  @Test
+  public void test_reproducible() {
+    PhiloxRandomEngine engine1 = PhiloxRandomEngine.of(123L, 7L);
+    PhiloxRandomEngine engine2 = PhiloxRandomEngine.of(99L).withStream(7L).withStream(7L);
+    PhiloxRandomEngine engine3 = PhiloxRandomEngine.of(123L).withStream(7L);
+    for (int i = 0; i < 9; i++) {
+      engine1.nextInt();
+    }
+    engine3.skip(9);
+    PhiloxRandomEngine clone = (PhiloxRandomEngine) engine1.clone();
+    for (int i = 0; i < 10; i++) {
+      int value = engine1.nextInt();
+      assertThat(engine3.nextInt()).isEqualTo(value);
+      assertThat(clone.nextInt()).isEqualTo(value);
+    }
+    assertThat(engine2.getSeed()).isEqualTo(99L);
+    assertThat(engine2.getStream()).isEqualTo(7L);
+  }
+
+  @Test
+  public void test_streams() {
+    PhiloxRandomEngine engine1 = PhiloxRandomEngine.of(123L, 0L);
+    PhiloxRandomEngine engine2 = PhiloxRandomEngine.of(123L, 1L);
+    int nbSame = 0;
+    for (int i = 0; i < 1000; i++) {
+      nbSame += engine1.nextInt() == engine2.nextInt() ? 1 : 0;
+    }
+    assertThat(nbSame).isEqualTo(0);
+  }
+
+  @Test
+  public void test_moments() {
+    PhiloxRandomEngine engine = PhiloxRandomEngine.of(2026L);
+    int n = 100000;
+    double sum = 0d;
+    double sumSq = 0d;
+    for (int i = 0; i < n; i++) {
+      double value = engine.nextDouble();
+      assertThat(value).isStrictlyBetween(0d, 1d);
+      sum += value;
+      sumSq += value * value;
+    }
+    double mean = sum / n;
+    assertThat(mean).isCloseTo(0.5, offset(0.005));
+    assertThat(sumSq / n - mean * mean).isCloseTo(1d / 12d, offset(0.002));
+  }
+
+  @Test
+  public void test_normalRandomNumberGenerator() {
+    NormalRandomNumberGenerator generator1 = new NormalRandomNumberGenerator(0, 1, PhiloxRandomEngine.of(1L, 2L));
+    NormalRandomNumberGenerator generator2 = new NormalRandomNumberGenerator(0, 1, PhiloxRandomEngine.of(1L, 2L));
+    assertThat(generator1.getMatrix(5, 3)).isEqualTo(generator2.getMatrix(5, 3));
+  }
+
+  @Test
+  public void test_invalid() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> PhiloxRandomEngine.of(1L).skip(-1));
+  }
+
+}
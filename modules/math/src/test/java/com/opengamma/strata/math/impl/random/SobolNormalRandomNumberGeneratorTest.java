@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * Test {@link SobolNormalRandomNumberGenerator}.
+ */
+public class SobolNormalRandomNumberGeneratorTest {
+
+  @Test
+  public void test_firstPoints() {
+    SobolNormalRandomNumberGenerator generator = new SobolNormalRandomNumberGenerator(2);
+    assertThat(generator.getDimension()).isEqualTo(2);
+    assertThat(generator.getNextIndex()).isEqualTo(1);
+    // the origin is skipped, the next points are (1/2, 1/2), (3/4, 1/4), (1/4, 3/4)
+    double[] first = generator.getVector(2);
+    assertThat(first[0]).isCloseTo(0d, offset(1e-12));
+    assertThat(first[1]).isCloseTo(0d, offset(1e-12));
+    double quartile = -0.6744897501960817;
+    double[] second = generator.getVector(2);
+    assertThat(second[0]).isCloseTo(-quartile, offset(1e-12));
+    assertThat(second[1]).isCloseTo(quartile, offset(1e-12));
+    assertThat(generator.getNextIndex()).isEqualTo(3);
+  }
+
+  @Test
+  public void test_blocks() {
+    SobolNormalRandomNumberGenerator generator = new SobolNormalRandomNumberGenerator(5);
+    DoubleMatrix all = generator.getMatrix(100, 5);
+    assertThat(all.rowCount()).isEqualTo(100);
+    SobolNormalRandomNumberGenerator block = new SobolNormalRandomNumberGenerator(5, 41);
+    List<double[]> vectors = block.getVectors(5, 20);
+    for (int i = 0; i < 20; i++) {
+      assertThat(vectors.get(i)).containsExactly(all.rowArray(40 + i));
+    }
+  }
+
+  @Test
+  public void test_moments() {
+    int n = 4095;
+    SobolNormalRandomNumberGenerator generator = new SobolNormalRandomNumberGenerator(3);
+    DoubleMatrix draws = generator.getMatrix(n, 3);
+    for (int j = 0; j < 3; j++) {
+      DoubleArray column = draws.column(j);
+      assertThat(column.sum() / n).isCloseTo(0d, offset(1e-3));
+      assertThat(column.map(x -> x * x).sum() / n).isCloseTo(1d, offset(1e-2));
+    }
+  }
+
+  @Test
+  public void test_brownianBridge() {
+    BrownianBridge bridge = BrownianBridge.of(DoubleArray.of(0.5, 1d, 2d, 5d));
+    SobolNormalRandomNumberGenerator generator = new SobolNormalRandomNumberGenerator(4, 10);
+    SobolNormalRandomNumberGenerator bridged = new SobolNormalRandomNumberGenerator(bridge, 10);
+    assertThat(bridged.getDimension()).isEqualTo(4);
+    for (int i = 0; i < 5; i++) {
+      DoubleArray normals = DoubleArray.ofUnsafe(generator.getVector(4));
+      assertThat(bridged.getVector(4)).containsExactly(bridge.increments(normals).toArray());
+    }
+  }
+
+  @Test
+  public void test_invalid() {
+    SobolNormalRandomNumberGenerator generator = new SobolNormalRandomNumberGenerator(2);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new SobolNormalRandomNumberGenerator(0));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new SobolNormalRandomNumberGenerator(1001));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new SobolNormalRandomNumberGenerator(2, 0));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new SobolNormalRandomNumberGenerator(null, 1));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> generator.getVector(3));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> generator.getVectors(2, -1));
+  }
+
+}
@@ -49,6 +49,8 @@ public class BroydenVectorRootFinderTest extends VectorRootFinderTest {
     assertFunction3D(DEFAULT_JACOBIAN_3D, EPS);
     assertFunction3D(SV, EPS);
     assertFunction3D(SV_JACOBIAN_3D, EPS);
+    assertFunction3DInitialJacobian(DEFAULT, EPS);
+    assertFunction3DInitialJacobian(SV, EPS);
     assertYieldCurveBootstrap(DEFAULT, EPS);
   }
 }
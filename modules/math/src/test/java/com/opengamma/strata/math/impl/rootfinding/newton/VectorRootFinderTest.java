@@ -203,6 +203,18 @@ public abstract class VectorRootFinderTest {
     assertThat(-1.0).isCloseTo(x1.get(2), offset(eps));
   }
 
+  protected void assertFunction3DInitialJacobian(final BaseNewtonVectorRootFinder rootFinder, final double eps) {
+    final DoubleArray x0 = DoubleArray.of(0.8, 0.2, -0.7);
+    // the Jacobian at a nearby point, as if known from a previous solution
+    final DoubleMatrix initialJacobian = JACOBIAN3D.apply(DoubleArray.of(0.9, 0.1, -0.8));
+    final DoubleArray x1 = rootFinder.findRoot(FUNCTION3D, JACOBIAN3D, x0, initialJacobian);
+    assertThat(1.0).isCloseTo(x1.get(0), offset(eps));
+    assertThat(0.0).isCloseTo(x1.get(1), offset(eps));
+    assertThat(-1.0).isCloseTo(x1.get(2), offset(eps));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> rootFinder.findRoot(FUNCTION3D, JACOBIAN3D, x0, DoubleMatrix.identity(2)));
+  }
+
   protected void assertYieldCurveBootstrap(final VectorRootFinder rootFinder, final double eps) {
     final int n = TIME_GRID.length;
     final double[] flatCurve = new double[n];
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.statistics.leastsquare;
+
+import static com.opengamma.strata.math.impl.util.AssertMatrix.assertEqualsMatrix;
+import static com.opengamma.strata.math.impl.util.AssertMatrix.assertEqualsVectors;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * Test {@link LevenbergMarquardtLeastSquare}.
+ */
+public class LevenbergMarquardtLeastSquareTest {
+
+  private static final DoubleArray X = DoubleArray.of(20, i -> -Math.PI + i * Math.PI / 10);
+  private static final DoubleArray Y = X.map(Math::sin);
+  private static final DoubleArray SIGMA = X.map(x -> 0.1 * Math.exp(Math.abs(x) / Math.PI));
+  private static final DoubleArray Y_NOISY = DoubleArray.of(20, i -> Y.get(i) + 0.05 * Math.cos(7 * i));
+  private static final DoubleArray START = DoubleArray.of(1.2, 0.8, -0.2, -0.3);
+
+  // a.sin(b.x + c) + d
+  private static final LevenbergMarquardtLeastSquare.Model MODEL = (a, values, jacobian) -> {
+    for (int i = 0; i < X.size(); i++) {
+      double sin = Math.sin(a[1] * X.get(i) + a[2]);
+      double cos = Math.cos(a[1] * X.get(i) + a[2]);
+      values[i] = a[0] * sin + a[3];
+      jacobian[i][0] = sin;
+      jacobian[i][1] = a[0] * cos * X.get(i);
+      jacobian[i][2] = a[0] * cos;
+      jacobian[i][3] = 1d;
+    }
+  };
+  private static final Function<DoubleArray, DoubleArray> FUNCTION = a -> {
+    double[] values = new double[X.size()];
+    MODEL.evaluate(a.toArray(), values, new double[X.size()][4]);
+    return DoubleArray.ofUnsafe(values);
+  };
+  private static final Function<DoubleArray, DoubleMatrix> JACOBIAN = a -> {
+    double[][] jacobian = new double[X.size()][4];
+    MODEL.evaluate(a.toArray(), new double[X.size()], jacobian);
+    return DoubleMatrix.ofUnsafe(jacobian);
+  };
+
+  private static final LevenbergMarquardtLeastSquare LS = new LevenbergMarquardtLeastSquare();
+
+  @Test
+  public void test_solve_exact() {
+    LeastSquareResults result = LS.solve(Y, SIGMA, MODEL, START);
+    assertThat(result.getChiSq()).isCloseTo(0d, offset(1e-8));
+    assertEqualsVectors(result.getFitParameters(), DoubleArray.of(1, 1, 0, 0), 1e-8);
+  }
+
+  @Test
+  public void test_solve_compareNonLinearLeastSquare() {
+    LeastSquareResults expected = new NonLinearLeastSquare().solve(Y_NOISY, SIGMA, FUNCTION, JACOBIAN, START);
+    LeastSquareResults result = LS.solve(Y_NOISY, SIGMA, MODEL, START);
+    assertThat(result.getChiSq()).isCloseTo(expected.getChiSq(), offset(1e-8));
+    assertEqualsVectors(result.getFitParameters(), expected.getFitParameters(), 1e-6);
+    assertEqualsMatrix(result.getCovariance(), expected.getCovariance(), 1e-6);
+    assertEqualsMatrix(
+        result.getFittingParameterSensitivityToData(), expected.getFittingParameterSensitivityToData(), 1e-6);
+  }
+
+  @Test
+  public void test_solve_maximumStep() {
+    DoubleArray maxJumps = DoubleArray.filled(4, 0.1);
+    LeastSquareResults result = LS.solve(Y, SIGMA, MODEL, START, a -> true, maxJumps);
+    assertThat(result.getChiSq()).isCloseTo(0d, offset(1e-8));
+    assertEqualsVectors(result.getFitParameters(), DoubleArray.of(1, 1, 0, 0), 1e-8);
+  }
+
+  @Test
+  public void test_solve_singularCurvature() {
+    // the model depends only on the sum of the parameters
+    LevenbergMarquardtLeastSquare.Model model = (a, values, jacobian) -> {
+      for (int i = 0; i < X.size(); i++) {
+        values[i] = (a[0] + a[1]) * X.get(i);
+        jacobian[i][0] = X.get(i);
+        jacobian[i][1] = X.get(i);
+      }
+    };
+    LeastSquareResults result = LS.solve(X.multipliedBy(3d), SIGMA, model, DoubleArray.of(0.5, 0.5));
+    assertThat(result.getChiSq()).isCloseTo(0d, offset(1e-8));
+    assertThat(result.getFitParameters().sum()).isCloseTo(3d, offset(1e-8));
+  }
+
+  @Test
+  public void test_solve_invalid() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LS.solve(Y, SIGMA.subArray(1), MODEL, START));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LS.solve(Y.subArray(0, 3), SIGMA.subArray(0, 3), MODEL, START));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LS.solve(Y, SIGMA, MODEL, START, a -> false, null));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LS.solve(Y, SIGMA, MODEL, START, a -> true, DoubleArray.filled(3, 0.1)));
+  }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.calc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.calc.runner.AggregatingCalculationListener;
+import com.opengamma.strata.calc.runner.CalculationResult;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.result.FailureItem;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.collect.result.ValueWithFailures;
+import com.opengamma.strata.market.curve.CurveParameterSize;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
+
+/**
+ * Calculation listener that sums the parameter sensitivities of all targets as the results are received.
+ * <p>
+ * The results of the column with the specified measure, such as {@code PV01_CALIBRATED_BUCKETED},
+ * are added to a {@link CurrencyParameterSensitivitiesAccumulator} as each calculation completes.
+ * This allows the portfolio sensitivity to be determined without retaining the sensitivity of each target.
+ * The results of other columns are ignored.
+ * <p>
+ * The listener is intended to be used with a single scenario, via
+ * {@link com.opengamma.strata.calc.CalculationRunner#calculateAsync}.
+ * The aggregate result contains the summed sensitivities together with a failure item
+ * for each calculation that failed or did not produce sensitivities.
+ * <p>
+ * As with all listeners, an instance should not be used for multiple sets of calculations.
+ */
+public final class CurrencyParameterSensitivitiesListener
+    extends AggregatingCalculationListener<ValueWithFailures<CurrencyParameterSensitivities>> {
+
+  /**
+   * The measure to aggregate.
+   */
+  private final Measure measure;
+  /**
+   * The accumulator.
+   */
+  private final CurrencyParameterSensitivitiesAccumulator accumulator;
+  /**
+   * The failures.
+   */
+  private final List<FailureItem> failures = new ArrayList<>();
+  /**
+   * The index of the column to aggregate, -1 if not found.
+   */
+  private int columnIndex = -1;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains a listener that aggregates the results of the specified measure.
+   * <p>
+   * The layout of the accumulated sensitivities is determined by the order in which curves are first seen.
+   *
+   * @param measure  the measure to aggregate, which must produce {@code CurrencyParameterSensitivities}
+   * @return the listener
+   */
+  public static CurrencyParameterSensitivitiesListener of(Measure measure) {
+    return new CurrencyParameterSensitivitiesListener(measure, CurrencyParameterSensitivities.accumulator());
+  }
+
+  /**
+   * Obtains a listener that aggregates the results of the specified measure, with a fixed layout.
+   * <p>
+   * The layout of the accumulated sensitivities is determined by the specified order,
+   * typically that of the calibrated curve group.
+   *
+   * @param measure  the measure to aggregate, which must produce {@code CurrencyParameterSensitivities}
+   * @param order  the order of the curves and their parameter counts
+   * @return the listener
+   */
+  public static CurrencyParameterSensitivitiesListener of(Measure measure, List<CurveParameterSize> order) {
+    return new CurrencyParameterSensitivitiesListener(measure, CurrencyParameterSensitivities.accumulator(order));
+  }
+
+  // restricted constructor
+  private CurrencyParameterSensitivitiesListener(
+      Measure measure,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+    this.measure = ArgChecker.notNull(measure, "measure");
+    this.accumulator = accumulator;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public void calculationsStarted(List<CalculationTarget> targets, List<Column> columns) {
+    for (int i = 0; i < columns.size(); i++) {
+      if (columns.get(i).getMeasure().equals(measure)) {
+        columnIndex = i;
+        return;
+      }
+    }
+    failures.add(FailureItem.of(FailureReason.INVALID, "No column found for measure '{}'", measure));
+  }
+
+  @Override
+  public void resultReceived(CalculationTarget target, CalculationResult calculationResult) {
+    if (calculationResult.getColumnIndex() != columnIndex) {
+      return;
+    }
+    Result<?> result = calculationResult.getResult();
+    if (result.isFailure()) {
+      failures.addAll(result.getFailure().getItems());
+    } else if (result.getValue() instanceof CurrencyParameterSensitivities) {
+      try {
+        accumulator.add((CurrencyParameterSensitivities) result.getValue());
+      } catch (RuntimeException ex) {
+        failures.add(FailureItem.of(FailureReason.CALCULATION_FAILED, ex));
+      }
+    } else {
+      failures.add(FailureItem.of(
+          FailureReason.INVALID,
+          "Measure '{}' for row {} produced '{}' rather than parameter sensitivities",
+          measure,
+          calculationResult.getRowIndex(),
+          result.getValue().getClass().getSimpleName()));
+    }
+  }
+
+  @Override
+  protected ValueWithFailures<CurrencyParameterSensitivities> createAggregateResult() {
+    return ValueWithFailures.of(accumulator.build(), ImmutableList.copyOf(failures));
+  }
+
+}
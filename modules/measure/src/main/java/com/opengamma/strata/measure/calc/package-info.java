@@ -5,6 +5,6 @@
  */
 
 /**
- * Additional calculation parameters.
+ * Additional calculation parameters and listeners.
  */
 package com.opengamma.strata.measure.calc;
@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.curve;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.TypedMetaBean;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.light.LightMetaBean;
+
+/**
+ * Configuration for calibrating curves when there are multiple scenarios.
+ * <p>
+ * When the market data used to calibrate curves contains multiple scenarios, a set of curves
+ * is calibrated for each scenario. This configuration controls how those calibrations are performed.
+ * If no configuration is present in the {@code MarketDataConfig}, the scenarios are calibrated
+ * sequentially, each starting from the initial guess of the curve definitions.
+ * <p>
+ * The calibrated curves are in scenario order whether or not the calibrations are performed in parallel.
+ */
+@BeanDefinition(style = "light")
+public final class ScenarioCalibrationConfig implements ImmutableBean, Serializable {
+
+  /**
+   * The configuration that calibrates sequentially without warm start.
+   */
+  private static final ScenarioCalibrationConfig SEQUENTIAL = new ScenarioCalibrationConfig(false, false);
+  /**
+   * The configuration that calibrates in parallel with warm start.
+   */
+  private static final ScenarioCalibrationConfig PARALLEL = new ScenarioCalibrationConfig(true, true);
+
+  /**
+   * Whether the scenarios are calibrated in parallel.
+   * <p>
+   * If true, the scenarios are calibrated concurrently using the common fork-join pool.
+   */
+  @PropertyDefinition
+  private final boolean parallel;
+  /**
+   * Whether the calibration of each scenario starts from the curves of the first scenario.
+   * <p>
+   * If true, the first scenario is calibrated before the others, and the parameters of its curves
+   * are used as the initial guess of the root finder for the remaining scenarios.
+   * When the scenarios are perturbations of the same market, this typically reduces the number of iterations.
+   * A scenario with a different valuation date to the first scenario, and therefore potentially different
+   * curve definitions, starts from the initial guess of the curve definitions.
+   */
+  @PropertyDefinition
+  private final boolean warmStart;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns the configuration that calibrates each scenario sequentially, without warm start.
+   * <p>
+   * This matches the behavior when no configuration is present.
+   *
+   * @return the sequential configuration
+   */
+  public static ScenarioCalibrationConfig sequential() {
+    return SEQUENTIAL;
+  }
+
+  /**
+   * Returns the configuration that calibrates the scenarios in parallel, with warm start.
+   *
+   * @return the parallel configuration
+   */
+  public static ScenarioCalibrationConfig parallel() {
+    return PARALLEL;
+  }
+
+  /**
+   * Obtains an instance.
+   *
+   * @param parallel  whether the scenarios are calibrated in parallel
+   * @param warmStart  whether the calibration of each scenario starts from the curves of the first scenario
+   * @return the configuration
+   */
+  public static ScenarioCalibrationConfig of(boolean parallel, boolean warmStart) {
+    return new ScenarioCalibrationConfig(parallel, warmStart);
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code ScenarioCalibrationConfig}.
+   */
+  private static final TypedMetaBean<ScenarioCalibrationConfig> META_BEAN =
+      LightMetaBean.of(
+          ScenarioCalibrationConfig.class,
+          MethodHandles.lookup(),
+          new String[] {
+              "parallel",
+              "warmStart"},
+          new Object[0]);
+
+  /**
+   * The meta-bean for {@code ScenarioCalibrationConfig}.
+   * @return the meta-bean, not null
+   */
+  public static TypedMetaBean<ScenarioCalibrationConfig> meta() {
+    return META_BEAN;
+  }
+
+  static {
+    MetaBean.register(META_BEAN);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  private ScenarioCalibrationConfig(
+      boolean parallel,
+      boolean warmStart) {
+    this.parallel = parallel;
+    this.warmStart = warmStart;
+  }
+
+  @Override
+  public TypedMetaBean<ScenarioCalibrationConfig> metaBean() {
+    return META_BEAN;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets whether the scenarios are calibrated in parallel.
+   * <p>
+   * If true, the scenarios are calibrated concurrently using the common fork-join pool.
+   * @return the value of the property
+   */
+  public boolean isParallel() {
+    return parallel;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets whether the calibration of each scenario starts from the curves of the first scenario.
+   * <p>
+   * If true, the first scenario is calibrated before the others, and the parameters of its curves
+   * are used as the initial guess of the root finder for the remaining scenarios.
+   * When the scenarios are perturbations of the same market, this typically reduces the number of iterations.
+   * A scenario with a different valuation date to the first scenario, and therefore potentially different
+   * curve definitions, starts from the initial guess of the curve definitions.
+   * @return the value of the property
+   */
+  public boolean isWarmStart() {
+    return warmStart;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      ScenarioCalibrationConfig other = (ScenarioCalibrationConfig) obj;
+      return (parallel == other.parallel) &&
+          (warmStart == other.warmStart);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(parallel);
+    hash = hash * 31 + JodaBeanUtils.hashCode(warmStart);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(96);
+    buf.append("ScenarioCalibrationConfig{");
+    buf.append("parallel").append('=').append(JodaBeanUtils.toString(parallel)).append(',').append(' ');
+    buf.append("warmStart").append('=').append(JodaBeanUtils.toString(warmStart));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
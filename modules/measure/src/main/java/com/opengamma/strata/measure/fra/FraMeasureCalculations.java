@@ -36,6 +36,7 @@ import com.opengamma.strata.measure.rate.RatesMarketData;
 import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
 import com.opengamma.strata.pricer.fra.DiscountingFraTradePricer;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.rate.ScenarioRatesProvider;
 import com.opengamma.strata.pricer.sensitivity.CurveGammaCalculator;
 import com.opengamma.strata.pricer.sensitivity.MarketQuoteSensitivityCalculator;
 import com.opengamma.strata.product.fra.ResolvedFraTrade;
@@ -86,9 +87,9 @@ final class FraMeasureCalculations {
       ResolvedFraTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return CurrencyScenarioArray.of(
-        marketData.getScenarioCount(),
-        i -> presentValue(trade, marketData.scenario(i).ratesProvider()));
+    ScenarioRatesProvider provider =
+        ScenarioRatesProvider.of(marketData.getScenarioCount(), i -> marketData.scenario(i).ratesProvider());
+    return tradePricer.presentValue(trade, provider);
   }
 
   // present value for one scenario
@@ -11,6 +11,7 @@ import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
@@ -36,6 +37,7 @@ import com.opengamma.strata.market.curve.RatesCurveInputs;
 import com.opengamma.strata.market.curve.RatesCurveInputsId;
 import com.opengamma.strata.market.observable.IndexQuoteId;
 import com.opengamma.strata.measure.curve.RootFinderConfig;
+import com.opengamma.strata.measure.curve.ScenarioCalibrationConfig;
 import com.opengamma.strata.pricer.curve.CalibrationMeasures;
 import com.opengamma.strata.pricer.curve.RatesCurveCalibrator;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
@@ -114,7 +116,9 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
     // calibrate
     CurveGroupName groupName = id.getCurveGroupName();
     RatesCurveGroupDefinition configuredDefn = marketDataConfig.get(RatesCurveGroupDefinition.class, groupName);
-    return buildCurveGroup(configuredDefn, calibrator, marketData, refData, id.getObservableSource());
+    ScenarioCalibrationConfig scenarioConfig =
+        marketDataConfig.find(ScenarioCalibrationConfig.class).orElse(ScenarioCalibrationConfig.sequential());
+    return buildCurveGroup(configuredDefn, calibrator, scenarioConfig, marketData, refData, id.getObservableSource());
   }
 
   @Override
@@ -140,6 +144,29 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
       ReferenceData refData,
       ObservableSource obsSource) {
 
+    return buildCurveGroup(
+        configuredGroup, calibrator, ScenarioCalibrationConfig.sequential(), marketData, refData, obsSource);
+  }
+
+  /**
+   * Builds a curve group given the configuration for the group and a set of market data.
+   *
+   * @param configuredGroup  the definition of the curve group
+   * @param calibrator  the calibrator
+   * @param scenarioConfig  the configuration controlling the calibration of multiple scenarios
+   * @param marketData  the market data containing any values required to build the curve group
+   * @param refData  the reference data, used for resolving trades
+   * @param obsSource  the source of observable market data
+   * @return a result containing the curve group or details of why it couldn't be built
+   */
+  MarketDataBox<RatesCurveGroup> buildCurveGroup(
+      RatesCurveGroupDefinition configuredGroup,
+      RatesCurveCalibrator calibrator,
+      ScenarioCalibrationConfig scenarioConfig,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      ObservableSource obsSource) {
+
     // find and combine all the input data
     CurveGroupName groupName = configuredGroup.getName();
 
@@ -154,7 +181,7 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
     Map<ObservableId, LocalDateDoubleTimeSeries> fixings = extractFixings(marketData);
 
     return multipleValues || multipleValuationDates ?
-        buildMultipleCurveGroups(configuredGroup, calibrator, valuationDates, inputBoxes, fixings, refData) :
+        buildMultipleCurveGroups(configuredGroup, calibrator, scenarioConfig, valuationDates, inputBoxes, fixings, refData) :
         buildSingleCurveGroup(configuredGroup, calibrator, valuationDates.getSingleValue(), inputBoxes, fixings, refData);
   }
 
@@ -168,28 +195,67 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
   }
 
   // calibrates when there are multiple groups
+  // the first scenario is calibrated first as it may provide the initial guess for the others
   private MarketDataBox<RatesCurveGroup> buildMultipleCurveGroups(
       RatesCurveGroupDefinition configuredGroup,
       RatesCurveCalibrator calibrator,
+      ScenarioCalibrationConfig scenarioConfig,
       MarketDataBox<LocalDate> valuationDateBox,
       List<MarketDataBox<RatesCurveInputs>> inputBoxes,
       Map<ObservableId, LocalDateDoubleTimeSeries> fixings,
       ReferenceData refData) {
 
     int scenarioCount = scenarioCount(valuationDateBox, inputBoxes);
-    ImmutableList.Builder<RatesCurveGroup> builder = ImmutableList.builder();
-
-    for (int i = 0; i < scenarioCount; i++) {
-      LocalDate valuationDate = valuationDateBox.getValue(i);
-      RatesCurveGroupDefinition filteredGroup = configuredGroup.filtered(valuationDate, refData);
-      List<RatesCurveInputs> curveInputsList = inputsForScenario(inputBoxes, i);
-      MarketData inputs = inputsByKey(valuationDate, curveInputsList, fixings);
-      builder.add(buildGroup(filteredGroup, calibrator, inputs, refData));
+    ImmutableRatesProvider firstProvider =
+        calibrateScenario(configuredGroup, calibrator, valuationDateBox, inputBoxes, fixings, refData, 0, null);
+    ImmutableRatesProvider previous = scenarioConfig.isWarmStart() ? firstProvider : null;
+    // the curve definitions are filtered by valuation date, so only scenarios with the same valuation date
+    // as the first scenario share its curve definitions and can start from its curves
+    LocalDate firstValuationDate = valuationDateBox.getValue(0);
+    IntStream otherScenarios = IntStream.range(1, scenarioCount);
+    if (scenarioConfig.isParallel()) {
+      otherScenarios = otherScenarios.parallel();
     }
-    ImmutableList<RatesCurveGroup> curveGroups = builder.build();
+    // the stream is ordered, so the curve groups are in scenario order even if calibrated in parallel
+    List<RatesCurveGroup> otherCurveGroups = otherScenarios
+        .mapToObj(i -> calibrateScenario(
+            configuredGroup,
+            calibrator,
+            valuationDateBox,
+            inputBoxes,
+            fixings,
+            refData,
+            i,
+            valuationDateBox.getValue(i).equals(firstValuationDate) ? previous : null))
+        .map(provider -> curveGroup(configuredGroup.getName(), provider))
+        .collect(toImmutableList());
+    ImmutableList<RatesCurveGroup> curveGroups = ImmutableList.<RatesCurveGroup>builder()
+        .add(curveGroup(configuredGroup.getName(), firstProvider))
+        .addAll(otherCurveGroups)
+        .build();
     return MarketDataBox.ofScenarioValues(curveGroups);
   }
 
+  // calibrates a single scenario, starting from the previous provider if not null
+  private ImmutableRatesProvider calibrateScenario(
+      RatesCurveGroupDefinition configuredGroup,
+      RatesCurveCalibrator calibrator,
+      MarketDataBox<LocalDate> valuationDateBox,
+      List<MarketDataBox<RatesCurveInputs>> inputBoxes,
+      Map<ObservableId, LocalDateDoubleTimeSeries> fixings,
+      ReferenceData refData,
+      int scenarioIndex,
+      ImmutableRatesProvider previous) {
+
+    LocalDate valuationDate = valuationDateBox.getValue(scenarioIndex);
+    RatesCurveGroupDefinition filteredGroup = configuredGroup.filtered(valuationDate, refData);
+    List<RatesCurveInputs> curveInputsList = inputsForScenario(inputBoxes, scenarioIndex);
+    MarketData inputs = inputsByKey(valuationDate, curveInputsList, fixings);
+    return previous != null ?
+        calibrator.calibrate(filteredGroup, inputs, refData, previous, true) :
+        calibrator.calibrate(filteredGroup, inputs, refData);
+  }
+
   private static List<RatesCurveInputs> inputsForScenario(List<MarketDataBox<RatesCurveInputs>> boxes, int scenarioIndex) {
     return boxes.stream()
         .map(box -> box.getValue(scenarioIndex))
@@ -261,8 +327,13 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
         marketData,
         refData);
 
+    return curveGroup(groupDefn.getName(), calibratedProvider);
+  }
+
+  // creates the curve group from the calibrated provider
+  private static RatesCurveGroup curveGroup(CurveGroupName groupName, ImmutableRatesProvider calibratedProvider) {
     return RatesCurveGroup.of(
-        groupDefn.getName(),
+        groupName,
         calibratedProvider.getDiscountCurves(),
         calibratedProvider.getIndexCurves());
   }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.calc;
+
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.runner.CalculationResult;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.collect.result.ValueWithFailures;
+import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.CurveParameterSize;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
+import com.opengamma.strata.market.param.ParameterMetadata;
+import com.opengamma.strata.measure.Measures;
+
+/**
+ * Test {@link CurrencyParameterSensitivitiesListener}.
+ */
+public class CurrencyParameterSensitivitiesListenerTest {
+
+  private static final CalculationTarget TARGET = new TestTarget();
+  private static final CurveName NAME = CurveName.of("Curve");
+  private static final List<Column> COLUMNS = ImmutableList.of(
+      Column.of(Measures.PRESENT_VALUE),
+      Column.of(Measures.PV01_CALIBRATED_BUCKETED));
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_aggregate() {
+    CurrencyParameterSensitivitiesListener test = CurrencyParameterSensitivitiesListener.of(
+        Measures.PV01_CALIBRATED_BUCKETED, ImmutableList.of(CurveParameterSize.of(NAME, 2)));
+    test.calculationsStarted(ImmutableList.of(TARGET, TARGET, TARGET), COLUMNS);
+    test.resultReceived(TARGET, CalculationResult.of(0, 0, Result.success(CurrencyAmount.of(USD, 1))));
+    test.resultReceived(TARGET, CalculationResult.of(0, 1, Result.success(sensitivities(1, 2))));
+    test.resultReceived(TARGET, CalculationResult.of(1, 1, Result.success(sensitivities(3, 4))));
+    test.resultReceived(TARGET, CalculationResult.of(2, 1, Result.failure(FailureReason.MISSING_DATA, "No curve")));
+    test.calculationsComplete();
+
+    ValueWithFailures<CurrencyParameterSensitivities> result = test.result();
+    assertThat(result.getValue()).isEqualTo(sensitivities(4, 6));
+    assertThat(result.getFailures()).hasSize(1);
+    assertThat(result.getFailures().get(0).getReason()).isEqualTo(FailureReason.MISSING_DATA);
+  }
+
+  @Test
+  public void test_wrongType() {
+    CurrencyParameterSensitivitiesListener test = CurrencyParameterSensitivitiesListener.of(Measures.PRESENT_VALUE);
+    test.calculationsStarted(ImmutableList.of(TARGET), COLUMNS);
+    test.resultReceived(TARGET, CalculationResult.of(0, 0, Result.success(CurrencyAmount.of(USD, 1))));
+    test.calculationsComplete();
+
+    ValueWithFailures<CurrencyParameterSensitivities> result = test.result();
+    assertThat(result.getValue()).isEqualTo(CurrencyParameterSensitivities.empty());
+    assertThat(result.getFailures()).hasSize(1);
+    assertThat(result.getFailures().get(0).getReason()).isEqualTo(FailureReason.INVALID);
+  }
+
+  @Test
+  public void test_noColumn() {
+    CurrencyParameterSensitivitiesListener test = CurrencyParameterSensitivitiesListener.of(Measures.PV01_CALIBRATED_SUM);
+    test.calculationsStarted(ImmutableList.of(TARGET), COLUMNS);
+    test.resultReceived(TARGET, CalculationResult.of(0, 1, Result.success(sensitivities(1, 2))));
+    test.calculationsComplete();
+
+    ValueWithFailures<CurrencyParameterSensitivities> result = test.result();
+    assertThat(result.getValue()).isEqualTo(CurrencyParameterSensitivities.empty());
+    assertThat(result.getFailures()).hasSize(1);
+  }
+
+  //-------------------------------------------------------------------------
+  private static CurrencyParameterSensitivities sensitivities(double... values) {
+    return CurrencyParameterSensitivities.of(CurrencyParameterSensitivity.of(
+        NAME, ParameterMetadata.listOfEmpty(values.length), USD, DoubleArray.copyOf(values)));
+  }
+
+  private static class TestTarget implements CalculationTarget {
+  }
+
+}
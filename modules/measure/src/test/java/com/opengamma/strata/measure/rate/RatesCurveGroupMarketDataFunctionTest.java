@@ -8,6 +8,7 @@ package com.opengamma.strata.measure.rate;
 import static com.opengamma.strata.basics.date.DayCounts.ACT_360;
 import static com.opengamma.strata.collect.Guavate.casting;
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
+import static com.opengamma.strata.collect.Guavate.toImmutableMap;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -17,6 +18,7 @@ import java.time.LocalDate;
 import java.time.Period;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -62,6 +64,7 @@ import com.opengamma.strata.market.curve.node.FxSwapCurveNode;
 import com.opengamma.strata.market.observable.IndexQuoteId;
 import com.opengamma.strata.market.observable.QuoteId;
 import com.opengamma.strata.market.param.ParameterMetadata;
+import com.opengamma.strata.measure.curve.ScenarioCalibrationConfig;
 import com.opengamma.strata.measure.curve.TestMarketDataMap;
 import com.opengamma.strata.pricer.curve.RatesCurveCalibrator;
 import com.opengamma.strata.pricer.fra.DiscountingFraTradePricer;
@@ -139,6 +142,94 @@ public class RatesCurveGroupMarketDataFunctionTest {
     nodes.stream().forEach(node -> checkFraPvIsZero(node, ratesProvider, marketData));
   }
 
+  /**
+   * Tests that calibrating scenarios in parallel with warm start matches sequential calibration.
+   */
+  @Test
+  public void buildCurveGroup_scenariosParallel() {
+    InterpolatedNodalCurveDefinition curveDefn = CurveTestUtils.fraCurveDefinition();
+    List<MarketDataId<?>> keys = curveDefn.getNodes().stream()
+        .map(casting(FraCurveNode.class))
+        .map(CurveTestUtils::key)
+        .collect(toImmutableList());
+    CurveGroupName groupName = CurveGroupName.of("Curve Group");
+    CurveName curveName = CurveName.of("FRA Curve");
+    List<RatesCurveInputs> scenarioInputs = IntStream.range(0, 4)
+        .mapToObj(scenario -> RatesCurveInputs.of(
+            keys.stream().collect(toImmutableMap(key -> key, key -> 0.003 + 0.001 * keys.indexOf(key) + 0.0002 * scenario)),
+            DefaultCurveMetadata.of(curveName)))
+        .collect(toImmutableList());
+    RatesCurveGroupDefinition groupDefn = RatesCurveGroupDefinition.builder()
+        .name(groupName)
+        .addCurve(curveDefn, Currency.USD, IborIndices.USD_LIBOR_3M)
+        .build();
+    ScenarioMarketData marketData = ImmutableScenarioMarketData.builder(date(2011, 3, 8))
+        .addScenarioValue(RatesCurveInputsId.of(groupName, curveName, ObservableSource.NONE), scenarioInputs)
+        .build();
+
+    RatesCurveGroupMarketDataFunction function = new RatesCurveGroupMarketDataFunction();
+    MarketDataBox<RatesCurveGroup> sequential = function.buildCurveGroup(
+        groupDefn, CALIBRATOR, ScenarioCalibrationConfig.sequential(), marketData, REF_DATA, ObservableSource.NONE);
+    MarketDataBox<RatesCurveGroup> parallel = function.buildCurveGroup(
+        groupDefn, CALIBRATOR, ScenarioCalibrationConfig.parallel(), marketData, REF_DATA, ObservableSource.NONE);
+
+    assertThat(parallel.getScenarioCount()).isEqualTo(4);
+    for (int i = 0; i < 4; i++) {
+      Curve expected = sequential.getValue(i).findDiscountCurve(Currency.USD).get();
+      Curve computed = parallel.getValue(i).findDiscountCurve(Currency.USD).get();
+      assertThat(computed.getParameterCount()).isEqualTo(expected.getParameterCount());
+      for (int j = 0; j < expected.getParameterCount(); j++) {
+        assertThat(computed.getParameter(j)).isCloseTo(expected.getParameter(j), offset(1e-8));
+      }
+    }
+  }
+
+  /**
+   * Tests that warm start is only used for scenarios with the valuation date of the first scenario.
+   */
+  @Test
+  public void buildCurveGroup_scenariosWarmStartValuationDates() {
+    InterpolatedNodalCurveDefinition curveDefn = CurveTestUtils.fraCurveDefinition();
+    List<MarketDataId<?>> keys = curveDefn.getNodes().stream()
+        .map(casting(FraCurveNode.class))
+        .map(CurveTestUtils::key)
+        .collect(toImmutableList());
+    CurveGroupName groupName = CurveGroupName.of("Curve Group");
+    CurveName curveName = CurveName.of("FRA Curve");
+    List<RatesCurveInputs> scenarioInputs = IntStream.range(0, 4)
+        .mapToObj(scenario -> RatesCurveInputs.of(
+            keys.stream().collect(toImmutableMap(key -> key, key -> 0.003 + 0.001 * keys.indexOf(key) + 0.0002 * scenario)),
+            DefaultCurveMetadata.of(curveName)))
+        .collect(toImmutableList());
+    RatesCurveGroupDefinition groupDefn = RatesCurveGroupDefinition.builder()
+        .name(groupName)
+        .addCurve(curveDefn, Currency.USD, IborIndices.USD_LIBOR_3M)
+        .build();
+    MarketDataBox<LocalDate> valuationDates =
+        MarketDataBox.ofScenarioValues(date(2011, 3, 8), date(2011, 3, 9), date(2011, 3, 8), date(2011, 3, 10));
+    ScenarioMarketData marketData = ImmutableScenarioMarketData.builder(valuationDates)
+        .addScenarioValue(RatesCurveInputsId.of(groupName, curveName, ObservableSource.NONE), scenarioInputs)
+        .build();
+
+    RatesCurveGroupMarketDataFunction function = new RatesCurveGroupMarketDataFunction();
+    MarketDataBox<RatesCurveGroup> sequential = function.buildCurveGroup(
+        groupDefn, CALIBRATOR, ScenarioCalibrationConfig.sequential(), marketData, REF_DATA, ObservableSource.NONE);
+    MarketDataBox<RatesCurveGroup> warmStart = function.buildCurveGroup(
+        groupDefn, CALIBRATOR, ScenarioCalibrationConfig.of(false, true), marketData, REF_DATA, ObservableSource.NONE);
+
+    assertThat(warmStart.getScenarioCount()).isEqualTo(4);
+    for (int i = 0; i < 4; i++) {
+      Curve expected = sequential.getValue(i).findDiscountCurve(Currency.USD).get();
+      Curve computed = warmStart.getValue(i).findDiscountCurve(Currency.USD).get();
+      for (int j = 0; j < expected.getParameterCount(); j++) {
+        assertThat(computed.getParameter(j)).isCloseTo(expected.getParameter(j), offset(1e-8));
+      }
+    }
+    // the scenarios with a different valuation date start from the same initial guess as sequential calibration
+    assertThat(warmStart.getValue(1)).isEqualTo(sequential.getValue(1));
+    assertThat(warmStart.getValue(3)).isEqualTo(sequential.getValue(3));
+  }
+
   @Test
   public void roundTripFraAndFixedFloatSwap() {
     CurveGroupName groupName = CurveGroupName.of("Curve Group");
@@ -9,6 +9,7 @@ import static com.opengamma.strata.pricer.SimpleDiscountFactors.EFFECTIVE_ZERO;
 
 import java.time.LocalDate;
 import java.util.Optional;
+import java.util.function.ToDoubleFunction;
 
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.date.DayCount;
@@ -121,6 +122,36 @@ public interface DiscountFactors
    */
   public abstract double discountFactor(double yearFraction);
 
+  /**
+   * Gets the discount factors for the specified year fractions.
+   * <p>
+   * The year fractions must be based on {@code #relativeYearFraction(LocalDate)}.
+   * The result is the same as calling {@link #discountFactor(double)} for each year fraction.
+   * Implementations may be more efficient when the year fractions are sorted in ascending order.
+   * 
+   * @param yearFractions  the year fractions
+   * @return the discount factors
+   * @throws RuntimeException if the values cannot be obtained
+   */
+  public default DoubleArray discountFactor(DoubleArray yearFractions) {
+    return yearFractions.map(this::discountFactor);
+  }
+
+  /**
+   * Obtains a cursor that computes discount factors for a sequence of dates.
+   * <p>
+   * The cursor returns the same result as {@link #discountFactor(LocalDate)}.
+   * Implementations may retain the position of the last date on the underlying curve, making
+   * the cursor more efficient when it is called with dates in ascending order, such as when
+   * walking the payment periods of a trade. As such, the cursor is not thread-safe and must
+   * be confined to a single thread. A new cursor should be obtained for each sequence of dates.
+   * 
+   * @return the cursor
+   */
+  public default ToDoubleFunction<LocalDate> discountFactorCursor() {
+    return this::discountFactor;
+  }
+
   /**
    * Returns the discount factor derivative with respect to the year fraction or time.
    * <p>
@@ -447,6 +478,35 @@ public interface DiscountFactors
    */
   public abstract CurrencyParameterSensitivities parameterSensitivity(ZeroRateSensitivity pointSensitivity);
 
+  /**
+   * Calculates the curve parameter sensitivity for a set of zero rate point sensitivities.
+   * <p>
+   * This is used to convert many point sensitivities to the same curve to parameter sensitivity.
+   * The result is the same as summing the result of {@link #parameterSensitivity(ZeroRateSensitivity)}
+   * for each point sensitivity with the specified year fraction and sensitivity value.
+   * Implementations may be more efficient when the year fractions are sorted in ascending order.
+   * 
+   * @param sensitivityCurrency  the currency of the sensitivities
+   * @param yearFractions  the year fractions of the point sensitivities
+   * @param sensitivities  the sensitivity values, one for each year fraction
+   * @return the parameter sensitivity
+   * @throws RuntimeException if the result cannot be calculated
+   */
+  public default CurrencyParameterSensitivities parameterSensitivity(
+      Currency sensitivityCurrency,
+      DoubleArray yearFractions,
+      DoubleArray sensitivities) {
+
+    ArgChecker.isTrue(
+        yearFractions.size() == sensitivities.size(), "Arrays of year fractions and sensitivities must have same size");
+    CurrencyParameterSensitivities result = CurrencyParameterSensitivities.empty();
+    for (int i = 0; i < yearFractions.size(); i++) {
+      result = result.combinedWith(parameterSensitivity(
+          ZeroRateSensitivity.of(getCurrency(), yearFractions.get(i), sensitivityCurrency, sensitivities.get(i))));
+    }
+    return result;
+  }
+
   /**
    * Creates the parameter sensitivity when the sensitivity values are known.
    * <p>
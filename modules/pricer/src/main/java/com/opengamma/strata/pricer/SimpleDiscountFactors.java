@@ -11,6 +11,8 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -178,6 +180,18 @@ public final class SimpleDiscountFactors
     return curve.yValue(yearFraction);
   }
 
+  @Override
+  public ToDoubleFunction<LocalDate> discountFactorCursor() {
+    DoubleUnaryOperator discountFactors = curve.yValueCursor();
+    return date -> {
+      double yearFraction = relativeYearFraction(date);
+      if (yearFraction <= EFFECTIVE_ZERO) {
+        return 1d;
+      }
+      return discountFactors.applyAsDouble(yearFraction);
+    };
+  }
+
   @Override
   public double discountFactorTimeDerivative(double yearFraction) {
     if (yearFraction <= EFFECTIVE_ZERO) {
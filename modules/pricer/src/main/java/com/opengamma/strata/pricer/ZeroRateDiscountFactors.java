@@ -13,6 +13,8 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -176,6 +178,28 @@ public final class ZeroRateDiscountFactors
     return Math.exp(-yearFraction * curve.yValue(yearFraction));
   }
 
+  @Override
+  public DoubleArray discountFactor(DoubleArray yearFractions) {
+    // the curve is only queried for year fractions beyond the effective zero, as for the single value
+    if (yearFractions.stream().anyMatch(yearFraction -> yearFraction <= EFFECTIVE_ZERO)) {
+      return yearFractions.map(this::discountFactor);
+    }
+    DoubleArray zeroRates = curve.yValue(yearFractions);
+    return DoubleArray.of(yearFractions.size(), i -> Math.exp(-yearFractions.get(i) * zeroRates.get(i)));
+  }
+
+  @Override
+  public ToDoubleFunction<LocalDate> discountFactorCursor() {
+    DoubleUnaryOperator zeroRates = curve.yValueCursor();
+    return date -> {
+      double yearFraction = relativeYearFraction(date);
+      if (yearFraction <= EFFECTIVE_ZERO) {
+        return 1d;
+      }
+      return Math.exp(-yearFraction * zeroRates.applyAsDouble(yearFraction));
+    };
+  }
+
   @Override
   public double discountFactorTimeDerivative(double yearFraction) {
     if (yearFraction <= EFFECTIVE_ZERO) {
@@ -215,6 +239,21 @@ public final class ZeroRateDiscountFactors
     return CurrencyParameterSensitivities.of(curSens);
   }
 
+  @Override
+  public CurrencyParameterSensitivities parameterSensitivity(
+      Currency sensitivityCurrency,
+      DoubleArray yearFractions,
+      DoubleArray sensitivities) {
+
+    ArgChecker.isTrue(
+        yearFractions.size() == sensitivities.size(), "Arrays of year fractions and sensitivities must have same size");
+    // discount factor in 0 is always 1, no sensitivity
+    DoubleArray weights = DoubleArray.of(
+        yearFractions.size(), i -> yearFractions.get(i) <= EFFECTIVE_ZERO ? 0d : sensitivities.get(i));
+    UnitParameterSensitivity unitSens = curve.yValueParameterSensitivity(yearFractions, weights);
+    return CurrencyParameterSensitivities.of(unitSens.multipliedBy(sensitivityCurrency, 1d));
+  }
+
   @Override
   public CurrencyParameterSensitivities createParameterSensitivity(Currency currency, DoubleArray sensitivities) {
     return CurrencyParameterSensitivities.of(curve.createParameterSensitivity(currency, sensitivities));
@@ -13,6 +13,7 @@ import static com.opengamma.strata.product.bond.FixedCouponBondYieldConvention.U
 
 import java.time.LocalDate;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
@@ -1077,15 +1078,26 @@ public class DiscountingFixedCouponBondProductPricer {
       IssuerCurveDiscountFactors discountFactors,
       LocalDate referenceDate) {
 
+    // the coupons are in ascending date order, allowing the curve to be walked with a cursor
+    ToDoubleFunction<LocalDate> cursor = discountFactors.getDiscountFactors().discountFactorCursor();
     double total = 0d;
     for (FixedCouponBondPaymentPeriod period : bond.getPeriodicPayments()) {
       if (period.getDetachmentDate().isAfter(referenceDate)) {
-        total += periodPricer.presentValue(period, discountFactors);
+        total += presentValuePeriod(period, discountFactors, cursor);
       }
     }
     return CurrencyAmount.of(bond.getCurrency(), total);
   }
 
+  // present value of a single coupon, equivalent to the period pricer but discounting using the cursor
+  private double presentValuePeriod(
+      FixedCouponBondPaymentPeriod period,
+      IssuerCurveDiscountFactors discountFactors,
+      ToDoubleFunction<LocalDate> cursor) {
+
+    return periodPricer.forecastValue(period, discountFactors) * cursor.applyAsDouble(period.getPaymentDate());
+  }
+
   private CurrencyAmount presentValueCouponFromZSpread(
       ResolvedFixedCouponBond bond,
       IssuerCurveDiscountFactors discountFactors,
@@ -1172,10 +1184,11 @@ public class DiscountingFixedCouponBondProductPricer {
       LocalDate referenceDate1,
       LocalDate referenceDate2) {
 
+    ToDoubleFunction<LocalDate> cursor = discountFactors.getDiscountFactors().discountFactorCursor();
     double pvDiff = 0d;
     for (FixedCouponBondPaymentPeriod period : bond.getPeriodicPayments()) {
       if (period.getDetachmentDate().isAfter(referenceDate1) && !period.getDetachmentDate().isAfter(referenceDate2)) {
-        pvDiff += periodPricer.presentValue(period, discountFactors);
+        pvDiff += presentValuePeriod(period, discountFactors, cursor);
       }
     }
     return pvDiff;
@@ -67,9 +67,13 @@ class CalibrationDerivative
   public DoubleMatrix apply(DoubleArray x) {
     // create child provider from matrix
     ImmutableRatesProvider provider = providerGenerator.generate(x);
-    // calculate derivative for each trade using the child provider
+    // calculate derivative for each trade using the child provider, writing directly into each row
     int size = trades.size();
-    return DoubleMatrix.ofArrayObjects(size, size, i -> measures.derivative(trades.get(i), provider, curveOrder));
+    double[][] derivative = new double[size][size];
+    for (int i = 0; i < size; i++) {
+      measures.derivative(trades.get(i), provider, curveOrder, derivative[i]);
+    }
+    return DoubleMatrix.ofUnsafe(derivative);
   }
 
 }
@@ -5,6 +5,9 @@
  */
 package com.opengamma.strata.pricer.curve;
 
+import java.util.List;
+
+import com.opengamma.strata.market.curve.CurveParameterSize;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.product.ResolvedTrade;
@@ -51,4 +54,29 @@ public interface CalibrationMeasure<T extends ResolvedTrade> {
    */
   public abstract CurrencyParameterSensitivities sensitivities(T trade, RatesProvider provider);
 
+  /**
+   * Calculates the parameter sensitivities that relate to the value, adding them to an array.
+   * <p>
+   * The array is composed of the concatenated parameters of the curves in the specified order.
+   * The sensitivity to each parameter is added to the matching element of the array.
+   * Sensitivities to curves that are not in the order are ignored.
+   * <p>
+   * This is used in curve calibration to write the derivative of each trade directly into a row
+   * of the Jacobian matrix. The default implementation uses {@link #sensitivities(ResolvedTrade, RatesProvider)}.
+   * 
+   * @param trade  the trade
+   * @param provider  the rates provider
+   * @param curveOrder  the order of the curves
+   * @param derivative  the array to add the sensitivities to
+   * @throws IllegalArgumentException if the trade cannot be valued
+   */
+  public default void derivative(
+      T trade,
+      RatesProvider provider,
+      List<CurveParameterSize> curveOrder,
+      double[] derivative) {
+
+    CalibrationSensitivities.addTo(sensitivities(trade, provider), curveOrder, derivative);
+  }
+
 }
@@ -17,8 +17,6 @@ import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.curve.CurveParameterSize;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
-import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
-import com.opengamma.strata.market.param.UnitParameterSensitivities;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.product.ResolvedTrade;
 
@@ -156,6 +154,21 @@ public final class CalibrationMeasures {
     return measure.value(trade, provider);
   }
 
+  /**
+   * Calculates the parameter sensitivities that relate to the value.
+   * <p>
+   * The result contains the sensitivity to each curve referenced by the trade.
+   * 
+   * @param trade  the trade
+   * @param provider  the rates provider
+   * @return the sensitivity
+   * @throws IllegalArgumentException if the trade cannot be valued
+   */
+  public CurrencyParameterSensitivities sensitivities(ResolvedTrade trade, RatesProvider provider) {
+    CalibrationMeasure<ResolvedTrade> measure = getMeasure(trade);
+    return measure.sensitivities(trade, provider);
+  }
+
   /**
    * Calculates the sensitivity with respect to the rates provider.
    * <p>
@@ -168,28 +181,35 @@ public final class CalibrationMeasures {
    * @return the sensitivity derivative
    */
   public DoubleArray derivative(ResolvedTrade trade, RatesProvider provider, List<CurveParameterSize> curveOrder) {
-    UnitParameterSensitivities unitSens = extractSensitivities(trade, provider);
-
-    // expand to a concatenated array
-    DoubleArray result = DoubleArray.EMPTY;
-    for (CurveParameterSize curveParams : curveOrder) {
-      DoubleArray sens = unitSens.findSensitivity(curveParams.getName())
-          .map(s -> s.getSensitivity())
-          .orElseGet(() -> DoubleArray.filled(curveParams.getParameterCount()));
-      result = result.concat(sens);
-    }
-    return result;
+    int totalParams = curveOrder.stream().mapToInt(e -> e.getParameterCount()).sum();
+    double[] result = new double[totalParams];
+    derivative(trade, provider, curveOrder, result);
+    return DoubleArray.ofUnsafe(result);
   }
 
-  // determine the curve parameter sensitivities, removing the curency
-  private UnitParameterSensitivities extractSensitivities(ResolvedTrade trade, RatesProvider provider) {
+  /**
+   * Calculates the sensitivity with respect to the rates provider, adding it to an array.
+   * <p>
+   * The array is composed of the concatenated curve parameters from all curves currently being processed.
+   * The sensitivity to each parameter is added to the matching element of the array,
+   * which is typically a row of the Jacobian matrix used in curve calibration.
+   * <p>
+   * The sensitivity of the trade is written directly into the array, without building
+   * the merged parameter sensitivities of the trade.
+   * 
+   * @param trade  the trade
+   * @param provider  the rates provider
+   * @param curveOrder  the order of the curves
+   * @param derivative  the array to add the sensitivity derivative to
+   */
+  public void derivative(
+      ResolvedTrade trade,
+      RatesProvider provider,
+      List<CurveParameterSize> curveOrder,
+      double[] derivative) {
+
     CalibrationMeasure<ResolvedTrade> measure = getMeasure(trade);
-    CurrencyParameterSensitivities paramSens = measure.sensitivities(trade, provider);
-    UnitParameterSensitivities unitSens = UnitParameterSensitivities.empty();
-    for (CurrencyParameterSensitivity ccySens : paramSens.getSensitivities()) {
-      unitSens = unitSens.combinedWith(ccySens.toUnitParameterSensitivity());
-    }
-    return unitSens;
+    measure.derivative(trade, provider, curveOrder, derivative);
   }
 
   //-------------------------------------------------------------------------
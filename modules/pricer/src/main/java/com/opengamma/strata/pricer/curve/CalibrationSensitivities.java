@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.curve;
+
+import java.util.List;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.market.curve.CurveParameterSize;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.market.sensitivity.PointSensitivity;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+
+/**
+ * Utilities to add sensitivities to a dense array of curve parameters.
+ * <p>
+ * The array is composed of the concatenated parameters of the curves in a specified order,
+ * as used for a row of the Jacobian matrix in curve calibration.
+ * Sensitivities to curves that are not in the order are ignored, and the currency of the
+ * sensitivities is not used.
+ */
+final class CalibrationSensitivities {
+
+  /**
+   * Restricted constructor.
+   */
+  private CalibrationSensitivities() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Adds the parameter sensitivities of point sensitivities to the array.
+   * <p>
+   * Each point sensitivity is projected to the curve parameters and added to the array directly,
+   * without merging the parameter sensitivities of the points.
+   * <p>
+   * The projection uses {@link RatesProvider#parameterSensitivity(PointSensitivity)}, which creates
+   * the parameter sensitivities of each point before they are added. This avoids the merge of the
+   * sensitivities of all the points, but not the allocation for each point, as the projection
+   * depends on the type of each curve and is only available through the rates provider.
+   *
+   * @param pointSensitivities  the point sensitivities
+   * @param provider  the rates provider
+   * @param curveOrder  the order of the curves
+   * @param derivative  the array to add to
+   */
+  static void addTo(
+      PointSensitivities pointSensitivities,
+      RatesProvider provider,
+      List<CurveParameterSize> curveOrder,
+      double[] derivative) {
+
+    for (PointSensitivity point : pointSensitivities.getSensitivities()) {
+      addTo(provider.parameterSensitivity(point), curveOrder, derivative);
+    }
+  }
+
+  /**
+   * Adds parameter sensitivities to the array.
+   *
+   * @param sensitivities  the parameter sensitivities
+   * @param curveOrder  the order of the curves
+   * @param derivative  the array to add to
+   */
+  static void addTo(
+      CurrencyParameterSensitivities sensitivities,
+      List<CurveParameterSize> curveOrder,
+      double[] derivative) {
+
+    for (CurrencyParameterSensitivity sensitivity : sensitivities.getSensitivities()) {
+      int startIndex = startIndex(curveOrder, sensitivity.getMarketDataName());
+      if (startIndex >= 0) {
+        DoubleArray values = sensitivity.getSensitivity();
+        for (int i = 0; i < values.size(); i++) {
+          derivative[startIndex + i] += values.get(i);
+        }
+      }
+    }
+  }
+
+  // the index of the first parameter of the curve, -1 if the curve is not in the order
+  private static int startIndex(List<CurveParameterSize> curveOrder, MarketDataName<?> name) {
+    int startIndex = 0;
+    for (CurveParameterSize curveParams : curveOrder) {
+      if (curveParams.getName().equals(name)) {
+        return startIndex;
+      }
+      startIndex += curveParams.getParameterCount();
+    }
+    return -1;
+  }
+
+}
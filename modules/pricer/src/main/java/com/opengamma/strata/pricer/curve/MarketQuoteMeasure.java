@@ -5,10 +5,12 @@
  */
 package com.opengamma.strata.pricer.curve;
 
+import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.ToDoubleBiFunction;
 
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.market.curve.CurveParameterSize;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.pricer.deposit.DiscountingIborFixingDepositProductPricer;
@@ -169,6 +171,17 @@ public final class MarketQuoteMeasure<T extends ResolvedTrade>
     return provider.parameterSensitivity(pts);
   }
 
+  @Override
+  public void derivative(
+      T trade,
+      RatesProvider provider,
+      List<CurveParameterSize> curveOrder,
+      double[] derivative) {
+
+    PointSensitivities pts = sensitivityFn.apply(trade, provider);
+    CalibrationSensitivities.addTo(pts, provider, curveOrder, derivative);
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public String toString() {
@@ -5,18 +5,33 @@
  */
 package com.opengamma.strata.pricer.curve;
 
+import static com.opengamma.strata.collect.Guavate.combineFuturesAsList;
+import static com.opengamma.strata.collect.Guavate.concatToList;
 import static com.opengamma.strata.collect.Guavate.filtering;
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static com.opengamma.strata.collect.Guavate.toImmutableMap;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMap.Builder;
+import com.google.common.collect.ImmutableSortedSet;
 import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.index.Index;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
@@ -25,16 +40,22 @@ import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataFxRateProvider;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.CurveDefinition;
+import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.curve.CurveNode;
 import com.opengamma.strata.market.curve.CurveParameterSize;
 import com.opengamma.strata.market.curve.JacobianCalibrationMatrix;
 import com.opengamma.strata.market.curve.RatesCurveGroupDefinition;
+import com.opengamma.strata.market.curve.RatesCurveGroupEntry;
 import com.opengamma.strata.market.observable.IndexQuoteId;
-import com.opengamma.strata.math.impl.matrix.CommonsMatrixAlgebra;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.math.impl.matrix.MatrixAlgebra;
+import com.opengamma.strata.math.impl.matrix.MatrixAlgebraFactory;
 import com.opengamma.strata.math.rootfind.NewtonVectorRootFinder;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProviderBuilder;
 import com.opengamma.strata.product.ResolvedTrade;
 
 /**
@@ -60,11 +81,6 @@ public final class RatesCurveCalibrator {
    */
   private static final RatesCurveCalibrator STANDARD =
       RatesCurveCalibrator.of(1e-9, 1e-9, 1000, CalibrationMeasures.PAR_SPREAD, CalibrationMeasures.PRESENT_VALUE);
-  /**
-   * The matrix algebra used for matrix inversion.
-   */
-  private static final MatrixAlgebra MATRIX_ALGEBRA = new CommonsMatrixAlgebra();
-
   /**
    * The root finder used for curve calibration.
    */
@@ -79,6 +95,11 @@ public final class RatesCurveCalibrator {
    * This is used to compute the present value sensitivity to market quotes stored in the metadata.
    */
   private final CalibrationMeasures pvMeasures;
+  /**
+   * The matrix algebra used for matrix inversion.
+   * This is selected by system property when the calibrator is created, ignoring algebras that cannot invert.
+   */
+  private final MatrixAlgebra matrixAlgebra;
 
   //-------------------------------------------------------------------------
   /**
@@ -184,6 +205,7 @@ public final class RatesCurveCalibrator {
     this.rootFinder = ArgChecker.notNull(rootFinder, "rootFinder");
     this.measures = ArgChecker.notNull(measures, "measures");
     this.pvMeasures = ArgChecker.notNull(pvMeasures, "pvMeasures");
+    this.matrixAlgebra = MatrixAlgebraFactory.getConfiguredInvertingMatrixAlgebra(MatrixAlgebraFactory.COMMONS_ALGEBRA);
   }
 
   //-------------------------------------------------------------------------
@@ -216,14 +238,84 @@ public final class RatesCurveCalibrator {
       MarketData marketData,
       ReferenceData refData) {
 
+    return calibrate(ImmutableList.of(curveGroupDefn), knownData(marketData), marketData, refData, ImmutableMap.of(), false);
+  }
+
+  /**
+   * Calibrates a single curve group, starting from the curves of a previous calibration.
+   * <p>
+   * This is intended for recalibrating a curve group after the market quotes have moved,
+   * for example intraday or when calibrating the curves of a set of perturbed scenarios.
+   * The parameters of each curve in the previous provider are used as the initial guess of the
+   * root finder for the curve of the same name. If the previous provider does not contain the curve,
+   * or the curve has a different number of parameters, the initial guess of the curve definition is used.
+   * When the quotes have moved by a small amount, this typically reduces the number of iterations needed.
+   * <p>
+   * The result is the same as {@link #calibrate(RatesCurveGroupDefinition, MarketData, ReferenceData)}
+   * to within the tolerance of the root finder.
+   *
+   * @param curveGroupDefn  the curve group definition
+   * @param marketData  the market data required to build a trade for the instrument, including time-series
+   * @param refData  the reference data, used to resolve the trades
+   * @param previous  the rates provider resulting from a previous calibration of the curve group
+   * @return the rates provider resulting from the calibration
+   */
+  public ImmutableRatesProvider calibrate(
+      RatesCurveGroupDefinition curveGroupDefn,
+      MarketData marketData,
+      ReferenceData refData,
+      ImmutableRatesProvider previous) {
+
+    return calibrate(curveGroupDefn, marketData, refData, previous, false);
+  }
+
+  /**
+   * Calibrates a single curve group, starting from the curves and Jacobians of a previous calibration.
+   * <p>
+   * This is intended for recalibrating a curve group after the market quotes have moved,
+   * for example intraday or when calibrating the curves of a set of perturbed scenarios.
+   * The parameters of each curve in the previous provider are used as the initial guess of the
+   * root finder for the curve of the same name. If the previous provider does not contain the curve,
+   * or the curve has a different number of parameters, the initial guess of the curve definition is used.
+   * <p>
+   * If {@code reuseJacobian} is true, the {@linkplain CurveInfoType#JACOBIAN Jacobian} stored in the metadata
+   * of the previous curves is used to derive the initial estimate of the derivative matrix of the root finder,
+   * avoiding its calculation at the start position. The Broyden root finder then updates this estimate at each step.
+   * The Jacobian is only reused for a group if all the curves of the group are found with calibration information
+   * for the same curves, otherwise the derivative matrix is calculated as normal.
+   * <p>
+   * When the quotes have moved by a small amount, this typically reduces the number of iterations needed.
+   * The result is the same as {@link #calibrate(RatesCurveGroupDefinition, MarketData, ReferenceData)}
+   * to within the tolerance of the root finder.
+   *
+   * @param curveGroupDefn  the curve group definition
+   * @param marketData  the market data required to build a trade for the instrument, including time-series
+   * @param refData  the reference data, used to resolve the trades
+   * @param previous  the rates provider resulting from a previous calibration of the curve group
+   * @param reuseJacobian  whether the Jacobian of the previous calibration is used as the initial derivative matrix
+   * @return the rates provider resulting from the calibration
+   */
+  public ImmutableRatesProvider calibrate(
+      RatesCurveGroupDefinition curveGroupDefn,
+      MarketData marketData,
+      ReferenceData refData,
+      ImmutableRatesProvider previous,
+      boolean reuseJacobian) {
+
+    ArgChecker.notNull(previous, "previous");
+    return calibrate(
+        ImmutableList.of(curveGroupDefn), knownData(marketData), marketData, refData, previous.getCurves(), reuseJacobian);
+  }
+
+  // creates the known data from the FX rates and time-series in the market data
+  private static ImmutableRatesProvider knownData(MarketData marketData) {
     Map<Index, LocalDateDoubleTimeSeries> timeSeries = marketData.getTimeSeriesIds().stream()
         .flatMap(filtering(IndexQuoteId.class))
         .collect(toImmutableMap(id -> id.getIndex(), id -> marketData.getTimeSeries(id)));
-    ImmutableRatesProvider knownData = ImmutableRatesProvider.builder(marketData.getValuationDate())
+    return ImmutableRatesProvider.builder(marketData.getValuationDate())
         .fxRateProvider(MarketDataFxRateProvider.of(marketData))
         .timeSeries(timeSeries)
         .build();
-    return calibrate(ImmutableList.of(curveGroupDefn), knownData, marketData, refData);
   }
 
   /**
@@ -233,6 +325,15 @@ public final class RatesCurveCalibrator {
    * Observable market data and existing known data are also needed to complete the calibration.
    * <p>
    * A curve must only exist in one group.
+   * <p>
+   * The groups are calibrated in the order of the list, each group using the curves of the previous groups.
+   * A group does not necessarily depend on all the previous groups. For example, the curves of two currencies
+   * calibrated to overnight swaps are independent, while a cross-currency group depends on both.
+   * A group depends on the groups defining the curves referenced by its trades, whatever the value of the
+   * sensitivity to those curves, and groups that do not depend on each other are calibrated concurrently using
+   * the common fork-join pool. When this method is called from a fork-join pool, such as from a parallel stream
+   * calibrating several scenarios, the caller is already parallel and the groups are calibrated in order instead.
+   * The result does not depend on whether the groups are calibrated concurrently.
    *
    * @param allGroupDefns  the curve group definitions
    * @param knownData  the starting data for the calibration
@@ -246,17 +347,53 @@ public final class RatesCurveCalibrator {
       MarketData marketData,
       ReferenceData refData) {
 
+    return calibrate(allGroupDefns, knownData, marketData, refData, ImmutableMap.of(), false);
+  }
+
+  // calibrates the groups, using the previous curves as the initial guess where available
+  private ImmutableRatesProvider calibrate(
+      List<RatesCurveGroupDefinition> allGroupDefns,
+      ImmutableRatesProvider knownData,
+      MarketData marketData,
+      ReferenceData refData,
+      Map<CurveName, Curve> previousCurves,
+      boolean reuseJacobian) {
+
     // this method effectively takes one CurveGroupDefinition
     // the list is a split of the definition, not multiple independent definitions
+    // a group may only depend on the groups before it in the list, but not necessarily on all of them
 
     if (!knownData.getValuationDate().equals(marketData.getValuationDate())) {
       throw new IllegalArgumentException(Messages.format(
           "Valuation dates do not match: {} and {}", knownData.getValuationDate(), marketData.getValuationDate()));
     }
-    // perform calibration one group at a time, building up the result by mutating these variables
-    ImmutableRatesProvider providerCombined = knownData;
+    ImmutableList<CalibrationBlock> blocks = blocks(allGroupDefns, knownData, marketData, refData, previousCurves);
+    // the caller is already parallel if running in a fork-join pool, so the groups are not split further
+    ImmutableList<ImmutableSortedSet<Integer>> ancestors =
+        ForkJoinTask.inForkJoinPool() ? chain(blocks.size()) : ancestors(blocks, knownData, refData);
+    List<CalibratedBlock> calibrated = new ArrayList<>();
+    if (isChain(ancestors)) {
+      // perform calibration one group at a time, each group depending on all the previous groups
+      for (CalibrationBlock block : blocks) {
+        calibrated.add(calibrateBlock(block, calibrated, knownData, refData, previousCurves, reuseJacobian));
+      }
+    } else {
+      calibrated.addAll(calibrateConcurrently(blocks, ancestors, knownData, refData, previousCurves, reuseJacobian));
+    }
+    // combine the calibrated curves, in the order of the groups
+    return withCurves(knownData, calibrated);
+  }
+
+  // the blocks to calibrate, one for each group that has curves
+  private static ImmutableList<CalibrationBlock> blocks(
+      List<RatesCurveGroupDefinition> allGroupDefns,
+      ImmutableRatesProvider knownData,
+      MarketData marketData,
+      ReferenceData refData,
+      Map<CurveName, Curve> previousCurves) {
+
+    ImmutableList.Builder<CalibrationBlock> blocks = ImmutableList.builder();
     ImmutableList<CurveParameterSize> orderPrev = ImmutableList.of();
-    ImmutableMap<CurveName, JacobianCalibrationMatrix> jacobians = ImmutableMap.of();
     for (RatesCurveGroupDefinition groupDefn : allGroupDefns) {
       if (groupDefn.getEntries().isEmpty()) {
         continue;
@@ -265,38 +402,262 @@ public final class RatesCurveCalibrator {
           groupDefn.bindTimeSeries(knownData.getValuationDate(), knownData.getTimeSeries());
       // combine all data in the group into flat lists
       ImmutableList<ResolvedTrade> trades = groupDefnBound.resolvedTrades(marketData, refData);
-      ImmutableList<Double> initialGuesses = groupDefnBound.initialGuesses(marketData);
+      ImmutableList<Double> initialGuesses = initialGuesses(groupDefnBound, marketData, previousCurves);
       ImmutableList<CurveParameterSize> orderGroup = toOrder(groupDefnBound);
-      ImmutableList<CurveParameterSize> orderPrevAndGroup = ImmutableList.<CurveParameterSize>builder()
-          .addAll(orderPrev)
-          .addAll(orderGroup)
-          .build();
-
-      // calibrate
-      RatesProviderGenerator providerGenerator = ImmutableRatesProviderGenerator.of(providerCombined, groupDefnBound, refData);
-      DoubleArray calibratedGroupParams = calibrateGroup(providerGenerator, trades, initialGuesses, orderGroup);
-      ImmutableRatesProvider calibratedProvider = providerGenerator.generate(calibratedGroupParams);
-
-      // use calibration to build Jacobian matrices
-      if (groupDefnBound.isComputeJacobian()) {
-        jacobians = updateJacobiansForGroup(
-            calibratedProvider, trades, orderGroup, orderPrev, orderPrevAndGroup, jacobians);
+      blocks.add(new CalibrationBlock(groupDefnBound, trades, initialGuesses, orderGroup, orderPrev));
+      orderPrev = concatToList(orderPrev, orderGroup);
+    }
+    return blocks.build();
+  }
+
+  // the indices of the blocks that each block depends on, directly or indirectly
+  // a block depends on a previous block if its trades reference a curve defined in that block
+  // the referenced curves are those present in the sensitivities of the trades, even if the sensitivity is zero,
+  // using the curves generated from the initial guesses
+  private ImmutableList<ImmutableSortedSet<Integer>> ancestors(
+      ImmutableList<CalibrationBlock> blocks,
+      ImmutableRatesProvider knownData,
+      ReferenceData refData) {
+
+    if (blocks.size() <= 1 || isCurveReplaced(blocks)) {
+      return chain(blocks.size());
+    }
+    // the block defining each curve, from the curve group definitions
+    Map<CurveName, Integer> curveBlocks = new HashMap<>();
+    ImmutableRatesProvider provider = knownData;
+    for (int i = 0; i < blocks.size(); i++) {
+      CalibrationBlock block = blocks.get(i);
+      for (CurveParameterSize order : block.orderGroup) {
+        curveBlocks.put(order.getName(), i);
+      }
+      provider = ImmutableRatesProviderGenerator.of(provider, block.groupDefn, refData)
+          .generate(DoubleArray.copyOf(block.initialGuesses));
+    }
+    List<ImmutableSortedSet<Integer>> ancestors = new ArrayList<>();
+    for (int i = 0; i < blocks.size(); i++) {
+      // a block depends on the blocks defining the referenced curves and on the blocks they depend on
+      SortedSet<Integer> blockAncestors = new TreeSet<>();
+      for (ResolvedTrade trade : blocks.get(i).trades) {
+        for (CurrencyParameterSensitivity sens : measures.sensitivities(trade, provider).getSensitivities()) {
+          Integer curveBlock = curveBlocks.get(sens.getMarketDataName());
+          if (curveBlock != null && curveBlock < i) {
+            blockAncestors.add(curveBlock);
+            blockAncestors.addAll(ancestors.get(curveBlock));
+          }
+        }
+      }
+      ancestors.add(ImmutableSortedSet.copyOf(blockAncestors));
+    }
+    return ImmutableList.copyOf(ancestors);
+  }
+
+  // each block depends on all the previous blocks
+  private static ImmutableList<ImmutableSortedSet<Integer>> chain(int blockCount) {
+    return IntStream.range(0, blockCount)
+        .mapToObj(i -> ImmutableSortedSet.copyOf(IntStream.range(0, i).boxed().iterator()))
+        .collect(toImmutableList());
+  }
+
+  // checks if a later group replaces the discount curve of a currency or the forward curve of an index
+  // in this case, the result depends on the order of the groups, so each group depends on all the previous groups
+  private static boolean isCurveReplaced(List<CalibrationBlock> blocks) {
+    Set<Currency> currencies = new HashSet<>();
+    Set<Index> indices = new HashSet<>();
+    for (CalibrationBlock block : blocks) {
+      for (RatesCurveGroupEntry entry : calibratedEntries(block.groupDefn)) {
+        for (Currency currency : entry.getDiscountCurrencies()) {
+          if (!currencies.add(currency)) {
+            return true;
+          }
+        }
+        for (Index index : entry.getIndices()) {
+          if (!indices.add(index)) {
+            return true;
+          }
+        }
       }
-      ImmutableMap<CurveName, DoubleArray> sensitivityToMarketQuote = ImmutableMap.of();
-      if (groupDefnBound.isComputePvSensitivityToMarketQuote()) {
-        ImmutableRatesProvider providerWithJacobian = providerGenerator.generate(calibratedGroupParams, jacobians);
-        sensitivityToMarketQuote = sensitivityToMarketQuoteForGroup(providerWithJacobian, trades, orderGroup);
+    }
+    return false;
+  }
+
+  // the entries of the curves that are calibrated, those with a curve definition
+  private static ImmutableList<RatesCurveGroupEntry> calibratedEntries(RatesCurveGroupDefinition groupDefn) {
+    return groupDefn.getEntries().stream()
+        .filter(entry -> groupDefn.findCurveDefinition(entry.getCurveName()).isPresent())
+        .collect(toImmutableList());
+  }
+
+  // checks if each block depends on all the previous blocks
+  private static boolean isChain(List<ImmutableSortedSet<Integer>> ancestors) {
+    for (int i = 0; i < ancestors.size(); i++) {
+      if (ancestors.get(i).size() != i) {
+        return false;
       }
-      orderPrev = orderPrevAndGroup;
+    }
+    return true;
+  }
 
-      // use Jacobians to build output curves
-      providerCombined = providerGenerator.generate(calibratedGroupParams, jacobians, sensitivityToMarketQuote);
+  // calibrates the blocks using the common fork-join pool
+  // each block is calibrated as soon as the blocks it depends on have been calibrated
+  private ImmutableList<CalibratedBlock> calibrateConcurrently(
+      ImmutableList<CalibrationBlock> blocks,
+      ImmutableList<ImmutableSortedSet<Integer>> ancestors,
+      ImmutableRatesProvider knownData,
+      ReferenceData refData,
+      Map<CurveName, Curve> previousCurves,
+      boolean reuseJacobian) {
+
+    List<CompletableFuture<CalibratedBlock>> futures = new ArrayList<>();
+    for (int i = 0; i < blocks.size(); i++) {
+      CalibrationBlock block = blocks.get(i);
+      List<CompletableFuture<CalibratedBlock>> ancestorFutures =
+          ancestors.get(i).stream().map(futures::get).collect(toImmutableList());
+      futures.add(combineFuturesAsList(ancestorFutures)
+          .thenApplyAsync(calibratedAncestors ->
+              calibrateBlock(block, calibratedAncestors, knownData, refData, previousCurves, reuseJacobian)));
+    }
+    try {
+      return futures.stream().map(CompletableFuture::join).collect(toImmutableList());
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw ex;
     }
-    // return the calibrated provider
-    return providerCombined;
+  }
+
+  // calibrates a single block, based on the calibrated blocks it depends on, in the order of the groups
+  private CalibratedBlock calibrateBlock(
+      CalibrationBlock block,
+      List<CalibratedBlock> calibratedAncestors,
+      ImmutableRatesProvider knownData,
+      ReferenceData refData,
+      Map<CurveName, Curve> previousCurves,
+      boolean reuseJacobian) {
+
+    ImmutableRatesProvider providerAncestors = withCurves(knownData, calibratedAncestors);
+    ImmutableList<CurveParameterSize> orderAncestors = calibratedAncestors.stream()
+        .flatMap(calibratedAncestor -> calibratedAncestor.orderGroup.stream())
+        .collect(toImmutableList());
+    Map<CurveName, JacobianCalibrationMatrix> jacobiansAncestors = new HashMap<>();
+    calibratedAncestors.forEach(calibratedAncestor -> jacobiansAncestors.putAll(calibratedAncestor.jacobians));
+
+    // calibrate
+    RatesProviderGenerator providerGenerator =
+        ImmutableRatesProviderGenerator.of(providerAncestors, block.groupDefn, refData);
+    DoubleMatrix initialJacobian = reuseJacobian ? previousJacobian(block.orderGroup, previousCurves) : null;
+    DoubleArray calibratedGroupParams =
+        calibrateGroup(providerGenerator, block.trades, block.initialGuesses, initialJacobian, block.orderGroup);
+    ImmutableRatesProvider calibratedProvider = providerGenerator.generate(calibratedGroupParams);
+
+    // use calibration to build Jacobian matrices
+    ImmutableMap<CurveName, JacobianCalibrationMatrix> jacobians = ImmutableMap.of();
+    if (block.groupDefn.isComputeJacobian()) {
+      jacobians = updateJacobiansForGroup(
+          calibratedProvider, block.trades, block.orderGroup, orderAncestors, block.orderPrev, jacobiansAncestors);
+    }
+    ImmutableMap<CurveName, DoubleArray> sensitivityToMarketQuote = ImmutableMap.of();
+    if (block.groupDefn.isComputePvSensitivityToMarketQuote()) {
+      ImmutableRatesProvider providerWithJacobian = providerGenerator.generate(calibratedGroupParams, jacobians);
+      sensitivityToMarketQuote = sensitivityToMarketQuoteForGroup(providerWithJacobian, block.trades, block.orderGroup);
+    }
+
+    // use Jacobians to build output curves
+    ImmutableRatesProvider provider = providerGenerator.generate(calibratedGroupParams, jacobians, sensitivityToMarketQuote);
+    ImmutableMap.Builder<Currency, Curve> discountCurves = ImmutableMap.builder();
+    ImmutableMap.Builder<Index, Curve> indexCurves = ImmutableMap.builder();
+    for (RatesCurveGroupEntry entry : calibratedEntries(block.groupDefn)) {
+      for (Currency currency : entry.getDiscountCurrencies()) {
+        discountCurves.put(currency, provider.getDiscountCurves().get(currency));
+      }
+      for (Index index : entry.getIndices()) {
+        indexCurves.put(index, provider.getIndexCurves().get(index));
+      }
+    }
+    return new CalibratedBlock(block.orderGroup, jacobians, discountCurves.build(), indexCurves.build());
+  }
+
+  // adds the curves of the calibrated blocks to the known data
+  private static ImmutableRatesProvider withCurves(
+      ImmutableRatesProvider knownData,
+      List<CalibratedBlock> calibrated) {
+
+    if (calibrated.isEmpty()) {
+      return knownData;
+    }
+    ImmutableRatesProviderBuilder builder = knownData.toBuilder();
+    for (CalibratedBlock block : calibrated) {
+      builder.discountCurves(block.discountCurves).indexCurves(block.indexCurves);
+    }
+    return builder.build();
   }
 
   //-------------------------------------------------------------------------
+  // the initial guess, using the parameters of the previous curves where available
+  private static ImmutableList<Double> initialGuesses(
+      RatesCurveGroupDefinition groupDefn,
+      MarketData marketData,
+      Map<CurveName, Curve> previousCurves) {
+
+    if (previousCurves.isEmpty()) {
+      return groupDefn.initialGuesses(marketData);
+    }
+    ImmutableList.Builder<Double> result = ImmutableList.builder();
+    for (CurveDefinition defn : groupDefn.getCurveDefinitions()) {
+      Curve previous = previousCurves.get(defn.getName());
+      if (previous != null && previous.getParameterCount() == defn.getParameterCount()) {
+        for (int i = 0; i < previous.getParameterCount(); i++) {
+          result.add(previous.getParameter(i));
+        }
+      } else {
+        result.addAll(defn.initialGuess(marketData));
+      }
+    }
+    return result.build();
+  }
+
+  // the derivative matrix at the previous root, derived from the previous Jacobians, null if not available
+  // the stored Jacobian of the group is the inverse of the derivative of the measures with respect to the parameters
+  private DoubleMatrix previousJacobian(
+      ImmutableList<CurveParameterSize> orderGroup,
+      Map<CurveName, Curve> previousCurves) {
+
+    int totalParamsGroup = orderGroup.stream().mapToInt(e -> e.getParameterCount()).sum();
+    double[][] pDmGroup = new double[totalParamsGroup][totalParamsGroup];
+    int startRow = 0;
+    for (CurveParameterSize rowOrder : orderGroup) {
+      Curve curve = previousCurves.get(rowOrder.getName());
+      if (curve == null || curve.getParameterCount() != rowOrder.getParameterCount()) {
+        return null;
+      }
+      Optional<JacobianCalibrationMatrix> jacobian = curve.getMetadata().findInfo(CurveInfoType.JACOBIAN);
+      if (!jacobian.isPresent()) {
+        return null;
+      }
+      List<CurveParameterSize> previousOrder = jacobian.get().getOrder();
+      DoubleMatrix previousMatrix = jacobian.get().getJacobianMatrix();
+      int startColumn = 0;
+      for (CurveParameterSize columnOrder : orderGroup) {
+        int previousIndex = previousOrder.indexOf(columnOrder);
+        if (previousIndex < 0) {
+          return null;
+        }
+        int previousColumn = previousOrder.subList(0, previousIndex).stream().mapToInt(e -> e.getParameterCount()).sum();
+        for (int p = 0; p < rowOrder.getParameterCount(); p++) {
+          System.arraycopy(
+              previousMatrix.rowArray(p),
+              previousColumn,
+              pDmGroup[startRow + p],
+              startColumn,
+              columnOrder.getParameterCount());
+        }
+        startColumn += columnOrder.getParameterCount();
+      }
+      startRow += rowOrder.getParameterCount();
+    }
+    return matrixAlgebra.getInverse(DoubleMatrix.ofUnsafe(pDmGroup));
+  }
+
   // converts a definition to the curve order list
   private static ImmutableList<CurveParameterSize> toOrder(RatesCurveGroupDefinition groupDefn) {
     return groupDefn.getCurveDefinitions().stream().map(def -> def.toCurveParameterSize()).collect(toImmutableList());
@@ -308,6 +669,7 @@ public final class RatesCurveCalibrator {
       RatesProviderGenerator providerGenerator,
       ImmutableList<ResolvedTrade> trades,
       ImmutableList<Double> initialGuesses,
+      DoubleMatrix initialJacobian,
       ImmutableList<CurveParameterSize> curveOrder) {
 
     // setup for calibration
@@ -317,46 +679,62 @@ public final class RatesCurveCalibrator {
 
     // calibrate
     DoubleArray initialGuess = DoubleArray.copyOf(initialGuesses);
+    if (initialJacobian != null) {
+      return rootFinder.findRoot(valueCalculator, derivativeCalculator, initialGuess, initialJacobian);
+    }
     return rootFinder.findRoot(valueCalculator, derivativeCalculator, initialGuess);
   }
 
   //-------------------------------------------------------------------------
   // calculates the Jacobian and builds the result, called once per group
+  // the sensitivity is calculated to the curves of the group and of the groups it depends on
+  // the result is expressed in terms of the curves of all previous groups, the other sensitivities being zero
   // this uses, but does not alter, data from previous groups
   private ImmutableMap<CurveName, JacobianCalibrationMatrix> updateJacobiansForGroup(
       ImmutableRatesProvider provider,
       ImmutableList<ResolvedTrade> trades,
       ImmutableList<CurveParameterSize> orderGroup,
+      ImmutableList<CurveParameterSize> orderAncestors,
       ImmutableList<CurveParameterSize> orderPrev,
-      ImmutableList<CurveParameterSize> orderAll,
-      ImmutableMap<CurveName, JacobianCalibrationMatrix> jacobians) {
+      Map<CurveName, JacobianCalibrationMatrix> jacobiansAncestors) {
 
     // sensitivity to all parameters in the stated order
-    int totalParamsAll = orderAll.stream().mapToInt(e -> e.getParameterCount()).sum();
-    DoubleMatrix res = derivatives(trades, provider, orderAll, totalParamsAll);
+    ImmutableList<CurveParameterSize> orderAncestorsAndGroup = concatToList(orderAncestors, orderGroup);
+    int totalParamsAncestorsAndGroup = parameterCount(orderAncestorsAndGroup);
+    DoubleMatrix res = derivatives(trades, provider, orderAncestorsAndGroup, totalParamsAncestorsAndGroup);
 
     // jacobian direct
     int nbTrades = trades.size();
-    int totParamsGroup = orderGroup.stream().mapToInt(e -> e.getParameterCount()).sum();
-    int totParamsPrev = totalParamsAll - totParamsGroup;
-    DoubleMatrix pDmCurMatrix = jacobianDirect(res, nbTrades, totParamsGroup, totParamsPrev);
-
-    // jacobian indirect: when totalParamsPrevious > 0
-    DoubleMatrix pDmPrev = jacobianIndirect(
-        res, pDmCurMatrix, nbTrades, totParamsGroup, totParamsPrev, orderPrev, jacobians);
-
-    // add to the map of jacobians, one entry for each curve in this group
+    int totParamsGroup = parameterCount(orderGroup);
+    int totParamsAncestors = totalParamsAncestorsAndGroup - totParamsGroup;
+    DoubleMatrix pDmCurMatrix = jacobianDirect(res, nbTrades, totParamsGroup, totParamsAncestors);
+
+    // jacobian indirect: when totalParamsAncestors > 0
+    DoubleMatrix pDmAncestors = jacobianIndirect(
+        res, pDmCurMatrix, nbTrades, totParamsGroup, totParamsAncestors, orderAncestors, jacobiansAncestors);
+
+    // build the map of jacobians, one entry for each curve in this group
+    ImmutableList<CurveParameterSize> orderAll = concatToList(orderPrev, orderGroup);
+    int totParamsPrev = parameterCount(orderPrev);
+    int totalParamsAll = totParamsPrev + totParamsGroup;
     ImmutableMap.Builder<CurveName, JacobianCalibrationMatrix> jacobianBuilder = ImmutableMap.builder();
-    jacobianBuilder.putAll(jacobians);
     int startIndex = 0;
     for (CurveParameterSize order : orderGroup) {
       int paramCount = order.getParameterCount();
       double[][] pDmCurveArray = new double[paramCount][totalParamsAll];
-      // copy data for previous groups
-      if (totParamsPrev > 0) {
+      // copy data for the groups this group depends on, the data for other previous groups is zero
+      int startIndexAncestor = 0;
+      for (CurveParameterSize orderAncestor : orderAncestors) {
+        int startIndexPrev = startIndex(orderPrev, orderAncestor.getName());
         for (int p = 0; p < paramCount; p++) {
-          System.arraycopy(pDmPrev.rowArray(startIndex + p), 0, pDmCurveArray[p], 0, totParamsPrev);
+          System.arraycopy(
+              pDmAncestors.rowArray(startIndex + p),
+              startIndexAncestor,
+              pDmCurveArray[p],
+              startIndexPrev,
+              orderAncestor.getParameterCount());
         }
+        startIndexAncestor += orderAncestor.getParameterCount();
       }
       // copy data for this group
       for (int p = 0; p < paramCount; p++) {
@@ -398,14 +776,15 @@ public final class RatesCurveCalibrator {
       ImmutableList<CurveParameterSize> orderAll,
       int totalParamsAll) {
 
-    return DoubleMatrix.ofArrayObjects(
-        trades.size(),
-        totalParamsAll,
-        i -> measures.derivative(trades.get(i), provider, orderAll));
+    double[][] derivative = new double[trades.size()][totalParamsAll];
+    for (int i = 0; i < trades.size(); i++) {
+      measures.derivative(trades.get(i), provider, orderAll, derivative[i]);
+    }
+    return DoubleMatrix.ofUnsafe(derivative);
   }
 
   // jacobian direct, for the current group
-  private static DoubleMatrix jacobianDirect(
+  private DoubleMatrix jacobianDirect(
       DoubleMatrix res,
       int nbTrades,
       int totalParamsGroup,
@@ -415,18 +794,18 @@ public final class RatesCurveCalibrator {
     for (int i = 0; i < nbTrades; i++) {
       System.arraycopy(res.rowArray(i), totalParamsPrevious, direct[i], 0, totalParamsGroup);
     }
-    return MATRIX_ALGEBRA.getInverse(DoubleMatrix.copyOf(direct));
+    return matrixAlgebra.getInverse(DoubleMatrix.copyOf(direct));
   }
 
   // jacobian indirect, merging groups
-  private static DoubleMatrix jacobianIndirect(
+  private DoubleMatrix jacobianIndirect(
       DoubleMatrix res,
       DoubleMatrix pDmCurrentMatrix,
       int nbTrades,
       int totalParamsGroup,
       int totalParamsPrevious,
       ImmutableList<CurveParameterSize> orderPrevious,
-      ImmutableMap<CurveName, JacobianCalibrationMatrix> jacobiansPrevious) {
+      Map<CurveName, JacobianCalibrationMatrix> jacobiansPrevious) {
 
     if (totalParamsPrevious == 0) {
       return DoubleMatrix.EMPTY;
@@ -435,8 +814,8 @@ public final class RatesCurveCalibrator {
     for (int i = 0; i < nbTrades; i++) {
       System.arraycopy(res.rowArray(i), 0, nonDirect[i], 0, totalParamsPrevious);
     }
-    DoubleMatrix pDpPreviousMatrix = (DoubleMatrix) MATRIX_ALGEBRA.scale(
-        MATRIX_ALGEBRA.multiply(pDmCurrentMatrix, DoubleMatrix.copyOf(nonDirect)), -1d);
+    DoubleMatrix pDpPreviousMatrix = (DoubleMatrix) matrixAlgebra.scale(
+        matrixAlgebra.multiply(pDmCurrentMatrix, DoubleMatrix.copyOf(nonDirect)), -1d);
     // all curves: order and size
     int[] startIndexBefore = new int[orderPrevious.size()];
     for (int i = 1; i < orderPrevious.size(); i++) {
@@ -448,10 +827,10 @@ public final class RatesCurveCalibrator {
       int paramCountOuter = orderPrevious.get(i).getParameterCount();
       JacobianCalibrationMatrix thisInfo = jacobiansPrevious.get(orderPrevious.get(i).getName());
       DoubleMatrix thisMatrix = thisInfo.getJacobianMatrix();
-      int startIndexInner = 0;
       for (int j = 0; j < orderPrevious.size(); j++) {
         int paramCountInner = orderPrevious.get(j).getParameterCount();
-        if (thisInfo.containsCurve(orderPrevious.get(j).getName())) { // If not, the matrix stays with 0
+        int startIndexInner = startIndex(thisInfo.getOrder(), orderPrevious.get(j).getName());
+        if (startIndexInner >= 0) { // If not, the matrix stays with 0
           for (int k = 0; k < paramCountOuter; k++) {
             System.arraycopy(
                 thisMatrix.rowArray(k),
@@ -461,11 +840,27 @@ public final class RatesCurveCalibrator {
                 paramCountInner);
           }
         }
-        startIndexInner += paramCountInner;
       }
     }
     DoubleMatrix transitionMatrix = DoubleMatrix.copyOf(transition);
-    return (DoubleMatrix) MATRIX_ALGEBRA.multiply(pDpPreviousMatrix, transitionMatrix);
+    return (DoubleMatrix) matrixAlgebra.multiply(pDpPreviousMatrix, transitionMatrix);
+  }
+
+  // the total number of parameters
+  private static int parameterCount(List<CurveParameterSize> order) {
+    return order.stream().mapToInt(e -> e.getParameterCount()).sum();
+  }
+
+  // the index of the first parameter of the curve, -1 if the curve is not found
+  private static int startIndex(List<CurveParameterSize> order, CurveName name) {
+    int startIndex = 0;
+    for (CurveParameterSize size : order) {
+      if (size.getName().equals(name)) {
+        return startIndex;
+      }
+      startIndex += size.getParameterCount();
+    }
+    return -1;
   }
 
   //-------------------------------------------------------------------------
@@ -474,4 +869,63 @@ public final class RatesCurveCalibrator {
     return Messages.format("CurveCalibrator[{}]", measures);
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * A group to be calibrated, with the data derived from its definition.
+   */
+  private static final class CalibrationBlock {
+
+    /** The group definition, bound to the time-series. */
+    private final RatesCurveGroupDefinition groupDefn;
+    /** The trades, one for each node. */
+    private final ImmutableList<ResolvedTrade> trades;
+    /** The initial guess of the parameters. */
+    private final ImmutableList<Double> initialGuesses;
+    /** The curves of the group. */
+    private final ImmutableList<CurveParameterSize> orderGroup;
+    /** The curves of all the previous groups. */
+    private final ImmutableList<CurveParameterSize> orderPrev;
+
+    private CalibrationBlock(
+        RatesCurveGroupDefinition groupDefn,
+        ImmutableList<ResolvedTrade> trades,
+        ImmutableList<Double> initialGuesses,
+        ImmutableList<CurveParameterSize> orderGroup,
+        ImmutableList<CurveParameterSize> orderPrev) {
+
+      this.groupDefn = groupDefn;
+      this.trades = trades;
+      this.initialGuesses = initialGuesses;
+      this.orderGroup = orderGroup;
+      this.orderPrev = orderPrev;
+    }
+  }
+
+  /**
+   * The result of calibrating a group.
+   */
+  private static final class CalibratedBlock {
+
+    /** The curves of the group. */
+    private final ImmutableList<CurveParameterSize> orderGroup;
+    /** The Jacobians of the curves of the group, empty if not computed. */
+    private final ImmutableMap<CurveName, JacobianCalibrationMatrix> jacobians;
+    /** The calibrated discount curves. */
+    private final ImmutableMap<Currency, Curve> discountCurves;
+    /** The calibrated forward curves. */
+    private final ImmutableMap<Index, Curve> indexCurves;
+
+    private CalibratedBlock(
+        ImmutableList<CurveParameterSize> orderGroup,
+        ImmutableMap<CurveName, JacobianCalibrationMatrix> jacobians,
+        ImmutableMap<Currency, Curve> discountCurves,
+        ImmutableMap<Index, Curve> indexCurves) {
+
+      this.orderGroup = orderGroup;
+      this.jacobians = jacobians;
+      this.discountCurves = discountCurves;
+      this.indexCurves = indexCurves;
+    }
+  }
+
 }
@@ -12,6 +12,8 @@ import java.time.LocalDate;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
 import com.opengamma.strata.market.amount.CashFlow;
 import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.explain.ExplainKey;
@@ -22,6 +24,7 @@ import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.rate.RateComputationFn;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.rate.ScenarioRatesProvider;
 import com.opengamma.strata.product.fra.ResolvedFra;
 import com.opengamma.strata.product.rate.RateComputation;
 
@@ -72,6 +75,24 @@ public class DiscountingFraProductPricer {
     return CurrencyAmount.of(fra.getCurrency(), pv);
   }
 
+  /**
+   * Calculates the present value of the FRA product in each scenario.
+   * <p>
+   * The present value of the product is the value on the valuation date.
+   * This is the discounted forecast value.
+   * The discount factors of all scenarios are obtained at once.
+   * 
+   * @param fra  the product
+   * @param provider  the rates provider of each scenario
+   * @return the present value of the product in each scenario
+   */
+  public CurrencyScenarioArray presentValue(ResolvedFra fra, ScenarioRatesProvider provider) {
+    // forecastValue * discountFactor
+    DoubleArray dfs = provider.discountFactor(fra.getCurrency(), fra.getPaymentDate());
+    DoubleArray pv = dfs.mapWithIndex((i, df) -> forecastValue0(fra, provider.scenario(i)) * df);
+    return CurrencyScenarioArray.of(fra.getCurrency(), pv);
+  }
+
   /**
    * Calculates the present value sensitivity of the FRA product.
    * <p>
@@ -8,10 +8,12 @@ package com.opengamma.strata.pricer.fra;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
 import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.rate.ScenarioRatesProvider;
 import com.opengamma.strata.product.fra.ResolvedFra;
 import com.opengamma.strata.product.fra.ResolvedFraTrade;
 
@@ -69,6 +71,20 @@ public class DiscountingFraTradePricer {
     return productPricer.presentValue(trade.getProduct(), provider);
   }
 
+  /**
+   * Calculates the present value of the FRA trade in each scenario.
+   * <p>
+   * The present value of the trade is the value on the valuation date.
+   * This is the discounted forecast value.
+   * 
+   * @param trade  the trade
+   * @param provider  the rates provider of each scenario
+   * @return the present value of the trade in each scenario
+   */
+  public CurrencyScenarioArray presentValue(ResolvedFraTrade trade, ScenarioRatesProvider provider) {
+    return productPricer.presentValue(trade.getProduct(), provider);
+  }
+
   /**
    * Explains the present value of the FRA product.
    * <p>
@@ -6,12 +6,16 @@
 package com.opengamma.strata.pricer.impl.rate;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.opengamma.strata.basics.index.OvernightIndex;
 import com.opengamma.strata.basics.index.OvernightIndexObservation;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.rate.CompactPointSensitivities;
 import com.opengamma.strata.pricer.rate.OvernightIndexRates;
 import com.opengamma.strata.pricer.rate.RateComputationFn;
 import com.opengamma.strata.pricer.rate.RatesProvider;
@@ -49,19 +53,20 @@ public class ForwardOvernightAveragedDailyRateComputationFn
     OvernightIndex index = computation.getIndex();
     OvernightIndexRates rates = provider.overnightIndexRates(index);
     LocalDate lastFixingDate = computation.getEndDate();
-    double interestSum = 0d;
-    int numberOfDays = 0;
+    List<OvernightIndexObservation> observations = new ArrayList<>();
     LocalDate currentFixingDate = computation.getStartDate();
     while (!currentFixingDate.isAfter(lastFixingDate)) {
       LocalDate referenceFixingDate = computation.getFixingCalendar().previousOrSame(currentFixingDate);
-      OvernightIndexObservation indexObs = computation.observeOn(referenceFixingDate);
-      double forwardRate = rates.rate(indexObs);
-      interestSum += forwardRate;
-      numberOfDays++;
+      observations.add(computation.observeOn(referenceFixingDate));
       currentFixingDate = currentFixingDate.plusDays(1);
     }
-
-    return interestSum / numberOfDays;
+    // the observations are in date order, allowing the rates to be found in bulk
+    DoubleArray forwardRates = rates.rate(observations);
+    double interestSum = 0d;
+    for (int i = 0; i < forwardRates.size(); i++) {
+      interestSum += forwardRates.get(i);
+    }
+    return interestSum / observations.size();
   }
 
   @Override
@@ -74,18 +79,20 @@ public class ForwardOvernightAveragedDailyRateComputationFn
     OvernightIndex index = computation.getIndex();
     OvernightIndexRates rates = provider.overnightIndexRates(index);
     LocalDate lastFixingDate = computation.getEndDate();
-    PointSensitivityBuilder pointSensitivityBuilder = PointSensitivityBuilder.none();
+    CompactPointSensitivities pointSensitivityBuilder = CompactPointSensitivities.of();
     int numberOfDays = 0;
     LocalDate currentFixingDate = computation.getStartDate();
     while (!currentFixingDate.isAfter(lastFixingDate)) {
       LocalDate referenceFixingDate = computation.getFixingCalendar().previousOrSame(currentFixingDate);
       OvernightIndexObservation indexObs = computation.observeOn(referenceFixingDate);
-      PointSensitivityBuilder forwardRateSensitivity = rates.ratePointSensitivity(indexObs);
-      pointSensitivityBuilder = pointSensitivityBuilder.combinedWith(forwardRateSensitivity);
+      pointSensitivityBuilder = pointSensitivityBuilder.combinedWith(rates.ratePointSensitivity(indexObs));
       numberOfDays++;
       currentFixingDate = currentFixingDate.plusDays(1);
     }
 
+    if (pointSensitivityBuilder.isEmpty()) {
+      return PointSensitivityBuilder.none();
+    }
     return pointSensitivityBuilder.multipliedBy(1d / numberOfDays);
   }
 
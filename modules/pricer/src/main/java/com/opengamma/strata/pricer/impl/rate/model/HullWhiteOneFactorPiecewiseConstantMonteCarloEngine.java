@@ -0,0 +1,264 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.rate.model;
+
+import java.util.stream.IntStream;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.random.NormalRandomNumberGenerator;
+import com.opengamma.strata.math.impl.random.PhiloxRandomEngine;
+import com.opengamma.strata.math.impl.random.RandomNumberGenerator;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParameters;
+
+/**
+ * Monte Carlo simulation of the Hull-White one factor model with piecewise constant volatility.
+ * <p>
+ * The simulation is in the forward measure of the numeraire time, the numeraire being the zero-coupon bond
+ * maturing at that time. In that measure, the ratio of any zero-coupon bond to the numeraire is
+ * <pre>
+ *   P(t,u) / P(t,T) = P(0,u) / P(0,T) exp(H(u) X(t) - H(u)^2 V(t) / 2)
+ * </pre>
+ * with {@code H(u) = (exp(-a u) - exp(-a T)) / a} and the state {@code X(t)} the integral of
+ * {@code sigma(s) exp(a s)} with respect to a Brownian motion, which is a Gaussian process with
+ * independent increments and variance {@code V(t)}.
+ * The state is thus simulated exactly at the simulation times, with no discretisation error and
+ * no intermediate steps.
+ * <p>
+ * The paths are simulated in blocks, in parallel. The random numbers of each block are taken from its own stream
+ * of a {@link PhiloxRandomEngine}, so that the paths depend only on the seed and the block size,
+ * not on the number of threads or the order in which the blocks are run.
+ * <p>
+ * Reference: Henrard, M. "Bermudan Swaptions in Gaussian HJM One-Factor Model: Analytical and Numerical Approaches".
+ * SSRN, October 2008. Available at SSRN: http://ssrn.com/abstract=1287982
+ */
+public final class HullWhiteOneFactorPiecewiseConstantMonteCarloEngine {
+
+  /**
+   * The simulation times, strictly increasing and not negative.
+   */
+  private final double[] times;
+  /**
+   * The numeraire time.
+   */
+  private final double numeraireTime;
+  /**
+   * The mean reversion.
+   */
+  private final double meanReversion;
+  /**
+   * The volatilities.
+   */
+  private final double[] volatility;
+  /**
+   * The variance of the state at each time.
+   */
+  private final double[] variance;
+  /**
+   * The standard deviation of the increment of the state to each time from the previous one.
+   */
+  private final double[] incrementStdDev;
+  /**
+   * The integrals of exp(2 a s) over the intersection of each simulation period with each volatility period.
+   */
+  private final double[][] periodIntegrals;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance.
+   *
+   * @param parameters  the Hull-White model parameters
+   * @param times  the simulation times, strictly increasing and not negative
+   * @param numeraireTime  the numeraire time, not before the last simulation time
+   * @return the engine
+   */
+  public static HullWhiteOneFactorPiecewiseConstantMonteCarloEngine of(
+      HullWhiteOneFactorPiecewiseConstantParameters parameters,
+      DoubleArray times,
+      double numeraireTime) {
+
+    ArgChecker.notNull(parameters, "parameters");
+    ArgChecker.notNull(times, "times");
+    ArgChecker.isTrue(times.size() > 0, "times must not be empty");
+    ArgChecker.isTrue(times.get(0) >= 0d, "times must not be negative");
+    for (int i = 1; i < times.size(); i++) {
+      ArgChecker.isTrue(times.get(i) > times.get(i - 1), "times must be strictly increasing");
+    }
+    ArgChecker.isTrue(numeraireTime >= times.get(times.size() - 1), "numeraireTime must not be before the last time");
+    return new HullWhiteOneFactorPiecewiseConstantMonteCarloEngine(parameters, times.toArray(), numeraireTime);
+  }
+
+  // restricted constructor
+  private HullWhiteOneFactorPiecewiseConstantMonteCarloEngine(
+      HullWhiteOneFactorPiecewiseConstantParameters parameters,
+      double[] times,
+      double numeraireTime) {
+
+    this.times = times;
+    this.numeraireTime = numeraireTime;
+    this.meanReversion = parameters.getMeanReversion();
+    this.volatility = parameters.getVolatility().toArray();
+    double[] volatilityTime = parameters.getVolatilityTime().toArray();
+    int nbTimes = times.length;
+    int nbVolatility = volatility.length;
+    this.variance = new double[nbTimes];
+    this.incrementStdDev = new double[nbTimes];
+    this.periodIntegrals = new double[nbTimes][nbVolatility];
+    double cumulated = 0d;
+    for (int k = 0; k < nbTimes; k++) {
+      double start = k == 0 ? 0d : times[k - 1];
+      double end = times[k];
+      double increment = 0d;
+      for (int i = 0; i < nbVolatility; i++) {
+        double low = Math.max(start, volatilityTime[i]);
+        double high = Math.min(end, volatilityTime[i + 1]);
+        if (high > low) {
+          periodIntegrals[k][i] =
+              (Math.exp(2d * meanReversion * high) - Math.exp(2d * meanReversion * low)) / (2d * meanReversion);
+          increment += volatility[i] * volatility[i] * periodIntegrals[k][i];
+        }
+      }
+      cumulated += increment;
+      variance[k] = cumulated;
+      incrementStdDev[k] = Math.sqrt(increment);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the simulation times.
+   *
+   * @return the times
+   */
+  public DoubleArray getTimes() {
+    return DoubleArray.copyOf(times);
+  }
+
+  /**
+   * Gets the numeraire time.
+   *
+   * @return the numeraire time
+   */
+  public double getNumeraireTime() {
+    return numeraireTime;
+  }
+
+  /**
+   * Gets the variance of the state at a simulation time.
+   *
+   * @param timeIndex  the index of the simulation time
+   * @return the variance
+   */
+  public double variance(int timeIndex) {
+    return variance[timeIndex];
+  }
+
+  /**
+   * Calculates the sensitivity of the variance of the state at a simulation time to the volatilities.
+   *
+   * @param timeIndex  the index of the simulation time
+   * @return the sensitivities
+   */
+  public DoubleArray varianceSensitivity(int timeIndex) {
+    return DoubleArray.of(volatility.length, i -> {
+      double sum = 0d;
+      for (int k = 0; k <= timeIndex; k++) {
+        sum += periodIntegrals[k][i];
+      }
+      return 2d * volatility[i] * sum;
+    });
+  }
+
+  /**
+   * Calculates the factor {@code H(u)} of a zero-coupon bond.
+   *
+   * @param maturityTime  the maturity time of the bond
+   * @return the factor
+   */
+  public double bondFactor(double maturityTime) {
+    return (Math.exp(-meanReversion * maturityTime) - Math.exp(-meanReversion * numeraireTime)) / meanReversion;
+  }
+
+  /**
+   * Calculates the ratio of a zero-coupon bond to the numeraire, relative to its initial value.
+   * <p>
+   * This is {@code exp(H(u) X(t) - H(u)^2 V(t) / 2)}, which has an expected value of one.
+   *
+   * @param timeIndex  the index of the simulation time
+   * @param bondFactor  the factor of the bond, see {@link #bondFactor(double)}
+   * @param state  the state at the simulation time
+   * @return the relative ratio
+   */
+  public double relativeBondRatio(int timeIndex, double bondFactor, double state) {
+    return Math.exp(bondFactor * state - 0.5 * bondFactor * bondFactor * variance[timeIndex]);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Simulates the state at the simulation times.
+   * <p>
+   * The paths are split into blocks of the specified size, which are simulated in parallel.
+   * Block {@code b} uses stream {@code b} of a {@link PhiloxRandomEngine} with the seed.
+   * When antithetic, each even path within a block is followed by its reflection.
+   *
+   * @param nbPaths  the number of paths
+   * @param blockSize  the number of paths in each block
+   * @param seed  the seed of the random numbers
+   * @param antithetic  whether to use antithetic paths
+   * @return the states, with one row for each simulation time and one column for each path
+   */
+  public DoubleMatrix simulate(int nbPaths, int blockSize, long seed, boolean antithetic) {
+    ArgChecker.notNegativeOrZero(nbPaths, "nbPaths");
+    ArgChecker.notNegativeOrZero(blockSize, "blockSize");
+    double[][] states = new double[times.length][nbPaths];
+    int nbBlocks = (nbPaths + blockSize - 1) / blockSize;
+    IntStream.range(0, nbBlocks).parallel().forEach(block -> {
+      RandomNumberGenerator generator = new NormalRandomNumberGenerator(0d, 1d, PhiloxRandomEngine.of(seed, block));
+      int start = block * blockSize;
+      int end = Math.min(start + blockSize, nbPaths);
+      double[] normals = null;
+      for (int path = start; path < end; path++) {
+        boolean reflected = antithetic && ((path - start) & 1) == 1;
+        if (!reflected) {
+          normals = generator.getVector(times.length);
+        }
+        double sign = reflected ? -1d : 1d;
+        double state = 0d;
+        for (int k = 0; k < times.length; k++) {
+          state += sign * incrementStdDev[k] * normals[k];
+          states[k][path] = state;
+        }
+      }
+    });
+    return DoubleMatrix.ofUnsafe(states);
+  }
+
+  /**
+   * Calculates the pathwise sensitivities of the states of a path to the volatilities.
+   * <p>
+   * The random numbers driving the path are held constant.
+   *
+   * @param pathStates  the states of the path at the simulation times
+   * @param sensitivities  the array to write the sensitivities to, with one row for each simulation time
+   *   and one column for each volatility
+   */
+  public void stateSensitivityInto(double[] pathStates, double[][] sensitivities) {
+    ArgChecker.isTrue(pathStates.length == times.length, "pathStates must be of length {}", times.length);
+    double previous = 0d;
+    for (int k = 0; k < times.length; k++) {
+      double varianceIncrement = incrementStdDev[k] * incrementStdDev[k];
+      // the state increment is sqrt(dV) Z, with derivative (state increment / dV) sigma_i integral_i
+      double scale = varianceIncrement > 0d ? (pathStates[k] - previous) / varianceIncrement : 0d;
+      for (int i = 0; i < volatility.length; i++) {
+        double before = k == 0 ? 0d : sensitivities[k - 1][i];
+        sensitivities[k][i] = before + scale * volatility[i] * periodIntegrals[k][i];
+      }
+      previous = pathStates[k];
+    }
+  }
+
+}
@@ -12,6 +12,7 @@ import static com.opengamma.strata.math.MathUtils.pow3;
 
 import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
 
 import org.joda.beans.ImmutableBean;
 import org.joda.beans.MetaBean;
@@ -204,6 +205,62 @@ public final class SabrHaganVolatilityFunctionProvider
       double rho,
       double nu) {
 
+    double[] derivatives = new double[6];
+    double volatility = volatilityAdjoint(forward, strike, timeToExpiry, alpha, beta, rho, nu, derivatives);
+    return ValueDerivatives.of(volatility, DoubleArray.ofUnsafe(derivatives));
+  }
+
+  /**
+   * Computes the implied volatility in the SABR model and its derivatives with respect to the model parameters
+   * for a set of strikes.
+   * <p>
+   * The model data is read once and the derivatives are written directly to the rows of
+   * {@code parameterSensitivities}, without creating intermediate objects for each strike.
+   * 
+   * @param forward  the forward value of the underlying
+   * @param strikes  the strike values of the options
+   * @param timeToExpiry  the time to expiry of the options
+   * @param data  the SABR data
+   * @param volatilities  the array to write the volatilities to, of the same length as the strikes
+   * @param parameterSensitivities  the array to write the derivatives with respect to alpha, beta, rho and nu to,
+   *   with one row of length 4 for each strike
+   */
+  @Override
+  public void volatilityAdjointInto(
+      double forward,
+      double[] strikes,
+      double timeToExpiry,
+      SabrFormulaData data,
+      double[] volatilities,
+      double[][] parameterSensitivities) {
+
+    ArgChecker.notNull(strikes, "strikes");
+    ArgChecker.notNull(data, "data");
+    ArgChecker.isTrue(volatilities.length == strikes.length, "volatilities must be same length as strikes");
+    ArgChecker.isTrue(parameterSensitivities.length == strikes.length,
+        "parameterSensitivities must be same length as strikes");
+    double alpha = data.getAlpha();
+    double beta = data.getBeta();
+    double rho = data.getRho();
+    double nu = data.getNu();
+    double[] derivatives = new double[6];
+    for (int i = 0; i < strikes.length; i++) {
+      volatilities[i] = volatilityAdjoint(forward, strikes[i], timeToExpiry, alpha, beta, rho, nu, derivatives);
+      System.arraycopy(derivatives, 2, parameterSensitivities[i], 0, 4);
+    }
+  }
+
+  // computes the volatility, writing the derivatives to an array of length 6
+  private double volatilityAdjoint(
+      double forward,
+      double strike,
+      double timeToExpiry,
+      double alpha,
+      double beta,
+      double rho,
+      double nu,
+      double[] derivatives) {
+
     ArgChecker.isTrue(forward > 0.0, "forward must be greater than zero");
     ArgChecker.isTrue(strike >= 0.0, "strike must be greater than zero");
     ArgChecker.isTrue(timeToExpiry >= 0.0, "timeToExpiry must be greater than zero");
@@ -227,7 +284,9 @@ public final class SabrHaganVolatilityFunctionProvider
         // so we return an arbitrary large number
         alphaBar = 1e7;
       }
-      return ValueDerivatives.of(0d, DoubleArray.of(0, 0, alphaBar, 0, 0, 0));
+      Arrays.fill(derivatives, 0d);
+      derivatives[2] = alphaBar;
+      return 0d;
     }
 
     // Implementation note: Forward sweep.
@@ -350,7 +409,13 @@ public final class SabrHaganVolatilityFunctionProvider
         (betaStar / 12 * lnrfKPow2 + pow3(betaStar) / 480 * lnrfKPow4) * sf1Bar +
         (-betaStar * alphaPow2 / (sfKPow2 * 12) + (rho * nu * alpha) / sfKMul4) * timeToExpiry * sf2Bar;
 
-    return ValueDerivatives.of(volatility, DoubleArray.of(forwardBar, strikeBar, alphaBar, betaBar, rhoBar, nuBar));
+    derivatives[0] = forwardBar;
+    derivatives[1] = strikeBar;
+    derivatives[2] = alphaBar;
+    derivatives[3] = betaBar;
+    derivatives[4] = rhoBar;
+    derivatives[5] = nuBar;
+    return volatility;
   }
 
   /**
@@ -18,6 +18,7 @@ import com.opengamma.strata.math.impl.minimization.NonLinearParameterTransforms;
 import com.opengamma.strata.math.impl.minimization.NonLinearTransformFunction;
 import com.opengamma.strata.math.impl.statistics.leastsquare.LeastSquareResults;
 import com.opengamma.strata.math.impl.statistics.leastsquare.LeastSquareResultsWithTransform;
+import com.opengamma.strata.math.impl.statistics.leastsquare.LevenbergMarquardtLeastSquare;
 import com.opengamma.strata.math.impl.statistics.leastsquare.NonLinearLeastSquare;
 
 /**
@@ -33,6 +34,8 @@ import com.opengamma.strata.math.impl.statistics.leastsquare.NonLinearLeastSquar
 public abstract class SmileModelFitter<T extends SmileModelData> {
   private static final MatrixAlgebra MA = new OGMatrixAlgebra();
   private static final NonLinearLeastSquare SOLVER = new NonLinearLeastSquare(DecompositionFactory.SV_COMMONS, MA, 1e-12);
+  private static final LevenbergMarquardtLeastSquare WORKSPACE_SOLVER =
+      new LevenbergMarquardtLeastSquare(DecompositionFactory.SV_COMMONS, 1e-12);
   private static final Function<DoubleArray, Boolean> UNCONSTRAINED = new Function<DoubleArray, Boolean>() {
     @Override
     public Boolean apply(DoubleArray x) {
@@ -45,6 +48,9 @@ public abstract class SmileModelFitter<T extends SmileModelData> {
   private final Function<DoubleArray, DoubleMatrix> volAdjointFunc;
   private final DoubleArray marketValues;
   private final DoubleArray errors;
+  private final double forward;
+  private final DoubleArray strikes;
+  private final double timeToExpiry;
 
   /**
    * Constructs smile model fitter from forward, strikes, time to expiry, implied volatilities and error values.
@@ -77,6 +83,9 @@ public abstract class SmileModelFitter<T extends SmileModelData> {
     this.marketValues = impliedVols;
     this.errors = error;
     this.model = model;
+    this.forward = forward;
+    this.strikes = strikes;
+    this.timeToExpiry = timeToExpiry;
     this.volFunc = new Function<DoubleArray, DoubleArray>() {
       @Override
       public DoubleArray apply(DoubleArray x) {
@@ -92,12 +101,9 @@ public abstract class SmileModelFitter<T extends SmileModelData> {
       @Override
       public DoubleMatrix apply(DoubleArray x) {
         final T data = toSmileModelData(x);
-        double[][] resAdj = new double[n][];
-        for (int i = 0; i < n; ++i) {
-          DoubleArray deriv = model.volatilityAdjoint(forward, strikes.get(i), timeToExpiry, data).getDerivatives();
-          resAdj[i] = deriv.subArray(2).toArrayUnsafe();
-        }
-        return DoubleMatrix.copyOf(resAdj);
+        double[][] resAdj = new double[n][data.getNumberOfParameters()];
+        model.volatilityAdjointInto(forward, strikes.toArrayUnsafe(), timeToExpiry, data, new double[n], resAdj);
+        return DoubleMatrix.ofUnsafe(resAdj);
       }
     };
   }
@@ -145,6 +151,61 @@ public abstract class SmileModelFitter<T extends SmileModelData> {
     return new LeastSquareResultsWithTransform(solRes, transform);
   }
 
+  /**
+   * Solves using the default NonLinearParameterTransforms for the concrete implementation with some parameters fixed
+   * to their initial values (indicated by fixed), evaluating the model in preallocated arrays.
+   * <p>
+   * This uses {@link LevenbergMarquardtLeastSquare}, which allocates its arrays once for the fit rather than
+   * on each iteration, and the batched evaluation
+   * {@link VolatilityFunctionProvider#volatilityAdjointInto(double, double[], double, SmileModelData, double[], double[][])}.
+   * The fit converges to the same tolerance as {@link #solve(DoubleArray, BitSet)}, but without the check
+   * for saddle points, so the results may differ slightly.
+   * 
+   * @param start  the first guess at the parameter values
+   * @param fixed  the parameters are fixed
+   * @return the calibration results
+   */
+  public LeastSquareResultsWithTransform solveInWorkspace(DoubleArray start, BitSet fixed) {
+    NonLinearParameterTransforms transform = getTransform(start, fixed);
+    return solveInWorkspace(start, transform);
+  }
+
+  /**
+   * Solves using a user supplied NonLinearParameterTransforms, evaluating the model in preallocated arrays.
+   * <p>
+   * See {@link #solveInWorkspace(DoubleArray, BitSet)}.
+   * 
+   * @param start  the first guess at the parameter values
+   * @param transform  transform from model parameters to fitting parameters, and vice versa
+   * @return the calibration results
+   */
+  public LeastSquareResultsWithTransform solveInWorkspace(DoubleArray start, NonLinearParameterTransforms transform) {
+    double[] strikeArray = strikes.toArrayUnsafe();
+    int nModelParams = transform.getNumberOfModelParameters();
+    double[][] modelJacobian = new double[strikeArray.length][nModelParams];
+    LevenbergMarquardtLeastSquare.Model fittingModel = (fittingParams, values, jacobian) -> {
+      DoubleArray fitting = DoubleArray.copyOf(fittingParams);
+      T data = toSmileModelData(transform.inverseTransform(fitting));
+      model.volatilityAdjointInto(forward, strikeArray, timeToExpiry, data, values, modelJacobian);
+      // chain rule through the transform from fitting to model parameters
+      double[][] inverseJacobian = transform.inverseJacobian(fitting).toArrayUnsafe();
+      for (int i = 0; i < strikeArray.length; i++) {
+        double[] modelRow = modelJacobian[i];
+        double[] row = jacobian[i];
+        for (int j = 0; j < row.length; j++) {
+          double sum = 0d;
+          for (int k = 0; k < nModelParams; k++) {
+            sum += modelRow[k] * inverseJacobian[k][j];
+          }
+          row[j] = sum;
+        }
+      }
+    };
+    LeastSquareResults solRes = WORKSPACE_SOLVER.solve(marketValues, errors, fittingModel,
+        transform.transform(start), getConstraintFunction(transform), getMaximumStep());
+    return new LeastSquareResultsWithTransform(solRes, transform);
+  }
+
   /**
    * Obtains volatility function of the smile model.
    * <p>
@@ -56,6 +56,47 @@ public abstract class VolatilityFunctionProvider<T extends SmileModelData> {
     return ValueDerivatives.of(volatility, DoubleArray.ofUnsafe(res));
   }
 
+  /**
+   * Calculates the volatilities and their sensitivities to the model parameters for a set of strikes.
+   * <p>
+   * The volatilities are written to {@code volatilities} and the sensitivities to the model parameters,
+   * excluding those to the forward, strike and time to expiry, are written to the rows of {@code parameterSensitivities}.
+   * This allows the arrays to be reused between the iterations of a calibration.
+   * <p>
+   * By default this calls {@link #volatilityAdjoint(double, double, double, SmileModelData)} for each strike.
+   * This should be overridden in subclasses that can avoid the intermediate objects.
+   *
+   * @param forward  the forward value of the underlying
+   * @param strikes  the strike values of the options
+   * @param timeToExpiry  the time to expiry of the options
+   * @param data  the model data
+   * @param volatilities  the array to write the volatilities to, of the same length as the strikes
+   * @param parameterSensitivities  the array to write the sensitivities to the model parameters to,
+   *   with one row for each strike
+   */
+  public void volatilityAdjointInto(
+      double forward,
+      double[] strikes,
+      double timeToExpiry,
+      T data,
+      double[] volatilities,
+      double[][] parameterSensitivities) {
+
+    ArgChecker.notNull(strikes, "strikes");
+    ArgChecker.notNull(data, "data");
+    ArgChecker.isTrue(volatilities.length == strikes.length, "volatilities must be same length as strikes");
+    ArgChecker.isTrue(parameterSensitivities.length == strikes.length,
+        "parameterSensitivities must be same length as strikes");
+    int nParams = data.getNumberOfParameters();
+    for (int i = 0; i < strikes.length; i++) {
+      ValueDerivatives adjoint = volatilityAdjoint(forward, strikes[i], timeToExpiry, data);
+      volatilities[i] = adjoint.getValue();
+      // the model parameters are last, after the forward, the strike and any other inputs such as the time
+      DoubleArray derivatives = adjoint.getDerivatives();
+      System.arraycopy(derivatives.toArrayUnsafe(), derivatives.size() - nParams, parameterSensitivities[i], 0, nParams);
+    }
+  }
+
   /**
    * Computes the first and second order derivatives of the volatility.
    * <p>
@@ -0,0 +1,546 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.rate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.DoubleUnaryOperator;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.index.IborIndexObservation;
+import com.opengamma.strata.basics.index.OvernightIndexObservation;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
+import com.opengamma.strata.market.sensitivity.MutablePointSensitivities;
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.market.sensitivity.PointSensitivity;
+import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.DiscountFactors;
+import com.opengamma.strata.pricer.ZeroRateSensitivity;
+
+/**
+ * Mutable builder of point sensitivities using a compact, columnar representation.
+ * <p>
+ * The sensitivities to zero rates, Ibor rates and overnight rates are held in primitive arrays,
+ * with the curve and currency of each point interned as a key shared by all points on the same curve.
+ * As such, no {@link PointSensitivity} instance is created when points are added, combined, multiplied
+ * or normalized. The point sensitivity instances are only created by {@link #build()} and {@link #buildInto}.
+ * Other types of point sensitivity are held as objects.
+ * <p>
+ * The order of the points is retained, thus building this instance produces the same result as building
+ * a {@link MutablePointSensitivities} that had the same points added.
+ * Normalizing this instance produces the same result as normalizing a {@code MutablePointSensitivities}.
+ * <p>
+ * As with other builders, the methods are intended to be used in an immutable style.
+ * Once a method is called, code should refer and use only the result, not the original instance.
+ */
+public final class CompactPointSensitivities
+    implements PointSensitivityBuilder {
+
+  /**
+   * The type of an Ibor rate point, ordered to match {@link PointSensitivity#compareKey(PointSensitivity)}.
+   */
+  private static final int IBOR = 0;
+  /**
+   * The type of an overnight rate point.
+   */
+  private static final int OVERNIGHT = 1;
+  /**
+   * The type of a zero rate point.
+   */
+  private static final int ZERO = 2;
+  /**
+   * The key used for points of other types.
+   */
+  private static final int OTHER_KEY = -1;
+  /**
+   * The default initial capacity.
+   */
+  private static final int DEFAULT_CAPACITY = 16;
+  /**
+   * The order of the keys, matching {@link PointSensitivity#compareKey(PointSensitivity)}.
+   */
+  private static final Comparator<Key> KEY_ORDER = Comparator.<Key>comparingInt(key -> key.type)
+      .thenComparing(key -> key.curve.toString())
+      .thenComparing(key -> key.currency);
+
+  /**
+   * The interned keys.
+   */
+  private final List<Key> keyList;
+  /**
+   * The key of each point, an index into the key list, or -1 for other types.
+   */
+  private int[] keys;
+  /**
+   * The primary date or time of each point, the year fraction or the epoch day of the fixing date.
+   */
+  private double[] times;
+  /**
+   * The secondary date of each point, the epoch day of the end date of an overnight rate.
+   */
+  private double[] endTimes;
+  /**
+   * The observation of each point, or the point itself for other types.
+   */
+  private Object[] objects;
+  /**
+   * The sensitivity of each point.
+   */
+  private double[] values;
+  /**
+   * The number of points.
+   */
+  private int size;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an empty instance.
+   *
+   * @return the empty builder
+   */
+  public static CompactPointSensitivities of() {
+    return new CompactPointSensitivities(new ArrayList<>(), DEFAULT_CAPACITY);
+  }
+
+  // restricted constructor
+  private CompactPointSensitivities(List<Key> keyList, int capacity) {
+    this.keyList = keyList;
+    this.keys = new int[capacity];
+    this.times = new double[capacity];
+    this.endTimes = new double[capacity];
+    this.objects = new Object[capacity];
+    this.values = new double[capacity];
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of points.
+   *
+   * @return the number of points
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Checks if this instance is empty.
+   *
+   * @return true if there are no points
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Adds the sensitivity to a zero rate.
+   * <p>
+   * This is equivalent to adding a {@link ZeroRateSensitivity}.
+   *
+   * @param curveCurrency  the currency of the curve
+   * @param yearFraction  the year fraction of the point
+   * @param currency  the currency of the sensitivity
+   * @param sensitivity  the value of the sensitivity
+   * @return this, for chaining
+   */
+  public CompactPointSensitivities addZeroRateSensitivity(
+      Currency curveCurrency,
+      double yearFraction,
+      Currency currency,
+      double sensitivity) {
+
+    int key = intern(ZERO, curveCurrency, currency);
+    return addPoint(key, yearFraction, 0d, null, sensitivity);
+  }
+
+  /**
+   * Adds the sensitivity to an Ibor rate.
+   * <p>
+   * This is equivalent to adding an {@link IborRateSensitivity}.
+   *
+   * @param observation  the rate observation
+   * @param currency  the currency of the sensitivity
+   * @param sensitivity  the value of the sensitivity
+   * @return this, for chaining
+   */
+  public CompactPointSensitivities addIborRateSensitivity(
+      IborIndexObservation observation,
+      Currency currency,
+      double sensitivity) {
+
+    int key = intern(IBOR, observation.getIndex(), currency);
+    return addPoint(key, observation.getFixingDate().toEpochDay(), 0d, observation, sensitivity);
+  }
+
+  /**
+   * Adds the sensitivity to an overnight rate over a period.
+   * <p>
+   * This is equivalent to adding an {@link OvernightRateSensitivity}.
+   *
+   * @param observation  the rate observation, including the fixing date
+   * @param endDate  the end date of the period
+   * @param currency  the currency of the sensitivity
+   * @param sensitivity  the value of the sensitivity
+   * @return this, for chaining
+   */
+  public CompactPointSensitivities addOvernightRateSensitivity(
+      OvernightIndexObservation observation,
+      LocalDate endDate,
+      Currency currency,
+      double sensitivity) {
+
+    int key = intern(OVERNIGHT, observation.getIndex(), currency);
+    return addPoint(key, observation.getFixingDate().toEpochDay(), endDate.toEpochDay(), observation, sensitivity);
+  }
+
+  /**
+   * Adds a point sensitivity.
+   * <p>
+   * Zero rate, Ibor rate and overnight rate sensitivities are stored in the columns.
+   * Other point sensitivities are stored as objects.
+   *
+   * @param point  the point sensitivity
+   * @return this, for chaining
+   */
+  public CompactPointSensitivities add(PointSensitivity point) {
+    ArgChecker.notNull(point, "point");
+    if (point instanceof ZeroRateSensitivity) {
+      ZeroRateSensitivity pt = (ZeroRateSensitivity) point;
+      return addZeroRateSensitivity(pt.getCurveCurrency(), pt.getYearFraction(), pt.getCurrency(), pt.getSensitivity());
+    } else if (point instanceof IborRateSensitivity) {
+      IborRateSensitivity pt = (IborRateSensitivity) point;
+      return addIborRateSensitivity(pt.getObservation(), pt.getCurrency(), pt.getSensitivity());
+    } else if (point instanceof OvernightRateSensitivity) {
+      OvernightRateSensitivity pt = (OvernightRateSensitivity) point;
+      return addOvernightRateSensitivity(pt.getObservation(), pt.getEndDate(), pt.getCurrency(), pt.getSensitivity());
+    }
+    return addPoint(OTHER_KEY, 0d, 0d, point, point.getSensitivity());
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public CompactPointSensitivities withCurrency(Currency currency) {
+    int[] remapped = new int[keyList.size()];
+    Arrays.fill(remapped, OTHER_KEY);
+    for (int i = 0; i < size; i++) {
+      int key = keys[i];
+      if (key == OTHER_KEY) {
+        objects[i] = ((PointSensitivity) objects[i]).withCurrency(currency);
+      } else {
+        if (remapped[key] == OTHER_KEY) {
+          Key old = keyList.get(key);
+          remapped[key] = intern(old.type, old.curve, currency);
+        }
+        keys[i] = remapped[key];
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public CompactPointSensitivities multipliedBy(double factor) {
+    for (int i = 0; i < size; i++) {
+      values[i] *= factor;
+    }
+    return this;
+  }
+
+  @Override
+  public CompactPointSensitivities mapSensitivity(DoubleUnaryOperator operator) {
+    for (int i = 0; i < size; i++) {
+      values[i] = operator.applyAsDouble(values[i]);
+    }
+    return this;
+  }
+
+  @Override
+  public CompactPointSensitivities normalize() {
+    if (size < 2) {
+      return this;
+    }
+    for (int i = 0; i < size; i++) {
+      if (keys[i] == OTHER_KEY) {
+        // other types are ordered and merged by the points themselves
+        MutablePointSensitivities normalized = buildInto(new MutablePointSensitivities()).normalize();
+        size = 0;
+        Arrays.fill(objects, null);
+        return addAll(normalized);
+      }
+    }
+    int[] ranks = keyRanks();
+    int[] order = new int[size];
+    for (int i = 0; i < size; i++) {
+      order[i] = i;
+    }
+    mergeSort(order, new int[size], 0, size, ranks);
+    // merge points with the same key, retaining the observation of the first point as per the standard normalization
+    CompactPointSensitivities merged = new CompactPointSensitivities(keyList, size);
+    for (int i = 0; i < size; i++) {
+      int row = order[i];
+      int last = merged.size - 1;
+      if (last >= 0 &&
+          merged.keys[last] == keys[row] &&
+          Double.compare(merged.times[last], times[row]) == 0 &&
+          Double.compare(merged.endTimes[last], endTimes[row]) == 0) {
+        merged.values[last] += values[row];
+      } else {
+        merged.addPoint(keys[row], times[row], endTimes[row], objects[row], values[row]);
+      }
+    }
+    keys = merged.keys;
+    times = merged.times;
+    endTimes = merged.endTimes;
+    objects = merged.objects;
+    values = merged.values;
+    size = merged.size;
+    return this;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public CompactPointSensitivities combinedWith(PointSensitivityBuilder other) {
+    if (other == this || other == PointSensitivityBuilder.none()) {
+      return this;
+    } else if (other instanceof CompactPointSensitivities) {
+      CompactPointSensitivities otherCompact = (CompactPointSensitivities) other;
+      int[] remapped = new int[otherCompact.keyList.size()];
+      for (int key = 0; key < remapped.length; key++) {
+        Key otherKey = otherCompact.keyList.get(key);
+        remapped[key] = intern(otherKey.type, otherKey.curve, otherKey.currency);
+      }
+      for (int i = 0; i < otherCompact.size; i++) {
+        int key = otherCompact.keys[i];
+        addPoint(
+            key == OTHER_KEY ? OTHER_KEY : remapped[key],
+            otherCompact.times[i],
+            otherCompact.endTimes[i],
+            otherCompact.objects[i],
+            otherCompact.values[i]);
+      }
+      return this;
+    } else if (other instanceof PointSensitivity) {
+      return add((PointSensitivity) other);
+    } else if (other instanceof MutablePointSensitivities) {
+      return addAll((MutablePointSensitivities) other);
+    }
+    return addAll(other.buildInto(new MutablePointSensitivities()));
+  }
+
+  @Override
+  public MutablePointSensitivities buildInto(MutablePointSensitivities combination) {
+    for (int i = 0; i < size; i++) {
+      combination.add(point(i));
+    }
+    return combination;
+  }
+
+  @Override
+  public CompactPointSensitivities cloned() {
+    CompactPointSensitivities cloned = new CompactPointSensitivities(new ArrayList<>(keyList), Math.max(size, 1));
+    System.arraycopy(keys, 0, cloned.keys, 0, size);
+    System.arraycopy(times, 0, cloned.times, 0, size);
+    System.arraycopy(endTimes, 0, cloned.endTimes, 0, size);
+    System.arraycopy(objects, 0, cloned.objects, 0, size);
+    System.arraycopy(values, 0, cloned.values, 0, size);
+    cloned.size = size;
+    return cloned;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the parameter sensitivity.
+   * <p>
+   * This is equivalent to calling {@link RatesProvider#parameterSensitivity(PointSensitivities)} with the
+   * built sensitivities. The points are normalized first, so each distinct point is projected once,
+   * and the projections are summed using a {@link CurrencyParameterSensitivitiesAccumulator}.
+   * As normalization does not change the sensitivities represented, this builder can still be used afterwards.
+   *
+   * @param provider  the rates provider
+   * @return the sensitivity to the curve parameters
+   */
+  public CurrencyParameterSensitivities parameterSensitivity(RatesProvider provider) {
+    normalize();
+    CurrencyParameterSensitivitiesAccumulator accumulator = CurrencyParameterSensitivities.accumulator();
+    int i = 0;
+    while (i < size) {
+      int keyIndex = keys[i];
+      if (keyIndex != OTHER_KEY && keyList.get(keyIndex).type == ZERO) {
+        // the zero rate points of each curve are contiguous and sorted by time, so are projected in bulk
+        int end = i + 1;
+        while (end < size && keys[end] == keyIndex) {
+          end++;
+        }
+        Key key = keyList.get(keyIndex);
+        DiscountFactors discountFactors = provider.discountFactors((Currency) key.curve);
+        accumulator.add(discountFactors.parameterSensitivity(
+            key.currency, DoubleArray.copyOf(times, i, end), DoubleArray.copyOf(values, i, end)));
+        i = end;
+      } else {
+        accumulator.add(provider.parameterSensitivity(point(i)));
+        i++;
+      }
+    }
+    return accumulator.build();
+  }
+
+  //-------------------------------------------------------------------------
+  // adds the points of a mutable instance
+  private CompactPointSensitivities addAll(MutablePointSensitivities other) {
+    for (PointSensitivity point : other.getSensitivities()) {
+      add(point);
+    }
+    return this;
+  }
+
+  // adds a point, growing the columns if necessary
+  private CompactPointSensitivities addPoint(int key, double time, double endTime, Object object, double value) {
+    if (size == keys.length) {
+      int capacity = Math.max(DEFAULT_CAPACITY, size * 2);
+      keys = Arrays.copyOf(keys, capacity);
+      times = Arrays.copyOf(times, capacity);
+      endTimes = Arrays.copyOf(endTimes, capacity);
+      objects = Arrays.copyOf(objects, capacity);
+      values = Arrays.copyOf(values, capacity);
+    }
+    keys[size] = key;
+    times[size] = time;
+    endTimes[size] = endTime;
+    objects[size] = object;
+    values[size] = value;
+    size++;
+    return this;
+  }
+
+  // finds or adds the key, there are typically only a few keys so a linear search is used
+  private int intern(int type, Object curve, Currency currency) {
+    for (int i = 0; i < keyList.size(); i++) {
+      Key key = keyList.get(i);
+      if (key.type == type && key.curve.equals(curve) && key.currency.equals(currency)) {
+        return i;
+      }
+    }
+    keyList.add(new Key(type, curve, ArgChecker.notNull(currency, "currency")));
+    return keyList.size() - 1;
+  }
+
+  // creates the point sensitivity instance
+  private PointSensitivity point(int row) {
+    int keyIndex = keys[row];
+    if (keyIndex == OTHER_KEY) {
+      PointSensitivity point = (PointSensitivity) objects[row];
+      return point.getSensitivity() == values[row] ? point : point.withSensitivity(values[row]);
+    }
+    Key key = keyList.get(keyIndex);
+    switch (key.type) {
+      case ZERO:
+        return ZeroRateSensitivity.of((Currency) key.curve, times[row], key.currency, values[row]);
+      case IBOR:
+        return IborRateSensitivity.of((IborIndexObservation) objects[row], key.currency, values[row]);
+      default:
+        OvernightIndexObservation observation = (OvernightIndexObservation) objects[row];
+        LocalDate endDate = LocalDate.ofEpochDay((long) endTimes[row]);
+        return OvernightRateSensitivity.ofPeriod(observation, endDate, key.currency, values[row]);
+    }
+  }
+
+  // the rank of each key in the sort order
+  private int[] keyRanks() {
+    List<Key> sorted = new ArrayList<>(keyList);
+    sorted.sort(KEY_ORDER);
+    int[] ranks = new int[keyList.size()];
+    for (int i = 0; i < ranks.length; i++) {
+      ranks[i] = sorted.indexOf(keyList.get(i));
+    }
+    return ranks;
+  }
+
+  // stable sort of the rows, so that the first point is retained when merging
+  private void mergeSort(int[] rows, int[] buffer, int from, int to, int[] ranks) {
+    if (to - from < 2) {
+      return;
+    }
+    int mid = (from + to) >>> 1;
+    mergeSort(rows, buffer, from, mid, ranks);
+    mergeSort(rows, buffer, mid, to, ranks);
+    if (compareRows(rows[mid - 1], rows[mid], ranks) <= 0) {
+      return;
+    }
+    System.arraycopy(rows, from, buffer, from, to - from);
+    int left = from;
+    int right = mid;
+    for (int i = from; i < to; i++) {
+      if (right >= to || (left < mid && compareRows(buffer[left], buffer[right], ranks) <= 0)) {
+        rows[i] = buffer[left++];
+      } else {
+        rows[i] = buffer[right++];
+      }
+    }
+  }
+
+  // compares two rows by key, then date or time
+  private int compareRows(int row1, int row2, int[] ranks) {
+    if (keys[row1] != keys[row2]) {
+      return Integer.compare(ranks[keys[row1]], ranks[keys[row2]]);
+    }
+    int cmp = Double.compare(times[row1], times[row2]);
+    return cmp != 0 ? cmp : Double.compare(endTimes[row1], endTimes[row2]);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj instanceof CompactPointSensitivities) {
+      CompactPointSensitivities other = (CompactPointSensitivities) obj;
+      return buildInto(new MutablePointSensitivities()).equals(other.buildInto(new MutablePointSensitivities()));
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return buildInto(new MutablePointSensitivities()).hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return new StringBuilder(64)
+        .append("CompactPointSensitivities{sensitivities=")
+        .append(buildInto(new MutablePointSensitivities()).getSensitivities())
+        .append('}')
+        .toString();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The interned key of a point, formed from the type, curve and currency.
+   * <p>
+   * The curve is the currency of a zero rate curve, or the index of an Ibor or overnight rate.
+   */
+  private static final class Key {
+    /** The type of the point. */
+    private final int type;
+    /** The curve, a currency or index. */
+    private final Object curve;
+    /** The currency of the sensitivity. */
+    private final Currency currency;
+
+    private Key(int type, Object curve, Currency currency) {
+      this.type = type;
+      this.curve = curve;
+      this.currency = currency;
+    }
+  }
+
+}
@@ -0,0 +1,435 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.rate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyPair;
+import com.opengamma.strata.basics.index.FxIndex;
+import com.opengamma.strata.basics.index.IborIndex;
+import com.opengamma.strata.basics.index.Index;
+import com.opengamma.strata.basics.index.OvernightIndex;
+import com.opengamma.strata.basics.index.PriceIndex;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.pricer.DiscountFactors;
+import com.opengamma.strata.pricer.fx.DiscountFxForwardRates;
+import com.opengamma.strata.pricer.fx.ForwardFxIndexRates;
+import com.opengamma.strata.pricer.fx.FxForwardRates;
+import com.opengamma.strata.pricer.fx.FxIndexRates;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+import com.opengamma.strata.product.swap.ResolvedSwapTrade;
+
+/**
+ * A rates provider that pre-resolves the curves of an {@link ImmutableRatesProvider}.
+ * <p>
+ * {@code ImmutableRatesProvider} looks up the curve in a map and creates a new {@link DiscountFactors}
+ * or index rates instance each time one is requested. When the same provider is used to price many
+ * periods or many trades, this cost is repeated for every period.
+ * <p>
+ * This provider creates each {@code DiscountFactors}, {@code IborIndexRates}, {@code OvernightIndexRates}
+ * and {@code PriceIndexValues} once, storing them in arrays indexed by a small integer identifier.
+ * The identifiers can be obtained using {@link #currencyId(Currency)} and {@link #indexId(Index)},
+ * or for all the curves of a swap at once using {@link #resolveIds(ResolvedSwapTrade)}.
+ * The standard methods of {@link RatesProvider} use the same arrays, locating the key by identity
+ * before falling back to equality, so existing pricers benefit without change.
+ * <p>
+ * Indices without a curve, such as inactive indices priced from their time-series,
+ * are delegated to the underlying provider.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class CompiledRatesProvider
+    implements RatesProvider {
+
+  /**
+   * The underlying provider.
+   */
+  private final ImmutableRatesProvider underlying;
+  /**
+   * The discount currencies, in identifier order.
+   */
+  private final Currency[] currencies;
+  /**
+   * The discount factors, in identifier order.
+   */
+  private final DiscountFactors[] discountFactors;
+  /**
+   * The indices with curves, in identifier order.
+   */
+  private final Index[] indices;
+  /**
+   * The Ibor index rates, in identifier order, null if the index is not an Ibor index.
+   */
+  private final IborIndexRates[] iborIndexRates;
+  /**
+   * The Overnight index rates, in identifier order, null if the index is not an Overnight index.
+   */
+  private final OvernightIndexRates[] overnightIndexRates;
+  /**
+   * The price index values, in identifier order, null if the index is not a price index.
+   */
+  private final PriceIndexValues[] priceIndexValues;
+  /**
+   * The Ibor indices.
+   */
+  private final ImmutableSet<IborIndex> iborIndices;
+  /**
+   * The Overnight indices.
+   */
+  private final ImmutableSet<OvernightIndex> overnightIndices;
+  /**
+   * The price indices.
+   */
+  private final ImmutableSet<PriceIndex> priceIndices;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance that pre-resolves the curves of the specified provider.
+   *
+   * @param underlying  the underlying provider
+   * @return the compiled provider
+   */
+  public static CompiledRatesProvider of(ImmutableRatesProvider underlying) {
+    return new CompiledRatesProvider(underlying);
+  }
+
+  // restricted constructor
+  private CompiledRatesProvider(ImmutableRatesProvider underlying) {
+    this.underlying = ArgChecker.notNull(underlying, "underlying");
+    this.currencies = underlying.getDiscountCurves().keySet().toArray(new Currency[0]);
+    this.discountFactors = new DiscountFactors[currencies.length];
+    for (int i = 0; i < currencies.length; i++) {
+      discountFactors[i] = underlying.discountFactors(currencies[i]);
+    }
+    this.indices = underlying.getIndexCurves().keySet().toArray(new Index[0]);
+    this.iborIndexRates = new IborIndexRates[indices.length];
+    this.overnightIndexRates = new OvernightIndexRates[indices.length];
+    this.priceIndexValues = new PriceIndexValues[indices.length];
+    for (int i = 0; i < indices.length; i++) {
+      Index index = indices[i];
+      if (index instanceof IborIndex) {
+        iborIndexRates[i] = underlying.iborIndexRates((IborIndex) index);
+      } else if (index instanceof OvernightIndex) {
+        overnightIndexRates[i] = underlying.overnightIndexRates((OvernightIndex) index);
+      } else if (index instanceof PriceIndex) {
+        priceIndexValues[i] = underlying.priceIndexValues((PriceIndex) index);
+      }
+    }
+    this.iborIndices = underlying.getIborIndices();
+    this.overnightIndices = underlying.getOvernightIndices();
+    this.priceIndices = underlying.getPriceIndices();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the identifier of the discount curve of the specified currency.
+   *
+   * @param currency  the currency
+   * @return the identifier, from zero to the number of discount curves exclusive
+   * @throws IllegalArgumentException if there is no discount curve for the currency
+   */
+  public int currencyId(Currency currency) {
+    int id = findId(currencies, currency);
+    if (id < 0) {
+      throw new IllegalArgumentException("Unable to find discount curve: " + currency);
+    }
+    return id;
+  }
+
+  /**
+   * Gets the identifier of the curve of the specified index.
+   *
+   * @param index  the index
+   * @return the identifier, from zero to the number of index curves exclusive
+   * @throws IllegalArgumentException if there is no curve for the index
+   */
+  public int indexId(Index index) {
+    int id = findId(indices, index);
+    if (id < 0) {
+      throw new IllegalArgumentException("Unable to find index curve: " + index);
+    }
+    return id;
+  }
+
+  /**
+   * Resolves the identifiers of the curves needed to price the specified swap trade.
+   * <p>
+   * The result contains the discount curve identifier of each leg and the index curve identifier
+   * of each index referenced by the swap. This also checks that the discount curves are available
+   * before any pricing takes place.
+   * <p>
+   * Indices that are not held in the arrays, such as an FX index used for FX reset or an index
+   * without a curve, are identified by {@link SwapIds#NO_CURVE}. These are obtained from the
+   * standard methods of {@link RatesProvider}, which delegate to the underlying provider.
+   *
+   * @param trade  the swap trade
+   * @return the identifiers
+   * @throws IllegalArgumentException if a discount curve is not available
+   */
+  public SwapIds resolveIds(ResolvedSwapTrade trade) {
+    ResolvedSwap swap = trade.getProduct();
+    int[] legCurrencyIds = swap.getLegs().stream()
+        .mapToInt(leg -> currencyId(leg.getCurrency()))
+        .toArray();
+    ImmutableList<Index> swapIndices = ImmutableList.copyOf(swap.allIndices());
+    int[] indexIds = swapIndices.stream()
+        .mapToInt(this::findIndexId)
+        .toArray();
+    return new SwapIds(legCurrencyIds, swapIndices, indexIds);
+  }
+
+  // finds the identifier of the index curve, NO_CURVE if not found
+  private int findIndexId(Index index) {
+    int id = findId(indices, index);
+    return id < 0 ? SwapIds.NO_CURVE : id;
+  }
+
+  /**
+   * Gets the discount factors by identifier.
+   *
+   * @param currencyId  the identifier, as returned by {@link #currencyId(Currency)}
+   * @return the discount factors
+   */
+  public DiscountFactors discountFactors(int currencyId) {
+    return discountFactors[currencyId];
+  }
+
+  /**
+   * Gets the Ibor index rates by identifier.
+   *
+   * @param indexId  the identifier, as returned by {@link #indexId(Index)}
+   * @return the rates
+   * @throws IllegalArgumentException if the identifier does not refer to an Ibor index
+   */
+  public IborIndexRates iborIndexRates(int indexId) {
+    return checkType(iborIndexRates[indexId], indexId, "Ibor");
+  }
+
+  /**
+   * Gets the Overnight index rates by identifier.
+   *
+   * @param indexId  the identifier, as returned by {@link #indexId(Index)}
+   * @return the rates
+   * @throws IllegalArgumentException if the identifier does not refer to an Overnight index
+   */
+  public OvernightIndexRates overnightIndexRates(int indexId) {
+    return checkType(overnightIndexRates[indexId], indexId, "Overnight");
+  }
+
+  /**
+   * Gets the price index values by identifier.
+   *
+   * @param indexId  the identifier, as returned by {@link #indexId(Index)}
+   * @return the values
+   * @throws IllegalArgumentException if the identifier does not refer to a price index
+   */
+  public PriceIndexValues priceIndexValues(int indexId) {
+    return checkType(priceIndexValues[indexId], indexId, "Price");
+  }
+
+  // checks the index type
+  private <T> T checkType(T rates, int indexId, String type) {
+    if (rates == null) {
+      throw new IllegalArgumentException(type + " index curve not found for identifier: " + indexId);
+    }
+    return rates;
+  }
+
+  // finds the position of the key, by identity first as keys are typically singletons
+  private static int findId(Object[] keys, Object key) {
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] == key) {
+        return i;
+      }
+    }
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i].equals(key)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public LocalDate getValuationDate() {
+    return underlying.getValuationDate();
+  }
+
+  @Override
+  public Set<Currency> getDiscountCurrencies() {
+    return underlying.getDiscountCurrencies();
+  }
+
+  @Override
+  public Stream<Index> indices() {
+    return underlying.indices();
+  }
+
+  @Override
+  public Set<IborIndex> getIborIndices() {
+    return iborIndices;
+  }
+
+  @Override
+  public Set<OvernightIndex> getOvernightIndices() {
+    return overnightIndices;
+  }
+
+  @Override
+  public Set<PriceIndex> getPriceIndices() {
+    return priceIndices;
+  }
+
+  @Override
+  public Set<Index> getTimeSeriesIndices() {
+    return underlying.getTimeSeriesIndices();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public <T> Optional<T> findData(MarketDataName<T> name) {
+    return underlying.findData(name);
+  }
+
+  @Override
+  public <T> T data(MarketDataId<T> id) {
+    return underlying.data(id);
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries timeSeries(Index index) {
+    return underlying.timeSeries(index);
+  }
+
+  @Override
+  public double fxRate(Currency baseCurrency, Currency counterCurrency) {
+    return underlying.fxRate(baseCurrency, counterCurrency);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public DiscountFactors discountFactors(Currency currency) {
+    return discountFactors[currencyId(currency)];
+  }
+
+  @Override
+  public FxIndexRates fxIndexRates(FxIndex index) {
+    LocalDateDoubleTimeSeries fixings = timeSeries(index);
+    FxForwardRates fxForwardRates = fxForwardRates(index.getCurrencyPair());
+    return ForwardFxIndexRates.of(index, fxForwardRates, fixings);
+  }
+
+  @Override
+  public FxForwardRates fxForwardRates(CurrencyPair currencyPair) {
+    DiscountFactors base = discountFactors(currencyPair.getBase());
+    DiscountFactors counter = discountFactors(currencyPair.getCounter());
+    return DiscountFxForwardRates.of(currencyPair, underlying.getFxRateProvider(), base, counter);
+  }
+
+  @Override
+  public IborIndexRates iborIndexRates(IborIndex index) {
+    int id = findId(indices, index);
+    return id < 0 ? underlying.iborIndexRates(index) : iborIndexRates[id];
+  }
+
+  @Override
+  public OvernightIndexRates overnightIndexRates(OvernightIndex index) {
+    int id = findId(indices, index);
+    return id < 0 ? underlying.overnightIndexRates(index) : overnightIndexRates[id];
+  }
+
+  @Override
+  public PriceIndexValues priceIndexValues(PriceIndex index) {
+    int id = findId(indices, index);
+    return id < 0 ? underlying.priceIndexValues(index) : priceIndexValues[id];
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public ImmutableRatesProvider toImmutableRatesProvider() {
+    return underlying;
+  }
+
+  @Override
+  public String toString() {
+    return "CompiledRatesProvider[" + underlying.getValuationDate() + "]";
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The curve identifiers needed to price a swap, as returned by {@link #resolveIds(ResolvedSwapTrade)}.
+   * <p>
+   * The identifiers are only valid for the provider that created them.
+   */
+  public static final class SwapIds {
+
+    /**
+     * The identifier used for an index that has no curve in the compiled provider.
+     */
+    public static final int NO_CURVE = -1;
+
+    /**
+     * The discount curve identifier of each leg.
+     */
+    private final int[] legCurrencyIds;
+    /**
+     * The indices of the swap.
+     */
+    private final ImmutableList<Index> indices;
+    /**
+     * The index curve identifier of each index.
+     */
+    private final int[] indexIds;
+
+    // restricted constructor
+    private SwapIds(int[] legCurrencyIds, ImmutableList<Index> indices, int[] indexIds) {
+      this.legCurrencyIds = legCurrencyIds;
+      this.indices = indices;
+      this.indexIds = indexIds;
+    }
+
+    /**
+     * Gets the discount curve identifier of the specified leg.
+     *
+     * @param legIndex  the zero-based position of the leg in the swap
+     * @return the identifier
+     */
+    public int legCurrencyId(int legIndex) {
+      return legCurrencyIds[legIndex];
+    }
+
+    /**
+     * Gets the indices of the swap, in the order matching {@link #indexId(int)}.
+     *
+     * @return the indices
+     */
+    public List<Index> getIndices() {
+      return indices;
+    }
+
+    /**
+     * Gets the index curve identifier of the index at the specified position.
+     *
+     * @param position  the zero-based position in {@link #getIndices()}
+     * @return the identifier, {@link #NO_CURVE} if the index has no curve in the compiled provider
+     */
+    public int indexId(int position) {
+      return indexIds[position];
+    }
+  }
+
+}
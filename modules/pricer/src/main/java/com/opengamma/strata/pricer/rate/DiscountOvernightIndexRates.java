@@ -7,6 +7,7 @@ package com.opengamma.strata.pricer.rate;
 
 import java.io.Serializable;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -176,6 +177,39 @@ public final class DiscountOvernightIndexRates
     }
   }
 
+  @Override
+  public DoubleArray rate(List<OvernightIndexObservation> observations) {
+    int size = observations.size();
+    double[] result = new double[size];
+    // historic rates are found individually, forward rates in bulk
+    int[] forwardIndices = new int[size];
+    int forwardCount = 0;
+    for (int i = 0; i < size; i++) {
+      OvernightIndexObservation observation = observations.get(i);
+      if (!observation.getPublicationDate().isAfter(getValuationDate())) {
+        result[i] = historicRate(observation);
+      } else {
+        forwardIndices[forwardCount++] = i;
+      }
+    }
+    if (forwardCount > 0) {
+      double[] startYearFractions = new double[forwardCount];
+      double[] endYearFractions = new double[forwardCount];
+      for (int j = 0; j < forwardCount; j++) {
+        OvernightIndexObservation observation = observations.get(forwardIndices[j]);
+        startYearFractions[j] = discountFactors.relativeYearFraction(observation.getEffectiveDate());
+        endYearFractions[j] = discountFactors.relativeYearFraction(observation.getMaturityDate());
+      }
+      DoubleArray startDiscountFactors = discountFactors.discountFactor(DoubleArray.ofUnsafe(startYearFractions));
+      DoubleArray endDiscountFactors = discountFactors.discountFactor(DoubleArray.ofUnsafe(endYearFractions));
+      for (int j = 0; j < forwardCount; j++) {
+        double accrualFactor = observations.get(forwardIndices[j]).getYearFraction();
+        result[forwardIndices[j]] = (startDiscountFactors.get(j) / endDiscountFactors.get(j) - 1) / accrualFactor;
+      }
+    }
+    return DoubleArray.ofUnsafe(result);
+  }
+
   @Override
   public double rateIgnoringFixings(OvernightIndexObservation observation) {
     LocalDate effectiveDate = observation.getEffectiveDate();
@@ -6,6 +6,7 @@
 package com.opengamma.strata.pricer.rate;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.index.OvernightIndex;
@@ -121,6 +122,21 @@ public interface OvernightIndexRates
    */
   public abstract double rate(OvernightIndexObservation observation);
 
+  /**
+   * Gets the historic or forward rates at the specified fixing dates.
+   * <p>
+   * The result is the same as calling {@link #rate(OvernightIndexObservation)} for each observation.
+   * Implementations may be more efficient when the observations are sorted by fixing date,
+   * such as the daily observations of an overnight accrual period.
+   * 
+   * @param observations  the rate observations, including the fixing dates
+   * @return the rates of the index, either historic or forward, one for each observation
+   * @throws RuntimeException if a value cannot be obtained
+   */
+  public default DoubleArray rate(List<OvernightIndexObservation> observations) {
+    return DoubleArray.of(observations.size(), i -> rate(observations.get(i)));
+  }
+
   /**
    * Ignores the time-series of fixings to get the forward rate at the specified
    * fixing date, used in rare and special cases. In most cases callers should use
@@ -183,38 +183,56 @@ public interface RatesProvider
   public default CurrencyParameterSensitivities parameterSensitivity(PointSensitivities pointSensitivities) {
     CurrencyParameterSensitivities sens = CurrencyParameterSensitivities.empty();
     for (PointSensitivity point : pointSensitivities.getSensitivities()) {
-      if (point instanceof ZeroRateSensitivity) {
-        ZeroRateSensitivity pt = (ZeroRateSensitivity) point;
-        DiscountFactors factors = discountFactors(pt.getCurveCurrency());
-        sens = sens.combinedWith(factors.parameterSensitivity(pt));
+      sens = sens.combinedWith(parameterSensitivity(point));
+    }
+    return sens;
+  }
 
-      } else if (point instanceof IborRateSensitivity) {
-        IborRateSensitivity pt = (IborRateSensitivity) point;
-        IborIndexRates rates = iborIndexRates(pt.getIndex());
-        sens = sens.combinedWith(rates.parameterSensitivity(pt));
+  /**
+   * Computes the parameter sensitivity of a single point sensitivity.
+   * <p>
+   * This computes the {@link CurrencyParameterSensitivities} associated with the {@link PointSensitivity}.
+   * This corresponds to the projection of the point sensitivity to the internal parameters representation.
+   * The result is empty if the type of point sensitivity is not supported.
+   * <p>
+   * This is useful when the sensitivities of each point are to be accumulated by the caller,
+   * avoiding the merging of the sensitivities performed by {@link #parameterSensitivity(PointSensitivities)}.
+   * 
+   * @param pointSensitivity  the point sensitivity
+   * @return the sensitivity to the curve parameters
+   */
+  public default CurrencyParameterSensitivities parameterSensitivity(PointSensitivity pointSensitivity) {
+    if (pointSensitivity instanceof ZeroRateSensitivity) {
+      ZeroRateSensitivity pt = (ZeroRateSensitivity) pointSensitivity;
+      DiscountFactors factors = discountFactors(pt.getCurveCurrency());
+      return factors.parameterSensitivity(pt);
 
-      } else if (point instanceof OvernightRateSensitivity) {
-        OvernightRateSensitivity pt = (OvernightRateSensitivity) point;
-        OvernightIndexRates rates = overnightIndexRates(pt.getIndex());
-        sens = sens.combinedWith(rates.parameterSensitivity(pt));
+    } else if (pointSensitivity instanceof IborRateSensitivity) {
+      IborRateSensitivity pt = (IborRateSensitivity) pointSensitivity;
+      IborIndexRates rates = iborIndexRates(pt.getIndex());
+      return rates.parameterSensitivity(pt);
 
-      } else if (point instanceof FxIndexSensitivity) {
-        FxIndexSensitivity pt = (FxIndexSensitivity) point;
-        FxIndexRates rates = fxIndexRates(pt.getIndex());
-        sens = sens.combinedWith(rates.parameterSensitivity(pt));
+    } else if (pointSensitivity instanceof OvernightRateSensitivity) {
+      OvernightRateSensitivity pt = (OvernightRateSensitivity) pointSensitivity;
+      OvernightIndexRates rates = overnightIndexRates(pt.getIndex());
+      return rates.parameterSensitivity(pt);
 
-      } else if (point instanceof InflationRateSensitivity) {
-        InflationRateSensitivity pt = (InflationRateSensitivity) point;
-        PriceIndexValues rates = priceIndexValues(pt.getIndex());
-        sens = sens.combinedWith(rates.parameterSensitivity(pt));
+    } else if (pointSensitivity instanceof FxIndexSensitivity) {
+      FxIndexSensitivity pt = (FxIndexSensitivity) pointSensitivity;
+      FxIndexRates rates = fxIndexRates(pt.getIndex());
+      return rates.parameterSensitivity(pt);
 
-      } else if (point instanceof FxForwardSensitivity) {
-        FxForwardSensitivity pt = (FxForwardSensitivity) point;
-        FxForwardRates rates = fxForwardRates(pt.getCurrencyPair());
-        sens = sens.combinedWith(rates.parameterSensitivity(pt));
-      }
+    } else if (pointSensitivity instanceof InflationRateSensitivity) {
+      InflationRateSensitivity pt = (InflationRateSensitivity) pointSensitivity;
+      PriceIndexValues rates = priceIndexValues(pt.getIndex());
+      return rates.parameterSensitivity(pt);
+
+    } else if (pointSensitivity instanceof FxForwardSensitivity) {
+      FxForwardSensitivity pt = (FxForwardSensitivity) pointSensitivity;
+      FxForwardRates rates = fxForwardRates(pt.getCurrencyPair());
+      return rates.parameterSensitivity(pt);
     }
-    return sens;
+    return CurrencyParameterSensitivities.empty();
   }
 
   /**
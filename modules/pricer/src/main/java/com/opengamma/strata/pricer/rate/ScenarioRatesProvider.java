@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.rate;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.index.IborIndex;
+import com.opengamma.strata.basics.index.IborIndexObservation;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.pricer.DiscountFactors;
+
+/**
+ * A set of rates providers, one for each scenario, evaluated together.
+ * <p>
+ * Pricing each scenario separately walks the trade schedule once per scenario.
+ * This class instead allows the schedule to be walked once, with each date or observation
+ * evaluated in all scenarios at once, returning a {@link DoubleArray} indexed by scenario.
+ * <p>
+ * The {@link DiscountFactors} and {@link IborIndexRates} of each scenario are located once
+ * per currency or index and retained, so the inner loop over scenarios does not perform any lookups.
+ * Instances of {@link ImmutableRatesProvider} are converted to {@link CompiledRatesProvider} when added.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class ScenarioRatesProvider {
+
+  /**
+   * The provider of each scenario.
+   */
+  private final ImmutableList<RatesProvider> scenarios;
+  /**
+   * The discount factors of each scenario, keyed by currency.
+   */
+  private final ConcurrentMap<Currency, DiscountFactors[]> discountFactors = new ConcurrentHashMap<>();
+  /**
+   * The Ibor index rates of each scenario, keyed by index.
+   */
+  private final ConcurrentMap<IborIndex, IborIndexRates[]> iborIndexRates = new ConcurrentHashMap<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the provider of each scenario.
+   *
+   * @param providers  the rates providers, one for each scenario
+   * @return the scenario provider
+   */
+  public static ScenarioRatesProvider of(List<? extends RatesProvider> providers) {
+    ArgChecker.notEmpty(providers, "providers");
+    return new ScenarioRatesProvider(providers.stream()
+        .map(ScenarioRatesProvider::compile)
+        .collect(toImmutableList()));
+  }
+
+  /**
+   * Obtains an instance using a function to create the provider of each scenario.
+   *
+   * @param scenarioCount  the number of scenarios
+   * @param providerFunction  the function that returns the provider for a scenario index
+   * @return the scenario provider
+   */
+  public static ScenarioRatesProvider of(int scenarioCount, IntFunction<? extends RatesProvider> providerFunction) {
+    ArgChecker.notNegativeOrZero(scenarioCount, "scenarioCount");
+    return new ScenarioRatesProvider(IntStream.range(0, scenarioCount)
+        .mapToObj(i -> compile(providerFunction.apply(i)))
+        .collect(toImmutableList()));
+  }
+
+  // pre-resolves the curves where possible
+  private static RatesProvider compile(RatesProvider provider) {
+    ArgChecker.notNull(provider, "provider");
+    if (provider instanceof ImmutableRatesProvider) {
+      return CompiledRatesProvider.of((ImmutableRatesProvider) provider);
+    }
+    return provider;
+  }
+
+  // restricted constructor
+  private ScenarioRatesProvider(ImmutableList<RatesProvider> scenarios) {
+    this.scenarios = scenarios;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of scenarios.
+   *
+   * @return the number of scenarios
+   */
+  public int getScenarioCount() {
+    return scenarios.size();
+  }
+
+  /**
+   * Gets the rates provider of the specified scenario.
+   *
+   * @param scenarioIndex  the index of the scenario
+   * @return the rates provider
+   */
+  public RatesProvider scenario(int scenarioIndex) {
+    return scenarios.get(scenarioIndex);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the discount factor of the specified currency and date in each scenario.
+   *
+   * @param currency  the currency to get the discount factors for
+   * @param date  the date to discount to
+   * @return the discount factors, one for each scenario
+   * @throws RuntimeException if the value is not available in any scenario
+   */
+  public DoubleArray discountFactor(Currency currency, LocalDate date) {
+    DiscountFactors[] factors = discountFactors(currency);
+    double[] result = new double[factors.length];
+    for (int i = 0; i < factors.length; i++) {
+      result[i] = factors[i].discountFactor(date);
+    }
+    return DoubleArray.ofUnsafe(result);
+  }
+
+  /**
+   * Gets the forward rate of the specified Ibor observation in each scenario.
+   *
+   * @param observation  the rate observation, including the fixing date
+   * @return the rates, one for each scenario
+   * @throws RuntimeException if the value is not available in any scenario
+   */
+  public DoubleArray iborIndexRate(IborIndexObservation observation) {
+    IborIndexRates[] rates = iborIndexRates(observation.getIndex());
+    double[] result = new double[rates.length];
+    for (int i = 0; i < rates.length; i++) {
+      result[i] = rates[i].rate(observation);
+    }
+    return DoubleArray.ofUnsafe(result);
+  }
+
+  /**
+   * Gets the FX rate for the specified currency pair in each scenario.
+   *
+   * @param baseCurrency  the base currency, to convert from
+   * @param counterCurrency  the counter currency, to convert to
+   * @return the FX rates, one for each scenario
+   * @throws RuntimeException if the value is not available in any scenario
+   */
+  public DoubleArray fxRate(Currency baseCurrency, Currency counterCurrency) {
+    if (baseCurrency.equals(counterCurrency)) {
+      return DoubleArray.filled(scenarios.size(), 1d);
+    }
+    return DoubleArray.of(scenarios.size(), i -> scenarios.get(i).fxRate(baseCurrency, counterCurrency));
+  }
+
+  //-------------------------------------------------------------------------
+  // locates the discount factors of each scenario, retaining them for later use
+  private DiscountFactors[] discountFactors(Currency currency) {
+    DiscountFactors[] factors = discountFactors.get(currency);
+    if (factors == null) {
+      factors = scenarios.stream()
+          .map(provider -> provider.discountFactors(currency))
+          .toArray(DiscountFactors[]::new);
+      discountFactors.putIfAbsent(currency, factors);
+    }
+    return factors;
+  }
+
+  // locates the Ibor index rates of each scenario, retaining them for later use
+  private IborIndexRates[] iborIndexRates(IborIndex index) {
+    IborIndexRates[] rates = iborIndexRates.get(index);
+    if (rates == null) {
+      rates = scenarios.stream()
+          .map(provider -> provider.iborIndexRates(index))
+          .toArray(IborIndexRates[]::new);
+      iborIndexRates.putIfAbsent(index, rates);
+    }
+    return rates;
+  }
+
+  @Override
+  public String toString() {
+    return "ScenarioRatesProvider[scenarioCount=" + scenarios.size() + "]";
+  }
+
+}
@@ -10,6 +10,7 @@ import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -19,6 +20,7 @@ import java.util.stream.IntStream;
 import com.google.common.collect.ImmutableList;
 import com.google.common.primitives.Doubles;
 import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.index.Index;
 import com.opengamma.strata.basics.index.PriceIndex;
 import com.opengamma.strata.basics.index.RateIndex;
@@ -45,6 +47,7 @@ import com.opengamma.strata.pricer.ZeroRatePeriodicDiscountFactors;
 import com.opengamma.strata.pricer.bond.ImmutableLegalEntityDiscountingProvider;
 import com.opengamma.strata.pricer.bond.LegalEntityDiscountingProvider;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProviderBuilder;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 
 /**
@@ -66,6 +69,18 @@ public final class CurveGammaCalculator {
    * The first order finite difference calculator.
    */
   private final VectorFieldFirstOrderDifferentiator fd;
+  /**
+   * The finite difference type.
+   */
+  private final FiniteDifferenceType fdType;
+  /**
+   * The shift to be applied to the curves.
+   */
+  private final double shift;
+  /**
+   * Whether the bumped sensitivities are computed in parallel.
+   */
+  private final boolean parallel;
 
   //-------------------------------------------------------------------------
   /**
@@ -106,7 +121,32 @@ public final class CurveGammaCalculator {
    * @param shift  the shift to be applied to the curves
    */
   private CurveGammaCalculator(FiniteDifferenceType fdType, double shift) {
+    this(fdType, shift, false);
+  }
+
+  // restricted constructor
+  private CurveGammaCalculator(FiniteDifferenceType fdType, double shift, boolean parallel) {
     this.fd = new VectorFieldFirstOrderDifferentiator(fdType, shift);
+    this.fdType = fdType;
+    this.shift = shift;
+    this.parallel = parallel;
+  }
+
+  /**
+   * Returns a calculator that computes the bumped sensitivities in parallel.
+   * <p>
+   * The finite difference type and shift are unchanged.
+   * Each parameter of a curve is bumped independently of the others, thus the sensitivity functions
+   * for the bumped parameters are invoked in parallel using the common fork-join pool.
+   * The base rates provider is immutable and is shared by all the bumps.
+   * The sensitivity function passed to the calculator must be thread-safe.
+   * <p>
+   * The results are the same as those of the sequential calculator.
+   *
+   * @return the parallel calculator
+   */
+  public CurveGammaCalculator parallel() {
+    return new CurveGammaCalculator(fdType, shift, true);
   }
 
   //-------------------------------------------------------------------------
@@ -363,6 +403,107 @@ public final class CurveGammaCalculator {
     return result;
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the diagonal of the intra-curve gamma by applying finite difference method to the value.
+   * <p>
+   * This computes the second order sensitivity of the value to each curve parameter,
+   * i.e., the diagonal of the intra-curve cross-gamma matrix.
+   * The second derivative is estimated by the central second difference of the value,
+   * {@code (V(p + h) - 2 V(p) + V(p - h)) / h^2}, whatever the finite difference type of this calculator.
+   * This requires {@code 2n + 1} value evaluations for a curve with {@code n} parameters,
+   * which is far cheaper than the {@code n} or {@code 2n} sensitivity evaluations of the full cross-gamma matrix.
+   * <p>
+   * The sensitivities are computed for discount curves, and forward curves for {@code RateIndex} and {@code PriceIndex}.
+   * If a curve is used for several discount and forward curves, it is bumped in all of them simultaneously.
+   * For combined curves, the underlying curves are bumped.
+   * The currency of the result is that of the value.
+   * Curves to which the value has no second order sensitivity are not included in the result.
+   *
+   * @param ratesProvider  the rates provider
+   * @param valueFn  the value function
+   * @return the diagonal gamma
+   */
+  public CurrencyParameterSensitivities calculateDiagonalGamma(
+      RatesProvider ratesProvider,
+      Function<ImmutableRatesProvider, CurrencyAmount> valueFn) {
+
+    ImmutableRatesProvider immProv = ratesProvider.toImmutableRatesProvider();
+    CurrencyAmount baseValue = valueFn.apply(immProv);
+    Map<CurveName, Curve> curves = new LinkedHashMap<>();
+    immProv.getDiscountCurves().values().forEach(curve -> addCurves(curves, curve));
+    for (Entry<Index, Curve> entry : immProv.getIndexCurves().entrySet()) {
+      if (entry.getKey() instanceof RateIndex || entry.getKey() instanceof PriceIndex) {
+        addCurves(curves, entry.getValue());
+      }
+    }
+    CurrencyParameterSensitivities result = CurrencyParameterSensitivities.empty();
+    for (Curve curve : curves.values()) {
+      int nParams = curve.getParameterCount();
+      IntStream indices = parallel ? IntStream.range(0, nParams).parallel() : IntStream.range(0, nParams);
+      double[] gamma = new double[nParams];
+      indices.forEach(i -> {
+        double up = valueFn.apply(replaceCurve(immProv, bumpParameter(curve, i, shift))).getAmount();
+        double down = valueFn.apply(replaceCurve(immProv, bumpParameter(curve, i, -shift))).getAmount();
+        gamma[i] = (up - 2d * baseValue.getAmount() + down) / (shift * shift);
+      });
+      DoubleArray gammaArray = DoubleArray.ofUnsafe(gamma);
+      if (gammaArray.stream().anyMatch(g -> g != 0d)) {
+        result = result.combinedWith(curve.createParameterSensitivity(baseValue.getCurrency(), gammaArray));
+      }
+    }
+    return result;
+  }
+
+  // adds the curve, or its underlying curves if combined
+  private static void addCurves(Map<CurveName, Curve> curves, Curve curve) {
+    ImmutableList<Curve> split = curve.split();
+    if (split.size() > 1) {
+      split.forEach(underlying -> curves.putIfAbsent(underlying.getName(), underlying));
+    } else {
+      curves.putIfAbsent(curve.getName(), curve);
+    }
+  }
+
+  // bumps a single parameter of the curve
+  private static Curve bumpParameter(Curve curve, int parameterIndex, double bump) {
+    return curve.withPerturbation((i, v, m) -> i == parameterIndex ? v + bump : v);
+  }
+
+  // replaces the curve with the same name wherever it is used for discounting and forwards
+  private static ImmutableRatesProvider replaceCurve(ImmutableRatesProvider ratesProvider, Curve bumped) {
+    ImmutableRatesProviderBuilder builder = ratesProvider.toBuilder();
+    for (Entry<Currency, Curve> entry : ratesProvider.getDiscountCurves().entrySet()) {
+      Curve replaced = replaceCurve(entry.getValue(), bumped);
+      if (replaced != null) {
+        builder.discountCurve(entry.getKey(), replaced);
+      }
+    }
+    for (Entry<Index, Curve> entry : ratesProvider.getIndexCurves().entrySet()) {
+      Curve replaced = replaceCurve(entry.getValue(), bumped);
+      if (replaced != null) {
+        builder.indexCurve(entry.getKey(), replaced);
+      }
+    }
+    return builder.build();
+  }
+
+  // returns the curve with the bumped curve substituted, null if not used
+  private static Curve replaceCurve(Curve curve, Curve bumped) {
+    if (curve.getName().equals(bumped.getName())) {
+      return bumped;
+    }
+    ImmutableList<Curve> split = curve.split();
+    if (split.size() > 1) {
+      for (int i = 0; i < split.size(); i++) {
+        if (split.get(i).getName().equals(bumped.getName())) {
+          return curve.withUnderlyingCurve(i, bumped);
+        }
+      }
+    }
+    return null;
+  }
+
   //-------------------------------------------------------------------------
   private Currency getCurrency(Index index) {
     if (index instanceof RateIndex) {
@@ -390,7 +531,7 @@ public final class CurveGammaCalculator {
       }
     };
     int nParams = curve.getParameterCount();
-    DoubleMatrix sensi = fd.differentiate(function).apply(DoubleArray.of(nParams, n -> curve.getParameter(n)));
+    DoubleMatrix sensi = differentiate(function, DoubleArray.of(nParams, n -> curve.getParameter(n)));
     List<ParameterMetadata> metadata = IntStream.range(0, nParams)
         .mapToObj(i -> curve.getParameterMetadata(i))
         .collect(toImmutableList());
@@ -414,7 +555,7 @@ public final class CurveGammaCalculator {
       }
     };
     int nParams = curve.getParameterCount();
-    DoubleMatrix sensi = fd.differentiate(function).apply(DoubleArray.of(nParams, n -> curve.getParameter(n)));
+    DoubleMatrix sensi = differentiate(function, DoubleArray.of(nParams, n -> curve.getParameter(n)));
     List<ParameterMetadata> metadata = IntStream.range(0, nParams)
         .mapToObj(i -> curve.getParameterMetadata(i))
         .collect(toImmutableList());
@@ -427,6 +568,34 @@ public final class CurveGammaCalculator {
         sensi);
   }
 
+  // differentiates the function, evaluating the bumped parameters in parallel if requested
+  private DoubleMatrix differentiate(Function<DoubleArray, DoubleArray> function, DoubleArray parameters) {
+    int nParams = parameters.size();
+    if (!parallel || nParams == 0) {
+      return fd.differentiate(function).apply(parameters);
+    }
+    // same arithmetic as VectorFieldFirstOrderDifferentiator, so that the results are the same
+    DoubleArray base = fdType == FiniteDifferenceType.CENTRAL ? null : function.apply(parameters);
+    DoubleArray[] columns = new DoubleArray[nParams];
+    IntStream.range(0, nParams).parallel().forEach(j -> {
+      double param = parameters.get(j);
+      switch (fdType) {
+        case FORWARD:
+          columns[j] = function.apply(parameters.with(j, param + shift)).minus(base).dividedBy(shift);
+          break;
+        case BACKWARD:
+          columns[j] = base.minus(function.apply(parameters.with(j, param - shift))).dividedBy(shift);
+          break;
+        default:
+          DoubleArray up = function.apply(parameters.with(j, param + shift));
+          DoubleArray down = function.apply(parameters.with(j, param - shift));
+          columns[j] = up.minus(down).dividedBy(2 * shift);
+          break;
+      }
+    });
+    return DoubleMatrix.of(columns[0].size(), nParams, (i, j) -> columns[j].get(i));
+  }
+
   private CrossGammaParameterSensitivity combineSensitivities(
       CurrencyParameterSensitivity baseDeltaSingle,
       CrossGammaParameterSensitivities blockCrossGamma) {
@@ -533,7 +702,7 @@ public final class CurveGammaCalculator {
       }
     };
     int nParams = curve.getParameterCount();
-    DoubleMatrix sensi = fd.differentiate(function).apply(DoubleArray.of(nParams, n -> curve.getParameter(n)));
+    DoubleMatrix sensi = differentiate(function, DoubleArray.of(nParams, n -> curve.getParameter(n)));
     List<ParameterMetadata> metadata = IntStream.range(0, nParams)
         .mapToObj(i -> curve.getParameterMetadata(i))
         .collect(toImmutableList());
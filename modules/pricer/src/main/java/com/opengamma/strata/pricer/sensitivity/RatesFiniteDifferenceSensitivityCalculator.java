@@ -5,20 +5,27 @@
  */
 package com.opengamma.strata.pricer.sensitivity;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.IntStream;
 
 import org.joda.beans.MetaProperty;
 
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.index.Index;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.curve.NodalCurve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.pricer.DiscountFactors;
@@ -39,6 +46,9 @@ import com.opengamma.strata.pricer.rate.RatesProvider;
  * <p>
  * This is based on an {@link ImmutableRatesProvider}, {@link LegalEntityDiscountingProvider} or {@link CreditRatesProvider}.
  * The sensitivities are calculated by finite difference.
+ * <p>
+ * By default the bumped values are computed sequentially.
+ * Use {@link #parallel()} to obtain a calculator that distributes the bumps across the common fork-join pool.
  */
 public class RatesFiniteDifferenceSensitivityCalculator {
 
@@ -47,11 +57,19 @@ public class RatesFiniteDifferenceSensitivityCalculator {
    */
   public static final RatesFiniteDifferenceSensitivityCalculator DEFAULT =
       new RatesFiniteDifferenceSensitivityCalculator(1.0E-4);
+  /**
+   * The default number of bumps per parallel task.
+   */
+  private static final int DEFAULT_BATCH_SIZE = 4;
 
   /**
    * The shift used for finite difference.
    */
   private final double shift;
+  /**
+   * The number of bumps per parallel task, zero if the bumps are computed sequentially.
+   */
+  private final int batchSize;
 
   /**
    * Create an instance of the finite difference calculator.
@@ -59,7 +77,45 @@ public class RatesFiniteDifferenceSensitivityCalculator {
    * @param shift  the shift used in the finite difference computation
    */
   public RatesFiniteDifferenceSensitivityCalculator(double shift) {
+    this(shift, 0);
+  }
+
+  // restricted constructor
+  private RatesFiniteDifferenceSensitivityCalculator(double shift, int batchSize) {
     this.shift = shift;
+    this.batchSize = batchSize;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a calculator that computes the bumped values in parallel.
+   * <p>
+   * The bumps are grouped into batches of a default size, with each batch forming a single task
+   * for the common fork-join pool. The shift is unchanged.
+   * The value function passed to the calculator must be thread-safe.
+   * <p>
+   * The results are the same as those of the sequential calculator.
+   *
+   * @return the parallel calculator
+   */
+  public RatesFiniteDifferenceSensitivityCalculator parallel() {
+    return parallel(DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Returns a calculator that computes the bumped values in parallel, using the specified batch size.
+   * <p>
+   * Each task in the common fork-join pool creates and values the bumped providers of one batch.
+   * Larger batches reduce the scheduling overhead when the value function is cheap,
+   * smaller batches improve the balance of work when it is expensive.
+   * The value function passed to the calculator must be thread-safe.
+   *
+   * @param batchSize  the number of bumps per task, one or greater
+   * @return the parallel calculator
+   */
+  public RatesFiniteDifferenceSensitivityCalculator parallel(int batchSize) {
+    ArgChecker.notNegativeOrZero(batchSize, "batchSize");
+    return new RatesFiniteDifferenceSensitivityCalculator(shift, batchSize);
   }
 
   //-------------------------------------------------------------------------
@@ -77,42 +133,75 @@ public class RatesFiniteDifferenceSensitivityCalculator {
       RatesProvider provider,
       Function<ImmutableRatesProvider, CurrencyAmount> valueFn) {
 
-    ImmutableRatesProvider immProv = provider.toImmutableRatesProvider();
-    CurrencyAmount valueInit = valueFn.apply(immProv);
-    CurrencyParameterSensitivities discounting = sensitivity(
-        immProv,
-        immProv.getDiscountCurves(),
-        (base, bumped) -> base.toBuilder().discountCurves(bumped).build(),
-        valueFn,
-        valueInit);
-    CurrencyParameterSensitivities forward = sensitivity(
-        immProv,
-        immProv.getIndexCurves(),
-        (base, bumped) -> base.toBuilder().indexCurves(bumped).build(),
-        valueFn,
-        valueInit);
-    return discounting.combinedWith(forward);
+    return sensitivity(provider, valueFn, (curveName, parameterIndex) -> true);
   }
 
-  // computes the sensitivity with respect to the curves
-  private <T> CurrencyParameterSensitivities sensitivity(
-      ImmutableRatesProvider provider,
-      Map<T, Curve> baseCurves,
-      BiFunction<ImmutableRatesProvider, Map<T, Curve>, ImmutableRatesProvider> storeBumpedFn,
+  /**
+   * Computes the first order sensitivities of a function of a RatesProvider to a subset of the curve parameters.
+   * <p>
+   * Only the parameters matching the filter are bumped, thus the cost of bumping curves that the
+   * function does not depend on can be avoided. The sensitivity to parameters that do not match
+   * is zero, and curves with no matching parameters are not included in the result.
+   * For example, {@code (name, index) -> names.contains(name)} restricts the calculation to a set of curves.
+   * <p>
+   * The finite difference is computed by forward type.
+   * The function should return a value in the same currency for any rate provider.
+   * 
+   * @param provider  the rates provider
+   * @param valueFn  the function from a rate provider to a currency amount for which the sensitivity should be computed
+   * @param parameterFilter  the filter, taking the curve name and the parameter index, returning true to bump it
+   * @return the curve sensitivity
+   */
+  public CurrencyParameterSensitivities sensitivity(
+      RatesProvider provider,
       Function<ImmutableRatesProvider, CurrencyAmount> valueFn,
-      CurrencyAmount valueInit) {
+      BiPredicate<CurveName, Integer> parameterFilter) {
 
+    ImmutableRatesProvider immProv = provider.toImmutableRatesProvider();
+    CurrencyAmount valueInit = valueFn.apply(immProv);
+    // the curves and the function to store each one bumped
+    List<Curve> curves = new ArrayList<>();
+    List<Function<Curve, ImmutableRatesProvider>> storeBumpedFns = new ArrayList<>();
+    for (Entry<Currency, Curve> entry : immProv.getDiscountCurves().entrySet()) {
+      curves.add(entry.getValue());
+      storeBumpedFns.add(bumped -> immProv.toBuilder().discountCurve(entry.getKey(), bumped).build());
+    }
+    for (Entry<Index, Curve> entry : immProv.getIndexCurves().entrySet()) {
+      curves.add(entry.getValue());
+      storeBumpedFns.add(bumped -> immProv.toBuilder().indexCurve(entry.getKey(), bumped).build());
+    }
+    // the bumps, as the curve index and the parameter index
+    List<int[]> bumps = new ArrayList<>();
+    for (int c = 0; c < curves.size(); c++) {
+      Curve curve = curves.get(c);
+      for (int i = 0; i < curve.getParameterCount(); i++) {
+        if (parameterFilter.test(curve.getName(), i)) {
+          bumps.add(new int[] {c, i});
+        }
+      }
+    }
+    double[] deltas = bumpedValues(bumps.size(), b -> {
+      int[] bump = bumps.get(b);
+      Curve curve = curves.get(bump[0]);
+      Curve bumped = curve.withParameter(bump[1], curve.getParameter(bump[1]) + shift);
+      ImmutableRatesProvider providerBumped = storeBumpedFns.get(bump[0]).apply(bumped);
+      return (valueFn.apply(providerBumped).getAmount() - valueInit.getAmount()) / shift;
+    });
+    // assemble the results in curve order
+    double[][] sensitivities = new double[curves.size()][];
+    for (int b = 0; b < bumps.size(); b++) {
+      int[] bump = bumps.get(b);
+      if (sensitivities[bump[0]] == null) {
+        sensitivities[bump[0]] = new double[curves.get(bump[0]).getParameterCount()];
+      }
+      sensitivities[bump[0]][bump[1]] = deltas[b];
+    }
     CurrencyParameterSensitivities result = CurrencyParameterSensitivities.empty();
-    for (Entry<T, Curve> entry : baseCurves.entrySet()) {
-      Curve curve = entry.getValue();
-      DoubleArray sensitivity = DoubleArray.of(curve.getParameterCount(), i -> {
-        Curve dscBumped = curve.withParameter(i, curve.getParameter(i) + shift);
-        Map<T, Curve> mapBumped = new HashMap<>(baseCurves);
-        mapBumped.put(entry.getKey(), dscBumped);
-        ImmutableRatesProvider providerDscBumped = storeBumpedFn.apply(provider, mapBumped);
-        return (valueFn.apply(providerDscBumped).getAmount() - valueInit.getAmount()) / shift;
-      });
-      result = result.combinedWith(curve.createParameterSensitivity(valueInit.getCurrency(), sensitivity));
+    for (int c = 0; c < curves.size(); c++) {
+      if (sensitivities[c] != null) {
+        result = result.combinedWith(
+            curves.get(c).createParameterSensitivity(valueInit.getCurrency(), DoubleArray.ofUnsafe(sensitivities[c])));
+      }
     }
     return result;
   }
@@ -153,16 +242,15 @@ public class RatesFiniteDifferenceSensitivityCalculator {
       DiscountFactors discountFactors = baseCurves.get(key);
       Curve curve = checkDiscountFactors(discountFactors);
       int paramCount = curve.getParameterCount();
-      double[] sensitivity = new double[paramCount];
-      for (int i = 0; i < paramCount; i++) {
+      double[] sensitivity = bumpedValues(paramCount, i -> {
         Curve dscBumped = curve.withParameter(i, curve.getParameter(i) + shift);
         Map<Pair<T, Currency>, DiscountFactors> mapBumped = new HashMap<>(baseCurves);
         mapBumped.put(key, createDiscountFactors(discountFactors, dscBumped));
         ImmutableLegalEntityDiscountingProvider providerDscBumped = provider.toBuilder().set(metaProperty, mapBumped).build();
-        sensitivity[i] = (valueFn.apply(providerDscBumped).getAmount() - valueInit.getAmount()) / shift;
-      }
+        return (valueFn.apply(providerDscBumped).getAmount() - valueInit.getAmount()) / shift;
+      });
       result = result.combinedWith(
-          curve.createParameterSensitivity(valueInit.getCurrency(), DoubleArray.copyOf(sensitivity)));
+          curve.createParameterSensitivity(valueInit.getCurrency(), DoubleArray.ofUnsafe(sensitivity)));
     }
     return result;
   }
@@ -204,16 +292,15 @@ public class RatesFiniteDifferenceSensitivityCalculator {
       DiscountFactors discountFactors = creditDiscountFactors.toDiscountFactors();
       Curve curve = checkDiscountFactors(discountFactors);
       int paramCount = curve.getParameterCount();
-      double[] sensitivity = new double[paramCount];
-      for (int i = 0; i < paramCount; i++) {
+      double[] sensitivity = bumpedValues(paramCount, i -> {
         Curve dscBumped = curve.withParameter(i, curve.getParameter(i) + shift);
         Map<T, CreditDiscountFactors> mapBumped = new HashMap<>(baseCurves);
         mapBumped.put(key, createCreditDiscountFactors(creditDiscountFactors, dscBumped));
         ImmutableCreditRatesProvider providerDscBumped = provider.toBuilder().set(metaProperty, mapBumped).build();
-        sensitivity[i] = (valueFn.apply(providerDscBumped).getAmount() - valueInit.getAmount()) / shift;
-      }
+        return (valueFn.apply(providerDscBumped).getAmount() - valueInit.getAmount()) / shift;
+      });
       result = result.combinedWith(
-          curve.createParameterSensitivity(valueInit.getCurrency(), DoubleArray.copyOf(sensitivity)));
+          curve.createParameterSensitivity(valueInit.getCurrency(), DoubleArray.ofUnsafe(sensitivity)));
     }
     return result;
   }
@@ -232,21 +319,40 @@ public class RatesFiniteDifferenceSensitivityCalculator {
       DiscountFactors discountFactors = creditDiscountFactors.toDiscountFactors();
       Curve curve = checkDiscountFactors(discountFactors);
       int paramCount = curve.getParameterCount();
-      double[] sensitivity = new double[paramCount];
-      for (int i = 0; i < paramCount; i++) {
+      double[] sensitivity = bumpedValues(paramCount, i -> {
         Curve dscBumped = curve.withParameter(i, curve.getParameter(i) + shift);
         Map<T, LegalEntitySurvivalProbabilities> mapBumped = new HashMap<>(baseCurves);
         mapBumped.put(key, LegalEntitySurvivalProbabilities.of(
             credit.getLegalEntityId(), createCreditDiscountFactors(creditDiscountFactors, dscBumped)));
         ImmutableCreditRatesProvider providerDscBumped = provider.toBuilder().set(metaProperty, mapBumped).build();
-        sensitivity[i] = (valueFn.apply(providerDscBumped).getAmount() - valueInit.getAmount()) / shift;
-      }
+        return (valueFn.apply(providerDscBumped).getAmount() - valueInit.getAmount()) / shift;
+      });
       result = result.combinedWith(
-          curve.createParameterSensitivity(valueInit.getCurrency(), DoubleArray.copyOf(sensitivity)));
+          curve.createParameterSensitivity(valueInit.getCurrency(), DoubleArray.ofUnsafe(sensitivity)));
     }
     return result;
   }
 
+  //-------------------------------------------------------------------------
+  // computes the bumped values, in parallel batches if requested
+  private double[] bumpedValues(int bumpCount, IntToDoubleFunction bumpedValueFn) {
+    double[] values = new double[bumpCount];
+    if (batchSize == 0 || bumpCount <= 1) {
+      for (int i = 0; i < bumpCount; i++) {
+        values[i] = bumpedValueFn.applyAsDouble(i);
+      }
+    } else {
+      int batchCount = (bumpCount + batchSize - 1) / batchSize;
+      IntStream.range(0, batchCount).parallel().forEach(batch -> {
+        int end = Math.min(bumpCount, (batch + 1) * batchSize);
+        for (int i = batch * batchSize; i < end; i++) {
+          values[i] = bumpedValueFn.applyAsDouble(i);
+        }
+      });
+    }
+    return values;
+  }
+
   //-------------------------------------------------------------------------
   // check that the discountFactors is ZeroRateDiscountFactors or SimpleDiscountFactors
   private Curve checkDiscountFactors(DiscountFactors discountFactors) {
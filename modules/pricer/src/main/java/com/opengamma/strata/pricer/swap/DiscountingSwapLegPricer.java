@@ -8,6 +8,7 @@ package com.opengamma.strata.pricer.swap;
 import java.time.LocalDate;
 import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.function.ToDoubleFunction;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.Currency;
@@ -16,13 +17,16 @@ import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
 import com.opengamma.strata.market.amount.CashFlow;
 import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.rate.CompactPointSensitivities;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.rate.ScenarioRatesProvider;
 import com.opengamma.strata.product.swap.KnownAmountSwapPaymentPeriod;
 import com.opengamma.strata.product.swap.RatePaymentPeriod;
 import com.opengamma.strata.product.swap.ResolvedSwapLeg;
@@ -126,6 +130,73 @@ public class DiscountingSwapLegPricer {
     return presentValuePeriodsInternal(leg, provider) + presentValueEventsInternal(leg, provider);
   }
 
+  /**
+   * Calculates the present value of the swap leg in each scenario.
+   * <p>
+   * The present value of the leg is the value on the valuation date.
+   * This is the discounted forecast value.
+   * The result is returned using the payment currency of the leg.
+   * <p>
+   * The result is the same as pricing each scenario separately.
+   * With the standard period and event pricers, where the present value is the forecast value
+   * multiplied by the discount factor, the schedule of the leg is walked once, with each payment
+   * evaluated in all scenarios. Otherwise each scenario is priced separately.
+   * 
+   * @param leg  the leg
+   * @param provider  the rates provider of each scenario
+   * @return the present value of the swap leg in each scenario
+   */
+  public CurrencyScenarioArray presentValue(ResolvedSwapLeg leg, ScenarioRatesProvider provider) {
+    return CurrencyScenarioArray.of(leg.getCurrency(), DoubleArray.ofUnsafe(presentValueInternal(leg, provider)));
+  }
+
+  // calculates the present value in each scenario in the currency of the swap leg
+  double[] presentValueInternal(ResolvedSwapLeg leg, ScenarioRatesProvider provider) {
+    int scenarioCount = provider.getScenarioCount();
+    if (paymentPeriodPricer != SwapPaymentPeriodPricer.standard() ||
+        paymentEventPricer != SwapPaymentEventPricer.standard()) {
+      double[] total = new double[scenarioCount];
+      for (int i = 0; i < scenarioCount; i++) {
+        total[i] = presentValueInternal(leg, provider.scenario(i));
+      }
+      return total;
+    }
+    double[] periodsTotal = new double[scenarioCount];
+    for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
+      addPresentValue(periodsTotal, period.getCurrency(), period.getPaymentDate(), provider,
+          scenario -> paymentPeriodPricer.forecastValue(period, scenario));
+    }
+    double[] eventsTotal = new double[scenarioCount];
+    for (SwapPaymentEvent event : leg.getPaymentEvents()) {
+      addPresentValue(eventsTotal, event.getCurrency(), event.getPaymentDate(), provider,
+          scenario -> paymentEventPricer.forecastValue(event, scenario));
+    }
+    for (int i = 0; i < scenarioCount; i++) {
+      periodsTotal[i] += eventsTotal[i];
+    }
+    return periodsTotal;
+  }
+
+  // adds the discounted forecast value of a payment in each scenario, discounting all scenarios at once
+  private static void addPresentValue(
+      double[] total,
+      Currency currency,
+      LocalDate paymentDate,
+      ScenarioRatesProvider provider,
+      ToDoubleFunction<RatesProvider> forecastValueFn) {
+
+    DoubleArray discountFactors = null;
+    for (int i = 0; i < total.length; i++) {
+      RatesProvider scenario = provider.scenario(i);
+      if (!paymentDate.isBefore(scenario.getValuationDate())) {
+        if (discountFactors == null) {
+          discountFactors = provider.discountFactor(currency, paymentDate);
+        }
+        total[i] += forecastValueFn.applyAsDouble(scenario) * discountFactors.get(i);
+      }
+    }
+  }
+
   /**
    * Calculates the forecast value of the swap leg.
    * <p>
@@ -251,7 +322,7 @@ public class DiscountingSwapLegPricer {
       BiFunction<SwapPaymentPeriod, RatesProvider, PointSensitivityBuilder> periodFn,
       BiFunction<SwapPaymentEvent, RatesProvider, PointSensitivityBuilder> eventFn) {
 
-    PointSensitivityBuilder builder = PointSensitivityBuilder.none();
+    CompactPointSensitivities builder = CompactPointSensitivities.of();
     for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
       if (!period.getPaymentDate().isBefore(provider.getValuationDate())) {
         builder = builder.combinedWith(periodFn.apply(period, provider));
@@ -262,7 +333,12 @@ public class DiscountingSwapLegPricer {
         builder = builder.combinedWith(eventFn.apply(event, provider));
       }
     }
-    return builder;
+    return compacted(builder);
+  }
+
+  // the sensitivities of the periods are combined in a compact builder, which is replaced by none() if empty
+  private static PointSensitivityBuilder compacted(CompactPointSensitivities builder) {
+    return builder.isEmpty() ? PointSensitivityBuilder.none() : builder;
   }
 
   //-------------------------------------------------------------------------
@@ -281,11 +357,11 @@ public class DiscountingSwapLegPricer {
    * @return the Present Value of a Basis Point sensitivity to the curves
    */
   public PointSensitivityBuilder pvbpSensitivity(ResolvedSwapLeg fixedLeg, RatesProvider provider) {
-    PointSensitivityBuilder builder = PointSensitivityBuilder.none();
+    CompactPointSensitivities builder = CompactPointSensitivities.of();
     for (SwapPaymentPeriod period : fixedLeg.getPaymentPeriods()) {
       builder = builder.combinedWith(paymentPeriodPricer.pvbpSensitivity(period, provider));
     }
-    return builder;
+    return compacted(builder);
   }
 
   //-------------------------------------------------------------------------
@@ -536,37 +612,42 @@ public class DiscountingSwapLegPricer {
 
   // calculates the present value curve sensitivity of the events composing the leg in the currency of the swap leg
   PointSensitivityBuilder presentValueSensitivityEventsInternal(ResolvedSwapLeg leg, RatesProvider provider) {
-    PointSensitivityBuilder builder = PointSensitivityBuilder.none();
+    CompactPointSensitivities builder = CompactPointSensitivities.of();
     for (SwapPaymentEvent event : leg.getPaymentEvents()) {
       if (!event.getPaymentDate().isBefore(provider.getValuationDate())) {
         builder = builder.combinedWith(paymentEventPricer.presentValueSensitivity(event, provider));
       }
     }
-    return builder;
+    return compacted(builder);
   }
 
   // calculates the present value curve sensitivity of the periods composing the leg in the currency of the swap leg
   PointSensitivityBuilder presentValueSensitivityPeriodsInternal(ResolvedSwapLeg leg, RatesProvider provider) {
-    PointSensitivityBuilder builder = PointSensitivityBuilder.none();
+    CompactPointSensitivities builder = CompactPointSensitivities.of();
     for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
       if (!period.getPaymentDate().isBefore(provider.getValuationDate())) {
         builder = builder.combinedWith(paymentPeriodPricer.presentValueSensitivity(period, provider));
       }
     }
-    return builder;
+    return compacted(builder);
   }
 
   //-------------------------------------------------------------------------
   // calculates the cash flow of the periods composing the leg in the currency of the swap leg
   CashFlows cashFlowPeriodsInternal(ResolvedSwapLeg leg, RatesProvider provider) {
     ImmutableList.Builder<CashFlow> builder = ImmutableList.builder();
+    // payment dates are in ascending order and in the leg currency, allowing the curve to be walked with a cursor
+    ToDoubleFunction<LocalDate> discountFactors = null;
     for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
       if (!period.getPaymentDate().isBefore(provider.getValuationDate())) {
         double forecastValue = paymentPeriodPricer.forecastValue(period, provider);
         if (forecastValue != 0d) {
           Currency currency = period.getCurrency();
           LocalDate paymentDate = period.getPaymentDate();
-          double discountFactor = provider.discountFactor(currency, paymentDate);
+          if (discountFactors == null) {
+            discountFactors = provider.discountFactors(leg.getCurrency()).discountFactorCursor();
+          }
+          double discountFactor = discountFactors.applyAsDouble(paymentDate);
           CashFlow singleCashFlow = CashFlow.ofForecastValue(paymentDate, currency, forecastValue, discountFactor);
           builder.add(singleCashFlow);
         }
@@ -578,13 +659,18 @@ public class DiscountingSwapLegPricer {
   // calculates the cash flow of the events composing the leg in the currency of the swap leg
   CashFlows cashFlowEventsInternal(ResolvedSwapLeg leg, RatesProvider provider) {
     ImmutableList.Builder<CashFlow> builder = ImmutableList.builder();
+    // payment dates are in ascending order and in the leg currency, allowing the curve to be walked with a cursor
+    ToDoubleFunction<LocalDate> discountFactors = null;
     for (SwapPaymentEvent event : leg.getPaymentEvents()) {
       if (!event.getPaymentDate().isBefore(provider.getValuationDate())) {
         double forecastValue = paymentEventPricer.forecastValue(event, provider);
         if (forecastValue != 0d) {
           Currency currency = event.getCurrency();
           LocalDate paymentDate = event.getPaymentDate();
-          double discountFactor = provider.discountFactor(currency, paymentDate);
+          if (discountFactors == null) {
+            discountFactors = provider.discountFactors(leg.getCurrency()).discountFactorCursor();
+          }
+          double discountFactor = discountFactors.applyAsDouble(paymentDate);
           CashFlow singleCashFlow = CashFlow.ofForecastValue(paymentDate, currency, forecastValue, discountFactor);
           builder.add(singleCashFlow);
         }
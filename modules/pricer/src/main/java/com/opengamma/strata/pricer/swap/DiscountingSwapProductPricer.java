@@ -8,7 +8,9 @@ package com.opengamma.strata.pricer.swap;
 import static com.opengamma.strata.basics.currency.MultiCurrencyAmount.toMultiCurrencyAmount;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.ToDoubleBiFunction;
@@ -18,13 +20,16 @@ import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.tuple.Triple;
+import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.rate.ScenarioRatesProvider;
 import com.opengamma.strata.product.rate.FixedOvernightCompoundedAnnualRateComputation;
 import com.opengamma.strata.product.rate.FixedRateComputation;
 import com.opengamma.strata.product.swap.CompoundingMethod;
@@ -111,6 +116,36 @@ public class DiscountingSwapProductPricer {
     return swapValue(provider, swap, legPricer::presentValueInternal);
   }
 
+  /**
+   * Calculates the present value of the swap product in each scenario.
+   * <p>
+   * The present value of the product is the value on the valuation date.
+   * This is the discounted forecast value.
+   * The result is expressed using the payment currency of each leg.
+   * <p>
+   * The schedule of each leg is walked once, with each payment evaluated in all scenarios.
+   * The result is the same as pricing each scenario separately.
+   * 
+   * @param swap  the product
+   * @param provider  the rates provider of each scenario
+   * @return the present value of the swap product in each scenario
+   */
+  public MultiCurrencyScenarioArray presentValue(ResolvedSwap swap, ScenarioRatesProvider provider) {
+    Map<Currency, double[]> totals = new LinkedHashMap<>();
+    for (ResolvedSwapLeg leg : swap.getLegs()) {
+      double[] legPv = legPricer.presentValueInternal(leg, provider);
+      double[] total = totals.putIfAbsent(leg.getCurrency(), legPv);
+      if (total != null) {
+        for (int i = 0; i < total.length; i++) {
+          total[i] += legPv[i];
+        }
+      }
+    }
+    Map<Currency, DoubleArray> values = new LinkedHashMap<>();
+    totals.forEach((currency, total) -> values.put(currency, DoubleArray.ofUnsafe(total)));
+    return MultiCurrencyScenarioArray.of(values);
+  }
+
   /**
    * Calculates the forecast value of the swap product.
    * <p>
@@ -0,0 +1,600 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.swaption;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.basics.currency.Payment;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.math.impl.regression.OrdinaryLeastSquaresRegression;
+import com.opengamma.strata.pricer.DiscountingPaymentPricer;
+import com.opengamma.strata.pricer.impl.rate.model.HullWhiteOneFactorPiecewiseConstantMonteCarloEngine;
+import com.opengamma.strata.pricer.impl.rate.swap.CashFlowEquivalentCalculator;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParametersProvider;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.product.common.SettlementType;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+import com.opengamma.strata.product.swap.ResolvedSwapLeg;
+import com.opengamma.strata.product.swaption.ResolvedSwaption;
+import com.opengamma.strata.product.swaption.SwaptionExerciseDate;
+
+/**
+ * Pricer for swaption with physical settlement in Hull-White one factor model with piecewise constant volatility
+ * by Monte Carlo simulation.
+ * <p>
+ * The swaption may be European or Bermudan. On each exercise date, the holder may enter into the part of the
+ * underlying swap made of the periods starting on or after the swap start date of that exercise.
+ * American swaptions are not supported.
+ * <p>
+ * The model state is simulated exactly on the exercise dates by {@link HullWhiteOneFactorPiecewiseConstantMonteCarloEngine},
+ * with the paths split into blocks run in parallel. The results depend only on the seed, the number of paths and
+ * the block size, so repeated calls are consistent with each other.
+ * The exercise strategy of a Bermudan swaption is estimated by Longstaff-Schwartz regression of the value of
+ * later exercise on the exercise value and its square, using the paths in the money on each exercise date.
+ * The same paths are then used for the valuation.
+ * <p>
+ * Variance is reduced by antithetic paths and by using the underlying swap of the first exercise date,
+ * whose expected value is known, as a control variate.
+ * <p>
+ * The sensitivities are pathwise, with the exercise strategy and the random numbers held constant.
+ * <p>
+ * Reference: Longstaff, F. and Schwartz, E. "Valuing American options by simulation: a simple least-squares approach",
+ * Review of Financial Studies, 2001, 14(1), 113-147
+ */
+public class HullWhiteSwaptionPhysicalMonteCarloProductPricer {
+
+  /**
+   * The default number of paths.
+   */
+  private static final int DEFAULT_NB_PATHS = 100000;
+  /**
+   * The default number of paths in each block.
+   */
+  private static final int DEFAULT_BLOCK_SIZE = 1000;
+  /**
+   * The minimum number of paths in the money for the regression.
+   */
+  private static final int MIN_REGRESSION_PATHS = 10;
+
+  /**
+   * Default implementation.
+   */
+  public static final HullWhiteSwaptionPhysicalMonteCarloProductPricer DEFAULT =
+      new HullWhiteSwaptionPhysicalMonteCarloProductPricer(DiscountingPaymentPricer.DEFAULT, DEFAULT_NB_PATHS, 0L);
+
+  /**
+   * Pricer for {@link Payment}.
+   */
+  private final DiscountingPaymentPricer paymentPricer;
+  /**
+   * The number of paths.
+   */
+  private final int nbPaths;
+  /**
+   * The number of paths in each block.
+   */
+  private final int blockSize;
+  /**
+   * The seed of the random numbers.
+   */
+  private final long seed;
+  /**
+   * Whether to use antithetic paths.
+   */
+  private final boolean antithetic;
+  /**
+   * Whether to use the control variate.
+   */
+  private final boolean controlVariate;
+
+  /**
+   * Creates an instance with antithetic paths and the control variate.
+   *
+   * @param paymentPricer  the pricer for {@link Payment}
+   * @param nbPaths  the number of paths
+   * @param seed  the seed of the random numbers
+   */
+  public HullWhiteSwaptionPhysicalMonteCarloProductPricer(DiscountingPaymentPricer paymentPricer, int nbPaths, long seed) {
+    this(paymentPricer, nbPaths, DEFAULT_BLOCK_SIZE, seed, true, true);
+  }
+
+  /**
+   * Creates an instance.
+   *
+   * @param paymentPricer  the pricer for {@link Payment}
+   * @param nbPaths  the number of paths
+   * @param blockSize  the number of paths in each block
+   * @param seed  the seed of the random numbers
+   * @param antithetic  whether to use antithetic paths
+   * @param controlVariate  whether to use the underlying swap of the first exercise date as control variate
+   */
+  public HullWhiteSwaptionPhysicalMonteCarloProductPricer(
+      DiscountingPaymentPricer paymentPricer,
+      int nbPaths,
+      int blockSize,
+      long seed,
+      boolean antithetic,
+      boolean controlVariate) {
+
+    this.paymentPricer = ArgChecker.notNull(paymentPricer, "paymentPricer");
+    this.nbPaths = ArgChecker.notNegativeOrZero(nbPaths, "nbPaths");
+    this.blockSize = ArgChecker.notNegativeOrZero(blockSize, "blockSize");
+    this.seed = seed;
+    this.antithetic = antithetic;
+    this.controlVariate = controlVariate;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present value of the swaption product.
+   * <p>
+   * The result is expressed using the currency of the swapion.
+   *
+   * @param swaption  the product
+   * @param ratesProvider  the rates provider
+   * @param hwProvider  the Hull-White model parameter provider
+   * @return the present value
+   */
+  public CurrencyAmount presentValue(
+      ResolvedSwaption swaption,
+      RatesProvider ratesProvider,
+      HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider) {
+
+    validate(swaption, ratesProvider, hwProvider);
+    List<SwaptionExerciseDate> exerciseDates = exerciseDates(swaption, ratesProvider.getValuationDate());
+    if (exerciseDates.isEmpty()) { // Option has expired already
+      return CurrencyAmount.of(swaption.getCurrency(), 0d);
+    }
+    List<List<Payment>> payments = cashFlowEquivalents(swaption.getUnderlying(), exerciseDates, ratesProvider).stream()
+        .map(cashFlows -> cashFlows.keySet().asList())
+        .collect(toImmutableList());
+    double[][] presentValues = presentValues(payments, ratesProvider);
+    ExerciseWeights weights = exerciseWeights(exerciseDates, payments, presentValues, hwProvider, false);
+    double pv = 0d;
+    for (int k = 0; k < payments.size(); k++) {
+      for (int j = 0; j < payments.get(k).size(); j++) {
+        pv += presentValues[k][j] * weights.values[k][j];
+      }
+    }
+    return CurrencyAmount.of(swaption.getCurrency(), pv * (swaption.getLongShort().isLong() ? 1d : -1d));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the currency exposure of the swaption product.
+   *
+   * @param swaption  the product
+   * @param ratesProvider  the rates provider
+   * @param hwProvider  the Hull-White model parameter provider
+   * @return the currency exposure
+   */
+  public MultiCurrencyAmount currencyExposure(
+      ResolvedSwaption swaption,
+      RatesProvider ratesProvider,
+      HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider) {
+
+    return MultiCurrencyAmount.of(presentValue(swaption, ratesProvider, hwProvider));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present value sensitivity of the swaption product.
+   * <p>
+   * The present value sensitivity of the product is the sensitivity of the present value to
+   * the underlying curves.
+   *
+   * @param swaption  the product
+   * @param ratesProvider  the rates provider
+   * @param hwProvider  the Hull-White model parameter provider
+   * @return the point sensitivity to the rate curves
+   */
+  public PointSensitivityBuilder presentValueSensitivityRates(
+      ResolvedSwaption swaption,
+      RatesProvider ratesProvider,
+      HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider) {
+
+    validate(swaption, ratesProvider, hwProvider);
+    List<SwaptionExerciseDate> exerciseDates = exerciseDates(swaption, ratesProvider.getValuationDate());
+    if (exerciseDates.isEmpty()) { // Option has expired already
+      return PointSensitivityBuilder.none();
+    }
+    List<ImmutableMap<Payment, PointSensitivityBuilder>> cashFlows =
+        cashFlowEquivalents(swaption.getUnderlying(), exerciseDates, ratesProvider);
+    List<List<Payment>> payments = cashFlows.stream()
+        .map(cashFlowsSensi -> cashFlowsSensi.keySet().asList())
+        .collect(toImmutableList());
+    double[][] presentValues = presentValues(payments, ratesProvider);
+    ExerciseWeights weights = exerciseWeights(exerciseDates, payments, presentValues, hwProvider, false);
+    PointSensitivityBuilder point = PointSensitivityBuilder.none();
+    for (int k = 0; k < payments.size(); k++) {
+      ImmutableList<PointSensitivityBuilder> listSensi = cashFlows.get(k).values().asList();
+      for (int j = 0; j < payments.get(k).size(); j++) {
+        Payment payment = payments.get(k).get(j);
+        double weight = weights.values[k][j];
+        point = point.combinedWith(paymentPricer.presentValueSensitivity(payment, ratesProvider).multipliedBy(weight));
+        if (!listSensi.get(j).equals(PointSensitivityBuilder.none())) {
+          point = point.combinedWith(listSensi.get(j)
+              .multipliedBy(weight * ratesProvider.discountFactor(payment.getCurrency(), payment.getDate())));
+        }
+      }
+    }
+    return swaption.getLongShort().isLong() ? point : point.multipliedBy(-1d);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present value sensitivity to piecewise constant volatility parameters of the Hull-White model.
+   *
+   * @param swaption  the product
+   * @param ratesProvider  the rates provider
+   * @param hwProvider  the Hull-White model parameter provider
+   * @return the present value Hull-White model parameter sensitivity of the swaption product
+   */
+  public DoubleArray presentValueSensitivityModelParamsHullWhite(
+      ResolvedSwaption swaption,
+      RatesProvider ratesProvider,
+      HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider) {
+
+    validate(swaption, ratesProvider, hwProvider);
+    List<SwaptionExerciseDate> exerciseDates = exerciseDates(swaption, ratesProvider.getValuationDate());
+    if (exerciseDates.isEmpty()) { // Option has expired already
+      return DoubleArray.EMPTY;
+    }
+    List<List<Payment>> payments = cashFlowEquivalents(swaption.getUnderlying(), exerciseDates, ratesProvider).stream()
+        .map(cashFlows -> cashFlows.keySet().asList())
+        .collect(toImmutableList());
+    double[][] presentValues = presentValues(payments, ratesProvider);
+    ExerciseWeights weights = exerciseWeights(exerciseDates, payments, presentValues, hwProvider, true);
+    int nbParams = hwProvider.getParameters().getVolatility().size();
+    double sign = (swaption.getLongShort().isLong() ? 1d : -1d);
+    double[] pvSensi = new double[nbParams];
+    for (int k = 0; k < payments.size(); k++) {
+      for (int j = 0; j < payments.get(k).size(); j++) {
+        for (int i = 0; i < nbParams; i++) {
+          pvSensi[i] += sign * presentValues[k][j] * weights.volatilitySensitivities[k][j][i];
+        }
+      }
+    }
+    return DoubleArray.ofUnsafe(pvSensi);
+  }
+
+  //-------------------------------------------------------------------------
+  // validate that the rates and volatilities providers are coherent
+  private void validate(
+      ResolvedSwaption swaption,
+      RatesProvider ratesProvider,
+      HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider) {
+
+    ArgChecker.isTrue(hwProvider.getValuationDateTime().toLocalDate().equals(ratesProvider.getValuationDate()),
+        "Hull-White model data and rate data should be for the same date");
+    ArgChecker.isFalse(swaption.getUnderlying().isCrossCurrency(), "underlying swap should be single currency");
+    ArgChecker.isTrue(swaption.getSwaptionSettlement().getSettlementType().equals(SettlementType.PHYSICAL),
+        "swaption should be physical settlement");
+    ArgChecker.isFalse(swaption.getExerciseInfo().isAllDates(), "swaption should not be American");
+  }
+
+  // the exercise dates that have not passed
+  private static List<SwaptionExerciseDate> exerciseDates(ResolvedSwaption swaption, LocalDate valuationDate) {
+    return swaption.getExerciseInfo().getDates().stream()
+        .filter(date -> !date.getExerciseDate().isBefore(valuationDate))
+        .collect(toImmutableList());
+  }
+
+  // the cash flow equivalent of the swap entered into on each exercise date, with the sensitivities of the amounts
+  private static List<ImmutableMap<Payment, PointSensitivityBuilder>> cashFlowEquivalents(
+      ResolvedSwap swap,
+      List<SwaptionExerciseDate> exerciseDates,
+      RatesProvider ratesProvider) {
+
+    return exerciseDates.stream()
+        .map(date -> CashFlowEquivalentCalculator.cashFlowEquivalentAndSensitivitySwap(
+            remainingSwap(swap, date.getSwapStartDate()), ratesProvider))
+        .collect(toImmutableList());
+  }
+
+  // the swap made of the periods starting on or after the start date
+  private static ResolvedSwap remainingSwap(ResolvedSwap swap, LocalDate startDate) {
+    List<ResolvedSwapLeg> legs = swap.getLegs().stream()
+        .map(leg -> leg.toBuilder()
+            .paymentPeriods(leg.getPaymentPeriods().stream()
+                .filter(period -> !period.getStartDate().isBefore(startDate))
+                .collect(toImmutableList()))
+            .build())
+        .collect(toImmutableList());
+    ArgChecker.isFalse(legs.stream().anyMatch(leg -> leg.getPaymentPeriods().isEmpty()),
+        "swap should have periods starting after the swap start date {} of each exercise", startDate);
+    return swap.toBuilder().legs(legs).build();
+  }
+
+  // the present value of each cash flow equivalent
+  private double[][] presentValues(List<List<Payment>> payments, RatesProvider ratesProvider) {
+    return payments.stream()
+        .map(list -> list.stream().mapToDouble(payment -> paymentPricer.presentValueAmount(payment, ratesProvider)).toArray())
+        .toArray(double[][]::new);
+  }
+
+  //-------------------------------------------------------------------------
+  // the expected ratio of each bond to its initial value on exercise, in the numeraire measure
+  // the present value is the sum of the present values of the cash flows multiplied by these weights
+  private ExerciseWeights exerciseWeights(
+      List<SwaptionExerciseDate> exerciseDates,
+      List<List<Payment>> payments,
+      double[][] presentValues,
+      HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider,
+      boolean volatilitySensitivity) {
+
+    int nbExercise = exerciseDates.size();
+    double[] times = exerciseDates.stream()
+        .mapToDouble(date -> hwProvider.relativeTime(date.getExerciseDate()))
+        .toArray();
+    double numeraireTime = payments.stream()
+        .flatMap(List::stream)
+        .mapToDouble(payment -> hwProvider.relativeTime(payment.getDate()))
+        .reduce(times[nbExercise - 1], Math::max);
+    HullWhiteOneFactorPiecewiseConstantMonteCarloEngine engine = HullWhiteOneFactorPiecewiseConstantMonteCarloEngine.of(
+        hwProvider.getParameters(), DoubleArray.ofUnsafe(times), numeraireTime);
+    double[][] states = engine.simulate(nbPaths, blockSize, seed, antithetic).toArrayUnsafe();
+    double[][] bondFactors = payments.stream()
+        .map(list -> list.stream().mapToDouble(payment -> engine.bondFactor(hwProvider.relativeTime(payment.getDate())))
+            .toArray())
+        .toArray(double[][]::new);
+    int[] exerciseIndex = exerciseIndices(engine, states, bondFactors, presentValues);
+
+    // the sums are computed by block in parallel and added in the order of the blocks
+    int nbBlocks = (nbPaths + blockSize - 1) / blockSize;
+    List<ExerciseWeights> blockSums = IntStream.range(0, nbBlocks).parallel()
+        .mapToObj(block -> blockSums(
+            engine, states, bondFactors, presentValues, exerciseIndex, block, volatilitySensitivity))
+        .collect(toImmutableList());
+    ExerciseWeights total = new ExerciseWeights(bondFactors, engine.varianceSensitivity(0).size(), volatilitySensitivity);
+    for (ExerciseWeights sums : blockSums) {
+      total.add(sums);
+    }
+    total.scale(1d / nbPaths);
+    if (controlVariate) {
+      total.applyControlVariate();
+    }
+    return total;
+  }
+
+  // the index of the exercise date of each path, -1 if not exercised, by Longstaff-Schwartz regression
+  private int[] exerciseIndices(
+      HullWhiteOneFactorPiecewiseConstantMonteCarloEngine engine,
+      double[][] states,
+      double[][] bondFactors,
+      double[][] presentValues) {
+
+    int nbExercise = states.length;
+    int[] exerciseIndex = new int[nbPaths];
+    Arrays.fill(exerciseIndex, -1);
+    double[] value = new double[nbPaths];
+    double[] exerciseValue = new double[nbPaths];
+    for (int k = nbExercise - 1; k >= 0; k--) {
+      int timeIndex = k;
+      IntStream.range(0, nbPaths).parallel().forEach(path -> exerciseValue[path] = swapValue(
+          engine, timeIndex, states[timeIndex][path], bondFactors[timeIndex], presentValues[timeIndex]));
+      double[] continuation = k == nbExercise - 1 ?
+          new double[nbPaths] :
+          continuationValues(exerciseValue, value, presentValues[k]);
+      for (int path = 0; path < nbPaths; path++) {
+        if (exerciseValue[path] > 0d && exerciseValue[path] > continuation[path]) {
+          exerciseIndex[path] = k;
+          value[path] = exerciseValue[path];
+        }
+      }
+    }
+    return exerciseIndex;
+  }
+
+  // the regression estimate of the value of later exercise for the paths in the money
+  private static double[] continuationValues(double[] exerciseValue, double[] value, double[] presentValues) {
+    int[] inTheMoney = IntStream.range(0, exerciseValue.length).filter(path -> exerciseValue[path] > 0d).toArray();
+    double[] continuation = new double[exerciseValue.length];
+    if (inTheMoney.length < MIN_REGRESSION_PATHS) {
+      // not enough information to exercise
+      Arrays.fill(continuation, Double.POSITIVE_INFINITY);
+      return continuation;
+    }
+    // the values are scaled to order one for the regression
+    double scale = Arrays.stream(presentValues).map(Math::abs).sum();
+    double[][] x = new double[inTheMoney.length][];
+    double[] y = new double[inTheMoney.length];
+    for (int i = 0; i < inTheMoney.length; i++) {
+      double s = exerciseValue[inTheMoney[i]] / scale;
+      x[i] = new double[] {s, s * s};
+      y[i] = value[inTheMoney[i]] / scale;
+    }
+    double[] betas = new OrdinaryLeastSquaresRegression().regress(x, y, true).getBetas();
+    for (int path : inTheMoney) {
+      double s = exerciseValue[path] / scale;
+      continuation[path] = (betas[0] + betas[1] * s + betas[2] * s * s) * scale;
+    }
+    return continuation;
+  }
+
+  // the sums of the bond ratios on exercise, and of the control variate, for the paths of a block
+  private ExerciseWeights blockSums(
+      HullWhiteOneFactorPiecewiseConstantMonteCarloEngine engine,
+      double[][] states,
+      double[][] bondFactors,
+      double[][] presentValues,
+      int[] exerciseIndex,
+      int block,
+      boolean volatilitySensitivity) {
+
+    int nbExercise = states.length;
+    int nbParams = engine.varianceSensitivity(0).size();
+    double[][] varianceSensitivity = IntStream.range(0, nbExercise)
+        .mapToObj(k -> engine.varianceSensitivity(k).toArrayUnsafe())
+        .toArray(double[][]::new);
+    ExerciseWeights sums = new ExerciseWeights(bondFactors, nbParams, volatilitySensitivity);
+    double[] pathStates = new double[nbExercise];
+    double[][] stateSensitivity = new double[nbExercise][nbParams];
+    int start = block * blockSize;
+    int end = Math.min(start + blockSize, nbPaths);
+    for (int path = start; path < end; path++) {
+      if (volatilitySensitivity) {
+        for (int k = 0; k < nbExercise; k++) {
+          pathStates[k] = states[k][path];
+        }
+        engine.stateSensitivityInto(pathStates, stateSensitivity);
+      }
+      int k = exerciseIndex[path];
+      double pathValue = 0d;
+      if (k >= 0) {
+        for (int j = 0; j < bondFactors[k].length; j++) {
+          double h = bondFactors[k][j];
+          double ratio = engine.relativeBondRatio(k, h, states[k][path]);
+          sums.values[k][j] += ratio;
+          pathValue += presentValues[k][j] * ratio;
+          if (volatilitySensitivity) {
+            for (int i = 0; i < nbParams; i++) {
+              sums.volatilitySensitivities[k][j][i] +=
+                  ratio * (h * stateSensitivity[k][i] - 0.5 * h * h * varianceSensitivity[k][i]);
+            }
+          }
+        }
+      }
+      if (controlVariate) {
+        // the first underlying swap, less its expected value
+        double control = 0d;
+        for (int j = 0; j < bondFactors[0].length; j++) {
+          double h = bondFactors[0][j];
+          double ratio = engine.relativeBondRatio(0, h, states[0][path]);
+          sums.controlRatios[j] += ratio;
+          control += presentValues[0][j] * (ratio - 1d);
+          if (volatilitySensitivity) {
+            for (int i = 0; i < nbParams; i++) {
+              sums.controlRatioSensitivities[j][i] +=
+                  ratio * (h * stateSensitivity[0][i] - 0.5 * h * h * varianceSensitivity[0][i]);
+            }
+          }
+        }
+        sums.sumValue += pathValue;
+        sums.sumControl += control;
+        sums.sumValueControl += pathValue * control;
+        sums.sumControlSquare += control * control;
+      }
+    }
+    return sums;
+  }
+
+  // the value of the swap in units of the numeraire, relative to the initial value of the numeraire
+  private static double swapValue(
+      HullWhiteOneFactorPiecewiseConstantMonteCarloEngine engine,
+      int timeIndex,
+      double state,
+      double[] bondFactors,
+      double[] presentValues) {
+
+    double value = 0d;
+    for (int j = 0; j < bondFactors.length; j++) {
+      value += presentValues[j] * engine.relativeBondRatio(timeIndex, bondFactors[j], state);
+    }
+    return value;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The weights of the cash flows of each exercise date, and the sums used for the control variate.
+   */
+  private static final class ExerciseWeights {
+    private final double[][] values;
+    private final double[][][] volatilitySensitivities;
+    private final double[] controlRatios;
+    private final double[][] controlRatioSensitivities;
+    private double sumValue;
+    private double sumControl;
+    private double sumValueControl;
+    private double sumControlSquare;
+
+    private ExerciseWeights(double[][] bondFactors, int nbParams, boolean volatilitySensitivity) {
+      this.values = Arrays.stream(bondFactors).map(factors -> new double[factors.length]).toArray(double[][]::new);
+      this.volatilitySensitivities = volatilitySensitivity ?
+          Arrays.stream(bondFactors).map(factors -> new double[factors.length][nbParams]).toArray(double[][][]::new) :
+          null;
+      this.controlRatios = new double[bondFactors[0].length];
+      this.controlRatioSensitivities = new double[bondFactors[0].length][nbParams];
+    }
+
+    // adds the sums of another block
+    private void add(ExerciseWeights other) {
+      for (int k = 0; k < values.length; k++) {
+        for (int j = 0; j < values[k].length; j++) {
+          values[k][j] += other.values[k][j];
+          if (volatilitySensitivities != null) {
+            for (int i = 0; i < volatilitySensitivities[k][j].length; i++) {
+              volatilitySensitivities[k][j][i] += other.volatilitySensitivities[k][j][i];
+            }
+          }
+        }
+      }
+      for (int j = 0; j < controlRatios.length; j++) {
+        controlRatios[j] += other.controlRatios[j];
+        for (int i = 0; i < controlRatioSensitivities[j].length; i++) {
+          controlRatioSensitivities[j][i] += other.controlRatioSensitivities[j][i];
+        }
+      }
+      sumValue += other.sumValue;
+      sumControl += other.sumControl;
+      sumValueControl += other.sumValueControl;
+      sumControlSquare += other.sumControlSquare;
+    }
+
+    // converts the sums to means
+    private void scale(double factor) {
+      for (int k = 0; k < values.length; k++) {
+        for (int j = 0; j < values[k].length; j++) {
+          values[k][j] *= factor;
+          if (volatilitySensitivities != null) {
+            for (int i = 0; i < volatilitySensitivities[k][j].length; i++) {
+              volatilitySensitivities[k][j][i] *= factor;
+            }
+          }
+        }
+      }
+      for (int j = 0; j < controlRatios.length; j++) {
+        controlRatios[j] *= factor;
+        for (int i = 0; i < controlRatioSensitivities[j].length; i++) {
+          controlRatioSensitivities[j][i] *= factor;
+        }
+      }
+      sumValue *= factor;
+      sumControl *= factor;
+      sumValueControl *= factor;
+      sumControlSquare *= factor;
+    }
+
+    // subtracts the control, whose expected ratios are one, with the coefficient minimizing the variance
+    private void applyControlVariate() {
+      double variance = sumControlSquare - sumControl * sumControl;
+      if (variance <= 0d) {
+        return;
+      }
+      double coefficient = (sumValueControl - sumValue * sumControl) / variance;
+      for (int j = 0; j < controlRatios.length; j++) {
+        values[0][j] -= coefficient * (controlRatios[j] - 1d);
+        if (volatilitySensitivities != null) {
+          for (int i = 0; i < controlRatioSensitivities[j].length; i++) {
+            volatilitySensitivities[0][j][i] -= coefficient * controlRatioSensitivities[j][i];
+          }
+        }
+      }
+    }
+  }
+
+}
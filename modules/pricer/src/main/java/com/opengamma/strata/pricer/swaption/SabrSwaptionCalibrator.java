@@ -5,6 +5,8 @@
  */
 package com.opengamma.strata.pricer.swaption;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
 import java.time.LocalDate;
 import java.time.Period;
 import java.time.ZonedDateTime;
@@ -13,6 +15,7 @@ import java.util.BitSet;
 import java.util.List;
 import java.util.TreeMap;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.date.BusinessDayAdjustment;
@@ -178,7 +181,6 @@ public final class SabrSwaptionCalibrator {
    *   expiries/tenors which throw MathException
    * @return the SABR volatility object
    */
-  @SuppressWarnings("null")
   public SabrParametersSwaptionVolatilities calibrateWithFixedBetaAndShift(
       SabrSwaptionDefinition definition,
       ZonedDateTime calibrationDateTime,
@@ -188,78 +190,115 @@ public final class SabrSwaptionCalibrator {
       Surface shiftSurface,
       boolean stopOnMathException) {
 
+    return calibrateWithFixedBetaAndShift(
+        definition, calibrationDateTime, data, ratesProvider, betaSurface, shiftSurface, stopOnMathException, false);
+  }
+
+  /**
+   * Calibrate SABR parameters to a set of raw swaption data, calibrating the expiry/tenor points in parallel.
+   * <p>
+   * The SABR parameters are calibrated with fixed beta and fixed shift surfaces, as in
+   * {@link #calibrateWithFixedBetaAndShift(SabrSwaptionDefinition, ZonedDateTime, TenorRawOptionData, RatesProvider,
+   * Surface, Surface, boolean)}.
+   * The expiry/tenor points are independent, so they are calibrated in parallel and then combined in the standard
+   * order. Each least square fit uses {@link SabrModelFitter#solveInWorkspace(DoubleArray, BitSet)}, which avoids
+   * allocation in the iterations, so the results may differ slightly from the sequential calibration.
+   * <p>
+   * If a MathException is thrown for more than one expiry/tenor and {@code stopOnMathException} is true,
+   * the exception reported is the first in the order of the tenors and expiries in the data.
+   * 
+   * @param definition  the definition of the calibration to be performed
+   * @param calibrationDateTime  the data and time of the calibration
+   * @param data  the map of raw option data, keyed by tenor
+   * @param ratesProvider  the rate provider used to compute the swap forward rates
+   * @param betaSurface  the beta surface
+   * @param shiftSurface  the shift surface
+   * @param stopOnMathException  flag indicating if the calibration should stop on math exceptions or skip the 
+   *   expiries/tenors which throw MathException
+   * @return the SABR volatility object
+   */
+  public SabrParametersSwaptionVolatilities calibrateWithFixedBetaAndShiftInParallel(
+      SabrSwaptionDefinition definition,
+      ZonedDateTime calibrationDateTime,
+      TenorRawOptionData data,
+      RatesProvider ratesProvider,
+      Surface betaSurface,
+      Surface shiftSurface,
+      boolean stopOnMathException) {
+
+    return calibrateWithFixedBetaAndShift(
+        definition, calibrationDateTime, data, ratesProvider, betaSurface, shiftSurface, stopOnMathException, true);
+  }
+
+  // calibrates the expiry/tenor points, either sequentially or in parallel using the workspace least square fit
+  private SabrParametersSwaptionVolatilities calibrateWithFixedBetaAndShift(
+      SabrSwaptionDefinition definition,
+      ZonedDateTime calibrationDateTime,
+      TenorRawOptionData data,
+      RatesProvider ratesProvider,
+      Surface betaSurface,
+      Surface shiftSurface,
+      boolean stopOnMathException,
+      boolean parallel) {
+
     SwaptionVolatilitiesName name = definition.getName();
     FixedFloatSwapConvention convention = definition.getConvention();
     DayCount dayCount = definition.getDayCount();
     SurfaceInterpolator interpolator = definition.getInterpolator();
 
-    BitSet fixed = new BitSet();
-    fixed.set(1); // Beta fixed
-    BusinessDayAdjustment bda = convention.getFloatingLeg().getStartDateBusinessDayAdjustment();
-    LocalDate calibrationDate = calibrationDateTime.toLocalDate();
     // Sorted maps to obtain the surfaces nodes in standard order
     TreeMap<Double, TreeMap<Double, ParameterMetadata>> parameterMetadataTmp = new TreeMap<>();
     TreeMap<Double, TreeMap<Double, DoubleArray>> dataSensitivityAlphaTmp = new TreeMap<>(); // Sensitivity to the calibrating data
     TreeMap<Double, TreeMap<Double, DoubleArray>> dataSensitivityRhoTmp = new TreeMap<>();
     TreeMap<Double, TreeMap<Double, DoubleArray>> dataSensitivityNuTmp = new TreeMap<>();
     TreeMap<Double, TreeMap<Double, SabrFormulaData>> sabrPointTmp = new TreeMap<>();
+    List<Pair<Tenor, Period>> points = new ArrayList<>();
     for (Tenor tenor : data.getTenors()) {
       RawOptionData tenorData = data.getData(tenor);
-      double timeTenor = tenor.getPeriod().getYears() + tenor.getPeriod().getMonths() / 12;
-      List<Period> expiries = tenorData.getExpiries();
-      for (Period expiry : expiries) {
-        Pair<DoubleArray, DoubleArray> availableSmile = tenorData.availableSmileAtExpiry(expiry);
-        if (availableSmile.getFirst().size() == 0) { // If not data is available, no calibration possible
-          continue;
+      for (Period expiry : tenorData.getExpiries()) {
+        if (tenorData.availableSmileAtExpiry(expiry).getFirst().size() > 0) { // If not data is available, no calibration possible
+          points.add(Pair.of(tenor, expiry));
         }
-        LocalDate exerciseDate = expirationDate(bda, calibrationDate, expiry);
-        LocalDate effectiveDate = convention.calculateSpotDateFromTradeDate(exerciseDate, refData);
-        double timeToExpiry = dayCount.relativeYearFraction(calibrationDate, exerciseDate);
-        double beta = betaSurface.zValue(timeToExpiry, timeTenor);
-        double shift = shiftSurface.zValue(timeToExpiry, timeTenor);
-        LocalDate endDate = effectiveDate.plus(tenor);
-        SwapTrade swap0 = convention.toTrade(calibrationDate, effectiveDate, endDate, BuySell.BUY, 1.0, 0.0);
-        double forward = swapPricer.parRate(swap0.getProduct().resolve(refData), ratesProvider);
-        SabrFormulaData sabrPoint = null;
-        DoubleMatrix inverseJacobian = null;
-        boolean error = false;
-        try {
-          Pair<SabrFormulaData, DoubleMatrix> calibrationResult =
-              calibration(forward, shift, beta, fixed, bda, calibrationDateTime, dayCount,
-                  availableSmile.getFirst(), availableSmile.getSecond(), expiry, tenorData);
-          sabrPoint = calibrationResult.getFirst();
-          inverseJacobian = calibrationResult.getSecond();
-        } catch (MathException e) {
-          error = true;
-          if (stopOnMathException) {
-            String message = Messages.format("{} at expiry {} and tenor {}", e.getMessage(),
-                expiry, tenor);
-            throw new MathException(message, e);
-          }
-        }
-        if (!error) {
-          if (!parameterMetadataTmp.containsKey(timeToExpiry)) {
-            parameterMetadataTmp.put(timeToExpiry, new TreeMap<>());
-            dataSensitivityAlphaTmp.put(timeToExpiry, new TreeMap<>());
-            dataSensitivityRhoTmp.put(timeToExpiry, new TreeMap<>());
-            dataSensitivityNuTmp.put(timeToExpiry, new TreeMap<>());
-            sabrPointTmp.put(timeToExpiry, new TreeMap<>());
-          }
-          TreeMap<Double, ParameterMetadata> parameterMetadataExpiryMap = parameterMetadataTmp.get(timeToExpiry);
-          TreeMap<Double, DoubleArray> dataSensitivityAlphaExpiryMap = dataSensitivityAlphaTmp.get(timeToExpiry);
-          TreeMap<Double, DoubleArray> dataSensitivityRhoExpiryMap = dataSensitivityRhoTmp.get(timeToExpiry);
-          TreeMap<Double, DoubleArray> dataSensitivityNuExpiryMap = dataSensitivityNuTmp.get(timeToExpiry);
-          TreeMap<Double, SabrFormulaData> sabrPointExpiryMap = sabrPointTmp.get(timeToExpiry);
-          parameterMetadataExpiryMap.put(timeTenor, SwaptionSurfaceExpiryTenorParameterMetadata.of(
-              timeToExpiry,
-              timeTenor,
-              expiry.toString() + "x" + tenor));
-          dataSensitivityAlphaExpiryMap.put(timeTenor, inverseJacobian.row(0));
-          dataSensitivityRhoExpiryMap.put(timeTenor, inverseJacobian.row(2));
-          dataSensitivityNuExpiryMap.put(timeTenor, inverseJacobian.row(3));
-          sabrPointExpiryMap.put(timeTenor, sabrPoint);
+      }
+    }
+    // the points are independent, so may be calibrated in parallel, and the results are combined in order
+    Stream<Pair<Tenor, Period>> pointStream = parallel ? points.parallelStream() : points.stream();
+    List<PointCalibration> pointCalibrations = pointStream
+        .map(point -> calibrationAtPoint(
+            definition, calibrationDateTime, data, ratesProvider, betaSurface, shiftSurface, point, parallel))
+        .collect(toImmutableList());
+    for (PointCalibration pointCalibration : pointCalibrations) {
+      double timeToExpiry = pointCalibration.timeToExpiry;
+      double timeTenor = pointCalibration.timeTenor;
+      if (pointCalibration.exception != null) {
+        if (stopOnMathException) {
+          String message = Messages.format("{} at expiry {} and tenor {}", pointCalibration.exception.getMessage(),
+              pointCalibration.expiry, pointCalibration.tenor);
+          throw new MathException(message, pointCalibration.exception);
         }
+        continue;
       }
+      DoubleMatrix inverseJacobian = pointCalibration.inverseJacobian;
+      if (!parameterMetadataTmp.containsKey(timeToExpiry)) {
+        parameterMetadataTmp.put(timeToExpiry, new TreeMap<>());
+        dataSensitivityAlphaTmp.put(timeToExpiry, new TreeMap<>());
+        dataSensitivityRhoTmp.put(timeToExpiry, new TreeMap<>());
+        dataSensitivityNuTmp.put(timeToExpiry, new TreeMap<>());
+        sabrPointTmp.put(timeToExpiry, new TreeMap<>());
+      }
+      TreeMap<Double, ParameterMetadata> parameterMetadataExpiryMap = parameterMetadataTmp.get(timeToExpiry);
+      TreeMap<Double, DoubleArray> dataSensitivityAlphaExpiryMap = dataSensitivityAlphaTmp.get(timeToExpiry);
+      TreeMap<Double, DoubleArray> dataSensitivityRhoExpiryMap = dataSensitivityRhoTmp.get(timeToExpiry);
+      TreeMap<Double, DoubleArray> dataSensitivityNuExpiryMap = dataSensitivityNuTmp.get(timeToExpiry);
+      TreeMap<Double, SabrFormulaData> sabrPointExpiryMap = sabrPointTmp.get(timeToExpiry);
+      parameterMetadataExpiryMap.put(timeTenor, SwaptionSurfaceExpiryTenorParameterMetadata.of(
+          timeToExpiry,
+          timeTenor,
+          pointCalibration.expiry.toString() + "x" + pointCalibration.tenor));
+      dataSensitivityAlphaExpiryMap.put(timeTenor, inverseJacobian.row(0));
+      dataSensitivityRhoExpiryMap.put(timeTenor, inverseJacobian.row(2));
+      dataSensitivityNuExpiryMap.put(timeTenor, inverseJacobian.row(3));
+      sabrPointExpiryMap.put(timeTenor, pointCalibration.sabrPoint);
     }
     DoubleArray timeToExpiryArray = DoubleArray.EMPTY;
     DoubleArray timeTenorArray = DoubleArray.EMPTY;
@@ -316,6 +355,47 @@ public final class SabrSwaptionCalibrator {
         .dataSensitivityNu(dataSensitivityNu).build();
   }
 
+  // calibrates a single expiry/tenor point, capturing any MathException
+  private PointCalibration calibrationAtPoint(
+      SabrSwaptionDefinition definition,
+      ZonedDateTime calibrationDateTime,
+      TenorRawOptionData data,
+      RatesProvider ratesProvider,
+      Surface betaSurface,
+      Surface shiftSurface,
+      Pair<Tenor, Period> point,
+      boolean inWorkspace) {
+
+    FixedFloatSwapConvention convention = definition.getConvention();
+    DayCount dayCount = definition.getDayCount();
+    BitSet fixed = new BitSet();
+    fixed.set(1); // Beta fixed
+    BusinessDayAdjustment bda = convention.getFloatingLeg().getStartDateBusinessDayAdjustment();
+    LocalDate calibrationDate = calibrationDateTime.toLocalDate();
+    Tenor tenor = point.getFirst();
+    Period expiry = point.getSecond();
+    RawOptionData tenorData = data.getData(tenor);
+    double timeTenor = tenor.getPeriod().getYears() + tenor.getPeriod().getMonths() / 12;
+    Pair<DoubleArray, DoubleArray> availableSmile = tenorData.availableSmileAtExpiry(expiry);
+    LocalDate exerciseDate = expirationDate(bda, calibrationDate, expiry);
+    LocalDate effectiveDate = convention.calculateSpotDateFromTradeDate(exerciseDate, refData);
+    double timeToExpiry = dayCount.relativeYearFraction(calibrationDate, exerciseDate);
+    double beta = betaSurface.zValue(timeToExpiry, timeTenor);
+    double shift = shiftSurface.zValue(timeToExpiry, timeTenor);
+    LocalDate endDate = effectiveDate.plus(tenor);
+    SwapTrade swap0 = convention.toTrade(calibrationDate, effectiveDate, endDate, BuySell.BUY, 1.0, 0.0);
+    double forward = swapPricer.parRate(swap0.getProduct().resolve(refData), ratesProvider);
+    try {
+      Pair<SabrFormulaData, DoubleMatrix> calibrationResult =
+          calibration(forward, shift, beta, fixed, bda, calibrationDateTime, dayCount,
+              availableSmile.getFirst(), availableSmile.getSecond(), expiry, tenorData, inWorkspace);
+      return new PointCalibration(
+          tenor, expiry, timeTenor, timeToExpiry, calibrationResult.getFirst(), calibrationResult.getSecond(), null);
+    } catch (MathException e) {
+      return new PointCalibration(tenor, expiry, timeTenor, timeToExpiry, null, null, e);
+    }
+  }
+
   // The main part of the calibration. The calibration is done 4 times with different starting points: low and high
   // volatilities and high and low vol of vol. The best result (in term of chi^2) is returned.
   private Pair<SabrFormulaData, DoubleMatrix> calibration(
@@ -329,7 +409,8 @@ public final class SabrSwaptionCalibrator {
       DoubleArray strike,
       DoubleArray data,
       Period expiry,
-      RawOptionData rawData) {
+      RawOptionData rawData,
+      boolean inWorkspace) {
 
     double rhoStart = -0.50 * beta + 0.50 * (1 - beta);
     // Correlation is usually positive for normal and negative for log-normal;.
@@ -351,17 +432,17 @@ public final class SabrSwaptionCalibrator {
       if (rawData.getDataType().equals(ValueType.NORMAL_VOLATILITY)) {
         r = calibrateLsShiftedFromNormalVolatilities(bda, calibrationDateTime, dayCount,
             expiry, forward, strike, rawData.getStrikeType(),
-            data, startParameters, fixed, shift);
+            data, startParameters, fixed, shift, inWorkspace);
       } else {
         if (rawData.getDataType().equals(ValueType.PRICE)) {
           r = calibrateLsShiftedFromPrices(bda, calibrationDateTime, dayCount,
               expiry, forward, strike, rawData.getStrikeType(),
-              data, startParameters, fixed, shift);
+              data, startParameters, fixed, shift, inWorkspace);
         } else {
           if (rawData.getDataType().equals(ValueType.BLACK_VOLATILITY)) {
             r = calibrateLsShiftedFromBlackVolatilities(bda, calibrationDateTime, dayCount,
                 expiry, forward, strike, rawData.getStrikeType(),
-                data, rawData.getShift().orElse(0d), startParameters, fixed, shift);
+                data, rawData.getShift().orElse(0d), startParameters, fixed, shift, inWorkspace);
           } else {
             throw new IllegalArgumentException("Data type not supported");
           }
@@ -537,6 +618,26 @@ public final class SabrSwaptionCalibrator {
       BitSet fixedParameters,
       double shiftOutput) {
 
+    return calibrateLsShiftedFromBlackVolatilities(
+        bda, calibrationDateTime, dayCount, periodToExpiry, forward, strikesLike, strikeType, blackVolatilitiesInput,
+        shiftInput, startParameters, fixedParameters, shiftOutput, false);
+  }
+
+  private Pair<LeastSquareResultsWithTransform, DoubleArray> calibrateLsShiftedFromBlackVolatilities(
+      BusinessDayAdjustment bda,
+      ZonedDateTime calibrationDateTime,
+      DayCount dayCount,
+      Period periodToExpiry,
+      double forward,
+      DoubleArray strikesLike,
+      ValueType strikeType,
+      DoubleArray blackVolatilitiesInput,
+      double shiftInput,
+      DoubleArray startParameters,
+      BitSet fixedParameters,
+      double shiftOutput,
+      boolean inWorkspace) {
+
     int nbStrikes = strikesLike.size();
     ArgChecker.isTrue(nbStrikes == blackVolatilitiesInput.size(), "size of strikes must be the same as size of volatilities");
     LocalDate calibrationDate = calibrationDateTime.toLocalDate();
@@ -555,7 +656,7 @@ public final class SabrSwaptionCalibrator {
         blackVolatilitiesTransformed,
         errors,
         sabrVolatilityFormula);
-    LeastSquareResultsWithTransform result = fitter.solve(startParameters, fixedParameters);
+    LeastSquareResultsWithTransform result = solve(fitter, startParameters, fixedParameters, inWorkspace);
     return Pair.of(result, volAndDerivatives.getSecond());
   }
 
@@ -676,6 +777,25 @@ public final class SabrSwaptionCalibrator {
       BitSet fixedParameters,
       double shiftOutput) {
 
+    return calibrateLsShiftedFromPrices(
+        bda, calibrationDateTime, dayCount, periodToExpiry, forward, strikesLike, strikeType, prices,
+        startParameters, fixedParameters, shiftOutput, false);
+  }
+
+  private Pair<LeastSquareResultsWithTransform, DoubleArray> calibrateLsShiftedFromPrices(
+      BusinessDayAdjustment bda,
+      ZonedDateTime calibrationDateTime,
+      DayCount dayCount,
+      Period periodToExpiry,
+      double forward,
+      DoubleArray strikesLike,
+      ValueType strikeType,
+      DoubleArray prices,
+      DoubleArray startParameters,
+      BitSet fixedParameters,
+      double shiftOutput,
+      boolean inWorkspace) {
+
     int nbStrikes = strikesLike.size();
     ArgChecker.isTrue(nbStrikes == prices.size(), "size of strikes must be the same as size of prices");
     LocalDate calibrationDate = calibrationDateTime.toLocalDate();
@@ -694,7 +814,7 @@ public final class SabrSwaptionCalibrator {
         blackVolatilitiesTransformed,
         errors,
         sabrVolatilityFormula);
-    return Pair.of(fitter.solve(startParameters, fixedParameters), volAndDerivatives.getSecond());
+    return Pair.of(solve(fitter, startParameters, fixedParameters, inWorkspace), volAndDerivatives.getSecond());
   }
 
   //-------------------------------------------------------------------------
@@ -763,6 +883,25 @@ public final class SabrSwaptionCalibrator {
       BitSet fixedParameters,
       double shiftOutput) {
 
+    return calibrateLsShiftedFromNormalVolatilities(
+        bda, calibrationDateTime, dayCount, periodToExpiry, forward, strikesLike, strikeType, normalVolatilities,
+        startParameters, fixedParameters, shiftOutput, false);
+  }
+
+  private Pair<LeastSquareResultsWithTransform, DoubleArray> calibrateLsShiftedFromNormalVolatilities(
+      BusinessDayAdjustment bda,
+      ZonedDateTime calibrationDateTime,
+      DayCount dayCount,
+      Period periodToExpiry,
+      double forward,
+      DoubleArray strikesLike,
+      ValueType strikeType,
+      DoubleArray normalVolatilities,
+      DoubleArray startParameters,
+      BitSet fixedParameters,
+      double shiftOutput,
+      boolean inWorkspace) {
+
     int nbStrikes = strikesLike.size();
     ArgChecker.isTrue(nbStrikes == normalVolatilities.size(), "size of strikes must be the same as size of prices");
     LocalDate calibrationDate = calibrationDateTime.toLocalDate();
@@ -781,7 +920,7 @@ public final class SabrSwaptionCalibrator {
         blackVolatilitiesTransformed,
         errors,
         sabrVolatilityFormula);
-    LeastSquareResultsWithTransform result = fitter.solve(startParameters, fixedParameters);
+    LeastSquareResultsWithTransform result = solve(fitter, startParameters, fixedParameters, inWorkspace);
     return Pair.of(result, volAndDerivatives.getSecond());
   }
 
@@ -885,6 +1024,18 @@ public final class SabrSwaptionCalibrator {
     throw new IllegalArgumentException("Strike type not supported");
   }
 
+  // fits by the default least square, or by the least square in preallocated arrays
+  private static LeastSquareResultsWithTransform solve(
+      SabrModelFitter fitter,
+      DoubleArray startParameters,
+      BitSet fixedParameters,
+      boolean inWorkspace) {
+
+    return inWorkspace ?
+        fitter.solveInWorkspace(startParameters, fixedParameters) :
+        fitter.solve(startParameters, fixedParameters);
+  }
+
   /**
    * Calculates the expiration date of a swaption from the calibration date and the underlying swap convention.
    * 
@@ -897,4 +1048,37 @@ public final class SabrSwaptionCalibrator {
     return bda.adjust(calibrationDate.plus(expiry), refData);
   }
 
+
+  //-------------------------------------------------------------------------
+  /**
+   * The result of the calibration at an expiry/tenor point.
+   */
+  private static final class PointCalibration {
+    private final Tenor tenor;
+    private final Period expiry;
+    private final double timeTenor;
+    private final double timeToExpiry;
+    private final SabrFormulaData sabrPoint;
+    private final DoubleMatrix inverseJacobian;
+    private final MathException exception;
+
+    private PointCalibration(
+        Tenor tenor,
+        Period expiry,
+        double timeTenor,
+        double timeToExpiry,
+        SabrFormulaData sabrPoint,
+        DoubleMatrix inverseJacobian,
+        MathException exception) {
+
+      this.tenor = tenor;
+      this.expiry = expiry;
+      this.timeTenor = timeTenor;
+      this.timeToExpiry = timeToExpiry;
+      this.sabrPoint = sabrPoint;
+      this.inverseJacobian = inverseJacobian;
+      this.exception = exception;
+    }
+  }
+
 }
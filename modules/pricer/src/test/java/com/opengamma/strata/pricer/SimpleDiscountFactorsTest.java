@@ -18,10 +18,13 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 import static org.assertj.core.data.Offset.offset;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.ToDoubleFunction;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.ValueType;
 import com.opengamma.strata.market.curve.CurveMetadata;
@@ -107,6 +110,17 @@ public class SimpleDiscountFactorsTest {
     SimpleDiscountFactors test = SimpleDiscountFactors.of(GBP, DATE_VAL, CURVE);
     assertThat(test.discountFactor(DATE_BEFORE)).isEqualTo(1d);
   }
+
+  @Test
+  public void test_discountFactorCursor() {
+    SimpleDiscountFactors test = SimpleDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    ToDoubleFunction<LocalDate> cursor = test.discountFactorCursor();
+    List<LocalDate> dates = ImmutableList.of(
+        DATE_BEFORE, DATE_VAL, DATE_AFTER, date(2016, 6, 4), date(2020, 6, 4), date(2017, 1, 4), date(2030, 6, 4));
+    for (LocalDate date : dates) {
+      assertThat(cursor.applyAsDouble(date)).isEqualTo(test.discountFactor(date));
+    }
+  }
   
   @Test
   public void test_discountFactorTimeDerivative() {
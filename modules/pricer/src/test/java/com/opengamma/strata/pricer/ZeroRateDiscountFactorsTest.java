@@ -18,10 +18,13 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 import static org.assertj.core.data.Offset.offset;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.ToDoubleFunction;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.ValueType;
 import com.opengamma.strata.market.curve.CurveMetadata;
@@ -107,6 +110,26 @@ public class ZeroRateDiscountFactorsTest {
     ZeroRateDiscountFactors test = ZeroRateDiscountFactors.of(GBP, DATE_VAL, CURVE);
     assertThat(test.discountFactor(DATE_BEFORE)).isEqualTo(1d);
   }
+
+  @Test
+  public void test_discountFactorCursor() {
+    ZeroRateDiscountFactors test = ZeroRateDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    ToDoubleFunction<LocalDate> cursor = test.discountFactorCursor();
+    List<LocalDate> dates = ImmutableList.of(
+        DATE_BEFORE, DATE_VAL, DATE_AFTER, date(2016, 6, 4), date(2020, 6, 4), date(2017, 1, 4), date(2030, 6, 4));
+    for (LocalDate date : dates) {
+      assertThat(cursor.applyAsDouble(date)).isEqualTo(test.discountFactor(date));
+    }
+  }
+
+  @Test
+  public void test_discountFactor_batch() {
+    ZeroRateDiscountFactors test = ZeroRateDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    DoubleArray yearFractions = DoubleArray.of(0.5, 1d, 2.5, 7d);
+    assertThat(test.discountFactor(yearFractions)).isEqualTo(yearFractions.map(test::discountFactor));
+    DoubleArray withPast = DoubleArray.of(-0.1, 0d, 2.5);
+    assertThat(test.discountFactor(withPast)).isEqualTo(withPast.map(test::discountFactor));
+  }
   
   @Test
   public void test_discountFactorTimeDerivative() {
@@ -344,6 +367,20 @@ public class ZeroRateDiscountFactorsTest {
     assertThat(test.parameterSensitivity(point).size()).isEqualTo(1);
   }
 
+  @Test
+  public void test_parameterSensitivity_batch() {
+    ZeroRateDiscountFactors test = ZeroRateDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    DoubleArray yearFractions = DoubleArray.of(0d, 1d, 2.5, 7d);
+    DoubleArray sensitivities = DoubleArray.of(10d, 20d, -30d, 40d);
+    CurrencyParameterSensitivities expected = CurrencyParameterSensitivities.empty();
+    for (int i = 0; i < yearFractions.size(); i++) {
+      expected = expected.combinedWith(test.parameterSensitivity(
+          ZeroRateSensitivity.of(GBP, yearFractions.get(i), USD, sensitivities.get(i))));
+    }
+    CurrencyParameterSensitivities computed = test.parameterSensitivity(USD, yearFractions, sensitivities);
+    assertThat(computed.equalWithTolerance(expected, TOL)).isTrue();
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_createParameterSensitivity() {
@@ -51,6 +51,7 @@ import com.opengamma.strata.market.curve.node.FixedIborSwapCurveNode;
 import com.opengamma.strata.market.curve.node.FraCurveNode;
 import com.opengamma.strata.market.curve.node.IborFixingDepositCurveNode;
 import com.opengamma.strata.market.observable.QuoteId;
+import com.opengamma.strata.math.impl.matrix.MatrixAlgebraFactory;
 import com.opengamma.strata.pricer.deposit.DiscountingIborFixingDepositProductPricer;
 import com.opengamma.strata.pricer.fra.DiscountingFraTradePricer;
 import com.opengamma.strata.pricer.rate.RatesProvider;
@@ -211,6 +212,24 @@ public class CalibrationDiscountingSimple1Test {
     }
   }
 
+  @Test
+  public void calibration_configuredAlgebra() {
+    // an algebra that cannot invert is ignored by the calibrator
+    String previous = System.getProperty(MatrixAlgebraFactory.ALGEBRA_PROPERTY);
+    System.setProperty(MatrixAlgebraFactory.ALGEBRA_PROPERTY, MatrixAlgebraFactory.OG);
+    try {
+      RatesCurveCalibrator calibrator = RatesCurveCalibrator.of(1e-9, 1e-9, 100);
+      RatesProvider result = calibrator.calibrate(CURVE_GROUP_DEFN, ALL_QUOTES, REF_DATA);
+      assertThat(result).isEqualTo(CALIBRATOR.calibrate(CURVE_GROUP_DEFN, ALL_QUOTES, REF_DATA));
+    } finally {
+      if (previous == null) {
+        System.clearProperty(MatrixAlgebraFactory.ALGEBRA_PROPERTY);
+      } else {
+        System.setProperty(MatrixAlgebraFactory.ALGEBRA_PROPERTY, previous);
+      }
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Disabled
   void performance() {
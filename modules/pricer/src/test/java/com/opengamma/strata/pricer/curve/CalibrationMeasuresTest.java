@@ -5,26 +5,43 @@
  */
 package com.opengamma.strata.pricer.curve;
 
+import static com.opengamma.strata.basics.currency.Currency.EUR;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
+import java.time.Period;
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.CurveParameterSize;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.pricer.datasets.ImmutableRatesProviderSimpleData;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
 import com.opengamma.strata.pricer.swap.SwapDummyData;
+import com.opengamma.strata.product.common.BuySell;
 import com.opengamma.strata.product.deposit.ResolvedIborFixingDepositTrade;
 import com.opengamma.strata.product.deposit.ResolvedTermDepositTrade;
 import com.opengamma.strata.product.fra.ResolvedFraTrade;
 import com.opengamma.strata.product.fx.ResolvedFxSwapTrade;
 import com.opengamma.strata.product.index.ResolvedIborFutureTrade;
 import com.opengamma.strata.product.swap.ResolvedSwapTrade;
+import com.opengamma.strata.product.swap.type.FixedIborSwapConventions;
 
 /**
  * Test {@link CalibrationMeasures}.
  */
 public class CalibrationMeasuresTest {
 
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final double TOLERANCE = 1.0E-12;
+
   //-------------------------------------------------------------------------
   @Test
   public void test_PAR_SPREAD() {
@@ -81,6 +98,31 @@ public class CalibrationMeasuresTest {
             "Test", ImmutableList.of(TradeCalibrationMeasure.FRA_PAR_SPREAD, TradeCalibrationMeasure.FRA_PAR_SPREAD)));
   }
 
+  @Test
+  public void test_derivative() {
+    ImmutableRatesProvider provider = ImmutableRatesProviderSimpleData.IMM_PROV_EUR_NOFIX;
+    ResolvedSwapTrade trade = FixedIborSwapConventions.EUR_FIXED_1Y_EURIBOR_6M
+        .createTrade(provider.getValuationDate(), Period.ofMonths(1), Tenor.TENOR_1Y, BuySell.BUY, 1_000_000, 0.02, REF_DATA)
+        .resolve(REF_DATA);
+    CurveName dscName = CurveName.of("EUR-Discount");
+    CurveName fwdName = CurveName.of("EUR-EURIBOR6M");
+    List<CurveParameterSize> order = ImmutableList.of(
+        CurveParameterSize.of(fwdName, 4),
+        CurveParameterSize.of(CurveName.of("Other"), 2),
+        CurveParameterSize.of(dscName, 7));
+    CurrencyParameterSensitivities sensitivities = TradeCalibrationMeasure.SWAP_PAR_SPREAD.sensitivities(trade, provider);
+    DoubleArray expected = sensitivities.getSensitivity(fwdName, EUR).getSensitivity()
+        .concat(DoubleArray.filled(2))
+        .concat(sensitivities.getSensitivity(dscName, EUR).getSensitivity());
+    DoubleArray computed = CalibrationMeasures.PAR_SPREAD.derivative(trade, provider, order);
+    assertThat(computed.equalWithTolerance(expected, TOLERANCE)).isTrue();
+    // the derivative is added to the array
+    double[] row = new double[expected.size()];
+    Arrays.fill(row, 1d);
+    CalibrationMeasures.PAR_SPREAD.derivative(trade, provider, order, row);
+    assertThat(DoubleArray.ofUnsafe(row).equalWithTolerance(expected.plus(1d), TOLERANCE)).isTrue();
+  }
+
   @Test
   public void test_measureNotKnown() {
     CalibrationMeasures test = CalibrationMeasures.of("Test", TradeCalibrationMeasure.FRA_PAR_SPREAD);
@@ -20,16 +20,19 @@ import static org.assertj.core.data.Offset.offset;
 import java.time.LocalDate;
 import java.time.Period;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.basics.currency.Currency;
@@ -46,12 +49,16 @@ import com.opengamma.strata.data.ImmutableMarketDataBuilder;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataId;
 import com.opengamma.strata.market.ValueType;
+import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveGroupName;
+import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.CurveMetadata;
 import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.curve.CurveNode;
+import com.opengamma.strata.market.curve.CurveParameterSize;
 import com.opengamma.strata.market.curve.DefaultCurveMetadata;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurveDefinition;
+import com.opengamma.strata.market.curve.JacobianCalibrationMatrix;
 import com.opengamma.strata.market.curve.RatesCurveGroupDefinition;
 import com.opengamma.strata.market.curve.interpolator.CurveExtrapolator;
 import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
@@ -68,6 +75,7 @@ import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.deposit.DiscountingIborFixingDepositProductPricer;
 import com.opengamma.strata.pricer.deposit.DiscountingTermDepositProductPricer;
 import com.opengamma.strata.pricer.index.DiscountingIborFutureTradePricer;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.pricer.sensitivity.MarketQuoteSensitivityCalculator;
 import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
@@ -297,6 +305,88 @@ public class CalibrationZeroRateUsd2OisFuturesIrsTest {
     calibration_market_quote_sensitivity_check(f, shift);
   }
 
+  @Test
+  public void calibration_present_value_warmStart() {
+    ImmutableRatesProvider previous = CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES, REF_DATA);
+    RatesProvider result = CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES, REF_DATA, previous);
+    assertPresentValue(result);
+  }
+
+  @Test
+  public void calibration_market_quote_sensitivity_warmStart() {
+    double shift = 1.0E-6;
+    ImmutableRatesProvider previous = CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES, REF_DATA);
+    Function<MarketData, RatesProvider> f =
+        marketData -> CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, marketData, REF_DATA, previous);
+    calibration_market_quote_sensitivity_check(f, shift);
+  }
+
+  @Test
+  public void calibration_market_quote_sensitivity_reuseJacobian() {
+    double shift = 1.0E-6;
+    ImmutableRatesProvider previous = CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES, REF_DATA);
+    Function<MarketData, RatesProvider> f =
+        marketData -> CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, marketData, REF_DATA, previous, true);
+    calibration_market_quote_sensitivity_check(f, shift);
+  }
+
+  @Test
+  public void calibration_independentGroups() {
+    // the forward curve calibrated to the fixing and the futures does not depend on the discounting curve
+    InterpolatedNodalCurveDefinition fwd3FutCurveDefn = FWD3_CURVE_DEFN.toBuilder()
+        .nodes(Arrays.copyOf(FWD3_NODES, 1 + FWD3_NB_FUT_NODES))
+        .build();
+    RatesCurveGroupDefinition groupDsc = RatesCurveGroupDefinition.builder()
+        .name(CurveGroupName.of("USD-DSCON"))
+        .addCurve(DSC_CURVE_DEFN, USD, USD_FED_FUND)
+        .build();
+    RatesCurveGroupDefinition groupFwd3 = RatesCurveGroupDefinition.builder()
+        .name(CurveGroupName.of("USD-LIBOR3M"))
+        .addForwardCurve(fwd3FutCurveDefn, USD_LIBOR_3M)
+        .build();
+    RatesCurveGroupDefinition groupAll = RatesCurveGroupDefinition.builder()
+        .name(CURVE_GROUP_NAME)
+        .addCurve(DSC_CURVE_DEFN, USD, USD_FED_FUND)
+        .addForwardCurve(fwd3FutCurveDefn, USD_LIBOR_3M)
+        .build();
+    ImmutableRatesProvider knownData = ImmutableRatesProvider.builder(VAL_DATE).build();
+    ImmutableRatesProvider expected = CALIBRATOR.calibrate(groupAll, ALL_QUOTES, REF_DATA);
+    ImmutableRatesProvider computed =
+        CALIBRATOR.calibrate(ImmutableList.of(groupDsc, groupFwd3), knownData, ALL_QUOTES, REF_DATA);
+    ImmutableRatesProvider computedReversed =
+        CALIBRATOR.calibrate(ImmutableList.of(groupFwd3, groupDsc), knownData, ALL_QUOTES, REF_DATA);
+    // in a fork-join pool, as when calibrating scenarios in parallel, the groups are calibrated in order
+    ForkJoinPool pool = new ForkJoinPool(1);
+    ImmutableRatesProvider computedInPool;
+    try {
+      computedInPool = pool
+          .submit(() -> CALIBRATOR.calibrate(ImmutableList.of(groupDsc, groupFwd3), knownData, ALL_QUOTES, REF_DATA))
+          .join();
+    } finally {
+      pool.shutdown();
+    }
+    for (ImmutableRatesProvider result : ImmutableList.of(computed, computedReversed, computedInPool)) {
+      assertCurveParameters(result.getDiscountCurves().get(USD), expected.getDiscountCurves().get(USD));
+      assertCurveParameters(result.getIndexCurves().get(USD_LIBOR_3M), expected.getIndexCurves().get(USD_LIBOR_3M));
+    }
+    // the Jacobian of the second group has no sensitivity to the first group
+    JacobianCalibrationMatrix jacobian =
+        computed.getIndexCurves().get(USD_LIBOR_3M).getMetadata().getInfo(CurveInfoType.JACOBIAN);
+    assertThat(jacobian.getOrder()).extracting(CurveParameterSize::getName).containsExactly(DSCON_CURVE_NAME, FWD3_CURVE_NAME);
+    for (int i = 0; i < jacobian.getJacobianMatrix().rowCount(); i++) {
+      for (int j = 0; j < DSC_NB_NODES; j++) {
+        assertThat(jacobian.getJacobianMatrix().get(i, j)).isEqualTo(0d);
+      }
+    }
+  }
+
+  private void assertCurveParameters(Curve computed, Curve expected) {
+    assertThat(computed.getParameterCount()).isEqualTo(expected.getParameterCount());
+    for (int i = 0; i < expected.getParameterCount(); i++) {
+      assertThat(computed.getParameter(i)).isCloseTo(expected.getParameter(i), offset(1.0E-8));
+    }
+  }
+
   private void calibration_market_quote_sensitivity_check(
       Function<MarketData, RatesProvider> calibrator,
       double shift) {
@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.pricer.impl.rate.model.HullWhiteOneFactorPiecewiseConstantInterestRateModel;
+import com.opengamma.strata.pricer.impl.rate.model.HullWhiteOneFactorPiecewiseConstantMonteCarloEngine;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParameters;
+
+/**
+ * Test {@link HullWhiteOneFactorPiecewiseConstantMonteCarloEngine}.
+ */
+public class HullWhiteOneFactorPiecewiseConstantMonteCarloEngineTest {
+
+  private static final double MEAN_REVERSION = 0.01;
+  private static final DoubleArray VOLATILITY = DoubleArray.of(0.01, 0.011, 0.012, 0.013, 0.014);
+  private static final DoubleArray VOLATILITY_TIME = DoubleArray.of(0.5, 1.0, 2.0, 5.0);
+  private static final HullWhiteOneFactorPiecewiseConstantParameters MODEL_PARAMETERS =
+      HullWhiteOneFactorPiecewiseConstantParameters.of(MEAN_REVERSION, VOLATILITY, VOLATILITY_TIME);
+  private static final HullWhiteOneFactorPiecewiseConstantInterestRateModel MODEL =
+      HullWhiteOneFactorPiecewiseConstantInterestRateModel.DEFAULT;
+  private static final DoubleArray TIMES = DoubleArray.of(0.25, 1.5, 3.0, 6.0);
+  private static final double NUMERAIRE_TIME = 8.0;
+  private static final HullWhiteOneFactorPiecewiseConstantMonteCarloEngine ENGINE =
+      HullWhiteOneFactorPiecewiseConstantMonteCarloEngine.of(MODEL_PARAMETERS, TIMES, NUMERAIRE_TIME);
+  private static final int NB_PATHS = 20000;
+  private static final long SEED = 12345L;
+  private static final double TOL = 1.0e-12;
+  private static final double FD_EPS = 1.0e-7;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of() {
+    assertThat(ENGINE.getTimes()).isEqualTo(TIMES);
+    assertThat(ENGINE.getNumeraireTime()).isEqualTo(NUMERAIRE_TIME);
+  }
+
+  @Test
+  public void test_of_invalid() {
+    assertThatIllegalArgumentException().isThrownBy(() -> HullWhiteOneFactorPiecewiseConstantMonteCarloEngine.of(
+        MODEL_PARAMETERS, DoubleArray.EMPTY, NUMERAIRE_TIME));
+    assertThatIllegalArgumentException().isThrownBy(() -> HullWhiteOneFactorPiecewiseConstantMonteCarloEngine.of(
+        MODEL_PARAMETERS, DoubleArray.of(-0.5, 1d), NUMERAIRE_TIME));
+    assertThatIllegalArgumentException().isThrownBy(() -> HullWhiteOneFactorPiecewiseConstantMonteCarloEngine.of(
+        MODEL_PARAMETERS, DoubleArray.of(1d, 1d), NUMERAIRE_TIME));
+    assertThatIllegalArgumentException().isThrownBy(() -> HullWhiteOneFactorPiecewiseConstantMonteCarloEngine.of(
+        MODEL_PARAMETERS, TIMES, 5d));
+    assertThatIllegalArgumentException().isThrownBy(() -> ENGINE.simulate(0, 10, SEED, false));
+    assertThatIllegalArgumentException().isThrownBy(() -> ENGINE.simulate(10, 0, SEED, false));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_variance() {
+    // the bond volatility of the model is the bond factor times the standard deviation of the state
+    double bondMaturity = 7.0;
+    double factor = ENGINE.bondFactor(bondMaturity);
+    for (int k = 0; k < TIMES.size(); k++) {
+      double alpha = MODEL.alpha(MODEL_PARAMETERS, 0d, TIMES.get(k), NUMERAIRE_TIME, bondMaturity);
+      assertThat(Math.abs(factor) * Math.sqrt(ENGINE.variance(k))).isCloseTo(Math.abs(alpha), offset(TOL));
+    }
+    assertThat(ENGINE.bondFactor(NUMERAIRE_TIME)).isEqualTo(0d);
+    assertThat(ENGINE.relativeBondRatio(1, 0d, 0.3)).isEqualTo(1d);
+  }
+
+  @Test
+  public void test_varianceSensitivity() {
+    for (int k = 0; k < TIMES.size(); k++) {
+      DoubleArray computed = ENGINE.varianceSensitivity(k);
+      for (int i = 0; i < VOLATILITY.size(); i++) {
+        HullWhiteOneFactorPiecewiseConstantMonteCarloEngine engineUp = engine(i, FD_EPS);
+        HullWhiteOneFactorPiecewiseConstantMonteCarloEngine engineDw = engine(i, -FD_EPS);
+        double expected = 0.5 * (engineUp.variance(k) - engineDw.variance(k)) / FD_EPS;
+        assertThat(computed.get(i)).isCloseTo(expected, offset(1.0e-8));
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_simulate_moments() {
+    DoubleMatrix states = ENGINE.simulate(NB_PATHS, 1000, SEED, false);
+    assertThat(states.rowCount()).isEqualTo(TIMES.size());
+    assertThat(states.columnCount()).isEqualTo(NB_PATHS);
+    double factor = ENGINE.bondFactor(7.0);
+    for (int k = 0; k < TIMES.size(); k++) {
+      double stdDev = Math.sqrt(ENGINE.variance(k));
+      double mean = 0d;
+      double square = 0d;
+      double ratio = 0d;
+      for (int path = 0; path < NB_PATHS; path++) {
+        double state = states.get(k, path);
+        mean += state;
+        square += state * state;
+        ratio += ENGINE.relativeBondRatio(k, factor, state);
+      }
+      mean /= NB_PATHS;
+      square /= NB_PATHS;
+      ratio /= NB_PATHS;
+      // within four standard errors
+      assertThat(mean).isCloseTo(0d, offset(4d * stdDev / Math.sqrt(NB_PATHS)));
+      assertThat(square / ENGINE.variance(k)).isCloseTo(1d, offset(4d * Math.sqrt(2d / NB_PATHS)));
+      assertThat(ratio).isCloseTo(1d, offset(4d * Math.abs(factor) * stdDev / Math.sqrt(NB_PATHS)));
+    }
+  }
+
+  @Test
+  public void test_simulate_antithetic() {
+    DoubleMatrix states = ENGINE.simulate(1001, 100, SEED, true);
+    for (int k = 0; k < TIMES.size(); k++) {
+      for (int path = 0; path < 1000; path += 2) {
+        assertThat(states.get(k, path + 1)).isEqualTo(-states.get(k, path));
+      }
+    }
+  }
+
+  @Test
+  public void test_simulate_reproducible() {
+    DoubleMatrix states1 = ENGINE.simulate(5000, 250, SEED, true);
+    DoubleMatrix states2 = ENGINE.simulate(5000, 250, SEED, true);
+    assertThat(states1).isEqualTo(states2);
+    // the blocks are independent of each other
+    DoubleMatrix statesShort = ENGINE.simulate(1000, 250, SEED, true);
+    for (int k = 0; k < TIMES.size(); k++) {
+      for (int path = 0; path < 1000; path++) {
+        assertThat(statesShort.get(k, path)).isEqualTo(states1.get(k, path));
+      }
+    }
+    DoubleMatrix statesOther = ENGINE.simulate(5000, 250, SEED + 1, true);
+    assertThat(statesOther).isNotEqualTo(states1);
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_stateSensitivity() {
+    int nbPaths = 20;
+    DoubleMatrix states = ENGINE.simulate(nbPaths, 10, SEED, false);
+    DoubleMatrix[] bumpedUp = new DoubleMatrix[VOLATILITY.size()];
+    DoubleMatrix[] bumpedDw = new DoubleMatrix[VOLATILITY.size()];
+    for (int i = 0; i < VOLATILITY.size(); i++) {
+      bumpedUp[i] = engine(i, FD_EPS).simulate(nbPaths, 10, SEED, false);
+      bumpedDw[i] = engine(i, -FD_EPS).simulate(nbPaths, 10, SEED, false);
+    }
+    double[][] computed = new double[TIMES.size()][VOLATILITY.size()];
+    for (int path = 0; path < nbPaths; path++) {
+      ENGINE.stateSensitivityInto(states.column(path).toArray(), computed);
+      for (int i = 0; i < VOLATILITY.size(); i++) {
+        for (int k = 0; k < TIMES.size(); k++) {
+          double expected = 0.5 * (bumpedUp[i].get(k, path) - bumpedDw[i].get(k, path)) / FD_EPS;
+          assertThat(computed[k][i]).isCloseTo(expected, offset(1.0e-6));
+        }
+      }
+    }
+  }
+
+  // the engine with one volatility bumped
+  private static HullWhiteOneFactorPiecewiseConstantMonteCarloEngine engine(int index, double shift) {
+    double[] vols = VOLATILITY.toArray();
+    vols[index] += shift;
+    HullWhiteOneFactorPiecewiseConstantParameters parameters =
+        HullWhiteOneFactorPiecewiseConstantParameters.of(MEAN_REVERSION, DoubleArray.ofUnsafe(vols), VOLATILITY_TIME);
+    return HullWhiteOneFactorPiecewiseConstantMonteCarloEngine.of(parameters, TIMES, NUMERAIRE_TIME);
+  }
+
+}
@@ -131,6 +131,21 @@ public class SabrHaganVolatilityFunctionProviderTest extends SabrVolatilityFunct
     assertThat(0.0).isCloseTo(volatilityAdjoint.getDerivative(5), offset(tol));
   }
 
+  @Test
+  public void testVolatilityAdjointInto() {
+    double[] strikes = {2e-6 * F, 0.01, STRIKE_ITM, F, STRIKE_OTM, 0.1};
+    double[] volatilities = new double[strikes.length];
+    double[][] sensitivities = new double[strikes.length][4];
+    FUNCTION.volatilityAdjointInto(F, strikes, T, DATA, volatilities, sensitivities);
+    for (int i = 0; i < strikes.length; i++) {
+      ValueDerivatives expected = FUNCTION.volatilityAdjoint(F, strikes[i], T, DATA);
+      assertThat(volatilities[i]).isEqualTo(expected.getValue());
+      assertThat(sensitivities[i]).containsExactly(expected.getDerivatives().subArray(2).toArray());
+    }
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> FUNCTION.volatilityAdjointInto(F, strikes, T, DATA, new double[1], sensitivities));
+  }
+
   @Test
   public void testVolatilityAdjointSmallAlpha() {
     double eps = 1e-7;
@@ -180,4 +180,35 @@ public class SabrModelFitterTest extends SmileModelFitterTest<SabrFormulaData> {
     }
   }
 
+  @Test
+  public void testExactFitInWorkspace() {
+    DoubleArray start = DoubleArray.of(0.1, 0.5, 0.0, 0.3);
+    BitSet fixed = new BitSet();
+    fixed.set(1);
+    LeastSquareResultsWithTransform results = _fitter.solveInWorkspace(start, fixed);
+    double[] res = results.getModelParameters().toArray();
+    double eps = 1e-6;
+    assertThat(ALPHA).isCloseTo(res[0], offset(eps));
+    assertThat(BETA).isCloseTo(res[1], offset(eps));
+    assertThat(RHO).isCloseTo(res[2], offset(eps));
+    assertThat(NU).isCloseTo(res[3], offset(eps));
+    assertThat(0.0).isCloseTo(results.getChiSq(), offset(eps));
+  }
+
+  @Test
+  public void testNoisyFitInWorkspace() {
+    DoubleArray start = DoubleArray.of(0.1, 0.5, 0.0, 0.3);
+    BitSet fixed = new BitSet();
+    fixed.set(1);
+    LeastSquareResultsWithTransform expected = _nosiyFitter.solve(start, fixed);
+    LeastSquareResultsWithTransform results = _nosiyFitter.solveInWorkspace(start, fixed);
+    assertThat(results.getChiSq()).isCloseTo(expected.getChiSq(), offset(1e-6));
+    assertThat(results.getModelParameters().equalWithTolerance(expected.getModelParameters(), 1e-6)).isTrue();
+    DoubleMatrix sensitivity = results.getModelParameterSensitivityToData();
+    DoubleMatrix expectedSensitivity = expected.getModelParameterSensitivityToData();
+    for (int i = 0; i < sensitivity.rowCount(); i++) {
+      assertThat(sensitivity.row(i).equalWithTolerance(expectedSensitivity.row(i), 1e-4)).isTrue();
+    }
+  }
+
 }
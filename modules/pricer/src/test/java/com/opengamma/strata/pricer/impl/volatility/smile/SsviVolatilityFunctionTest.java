@@ -78,6 +78,21 @@ public class SsviVolatilityFunctionTest {
     }   
   }
 
+  @Test
+  public void volatilityAdjointInto() {
+    double[] volatilities = new double[N];
+    double[][] sensitivities = new double[N][3];
+    SSVI_FUNCTION.volatilityAdjointInto(FORWARD, STRIKES, TIME_EXP, DATA, volatilities, sensitivities);
+    for (int i = 0; i < N; i++) {
+      ValueDerivatives ad = SSVI_FUNCTION.volatilityAdjoint(FORWARD, STRIKES[i], TIME_EXP, DATA);
+      assertThat(volatilities[i]).isEqualTo(ad.getValue());
+      // the sensitivities to sigma, rho and eta, following those to the forward, strike and time
+      for (int j = 0; j < 3; j++) {
+        assertThat(sensitivities[i][j]).isEqualTo(ad.getDerivatives().get(j + 3));
+      }
+    }
+  }
+
   @Test
   public void test_small_time() {
     assertThatIllegalArgumentException()
@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.rate;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_3M;
+import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_6M;
+import static com.opengamma.strata.basics.index.OvernightIndices.USD_FED_FUND;
+import static com.opengamma.strata.basics.index.PriceIndices.US_CPI_U;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.index.IborIndexObservation;
+import com.opengamma.strata.basics.index.OvernightIndexObservation;
+import com.opengamma.strata.basics.index.PriceIndexObservation;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.sensitivity.MutablePointSensitivities;
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.market.sensitivity.PointSensitivity;
+import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.ZeroRateSensitivity;
+import com.opengamma.strata.pricer.datasets.RatesProviderDataSets;
+
+/**
+ * Test {@link CompactPointSensitivities}.
+ */
+public class CompactPointSensitivitiesTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final LocalDate DATE1 = date(2015, 8, 27);
+  private static final LocalDate DATE2 = date(2015, 9, 28);
+  private static final IborIndexObservation LIBOR_3M_OBS1 = IborIndexObservation.of(USD_LIBOR_3M, DATE1, REF_DATA);
+  private static final IborIndexObservation LIBOR_3M_OBS2 = IborIndexObservation.of(USD_LIBOR_3M, DATE2, REF_DATA);
+  private static final IborIndexObservation LIBOR_6M_OBS1 = IborIndexObservation.of(USD_LIBOR_6M, DATE1, REF_DATA);
+  private static final OvernightIndexObservation FED_FUND_OBS1 = OvernightIndexObservation.of(USD_FED_FUND, DATE1, REF_DATA);
+  private static final List<PointSensitivity> POINTS = ImmutableList.of(
+      ZeroRateSensitivity.of(USD, 2d, 10d),
+      IborRateSensitivity.of(LIBOR_3M_OBS2, 20d),
+      ZeroRateSensitivity.of(USD, 1d, 30d),
+      OvernightRateSensitivity.ofPeriod(FED_FUND_OBS1, DATE2, 40d),
+      IborRateSensitivity.of(LIBOR_6M_OBS1, 50d),
+      ZeroRateSensitivity.of(USD, 2d, 60d),
+      IborRateSensitivity.of(LIBOR_3M_OBS1, 70d),
+      ZeroRateSensitivity.of(USD, 1d, EUR, 80d),
+      IborRateSensitivity.of(LIBOR_3M_OBS2, 90d));
+
+  private static final double TOLERANCE = 1e-10;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_build_retainsOrder() {
+    CompactPointSensitivities test = compact(POINTS);
+    assertThat(test.size()).isEqualTo(POINTS.size());
+    assertThat(test.isEmpty()).isFalse();
+    assertThat(test.build()).isEqualTo(PointSensitivities.of(POINTS));
+  }
+
+  @Test
+  public void test_add_primitives() {
+    CompactPointSensitivities test = CompactPointSensitivities.of()
+        .addZeroRateSensitivity(USD, 2d, USD, 10d)
+        .addIborRateSensitivity(LIBOR_3M_OBS2, USD, 20d)
+        .addOvernightRateSensitivity(FED_FUND_OBS1, DATE2, USD, 40d);
+    assertThat(test.build()).isEqualTo(PointSensitivities.of(
+        ZeroRateSensitivity.of(USD, 2d, 10d),
+        IborRateSensitivity.of(LIBOR_3M_OBS2, 20d),
+        OvernightRateSensitivity.ofPeriod(FED_FUND_OBS1, DATE2, 40d)));
+  }
+
+  @Test
+  public void test_normalize() {
+    PointSensitivities expected = new MutablePointSensitivities(POINTS).normalize().build();
+    assertThat(compact(POINTS).normalize().build()).isEqualTo(expected);
+    assertThat(compact(POINTS).normalize().size()).isEqualTo(7);
+  }
+
+  @Test
+  public void test_normalize_otherTypes() {
+    List<PointSensitivity> points = ImmutableList.<PointSensitivity>builder()
+        .addAll(POINTS)
+        .add(InflationRateSensitivity.of(PriceIndexObservation.of(US_CPI_U, YearMonth.of(2015, 6)), 5d))
+        .add(InflationRateSensitivity.of(PriceIndexObservation.of(US_CPI_U, YearMonth.of(2015, 6)), 6d))
+        .build();
+    PointSensitivities expected = new MutablePointSensitivities(points).normalize().build();
+    assertThat(compact(points).build()).isEqualTo(PointSensitivities.of(points));
+    assertThat(compact(points).normalize().build()).isEqualTo(expected);
+  }
+
+  @Test
+  public void test_multipliedBy_withCurrency() {
+    PointSensitivities expected = new MutablePointSensitivities(POINTS).multipliedBy(2d).withCurrency(EUR).build();
+    assertThat(compact(POINTS).multipliedBy(2d).withCurrency(EUR).build()).isEqualTo(expected);
+    assertThat(compact(POINTS).mapSensitivity(s -> -s).build())
+        .isEqualTo(new MutablePointSensitivities(POINTS).mapSensitivity(s -> -s).build());
+  }
+
+  @Test
+  public void test_combinedWith() {
+    List<PointSensitivity> first = POINTS.subList(0, 4);
+    List<PointSensitivity> second = POINTS.subList(4, POINTS.size());
+    assertThat(compact(first).combinedWith(compact(second)).build()).isEqualTo(PointSensitivities.of(POINTS));
+    assertThat(compact(first).combinedWith(new MutablePointSensitivities(second)).build())
+        .isEqualTo(PointSensitivities.of(POINTS));
+    assertThat(compact(first).combinedWith(PointSensitivityBuilder.none()).build())
+        .isEqualTo(PointSensitivities.of(first));
+    assertThat(new MutablePointSensitivities(first).combinedWith(compact(second)).build())
+        .isEqualTo(PointSensitivities.of(POINTS));
+  }
+
+  @Test
+  public void test_cloned() {
+    CompactPointSensitivities base = compact(POINTS);
+    CompactPointSensitivities test = base.cloned();
+    base.multipliedBy(2d);
+    assertThat(test.build()).isEqualTo(PointSensitivities.of(POINTS));
+  }
+
+  @Test
+  public void test_parameterSensitivity() {
+    ImmutableRatesProvider provider = RatesProviderDataSets.MULTI_USD;
+    List<PointSensitivity> points = ImmutableList.of(
+        ZeroRateSensitivity.of(USD, 2d, 10d),
+        ZeroRateSensitivity.of(USD, 1d, 30d),
+        IborRateSensitivity.of(IborIndexObservation.of(USD_LIBOR_3M, date(2014, 6, 3), REF_DATA), 20d),
+        ZeroRateSensitivity.of(USD, 2d, 60d));
+    CurrencyParameterSensitivities expected = provider.parameterSensitivity(PointSensitivities.of(points));
+    CurrencyParameterSensitivities computed = compact(points).parameterSensitivity(provider);
+    assertThat(computed.equalWithTolerance(expected, TOLERANCE)).isTrue();
+  }
+
+  //-------------------------------------------------------------------------
+  private static CompactPointSensitivities compact(List<PointSensitivity> points) {
+    CompactPointSensitivities compact = CompactPointSensitivities.of();
+    for (PointSensitivity point : points) {
+      compact.add(point);
+    }
+    return compact;
+  }
+
+}
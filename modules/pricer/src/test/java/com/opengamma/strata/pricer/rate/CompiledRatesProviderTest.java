@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.rate;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.index.FxIndices.GBP_USD_WM;
+import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_3M;
+import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_3M;
+import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_6M;
+import static com.opengamma.strata.basics.index.OvernightIndices.USD_FED_FUND;
+import static com.opengamma.strata.basics.index.PriceIndices.US_CPI_U;
+import static com.opengamma.strata.product.swap.type.FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.pricer.datasets.RatesProviderDataSets;
+import com.opengamma.strata.pricer.swap.DiscountingSwapTradePricer;
+import com.opengamma.strata.pricer.swap.SwapDummyData;
+import com.opengamma.strata.product.TradeInfo;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+import com.opengamma.strata.product.swap.ResolvedSwapTrade;
+
+/**
+ * Test {@link CompiledRatesProvider}.
+ */
+public class CompiledRatesProviderTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final ImmutableRatesProvider BASE = RatesProviderDataSets.MULTI_CPI_USD;
+  private static final LocalDate VAL_DATE = BASE.getValuationDate();
+  private static final LocalDate DATE = VAL_DATE.plusYears(2);
+  private static final ResolvedSwapTrade SWAP = USD_FIXED_6M_LIBOR_3M
+      .createTrade(VAL_DATE, Period.ofMonths(1), Tenor.TENOR_5Y, BuySell.BUY, 1_000_000d, 0.015, REF_DATA)
+      .resolve(REF_DATA);
+  private static final ResolvedSwapTrade SWAP_FX_RESET = ResolvedSwapTrade.of(
+      TradeInfo.empty(),
+      ResolvedSwap.of(SwapDummyData.FIXED_FX_RESET_SWAP_LEG_PAY_GBP, SwapDummyData.FIXED_SWAP_LEG_REC_USD));
+  private static final DiscountingSwapTradePricer PRICER = DiscountingSwapTradePricer.DEFAULT;
+  private static final double TOLERANCE = 1e-10;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of() {
+    CompiledRatesProvider test = CompiledRatesProvider.of(BASE);
+    assertThat(test.getValuationDate()).isEqualTo(VAL_DATE);
+    assertThat(test.toImmutableRatesProvider()).isSameAs(BASE);
+    assertThat(test.getDiscountCurrencies()).isEqualTo(BASE.getDiscountCurrencies());
+    assertThat(test.getIborIndices()).isEqualTo(BASE.getIborIndices());
+    assertThat(test.getOvernightIndices()).isEqualTo(BASE.getOvernightIndices());
+    assertThat(test.getPriceIndices()).isEqualTo(BASE.getPriceIndices());
+    assertThat(test.timeSeries(US_CPI_U)).isEqualTo(BASE.timeSeries(US_CPI_U));
+  }
+
+  @Test
+  public void test_cachedInstances() {
+    CompiledRatesProvider test = CompiledRatesProvider.of(BASE);
+    assertThat(test.discountFactors(USD)).isSameAs(test.discountFactors(USD));
+    assertThat(test.discountFactors(USD)).isEqualTo(BASE.discountFactors(USD));
+    assertThat(test.iborIndexRates(USD_LIBOR_3M)).isSameAs(test.iborIndexRates(USD_LIBOR_3M));
+    assertThat(test.iborIndexRates(USD_LIBOR_3M)).isEqualTo(BASE.iborIndexRates(USD_LIBOR_3M));
+    assertThat(test.overnightIndexRates(USD_FED_FUND)).isEqualTo(BASE.overnightIndexRates(USD_FED_FUND));
+    assertThat(test.priceIndexValues(US_CPI_U)).isEqualTo(BASE.priceIndexValues(US_CPI_U));
+    assertThat(test.discountFactor(USD, DATE)).isEqualTo(BASE.discountFactor(USD, DATE));
+  }
+
+  @Test
+  public void test_ids() {
+    CompiledRatesProvider test = CompiledRatesProvider.of(BASE);
+    assertThat(test.discountFactors(test.currencyId(USD))).isSameAs(test.discountFactors(USD));
+    int iborId = test.indexId(USD_LIBOR_6M);
+    assertThat(test.iborIndexRates(iborId)).isSameAs(test.iborIndexRates(USD_LIBOR_6M));
+    assertThat(test.overnightIndexRates(test.indexId(USD_FED_FUND))).isSameAs(test.overnightIndexRates(USD_FED_FUND));
+    assertThat(test.priceIndexValues(test.indexId(US_CPI_U))).isSameAs(test.priceIndexValues(US_CPI_U));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.overnightIndexRates(iborId));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.currencyId(GBP));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.indexId(GBP_LIBOR_3M));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.discountFactors(GBP));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.iborIndexRates(GBP_LIBOR_3M));
+  }
+
+  @Test
+  public void test_resolveIds() {
+    CompiledRatesProvider test = CompiledRatesProvider.of(BASE);
+    CompiledRatesProvider.SwapIds ids = test.resolveIds(SWAP);
+    assertThat(ids.legCurrencyId(0)).isEqualTo(test.currencyId(USD));
+    assertThat(ids.legCurrencyId(1)).isEqualTo(test.currencyId(USD));
+    assertThat(ids.getIndices()).isEqualTo(ImmutableList.of(USD_LIBOR_3M));
+    assertThat(ids.indexId(0)).isEqualTo(test.indexId(USD_LIBOR_3M));
+    CompiledRatesProvider other = CompiledRatesProvider.of(RatesProviderDataSets.MULTI_GBP);
+    assertThatIllegalArgumentException().isThrownBy(() -> other.resolveIds(SWAP));
+  }
+
+  @Test
+  public void test_resolveIds_fxReset() {
+    CompiledRatesProvider test = CompiledRatesProvider.of(RatesProviderDataSets.MULTI_GBP_USD);
+    CompiledRatesProvider.SwapIds ids = test.resolveIds(SWAP_FX_RESET);
+    assertThat(ids.legCurrencyId(0)).isEqualTo(test.currencyId(GBP));
+    assertThat(ids.legCurrencyId(1)).isEqualTo(test.currencyId(USD));
+    assertThat(ids.getIndices()).containsExactly(GBP_USD_WM);
+    assertThat(ids.indexId(0)).isEqualTo(CompiledRatesProvider.SwapIds.NO_CURVE);
+    assertThat(PRICER.presentValue(SWAP_FX_RESET, test))
+        .isEqualTo(PRICER.presentValue(SWAP_FX_RESET, RatesProviderDataSets.MULTI_GBP_USD));
+  }
+
+  @Test
+  public void test_resolveIds_noIndexCurve() {
+    ImmutableRatesProvider base = ImmutableRatesProvider.builder(VAL_DATE)
+        .discountCurves(BASE.getDiscountCurves())
+        .build();
+    CompiledRatesProvider test = CompiledRatesProvider.of(base);
+    CompiledRatesProvider.SwapIds ids = test.resolveIds(SWAP);
+    assertThat(ids.legCurrencyId(0)).isEqualTo(test.currencyId(USD));
+    assertThat(ids.getIndices()).containsExactly(USD_LIBOR_3M);
+    assertThat(ids.indexId(0)).isEqualTo(CompiledRatesProvider.SwapIds.NO_CURVE);
+    assertThatIllegalArgumentException().isThrownBy(() -> test.iborIndexRates(USD_LIBOR_3M));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_swapPricing() {
+    CompiledRatesProvider test = CompiledRatesProvider.of(BASE);
+    assertThat(PRICER.presentValue(SWAP, test)).isEqualTo(PRICER.presentValue(SWAP, BASE));
+    PointSensitivities pts = PRICER.presentValueSensitivity(SWAP, test);
+    assertThat(pts).isEqualTo(PRICER.presentValueSensitivity(SWAP, BASE));
+    CurrencyParameterSensitivities computed = test.parameterSensitivity(pts);
+    CurrencyParameterSensitivities expected = BASE.parameterSensitivity(pts);
+    assertThat(computed.equalWithTolerance(expected, TOLERANCE)).isTrue();
+  }
+
+}
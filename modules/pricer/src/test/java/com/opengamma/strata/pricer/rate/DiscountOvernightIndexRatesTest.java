@@ -18,10 +18,12 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 import static org.assertj.core.data.Offset.offset;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.index.OvernightIndexObservation;
 import com.opengamma.strata.collect.array.DoubleArray;
@@ -174,6 +176,20 @@ public class DiscountOvernightIndexRatesTest {
     assertThat(test.rate(EUR_EONIA_AFTER)).isCloseTo(expected, offset(1e-8));
   }
 
+  @Test
+  public void test_rate_batch() {
+    DiscountOvernightIndexRates test = DiscountOvernightIndexRates.of(EUR_EONIA, DFCURVE, SERIES);
+    List<OvernightIndexObservation> observations =
+        ImmutableList.of(EUR_EONIA_BEFORE, EUR_EONIA_VAL, EUR_EONIA_AFTER, EUR_EONIA_AFTER_END);
+    DoubleArray computed = test.rate(observations);
+    assertThat(computed.size()).isEqualTo(observations.size());
+    for (int i = 0; i < observations.size(); i++) {
+      assertThat(computed.get(i)).isEqualTo(test.rate(observations.get(i)));
+    }
+    DiscountOvernightIndexRates testEmpty = DiscountOvernightIndexRates.of(EUR_EONIA, DFCURVE, SERIES_EMPTY);
+    assertThatIllegalArgumentException().isThrownBy(() -> testEmpty.rate(observations));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_ratePointSensitivity_fixing() {
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.rate;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_3M;
+import static com.opengamma.strata.product.swap.type.FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.basics.index.IborIndexObservation;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
+import com.opengamma.strata.pricer.datasets.RatesProviderDataSets;
+import com.opengamma.strata.pricer.fra.DiscountingFraTradePricer;
+import com.opengamma.strata.pricer.impl.swap.DiscountingKnownAmountPaymentPeriodPricer;
+import com.opengamma.strata.pricer.impl.swap.DiscountingRatePaymentPeriodPricer;
+import com.opengamma.strata.pricer.impl.swap.DispatchingSwapPaymentPeriodPricer;
+import com.opengamma.strata.pricer.swap.DiscountingSwapLegPricer;
+import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
+import com.opengamma.strata.pricer.swap.DiscountingSwapTradePricer;
+import com.opengamma.strata.pricer.swap.SwapPaymentEventPricer;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.fra.ResolvedFraTrade;
+import com.opengamma.strata.product.fra.type.FraTemplate;
+import com.opengamma.strata.product.swap.ResolvedSwapTrade;
+import com.opengamma.strata.product.swap.SwapPaymentPeriod;
+
+/**
+ * Test {@link ScenarioRatesProvider}.
+ */
+public class ScenarioRatesProviderTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final List<ImmutableRatesProvider> PROVIDERS = ImmutableList.of(
+      RatesProviderDataSets.MULTI_USD,
+      RatesProviderDataSets.MULTI_CPI_USD_COMBINED,
+      RatesProviderDataSets.SINGLE_USD);
+  private static final LocalDate VAL_DATE = RatesProviderDataSets.MULTI_USD.getValuationDate();
+  private static final LocalDate DATE = VAL_DATE.plusYears(3);
+  private static final ResolvedSwapTrade SWAP = USD_FIXED_6M_LIBOR_3M
+      .createTrade(VAL_DATE, Period.ofMonths(1), Tenor.TENOR_10Y, BuySell.BUY, 1_000_000d, 0.015, REF_DATA)
+      .resolve(REF_DATA);
+  private static final ResolvedFraTrade FRA = FraTemplate.of(Period.ofMonths(6), USD_LIBOR_3M)
+      .createTrade(VAL_DATE, BuySell.SELL, 1_000_000d, 0.0125, REF_DATA)
+      .resolve(REF_DATA);
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of() {
+    ScenarioRatesProvider test = ScenarioRatesProvider.of(PROVIDERS);
+    assertThat(test.getScenarioCount()).isEqualTo(3);
+    assertThat(test.scenario(1)).isInstanceOf(CompiledRatesProvider.class);
+    assertThat(test.scenario(1).toImmutableRatesProvider()).isSameAs(PROVIDERS.get(1));
+    ScenarioRatesProvider test2 = ScenarioRatesProvider.of(2, PROVIDERS::get);
+    assertThat(test2.getScenarioCount()).isEqualTo(2);
+    assertThatIllegalArgumentException().isThrownBy(() -> ScenarioRatesProvider.of(ImmutableList.of()));
+    assertThatIllegalArgumentException().isThrownBy(() -> ScenarioRatesProvider.of(0, PROVIDERS::get));
+  }
+
+  @Test
+  public void test_values() {
+    ScenarioRatesProvider test = ScenarioRatesProvider.of(PROVIDERS);
+    IborIndexObservation obs = IborIndexObservation.of(USD_LIBOR_3M, DATE, REF_DATA);
+    assertThat(test.discountFactor(USD, DATE))
+        .isEqualTo(DoubleArray.of(3, i -> PROVIDERS.get(i).discountFactor(USD, DATE)));
+    assertThat(test.iborIndexRate(obs))
+        .isEqualTo(DoubleArray.of(3, i -> PROVIDERS.get(i).iborIndexRates(USD_LIBOR_3M).rate(obs)));
+    assertThat(test.fxRate(USD, USD)).isEqualTo(DoubleArray.filled(3, 1d));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.discountFactor(EUR, DATE));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_swapPresentValue() {
+    DiscountingSwapTradePricer pricer = DiscountingSwapTradePricer.DEFAULT;
+    MultiCurrencyScenarioArray computed = pricer.presentValue(SWAP, ScenarioRatesProvider.of(PROVIDERS));
+    MultiCurrencyScenarioArray expected = MultiCurrencyScenarioArray.of(3, i -> pricer.presentValue(SWAP, PROVIDERS.get(i)));
+    assertThat(computed).isEqualTo(expected);
+  }
+
+  @Test
+  public void test_swapPresentValue_periodPricer() {
+    // the present value of each period is not the forecast value multiplied by the discount factor
+    DispatchingSwapPaymentPeriodPricer periodPricer = new DispatchingSwapPaymentPeriodPricer(
+        DiscountingRatePaymentPeriodPricer.DEFAULT, DiscountingKnownAmountPaymentPeriodPricer.DEFAULT) {
+      @Override
+      public double presentValue(SwapPaymentPeriod period, RatesProvider provider) {
+        return super.presentValue(period, provider) + 100d;
+      }
+    };
+    DiscountingSwapTradePricer pricer = new DiscountingSwapTradePricer(new DiscountingSwapProductPricer(
+        new DiscountingSwapLegPricer(periodPricer, SwapPaymentEventPricer.standard())));
+    MultiCurrencyScenarioArray computed = pricer.presentValue(SWAP, ScenarioRatesProvider.of(PROVIDERS));
+    MultiCurrencyScenarioArray expected = MultiCurrencyScenarioArray.of(3, i -> pricer.presentValue(SWAP, PROVIDERS.get(i)));
+    assertThat(computed).isEqualTo(expected);
+    assertThat(computed).isNotEqualTo(DiscountingSwapTradePricer.DEFAULT.presentValue(SWAP, ScenarioRatesProvider.of(PROVIDERS)));
+  }
+
+  @Test
+  public void test_fraPresentValue() {
+    DiscountingFraTradePricer pricer = DiscountingFraTradePricer.DEFAULT;
+    CurrencyScenarioArray computed = pricer.presentValue(FRA, ScenarioRatesProvider.of(PROVIDERS));
+    CurrencyScenarioArray expected = CurrencyScenarioArray.of(3, i -> pricer.presentValue(FRA, PROVIDERS.get(i)));
+    assertThat(computed).isEqualTo(expected);
+  }
+
+}
@@ -285,6 +285,46 @@ public class CurveGammaCalculatorCrossGammaTest {
     assertThat(computed.equalWithTolerance(computedFromCross, TOL)).isTrue();
   }
 
+  @Test
+  public void sensitivity_parallel() {
+    for (CurveGammaCalculator calculator : new CurveGammaCalculator[] {FORWARD, CENTRAL, BACKWARD}) {
+      CrossGammaParameterSensitivities intra =
+          calculator.calculateCrossGammaIntraCurve(RatesProviderDataSets.MULTI_CPI_USD, this::sensiFn);
+      CrossGammaParameterSensitivities intraParallel =
+          calculator.parallel().calculateCrossGammaIntraCurve(RatesProviderDataSets.MULTI_CPI_USD, this::sensiFn);
+      assertThat(intraParallel.equalWithTolerance(intra, TOL)).isTrue();
+      CrossGammaParameterSensitivities cross =
+          calculator.calculateCrossGammaCrossCurve(RatesProviderDataSets.MULTI_CPI_USD, this::sensiFn);
+      CrossGammaParameterSensitivities crossParallel =
+          calculator.parallel().calculateCrossGammaCrossCurve(RatesProviderDataSets.MULTI_CPI_USD, this::sensiFn);
+      assertThat(crossParallel.equalWithTolerance(cross, TOL)).isTrue();
+    }
+  }
+
+  @Test
+  public void sensitivity_diagonal() {
+    CurveGammaCalculator calculator = CurveGammaCalculator.ofCentralDifference(1.0e-3);
+    for (ImmutableRatesProvider provider : new ImmutableRatesProvider[] {
+        RatesProviderDataSets.SINGLE_USD, RatesProviderDataSets.MULTI_CPI_USD}) {
+      CurrencyParameterSensitivities expected =
+          CENTRAL.calculateCrossGammaIntraCurve(provider, this::sensiFn).diagonal();
+      CurrencyParameterSensitivities computed = calculator.calculateDiagonalGamma(provider, this::valueFn);
+      CurrencyParameterSensitivities computedParallel =
+          calculator.parallel().calculateDiagonalGamma(provider, this::valueFn);
+      assertThat(computed.size()).isEqualTo(expected.size());
+      // the second order difference of the value has an error proportional to the square of the shift
+      for (CurrencyParameterSensitivity expectedSingle : expected.getSensitivities()) {
+        DoubleArray computedSingle =
+            computed.getSensitivity(expectedSingle.getMarketDataName(), USD).getSensitivity();
+        double tolerance = expectedSingle.getSensitivity().map(Math::abs).max() * 1.0e-5;
+        for (int i = 0; i < computedSingle.size(); i++) {
+          assertThat(computedSingle.get(i)).isCloseTo(expectedSingle.getSensitivity().get(i), offset(tolerance));
+        }
+      }
+      assertThat(computedParallel.equalWithTolerance(computed, TOL)).isTrue();
+    }
+  }
+
   @Test
   public void sensitivity_multi_combined_curve() {
     CrossGammaParameterSensitivities sensiCrossComputed =
@@ -466,6 +506,11 @@ public class CurveGammaCalculatorCrossGammaTest {
     return sensi;
   }
 
+  private CurrencyAmount valueFn(ImmutableRatesProvider provider) {
+    double sum = sum(provider);
+    return CurrencyAmount.of(USD, sum * sum);
+  }
+
   // modified sensitivity function - CombinedCurve involved
   private CurrencyParameterSensitivities sensiCombinedFn(ImmutableRatesProvider provider) {
     CurrencyParameterSensitivities sensi = CurrencyParameterSensitivities.empty();
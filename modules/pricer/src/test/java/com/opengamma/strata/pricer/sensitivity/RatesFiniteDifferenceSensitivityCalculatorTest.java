@@ -7,6 +7,7 @@ package com.opengamma.strata.pricer.sensitivity;
 
 import static com.opengamma.strata.basics.currency.Currency.USD;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.data.Offset.offset;
 
 import java.time.LocalDate;
@@ -95,6 +96,37 @@ public class RatesFiniteDifferenceSensitivityCalculatorTest {
     }
   }
 
+  @Test
+  public void sensitivity_parallel() {
+    CurrencyParameterSensitivities expected = FD_CALCULATOR.sensitivity(RatesProviderDataSets.MULTI_CPI_USD, this::fn);
+    for (RatesFiniteDifferenceSensitivityCalculator calculator : new RatesFiniteDifferenceSensitivityCalculator[] {
+        FD_CALCULATOR.parallel(), FD_CALCULATOR.parallel(1), FD_CALCULATOR.parallel(100)}) {
+      assertThat(calculator.sensitivity(RatesProviderDataSets.MULTI_CPI_USD, this::fn)).isEqualTo(expected);
+    }
+    CurrencyParameterSensitivities expectedLegalEntity =
+        FD_CALCULATOR.sensitivity(LegalEntityDiscountingProviderDataSets.ISSUER_REPO_ZERO, this::fn);
+    assertThat(FD_CALCULATOR.parallel().sensitivity(LegalEntityDiscountingProviderDataSets.ISSUER_REPO_ZERO, this::fn))
+        .isEqualTo(expectedLegalEntity);
+    assertThatIllegalArgumentException().isThrownBy(() -> FD_CALCULATOR.parallel(0));
+  }
+
+  @Test
+  public void sensitivity_filtered() {
+    CurrencyParameterSensitivities full = FD_CALCULATOR.sensitivity(RatesProviderDataSets.MULTI_CPI_USD, this::fn);
+    CurrencyParameterSensitivities curveOnly = FD_CALCULATOR.parallel().sensitivity(
+        RatesProviderDataSets.MULTI_CPI_USD, this::fn, (name, index) -> name.equals(RatesProviderDataSets.USD_L3_NAME));
+    assertThat(curveOnly).isEqualTo(CurrencyParameterSensitivities.of(
+        full.getSensitivity(RatesProviderDataSets.USD_L3_NAME, USD)));
+    CurrencyParameterSensitivities firstOnly = FD_CALCULATOR.sensitivity(
+        RatesProviderDataSets.MULTI_CPI_USD,
+        this::fn,
+        (name, index) -> name.equals(RatesProviderDataSets.USD_L6_NAME) && index == 0);
+    DoubleArray s = firstOnly.getSensitivity(RatesProviderDataSets.USD_L6_NAME, USD).getSensitivity();
+    assertThat(firstOnly.size()).isEqualTo(1);
+    assertThat(s.get(0)).isCloseTo(RatesProviderDataSets.TIMES_3.get(0), offset(TOLERANCE_DELTA));
+    assertThat(s.subArray(1).stream().allMatch(v -> v == 0d)).isTrue();
+  }
+
   // private function for testing. Returns the sum of rates multiplied by time
   private CurrencyAmount fn(ImmutableRatesProvider provider) {
     double result = 0.0;
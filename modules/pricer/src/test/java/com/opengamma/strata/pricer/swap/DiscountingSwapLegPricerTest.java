@@ -76,6 +76,7 @@ import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.ZeroRateSensitivity;
 import com.opengamma.strata.pricer.datasets.RatesProviderDataSets;
 import com.opengamma.strata.pricer.impl.MockRatesProvider;
@@ -795,10 +796,13 @@ public class DiscountingSwapLegPricerTest {
     double df2 = 0.93;
     when(mockPeriod.forecastValue(period1, mockProv)).thenReturn(fv1);
     when(mockPeriod.forecastValue(period2, mockProv)).thenReturn(fv2);
+    DiscountFactors mockDf = mock(DiscountFactors.class);
     when(mockProv.getValuationDate()).thenReturn(LocalDate.of(2014, 7, 1));
-    when(mockProv.discountFactor(expSwapLeg.getCurrency(), period1.getPaymentDate())).thenReturn(df1);
-    when(mockProv.discountFactor(expSwapLeg.getCurrency(), period2.getPaymentDate())).thenReturn(df2);
-    when(mockProv.discountFactor(expSwapLeg.getCurrency(), event.getPaymentDate())).thenReturn(df);
+    when(mockProv.discountFactors(expSwapLeg.getCurrency())).thenReturn(mockDf);
+    when(mockDf.discountFactorCursor()).thenCallRealMethod();
+    when(mockDf.discountFactor(period1.getPaymentDate())).thenReturn(df1);
+    when(mockDf.discountFactor(period2.getPaymentDate())).thenReturn(df2);
+    when(mockDf.discountFactor(event.getPaymentDate())).thenReturn(df);
     DiscountingSwapLegPricer pricer = new DiscountingSwapLegPricer(mockPeriod, eventPricer);
 
     CashFlows computed = pricer.cashFlows(expSwapLeg, mockProv);
@@ -0,0 +1,341 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.swaption;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.date.BusinessDayConventions.MODIFIED_FOLLOWING;
+import static com.opengamma.strata.basics.date.DayCounts.THIRTY_U_360;
+import static com.opengamma.strata.basics.index.IborIndices.EUR_EURIBOR_6M;
+import static com.opengamma.strata.basics.schedule.Frequency.P12M;
+import static com.opengamma.strata.basics.schedule.Frequency.P6M;
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+import static com.opengamma.strata.collect.TestHelper.dateUtc;
+import static com.opengamma.strata.product.common.LongShort.LONG;
+import static com.opengamma.strata.product.common.LongShort.SHORT;
+import static com.opengamma.strata.product.common.PayReceive.PAY;
+import static com.opengamma.strata.product.common.PayReceive.RECEIVE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.basics.date.AdjustableDate;
+import com.opengamma.strata.basics.date.BusinessDayAdjustment;
+import com.opengamma.strata.basics.date.DaysAdjustment;
+import com.opengamma.strata.basics.date.HolidayCalendar;
+import com.opengamma.strata.basics.date.HolidayCalendarId;
+import com.opengamma.strata.basics.date.HolidayCalendarIds;
+import com.opengamma.strata.basics.schedule.PeriodicSchedule;
+import com.opengamma.strata.basics.schedule.RollConventions;
+import com.opengamma.strata.basics.schedule.StubConvention;
+import com.opengamma.strata.basics.value.ValueSchedule;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.pricer.DiscountingPaymentPricer;
+import com.opengamma.strata.pricer.index.HullWhiteIborFutureDataSet;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParameters;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParametersProvider;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
+import com.opengamma.strata.product.swap.FixedRateCalculation;
+import com.opengamma.strata.product.swap.IborRateCalculation;
+import com.opengamma.strata.product.swap.NotionalSchedule;
+import com.opengamma.strata.product.swap.PaymentSchedule;
+import com.opengamma.strata.product.swap.RateCalculationSwapLeg;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+import com.opengamma.strata.product.swap.Swap;
+import com.opengamma.strata.product.swap.SwapLeg;
+import com.opengamma.strata.product.swaption.CashSwaptionSettlement;
+import com.opengamma.strata.product.swaption.CashSwaptionSettlementMethod;
+import com.opengamma.strata.product.swaption.PhysicalSwaptionSettlement;
+import com.opengamma.strata.product.swaption.ResolvedSwaption;
+import com.opengamma.strata.product.swaption.Swaption;
+import com.opengamma.strata.product.swaption.SwaptionExerciseDate;
+import com.opengamma.strata.product.swaption.SwaptionExerciseDates;
+
+/**
+ * Test {@link HullWhiteSwaptionPhysicalMonteCarloProductPricer}.
+ */
+public class HullWhiteSwaptionPhysicalMonteCarloProductPricerTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final ZonedDateTime MATURITY = dateUtc(2016, 7, 7);
+  private static final HolidayCalendarId CALENDAR = HolidayCalendarIds.SAT_SUN;
+  private static final BusinessDayAdjustment BDA_MF = BusinessDayAdjustment.of(MODIFIED_FOLLOWING, CALENDAR);
+  private static final LocalDate SETTLE =
+      BDA_MF.adjust(CALENDAR.resolve(REF_DATA).shift(MATURITY.toLocalDate(), 2), REF_DATA);
+  private static final double NOTIONAL = 100000000; //100m
+  private static final int TENOR_YEAR = 5;
+  private static final LocalDate END = SETTLE.plusYears(TENOR_YEAR);
+  private static final double RATE = 0.0175;
+  private static final PeriodicSchedule PERIOD_FIXED = PeriodicSchedule.builder()
+      .startDate(SETTLE)
+      .endDate(END)
+      .frequency(P12M)
+      .businessDayAdjustment(BDA_MF)
+      .stubConvention(StubConvention.SHORT_FINAL)
+      .rollConvention(RollConventions.EOM)
+      .build();
+  private static final PaymentSchedule PAYMENT_FIXED = PaymentSchedule.builder()
+      .paymentFrequency(P12M)
+      .paymentDateOffset(DaysAdjustment.NONE)
+      .build();
+  private static final FixedRateCalculation RATE_FIXED = FixedRateCalculation.builder()
+      .dayCount(THIRTY_U_360)
+      .rate(ValueSchedule.of(RATE))
+      .build();
+  private static final PeriodicSchedule PERIOD_IBOR = PeriodicSchedule.builder()
+      .startDate(SETTLE)
+      .endDate(END)
+      .frequency(P6M)
+      .businessDayAdjustment(BDA_MF)
+      .stubConvention(StubConvention.SHORT_FINAL)
+      .rollConvention(RollConventions.EOM)
+      .build();
+  private static final PaymentSchedule PAYMENT_IBOR = PaymentSchedule.builder()
+      .paymentFrequency(P6M)
+      .paymentDateOffset(DaysAdjustment.NONE)
+      .build();
+  private static final IborRateCalculation RATE_IBOR = IborRateCalculation.builder()
+      .index(EUR_EURIBOR_6M)
+      .fixingDateOffset(DaysAdjustment.ofBusinessDays(-2, CALENDAR, BDA_MF))
+      .build();
+  private static final SwapLeg FIXED_LEG_REC = RateCalculationSwapLeg.builder()
+      .payReceive(RECEIVE)
+      .accrualSchedule(PERIOD_FIXED)
+      .paymentSchedule(PAYMENT_FIXED)
+      .notionalSchedule(NotionalSchedule.of(EUR, NOTIONAL))
+      .calculation(RATE_FIXED)
+      .build();
+  private static final SwapLeg IBOR_LEG_PAY = RateCalculationSwapLeg.builder()
+      .payReceive(PAY)
+      .accrualSchedule(PERIOD_IBOR)
+      .paymentSchedule(PAYMENT_IBOR)
+      .notionalSchedule(NotionalSchedule.of(EUR, NOTIONAL))
+      .calculation(RATE_IBOR)
+      .build();
+  private static final Swap SWAP_REC = Swap.of(FIXED_LEG_REC, IBOR_LEG_PAY);
+  private static final ResolvedSwap RSWAP_REC = SWAP_REC.resolve(REF_DATA);
+  private static final ResolvedSwaption SWAPTION_REC_LONG = Swaption.builder()
+      .expiryDate(AdjustableDate.of(MATURITY.toLocalDate(), BDA_MF))
+      .expiryTime(MATURITY.toLocalTime())
+      .expiryZone(MATURITY.getZone())
+      .swaptionSettlement(PhysicalSwaptionSettlement.DEFAULT)
+      .longShort(LONG)
+      .underlying(SWAP_REC)
+      .build()
+      .resolve(REF_DATA);
+  private static final ResolvedSwaption SWAPTION_REC_SHORT = SWAPTION_REC_LONG.toBuilder().longShort(SHORT).build();
+  private static final ResolvedSwaption SWAPTION_CASH = SWAPTION_REC_LONG.toBuilder()
+      .swaptionSettlement(CashSwaptionSettlement.of(SETTLE, CashSwaptionSettlementMethod.PAR_YIELD))
+      .build();
+  // exercise two business days before the start of each fixed period
+  private static final List<SwaptionExerciseDate> BERMUDAN_DATES = RSWAP_REC.getLegs().get(0).getPaymentPeriods().stream()
+      .map(period -> {
+        HolidayCalendar calendar = CALENDAR.resolve(REF_DATA);
+        LocalDate exerciseDate = calendar.shift(period.getStartDate(), -2);
+        return SwaptionExerciseDate.of(exerciseDate, exerciseDate, period.getStartDate());
+      })
+      .collect(toImmutableList());
+  private static final ResolvedSwaption SWAPTION_BERMUDAN = SWAPTION_REC_LONG.toBuilder()
+      .exerciseInfo(SwaptionExerciseDates.of(BERMUDAN_DATES, false))
+      .expiry(BERMUDAN_DATES.get(BERMUDAN_DATES.size() - 1).getExerciseDate().atTime(MATURITY.toLocalTime())
+          .atZone(MATURITY.getZone()))
+      .build();
+
+  private static final LocalDate VALUATION = LocalDate.of(2011, 7, 7);
+  private static final HullWhiteOneFactorPiecewiseConstantParametersProvider HW_PROVIDER =
+      HullWhiteIborFutureDataSet.createHullWhiteProvider(VALUATION);
+  private static final HullWhiteOneFactorPiecewiseConstantParametersProvider HW_PROVIDER_AT_MATURITY =
+      HullWhiteIborFutureDataSet.createHullWhiteProvider(MATURITY.toLocalDate());
+  private static final HullWhiteOneFactorPiecewiseConstantParametersProvider HW_PROVIDER_AFTER_MATURITY =
+      HullWhiteIborFutureDataSet.createHullWhiteProvider(MATURITY.toLocalDate().plusDays(1));
+  private static final ImmutableRatesProvider RATE_PROVIDER = HullWhiteIborFutureDataSet.createRatesProvider(VALUATION);
+  private static final ImmutableRatesProvider RATES_PROVIDER_AT_MATURITY = HullWhiteIborFutureDataSet
+      .createRatesProvider(MATURITY.toLocalDate());
+  private static final ImmutableRatesProvider RATES_PROVIDER_AFTER_MATURITY = HullWhiteIborFutureDataSet
+      .createRatesProvider(MATURITY.toLocalDate().plusDays(1));
+
+  private static final double TOL = 1.0e-12;
+  private static final double FD_TOL = 1.0e-6;
+  private static final int NB_PATHS = 50000;
+  private static final HullWhiteSwaptionPhysicalMonteCarloProductPricer PRICER =
+      new HullWhiteSwaptionPhysicalMonteCarloProductPricer(DiscountingPaymentPricer.DEFAULT, NB_PATHS, 1L);
+  private static final HullWhiteSwaptionPhysicalProductPricer PRICER_ANALYTIC =
+      HullWhiteSwaptionPhysicalProductPricer.DEFAULT;
+  private static final DiscountingSwapProductPricer SWAP_PRICER = DiscountingSwapProductPricer.DEFAULT;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void validate_settlement_and_exercise() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> PRICER.presentValue(SWAPTION_CASH, RATE_PROVIDER, HW_PROVIDER));
+    ResolvedSwaption american = SWAPTION_BERMUDAN.toBuilder()
+        .exerciseInfo(SwaptionExerciseDates.of(
+            ImmutableList.of(BERMUDAN_DATES.get(0), BERMUDAN_DATES.get(BERMUDAN_DATES.size() - 1)), true))
+        .build();
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> PRICER.presentValue(american, RATE_PROVIDER, HW_PROVIDER));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> PRICER.presentValue(SWAPTION_REC_LONG, RATE_PROVIDER, HW_PROVIDER_AT_MATURITY));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_presentValue_european() {
+    CurrencyAmount computed = PRICER.presentValue(SWAPTION_REC_LONG, RATE_PROVIDER, HW_PROVIDER);
+    CurrencyAmount expected = PRICER_ANALYTIC.presentValue(SWAPTION_REC_LONG, RATE_PROVIDER, HW_PROVIDER);
+    assertThat(computed.getCurrency()).isEqualTo(EUR);
+    assertThat(computed.getAmount()).isCloseTo(expected.getAmount(), offset(expected.getAmount() * 5.0e-3));
+  }
+
+  @Test
+  public void test_presentValue_noVarianceReduction() {
+    HullWhiteSwaptionPhysicalMonteCarloProductPricer pricer =
+        new HullWhiteSwaptionPhysicalMonteCarloProductPricer(DiscountingPaymentPricer.DEFAULT, NB_PATHS, 500, 1L, false, false);
+    CurrencyAmount computed = pricer.presentValue(SWAPTION_REC_LONG, RATE_PROVIDER, HW_PROVIDER);
+    CurrencyAmount expected = PRICER_ANALYTIC.presentValue(SWAPTION_REC_LONG, RATE_PROVIDER, HW_PROVIDER);
+    assertThat(computed.getAmount()).isCloseTo(expected.getAmount(), offset(expected.getAmount() * 2.0e-2));
+  }
+
+  @Test
+  public void test_presentValue_parity() {
+    CurrencyAmount pvLong = PRICER.presentValue(SWAPTION_BERMUDAN, RATE_PROVIDER, HW_PROVIDER);
+    CurrencyAmount pvShort =
+        PRICER.presentValue(SWAPTION_BERMUDAN.toBuilder().longShort(SHORT).build(), RATE_PROVIDER, HW_PROVIDER);
+    assertThat(pvLong.getAmount()).isCloseTo(-pvShort.getAmount(), offset(NOTIONAL * TOL));
+    assertThat(PRICER.presentValue(SWAPTION_REC_LONG, RATE_PROVIDER, HW_PROVIDER).getAmount())
+        .isCloseTo(-PRICER.presentValue(SWAPTION_REC_SHORT, RATE_PROVIDER, HW_PROVIDER).getAmount(), offset(NOTIONAL * TOL));
+    assertThat(PRICER.currencyExposure(SWAPTION_BERMUDAN, RATE_PROVIDER, HW_PROVIDER))
+        .isEqualTo(MultiCurrencyAmount.of(pvLong));
+  }
+
+  @Test
+  public void test_presentValue_reproducible() {
+    CurrencyAmount pv1 = PRICER.presentValue(SWAPTION_BERMUDAN, RATE_PROVIDER, HW_PROVIDER);
+    CurrencyAmount pv2 = PRICER.presentValue(SWAPTION_BERMUDAN, RATE_PROVIDER, HW_PROVIDER);
+    assertThat(pv1).isEqualTo(pv2);
+  }
+
+  @Test
+  public void test_presentValue_bermudan() {
+    double pvBermudan = PRICER.presentValue(SWAPTION_BERMUDAN, RATE_PROVIDER, HW_PROVIDER).getAmount();
+    double pvEuropeanMax = 0d;
+    for (SwaptionExerciseDate date : BERMUDAN_DATES) {
+      ResolvedSwaption european = SWAPTION_BERMUDAN.toBuilder()
+          .exerciseInfo(SwaptionExerciseDates.of(ImmutableList.of(date), false))
+          .build();
+      double pvEuropean = PRICER.presentValue(european, RATE_PROVIDER, HW_PROVIDER).getAmount();
+      assertThat(pvEuropean).isPositive();
+      pvEuropeanMax = Math.max(pvEuropeanMax, pvEuropean);
+    }
+    // the Bermudan is worth more than the most expensive co-terminal European
+    assertThat(pvBermudan).isGreaterThan(pvEuropeanMax);
+    // the first exercise date only
+    ResolvedSwaption first = SWAPTION_BERMUDAN.toBuilder()
+        .exerciseInfo(SwaptionExerciseDates.of(ImmutableList.of(BERMUDAN_DATES.get(0)), false))
+        .build();
+    double pvFirst = PRICER.presentValue(first, RATE_PROVIDER, HW_PROVIDER).getAmount();
+    double expected = PRICER_ANALYTIC.presentValue(SWAPTION_REC_LONG, RATE_PROVIDER, HW_PROVIDER).getAmount();
+    assertThat(pvFirst).isCloseTo(expected, offset(expected * 5.0e-3));
+  }
+
+  @Test
+  public void test_presentValue_atMaturity() {
+    CurrencyAmount computed = PRICER.presentValue(SWAPTION_REC_LONG, RATES_PROVIDER_AT_MATURITY, HW_PROVIDER_AT_MATURITY);
+    double swapPv = SWAP_PRICER.presentValue(RSWAP_REC, RATES_PROVIDER_AT_MATURITY).getAmount(EUR).getAmount();
+    assertThat(computed.getAmount()).isCloseTo(Math.max(swapPv, 0d), offset(NOTIONAL * TOL));
+  }
+
+  @Test
+  public void test_afterExpiry() {
+    CurrencyAmount computed =
+        PRICER.presentValue(SWAPTION_REC_LONG, RATES_PROVIDER_AFTER_MATURITY, HW_PROVIDER_AFTER_MATURITY);
+    assertThat(computed.getAmount()).isEqualTo(0d);
+    assertThat(PRICER.presentValueSensitivityRates(
+        SWAPTION_REC_LONG, RATES_PROVIDER_AFTER_MATURITY, HW_PROVIDER_AFTER_MATURITY).build().size()).isEqualTo(0);
+    assertThat(PRICER.presentValueSensitivityModelParamsHullWhite(
+        SWAPTION_REC_LONG, RATES_PROVIDER_AFTER_MATURITY, HW_PROVIDER_AFTER_MATURITY)).isEqualTo(DoubleArray.EMPTY);
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_presentValueSensitivityRates_european() {
+    CurrencyParameterSensitivities computed = RATE_PROVIDER.parameterSensitivity(
+        PRICER.presentValueSensitivityRates(SWAPTION_REC_LONG, RATE_PROVIDER, HW_PROVIDER).build());
+    CurrencyParameterSensitivities expected = RATE_PROVIDER.parameterSensitivity(
+        PRICER_ANALYTIC.presentValueSensitivityRates(SWAPTION_REC_LONG, RATE_PROVIDER, HW_PROVIDER).build());
+    double norm = expected.getSensitivities().stream()
+        .mapToDouble(sensi -> sensi.getSensitivity().map(Math::abs).max())
+        .max()
+        .getAsDouble();
+    assertThat(computed.equalWithTolerance(expected, norm * 1.0e-2)).isTrue();
+  }
+
+  @Test
+  public void test_presentValueSensitivityRates_parity() {
+    CurrencyParameterSensitivities sensiLong = RATE_PROVIDER.parameterSensitivity(
+        PRICER.presentValueSensitivityRates(SWAPTION_BERMUDAN, RATE_PROVIDER, HW_PROVIDER).build());
+    CurrencyParameterSensitivities sensiShort = RATE_PROVIDER.parameterSensitivity(PRICER.presentValueSensitivityRates(
+        SWAPTION_BERMUDAN.toBuilder().longShort(SHORT).build(), RATE_PROVIDER, HW_PROVIDER).build());
+    assertThat(sensiLong.equalWithTolerance(sensiShort.multipliedBy(-1d), NOTIONAL * TOL)).isTrue();
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_presentValueSensitivityHullWhiteParameter_european() {
+    DoubleArray computed = PRICER.presentValueSensitivityModelParamsHullWhite(SWAPTION_REC_LONG, RATE_PROVIDER, HW_PROVIDER);
+    DoubleArray expected =
+        PRICER_ANALYTIC.presentValueSensitivityModelParamsHullWhite(SWAPTION_REC_LONG, RATE_PROVIDER, HW_PROVIDER);
+    double norm = expected.map(Math::abs).max();
+    assertThat(computed.size()).isEqualTo(expected.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertThat(computed.get(i)).isCloseTo(expected.get(i), offset(norm * 1.0e-2));
+    }
+  }
+
+  @Test
+  public void test_presentValueSensitivityHullWhiteParameter_bermudan() {
+    // pathwise sensitivities match finite differences with the same random numbers
+    // the exercise strategy is estimated again in the bumped valuations, with the seed chosen such that
+    // no path changes its exercise date, as the finite difference would otherwise jump
+    HullWhiteSwaptionPhysicalMonteCarloProductPricer pricer =
+        new HullWhiteSwaptionPhysicalMonteCarloProductPricer(DiscountingPaymentPricer.DEFAULT, 5000, 500, 4L, true, true);
+    DoubleArray computed = pricer.presentValueSensitivityModelParamsHullWhite(SWAPTION_BERMUDAN, RATE_PROVIDER, HW_PROVIDER);
+    DoubleArray vols = HW_PROVIDER.getParameters().getVolatility();
+    int size = vols.size();
+    for (int i = 0; i < size; ++i) {
+      double[] volsUp = vols.toArray();
+      double[] volsDw = vols.toArray();
+      volsUp[i] += FD_TOL;
+      volsDw[i] -= FD_TOL;
+      double pvUp = pricer.presentValue(SWAPTION_BERMUDAN, RATE_PROVIDER, bumpedProvider(volsUp)).getAmount();
+      double pvDw = pricer.presentValue(SWAPTION_BERMUDAN, RATE_PROVIDER, bumpedProvider(volsDw)).getAmount();
+      assertThat(computed.get(i)).isCloseTo(0.5 * (pvUp - pvDw) / FD_TOL, offset(NOTIONAL * FD_TOL * 1000d));
+    }
+  }
+
+  // the provider with the specified volatilities
+  private static HullWhiteOneFactorPiecewiseConstantParametersProvider bumpedProvider(double[] vols) {
+    HullWhiteOneFactorPiecewiseConstantParameters parameters = HW_PROVIDER.getParameters();
+    HullWhiteOneFactorPiecewiseConstantParameters bumped = HullWhiteOneFactorPiecewiseConstantParameters.of(
+        parameters.getMeanReversion(),
+        DoubleArray.ofUnsafe(vols),
+        parameters.getVolatilityTime().subArray(1, vols.length));
+    return HullWhiteOneFactorPiecewiseConstantParametersProvider.of(
+        bumped, HW_PROVIDER.getDayCount(), HW_PROVIDER.getValuationDateTime());
+  }
+
+}
@@ -153,6 +153,33 @@ public class SabrSwaptionCalibratorCubeNormalSimpleDataTest {
     }
   }
 
+  @Test
+  public void normal_cube_parallel() {
+    Surface betaSurface = ConstantSurface.of("Beta", 0.50)
+        .withMetadata(DefaultSurfaceMetadata.builder()
+            .xValueType(ValueType.YEAR_FRACTION).yValueType(ValueType.YEAR_FRACTION)
+            .zValueType(ValueType.SABR_BETA).surfaceName("Beta").build());
+    Surface shiftSurface = ConstantSurface.of("Shift", 0.0300)
+        .withMetadata(DefaultSurfaceMetadata.builder()
+            .xValueType(ValueType.YEAR_FRACTION).yValueType(ValueType.YEAR_FRACTION).surfaceName("Shift").build());
+    SabrParametersSwaptionVolatilities expected = SABR_CALIBRATION.calibrateWithFixedBetaAndShift(
+        DEFINITION, CALIBRATION_TIME, DATA_SIMPLE, MULTICURVE, betaSurface, shiftSurface);
+    SabrParametersSwaptionVolatilities calibrated = SABR_CALIBRATION.calibrateWithFixedBetaAndShiftInParallel(
+        DEFINITION, CALIBRATION_TIME, DATA_SIMPLE, MULTICURVE, betaSurface, shiftSurface, true);
+    List<Pair<Surface, Surface>> surfaces = ImmutableList.of(
+        Pair.of(calibrated.getParameters().getAlphaSurface(), expected.getParameters().getAlphaSurface()),
+        Pair.of(calibrated.getParameters().getRhoSurface(), expected.getParameters().getRhoSurface()),
+        Pair.of(calibrated.getParameters().getNuSurface(), expected.getParameters().getNuSurface()));
+    for (Pair<Surface, Surface> pair : surfaces) {
+      assertThat(pair.getFirst().getMetadata()).isEqualTo(pair.getSecond().getMetadata());
+      assertThat(pair.getFirst().getParameterCount()).isEqualTo(pair.getSecond().getParameterCount());
+      for (int i = 0; i < pair.getFirst().getParameterCount(); i++) {
+        assertThat(pair.getFirst().getParameter(i)).isCloseTo(pair.getSecond().getParameter(i), offset(1.0E-4));
+      }
+    }
+    assertThat(calibrated.getDataSensitivityAlpha().get()).hasSameSizeAs(expected.getDataSensitivityAlpha().get());
+  }
+
   @SuppressWarnings("unused")
   @Test
   public void normal_atm() {